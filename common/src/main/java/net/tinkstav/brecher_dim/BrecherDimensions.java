@@ -8,16 +8,26 @@ package net.tinkstav.brecher_dim;
 import com.mojang.logging.LogUtils;
 import net.minecraft.server.MinecraftServer;
 import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.data.DataRetention;
+import net.tinkstav.brecher_dim.data.SavedDataWriter;
 import net.tinkstav.brecher_dim.dimension.BrecherDimensionManager;
 import net.tinkstav.brecher_dim.dimension.DimensionRegistrar;
+import net.tinkstav.brecher_dim.dimension.EvacuationCoordinator;
 import net.tinkstav.brecher_dim.dimension.ExplorationSeedManager;
 import net.tinkstav.brecher_dim.network.BrecherNetworking;
+import net.tinkstav.brecher_dim.network.DimensionSyncTracker;
+import net.tinkstav.brecher_dim.network.OutboundCoalescer;
 import net.tinkstav.brecher_dim.generation.ChunkPreGenerator;
+import net.tinkstav.brecher_dim.generation.HeadlessPregen;
 import net.tinkstav.brecher_dim.performance.ChunkManager;
+import net.tinkstav.brecher_dim.performance.DimensionTickMonitor;
+import net.tinkstav.brecher_dim.performance.ExplorationChunkCache;
+import net.tinkstav.brecher_dim.teleport.TeleportAdmission;
 import net.tinkstav.brecher_dim.teleport.TeleportHandler;
 import net.tinkstav.brecher_dim.platform.Services;
 import net.tinkstav.brecher_dim.util.DimensionCleanupUtil;
 import net.tinkstav.brecher_dim.util.DimensionCounterUtil;
+import net.tinkstav.brecher_dim.util.InventoryKeeper;
 import org.slf4j.Logger;
 
 import java.nio.file.Path;
@@ -72,9 +82,15 @@ public class BrecherDimensions {
         LOGGER.info("Brecher's Dimensions server starting");
         
         try {
+            // Saved data shards are written in the background while the server runs
+            SavedDataWriter.reset();
+            
             // Initialize dimension counter from saved data
             DimensionCounterUtil.initialize(server);
             
+            // Pick up inventories kept on disk by the previous run
+            InventoryKeeper.initialize(server);
+            
             // Validate configuration settings
             // Note: Config system needs to be migrated
             // BrecherConfig.validateConfig();
@@ -107,6 +123,16 @@ public class BrecherDimensions {
         }
     }
     
+    /**
+     * Called once the server has started
+     */
+    public static void onServerStarted(MinecraftServer server) {
+        if (HeadlessPregen.isActive()) {
+            LOGGER.info("Headless pregen requested, generating from the server tick");
+            HeadlessPregen.start(server);
+        }
+    }
+    
     /**
      * Called when the server is stopping
      */
@@ -132,15 +158,30 @@ public class BrecherDimensions {
             // Clear exploration seed manager for next dimension creation
             ExplorationSeedManager.clearAll();
             
-            // Shutdown teleport handler executor
+            // Clear teleport cooldowns and admission queues
             TeleportHandler.shutdown();
+            TeleportAdmission.shutdown();
 
             // Shutdown chunk manager static caches
             ChunkManager.shutdown();
+            DimensionTickMonitor.shutdown();
+            EvacuationCoordinator.shutdown();
+            ExplorationChunkCache.clearAll();
+            DataRetention.shutdown();
+            DimensionSyncTracker.reset();
+            OutboundCoalescer.reset();
 
             // Shutdown chunk pre-generator tasks (with server for progress saving)
             ChunkPreGenerator.shutdown(server);
 
+            // Finish background data writes; the final world save writes synchronously
+            SavedDataWriter.flush();
+            
+            // A dedicated server is shutting down; on a client the config outlives the integrated server
+            if (!isPhysicalClient()) {
+                BrecherConfig.shutdown();
+            }
+
             LOGGER.info("Brecher's Dimensions cleanup complete - new exploration dimensions will be created on next start");
             
         } catch (Exception e) {
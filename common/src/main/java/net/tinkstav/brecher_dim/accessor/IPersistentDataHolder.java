@@ -0,0 +1,19 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.accessor;
+
+import net.minecraft.nbt.CompoundTag;
+
+/**
+ * Accessor interface for player mixins on platforms without their own persistent entity data
+ */
+public interface IPersistentDataHolder {
+    
+    /**
+     * Mod data saved with the player and copied to the respawned player
+     */
+    CompoundTag brecher_dim$getPersistentData();
+}
@@ -6,6 +6,8 @@
 package net.tinkstav.brecher_dim.accessor;
 
 import net.minecraft.resources.ResourceKey;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -34,11 +36,34 @@ public interface IRegistryAccessor<T> {
      */
     void brecher_dim$registerRuntime(ResourceKey<T> key, T value);
     
+    /**
+     * Register several runtime entries under a single lock and unfreeze
+     * @return the number of entries registered
+     */
+    int brecher_dim$registerRuntimeBatch(Map<ResourceKey<T>, T> entries);
+    
+    /**
+     * Start queueing runtime registrations and removals until the matching {@link #brecher_dim$endRuntimeBatch()}
+     */
+    void brecher_dim$beginRuntimeBatch();
+    
+    /**
+     * Apply the removals and register the entries queued since {@link #brecher_dim$beginRuntimeBatch()}
+     * @return the number of entries registered
+     */
+    int brecher_dim$endRuntimeBatch();
+    
     /**
      * Remove a runtime registry entry
      */
     void brecher_dim$removeRuntimeEntry(ResourceKey<T> key);
     
+    /**
+     * Remove several runtime entries under a single lock and unfreeze
+     * @return the number of entries removed
+     */
+    int brecher_dim$removeRuntimeBatch(Collection<ResourceKey<T>> keys);
+    
     /**
      * Clean up all runtime entries
      */
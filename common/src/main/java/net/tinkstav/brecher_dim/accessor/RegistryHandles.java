@@ -0,0 +1,138 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.accessor;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.core.Holder;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.resources.ResourceKey;
+import org.slf4j.Logger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Reflective handles used for runtime registry mutation, resolved once at class init.
+ *
+ * <p>REFLECTION: Looking up methods and constructors on every registration was the
+ * dominant cost of runtime dimension registration. Everything here is resolved a
+ * single time; any handle that cannot be found is left null and callers fall back
+ * to their slower discovery paths (e.g. under intermediary names on Fabric).
+ */
+public final class RegistryHandles {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** MappedRegistry.byValue, or null if not found by name */
+    public static final VarHandle BY_VALUE;
+    /** MappedRegistry.byLocation, or null if not found by name */
+    public static final VarHandle BY_LOCATION;
+    /** MappedRegistry register(int, ResourceKey, T) or register(ResourceKey, T), or null */
+    public static final MethodHandle REGISTER;
+    /** Whether {@link #REGISTER} takes a leading int id */
+    public static final boolean REGISTER_TAKES_ID;
+    /** Holder.Reference#bindValue(Object), or null */
+    public static final MethodHandle BIND_VALUE;
+    /** Holder.Reference constructor, or null */
+    public static final MethodHandle REFERENCE_CONSTRUCTOR;
+    /** Parameter count of {@link #REFERENCE_CONSTRUCTOR} */
+    public static final int REFERENCE_CONSTRUCTOR_ARITY;
+    /** First Holder.Reference.Type constant, used by the 4-parameter constructor */
+    public static final Object REFERENCE_TYPE;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        BY_VALUE = findField(lookup, MappedRegistry.class, "byValue");
+        BY_LOCATION = findField(lookup, MappedRegistry.class, "byLocation");
+
+        MethodHandle register = null;
+        boolean takesId = false;
+        for (Method method : MappedRegistry.class.getDeclaredMethods()) {
+            if (!method.getName().equals("register")) {
+                continue;
+            }
+            Class<?>[] paramTypes = method.getParameterTypes();
+            boolean withId = paramTypes.length == 3 && paramTypes[0] == int.class
+                && ResourceKey.class.isAssignableFrom(paramTypes[1]);
+            boolean withoutId = paramTypes.length == 2 && ResourceKey.class.isAssignableFrom(paramTypes[0]);
+            if (withId || withoutId) {
+                try {
+                    method.setAccessible(true);
+                    register = lookup.unreflect(method);
+                    takesId = withId;
+                    break;
+                } catch (Exception e) {
+                    LOGGER.debug("Could not access register method {}: {}", method, e.getMessage());
+                }
+            }
+        }
+        REGISTER = register;
+        REGISTER_TAKES_ID = takesId;
+
+        MethodHandle bindValue = null;
+        try {
+            Method method = Holder.Reference.class.getDeclaredMethod("bindValue", Object.class);
+            method.setAccessible(true);
+            bindValue = lookup.unreflect(method);
+        } catch (Exception e) {
+            LOGGER.debug("Could not access Holder.Reference#bindValue: {}", e.getMessage());
+        }
+        BIND_VALUE = bindValue;
+
+        // Prefer the constructor that binds the value directly
+        MethodHandle constructor = null;
+        int arity = 0;
+        Object referenceType = null;
+        for (int wanted : new int[] {4, 3, 2, 1}) {
+            for (Constructor<?> candidate : Holder.Reference.class.getDeclaredConstructors()) {
+                if (candidate.getParameterCount() != wanted) {
+                    continue;
+                }
+                try {
+                    if (wanted == 4) {
+                        Object[] types = candidate.getParameterTypes()[0].getEnumConstants();
+                        if (types == null || types.length == 0) {
+                            continue;
+                        }
+                        referenceType = types[0];
+                    }
+                    candidate.setAccessible(true);
+                    constructor = lookup.unreflectConstructor(candidate);
+                    arity = wanted;
+                    break;
+                } catch (Exception e) {
+                    LOGGER.debug("Could not access Holder.Reference constructor {}: {}", candidate, e.getMessage());
+                }
+            }
+            if (constructor != null) {
+                break;
+            }
+        }
+        REFERENCE_CONSTRUCTOR = constructor;
+        REFERENCE_CONSTRUCTOR_ARITY = arity;
+        REFERENCE_TYPE = referenceType;
+
+        LOGGER.debug("Registry handles resolved: byValue={}, byLocation={}, register={}, bindValue={}, constructor arity={}",
+            BY_VALUE != null, BY_LOCATION != null, REGISTER != null, BIND_VALUE != null, REFERENCE_CONSTRUCTOR_ARITY);
+    }
+
+    private RegistryHandles() {}
+
+    private static VarHandle findField(MethodHandles.Lookup lookup, Class<?> owner, String name) {
+        try {
+            Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            return lookup.unreflectVarHandle(field);
+        } catch (Exception e) {
+            LOGGER.debug("Could not access {}.{}: {}", owner.getSimpleName(), name, e.getMessage());
+            return null;
+        }
+    }
+}
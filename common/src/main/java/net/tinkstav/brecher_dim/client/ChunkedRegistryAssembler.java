@@ -0,0 +1,264 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.client;
+
+import com.mojang.logging.LogUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Reassembles a chunked registry sync on the client without concatenating the parts.
+ *
+ * <p>The parts of a transfer are consecutive slices of one compressed NBT compound and
+ * share a transfer id (see {@code ChunkedRegistrySyncPayload}). Each part is wrapped, not copied,
+ * and appended to a composite buffer as soon as every part before it has arrived, so
+ * parts may arrive in any order and duplicates are ignored. A background thread
+ * decompresses and parses the stream while it fills, waiting for the next part for at
+ * most {@link #PART_TIMEOUT_MS}. The decoded compound is handed to the callback on the
+ * given executor, normally the client thread.
+ *
+ * <p>Transfers larger than {@link #MAX_TOTAL_BYTES} compressed or {@link #MAX_PARTS}
+ * parts, truncated streams and stalled transfers are dropped with a warning, and the
+ * drop callback runs on the same executor. {@link #isPending} stays true from the first
+ * part until one of the two callbacks has run, so the caller can hold back messages
+ * that must be applied after the transfer.
+ */
+public class ChunkedRegistryAssembler {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    public static final int MAX_PARTS = 1024;
+    public static final long MAX_TOTAL_BYTES = 8L * 1024 * 1024;
+    public static final long MAX_DECODED_BYTES = 64L * 1024 * 1024;
+    public static final long PART_TIMEOUT_MS = 30_000;
+
+    private static final ExecutorService DECODER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Brecher Registry Decoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Executor resultExecutor;
+    private final Consumer<CompoundTag> onComplete;
+    private final Runnable onDropped;
+    private Transfer current;
+    // Id of the last transfer that finished, so its late duplicates don't start it again
+    private Integer finishedId;
+
+    public ChunkedRegistryAssembler(Executor resultExecutor, Consumer<CompoundTag> onComplete, Runnable onDropped) {
+        this.resultExecutor = resultExecutor;
+        this.onComplete = onComplete;
+        this.onDropped = onDropped;
+    }
+
+    /**
+     * Accept one part of a transfer. A part with a different transfer id than the
+     * transfer in progress starts a new transfer; parts of a finished transfer are ignored.
+     */
+    public synchronized void accept(int transferId, int partIndex, int totalParts, byte[] data) {
+        if (totalParts <= 0 || totalParts > MAX_PARTS || partIndex < 0 || partIndex >= totalParts) {
+            LOGGER.warn("Dropping registry sync part {}/{}: out of range", partIndex, totalParts);
+            return;
+        }
+        if (current == null && finishedId != null && finishedId == transferId) {
+            return;
+        }
+        if (current != null && current.transferId == transferId) {
+            if (current.totalParts != totalParts) {
+                LOGGER.warn("Dropping registry sync part {}/{}: transfer {} has {} parts",
+                    partIndex, totalParts, transferId, current.totalParts);
+                return;
+            }
+        } else {
+            if (current != null && !current.isClosed()) {
+                LOGGER.warn("Registry sync transfer {} superseded before it completed", current.transferId);
+                current.close();
+            }
+            current = new Transfer(transferId, totalParts);
+            Transfer transfer = current;
+            DECODER.execute(() -> decode(transfer));
+        }
+        current.offer(partIndex, data);
+    }
+
+    /**
+     * Whether a transfer has started and its result has not been handed over yet
+     */
+    public synchronized boolean isPending() {
+        return current != null;
+    }
+
+    /**
+     * Abandon the transfer in progress (called on disconnect)
+     */
+    public synchronized void reset() {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+        finishedId = null;
+    }
+
+    /**
+     * End a transfer if it is still the current one
+     * @return false if it was superseded or reset in the meantime
+     */
+    private synchronized boolean finish(Transfer transfer) {
+        if (current != transfer) {
+            return false;
+        }
+        current = null;
+        finishedId = transfer.transferId;
+        return true;
+    }
+
+    private void decode(Transfer transfer) {
+        try (InputStream stream = transfer.stream()) {
+            CompoundTag tag = NbtIo.readCompressed(stream, NbtAccounter.create(MAX_DECODED_BYTES));
+            transfer.close();
+            LOGGER.debug("Decoded registry sync transfer {} of {} parts ({} bytes)",
+                transfer.transferId, transfer.totalParts, transfer.receivedBytes);
+            resultExecutor.execute(() -> {
+                if (finish(transfer)) {
+                    onComplete.accept(tag);
+                }
+            });
+        } catch (Exception e) {
+            if (!transfer.isClosed()) {
+                LOGGER.warn("Dropping registry sync: {}", e.getMessage());
+            }
+            transfer.close();
+            resultExecutor.execute(() -> {
+                if (finish(transfer)) {
+                    onDropped.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * One chunked transfer: parts received so far and the composite buffer the decoder reads
+     */
+    private static class Transfer {
+        final int transferId;
+        final int totalParts;
+        private final ByteBuf[] parts;
+        private final CompositeByteBuf composite;
+        private long receivedBytes = 0;
+        private int nextPart = 0;
+        private boolean closed = false;
+
+        Transfer(int transferId, int totalParts) {
+            this.transferId = transferId;
+            this.totalParts = totalParts;
+            this.parts = new ByteBuf[totalParts];
+            this.composite = Unpooled.compositeBuffer(totalParts);
+        }
+
+        synchronized void offer(int partIndex, byte[] data) {
+            if (closed || parts[partIndex] != null) {
+                return;
+            }
+            if (receivedBytes + data.length > MAX_TOTAL_BYTES) {
+                LOGGER.warn("Dropping registry sync: more than {} bytes", MAX_TOTAL_BYTES);
+                close();
+                return;
+            }
+            receivedBytes += data.length;
+            parts[partIndex] = Unpooled.wrappedBuffer(data);
+            // Move every part that is now contiguous into the stream
+            while (nextPart < totalParts && parts[nextPart] != null) {
+                composite.addComponent(true, parts[nextPart]);
+                parts[nextPart] = Unpooled.EMPTY_BUFFER;
+                nextPart++;
+            }
+            notifyAll();
+        }
+
+        synchronized boolean isClosed() {
+            return closed;
+        }
+
+        synchronized void close() {
+            if (!closed) {
+                closed = true;
+                composite.release();
+                notifyAll();
+            }
+        }
+
+        /**
+         * Wait until the stream has readable bytes; false at the end of the last part
+         */
+        private synchronized boolean awaitReadable() throws IOException {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(PART_TIMEOUT_MS);
+            while (!closed && !composite.isReadable()) {
+                if (nextPart == totalParts) {
+                    return false;
+                }
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    throw new IOException("timed out waiting for part " + nextPart + " of " + totalParts);
+                }
+                try {
+                    wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            if (closed) {
+                throw new IOException("transfer closed");
+            }
+            return true;
+        }
+
+        InputStream stream() {
+            return new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    synchronized (Transfer.this) {
+                        if (!awaitReadable()) {
+                            return -1;
+                        }
+                        int value = composite.readUnsignedByte();
+                        composite.discardReadComponents();
+                        return value;
+                    }
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    if (length == 0) {
+                        return 0;
+                    }
+                    synchronized (Transfer.this) {
+                        if (!awaitReadable()) {
+                            return -1;
+                        }
+                        int count = Math.min(length, composite.readableBytes());
+                        composite.readBytes(buffer, offset, count);
+                        composite.discardReadComponents();
+                        return count;
+                    }
+                }
+            };
+        }
+    }
+}
@@ -5,9 +5,13 @@
 
 package net.tinkstav.brecher_dim.client;
 
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import net.tinkstav.brecher_dim.platform.Services;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Client-side packet handler that delegates to platform implementations.
  */
@@ -19,6 +23,12 @@ public class ClientPacketHandler {
         }
     }
     
+    public static void handleDimensionRegistrySync(long baseEpoch, long epoch, Map<ResourceLocation, CompoundTag> dimensions, List<ResourceLocation> removed) {
+        if (Services.CLIENT != null) {
+            Services.CLIENT.handleDimensionRegistrySync(baseEpoch, epoch, dimensions, removed);
+        }
+    }
+    
     public static void handleDimensionReset(ResourceLocation dimensionId, long resetTime) {
         if (Services.CLIENT != null) {
             Services.CLIENT.handleDimensionReset(dimensionId, resetTime);
@@ -43,9 +53,9 @@ public class ClientPacketHandler {
         }
     }
     
-    public static void handleChunkedRegistrySync(int chunkIndex, int totalChunks, byte[] nbtData) {
+    public static void handleChunkedRegistrySync(int transferId, int chunkIndex, int totalChunks, byte[] nbtData) {
         if (Services.CLIENT != null) {
-            Services.CLIENT.handleChunkedRegistrySync(chunkIndex, totalChunks, nbtData);
+            Services.CLIENT.handleChunkedRegistrySync(transferId, chunkIndex, totalChunks, nbtData);
         }
     }
 }
\ No newline at end of file
@@ -5,40 +5,73 @@
 
 package net.tinkstav.brecher_dim.client;
 
+import net.minecraft.ChatFormatting;
 import net.minecraft.client.Minecraft;
+import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.tinkstav.brecher_dim.BrecherDimensions;
 import net.tinkstav.brecher_dim.config.BrecherConfig;
 import org.apache.commons.io.FileUtils;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.Set;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 /**
  * Utility for cleaning up Xaero's map data for removed dimensions.
  * Handles both Xaero's Minimap and World Map data.
+ *
+ * <p>Map folders and waypoint files of exploration dimensions are recorded in a manifest
+ * in the xaero directory when they are first seen: when a dimension is tracked and again
+ * when the client disconnects, after the player had a chance to visit it. Finding them
+ * lists only the server folders and their direct entries, never the whole map tree.
+ * Cleanup deletes the exact paths from the manifest. All file work runs on a small
+ * bounded executor, and the player is told once a cleanup has finished.
  */
 public class XaeroMapCleanup {
     private static final Set<ResourceLocation> EXPLORATION_DIMENSIONS = ConcurrentHashMap.newKeySet();
     private static final String BRECHER_DIM_PREFIX = "brecher_dim$exploration_";
-    
+    private static final String MANIFEST_FILE = "brecher_dim_manifest.txt";
+    private static final String[] MAP_FOLDERS = {"world-map", "minimap"};
+
+    // Dimension id -> map paths relative to the xaero directory; loaded on first use
+    private static final Map<String, Set<String>> manifest = new TreeMap<>();
+    private static boolean manifestLoaded = false;
+
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(2, 2, 30, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(256), runnable -> {
+            Thread thread = new Thread(runnable, "Brecher Xaero Cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
     /**
      * Track an exploration dimension
      */
     public static void trackExplorationDimension(ResourceLocation dimensionId) {
         if (dimensionId.getNamespace().equals(BrecherDimensions.MOD_ID)) {
-            EXPLORATION_DIMENSIONS.add(dimensionId);
-            BrecherDimensions.LOGGER.debug("Tracking exploration dimension: {}", dimensionId);
+            if (EXPLORATION_DIMENSIONS.add(dimensionId)) {
+                BrecherDimensions.LOGGER.debug("Tracking exploration dimension: {}", dimensionId);
+                // Map data may already exist from an earlier session with the same dimension
+                submit(() -> recordMapPaths(List.of(dimensionId)));
+            }
         }
     }
-    
+
     /**
      * Clean up map data for a removed dimension
      */
@@ -48,47 +81,93 @@ public class XaeroMapCleanup {
             BrecherDimensions.LOGGER.debug("Xaero map cleanup is disabled in config");
             return;
         }
-        
+
         if (!EXPLORATION_DIMENSIONS.contains(dimensionId)) {
             BrecherDimensions.LOGGER.debug("Dimension {} is not an exploration dimension, skipping cleanup", dimensionId);
             return;
         }
-        
+
         // Remove from tracking
         EXPLORATION_DIMENSIONS.remove(dimensionId);
-        
-        // Perform cleanup asynchronously to avoid blocking
-        CompletableFuture.runAsync(() -> {
-            try {
-                cleanupXaeroData(dimensionId);
-            } catch (Exception e) {
-                BrecherDimensions.LOGGER.error("Failed to cleanup Xaero data for dimension {}", dimensionId, e);
+
+        submit(() -> {
+            // Folders created since the dimension was tracked aren't in the manifest yet
+            recordMapPaths(List.of(dimensionId));
+            int deleted = deleteRecorded(Set.of(dimensionId.toString()));
+            if (deleted > 0) {
+                notifyPlayer("Removed " + deleted + " Xaero map entries for " + dimensionId.getPath());
             }
         });
     }
-    
-    private static void cleanupXaeroData(ResourceLocation dimensionId) {
-        Path gameDir = Minecraft.getInstance().gameDirectory.toPath();
-        Path xaeroDir = gameDir.resolve("xaero");
-        
-        if (!Files.exists(xaeroDir)) {
-            BrecherDimensions.LOGGER.debug("Xaero directory not found, skipping cleanup");
+
+    /**
+     * Clear all tracked dimensions (called on disconnect)
+     */
+    public static void clearTrackedDimensions() {
+        List<ResourceLocation> visited = new ArrayList<>(EXPLORATION_DIMENSIONS);
+        EXPLORATION_DIMENSIONS.clear();
+        if (!visited.isEmpty()) {
+            // Record whatever map data the session created, for cleanup on the next connect
+            submit(() -> recordMapPaths(visited));
+        }
+    }
+
+    /**
+     * Clean up old Xaero map data after joining a server
+     * This removes map data for any exploration dimensions from previous sessions. Call it once
+     * the first full registry snapshot of the session has been applied, so the session's own
+     * dimensions are tracked and their map data is kept.
+     */
+    public static void cleanupOldMapDataOnConnect() {
+        // Check if cleanup is enabled
+        if (!BrecherConfig.isCleanupXaeroMapData()) {
+            BrecherDimensions.LOGGER.debug("Xaero map cleanup is disabled in config");
             return;
         }
-        
-        // Build the full dimension folder name as used by Xaero's
-        // Format: brecher_dim$exploration_[type]_[id]
-        String xaeroDimensionName = BrecherDimensions.MOD_ID + "$" + dimensionId.getPath();
-        
-        BrecherDimensions.LOGGER.debug("Cleaning up Xaero data for dimension: {}", xaeroDimensionName);
-        
-        // Clean up World Map data
-        cleanupWorldMapData(xaeroDir, xaeroDimensionName);
-        
-        // Clean up Minimap data (waypoints)
-        cleanupMinimapData(xaeroDir, xaeroDimensionName);
+
+        submit(() -> {
+            Path xaeroDir = getXaeroDir();
+            if (!Files.exists(xaeroDir)) {
+                BrecherDimensions.LOGGER.debug("Xaero directory not found, skipping cleanup");
+                return;
+            }
+            if (!Files.exists(xaeroDir.resolve(MANIFEST_FILE))) {
+                // First run with a manifest: find existing exploration map data once
+                seedManifest(xaeroDir);
+            }
+            Set<String> dimensions;
+            synchronized (manifest) {
+                loadManifest(xaeroDir);
+                dimensions = new HashSet<>(manifest.keySet());
+            }
+            // Dimensions of the session being joined were tracked from its first registry snapshot
+            EXPLORATION_DIMENSIONS.forEach(dimensionId -> dimensions.remove(dimensionId.toString()));
+            int deleted = deleteRecorded(dimensions);
+            if (deleted > 0) {
+                BrecherDimensions.LOGGER.info("Cleaned up {} Xaero map entries from previous sessions", deleted);
+                notifyPlayer("Removed " + deleted + " Xaero map entries from previous exploration dimensions");
+            }
+        });
+    }
+
+    private static void submit(Runnable task) {
+        try {
+            EXECUTOR.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    BrecherDimensions.LOGGER.error("Xaero map cleanup task failed", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            BrecherDimensions.LOGGER.warn("Xaero map cleanup queue is full, skipping task");
+        }
     }
-    
+
+    private static Path getXaeroDir() {
+        return Minecraft.getInstance().gameDirectory.toPath().resolve("xaero");
+    }
+
     /**
      * Get the full dimension name as used by Xaero's mod
      * @param dimensionPath The dimension path from ResourceLocation (e.g., "exploration_overworld_0")
@@ -97,213 +176,228 @@ public class XaeroMapCleanup {
     private static String getXaeroDimensionName(String dimensionPath) {
         return BrecherDimensions.MOD_ID + "$" + dimensionPath;
     }
-    
-    private static void cleanupWorldMapData(Path xaeroDir, String xaeroDimensionName) {
-        Path worldMapDir = xaeroDir.resolve("world-map");
-        if (!Files.exists(worldMapDir)) {
-            return;
+
+    /**
+     * Check if a map folder or file name refers to a dimension, so that
+     * exploration_overworld_1 doesn't match exploration_overworld_12
+     */
+    private static boolean matchesDimension(String name, String xaeroDimensionName) {
+        for (String variant : new String[] {xaeroDimensionName, xaeroDimensionName.replace("$", "%24")}) {
+            int index = name.indexOf(variant);
+            while (index >= 0) {
+                int end = index + variant.length();
+                if (end == name.length() || !Character.isDigit(name.charAt(end))) {
+                    return true;
+                }
+                index = name.indexOf(variant, index + 1);
+            }
         }
-        
+        return false;
+    }
+
+    /**
+     * Server folders under world-map and minimap that cleanup may touch
+     */
+    private static List<Path> listServerDirs(Path xaeroDir) {
         List<String> targetDirs = BrecherConfig.getXaeroCleanupTargets();
-        
-        try {
-            // Find all server/world directories
-            Files.walk(worldMapDir, 2)
-                .filter(Files::isDirectory)
-                .filter(path -> {
-                    String dirName = path.getFileName().toString();
-                    // If target directories specified, only clean those
-                    if (!targetDirs.isEmpty()) {
-                        return targetDirs.contains(dirName);
-                    }
-                    // Otherwise clean all Multiplayer/Singleplayer directories
-                    return dirName.startsWith("Multiplayer_") || dirName.startsWith("Singleplayer_");
-                })
-                .forEach(serverDir -> {
-                    // Look for the specific dimension folder by exact name
-                    Path dimFolder = serverDir.resolve(xaeroDimensionName);
-                    if (Files.exists(dimFolder)) {
-                        try {
-                            FileUtils.deleteDirectory(dimFolder.toFile());
-                            BrecherDimensions.LOGGER.info("Deleted Xaero World Map data: {}", dimFolder);
-                        } catch (IOException e) {
-                            BrecherDimensions.LOGGER.error("Failed to delete World Map folder: {}", dimFolder, e);
+        List<Path> serverDirs = new ArrayList<>();
+        for (String mapFolder : MAP_FOLDERS) {
+            Path mapDir = xaeroDir.resolve(mapFolder);
+            if (!Files.isDirectory(mapDir)) {
+                continue;
+            }
+            try (Stream<Path> entries = Files.list(mapDir)) {
+                entries.filter(Files::isDirectory)
+                    .filter(path -> {
+                        String dirName = path.getFileName().toString();
+                        // If target directories specified, only clean those
+                        if (!targetDirs.isEmpty()) {
+                            return targetDirs.contains(dirName);
                         }
-                    }
-                });
-        } catch (IOException e) {
-            BrecherDimensions.LOGGER.error("Error walking World Map directory", e);
+                        // Otherwise clean all Multiplayer/Singleplayer directories
+                        return dirName.startsWith("Multiplayer_") || dirName.startsWith("Singleplayer_");
+                    })
+                    .forEach(serverDirs::add);
+            } catch (IOException e) {
+                BrecherDimensions.LOGGER.error("Error listing Xaero directory: {}", mapDir, e);
+            }
         }
+        return serverDirs;
     }
-    
-    private static void cleanupMinimapData(Path xaeroDir, String xaeroDimensionName) {
-        Path minimapDir = xaeroDir.resolve("minimap");
-        if (!Files.exists(minimapDir)) {
+
+    /**
+     * Find the map folders and waypoint files of dimensions directly inside the server
+     * folders and add them to the manifest
+     */
+    private static void recordMapPaths(Collection<ResourceLocation> dimensions) {
+        Path xaeroDir = getXaeroDir();
+        if (!Files.exists(xaeroDir)) {
             return;
         }
-        
-        try {
-            // Clean up waypoint data that contains the dimension name
-            // Xaero's waypoints may include the dimension name in the file
-            Files.walk(minimapDir)
-                .filter(Files::isRegularFile)
-                .filter(path -> {
-                    String fileName = path.getFileName().toString();
-                    // Check if file contains the dimension name
-                    return fileName.contains(xaeroDimensionName) || 
-                           // Also check for URL-encoded version ($ becomes %24)
-                           fileName.contains(xaeroDimensionName.replace("$", "%24"));
-                })
-                .forEach(file -> {
-                    try {
-                        Files.delete(file);
-                        BrecherDimensions.LOGGER.info("Deleted Xaero Minimap data: {}", file);
-                    } catch (IOException e) {
-                        BrecherDimensions.LOGGER.error("Failed to delete Minimap file: {}", file, e);
+        Map<String, Set<String>> found = new HashMap<>();
+        for (Path serverDir : listServerDirs(xaeroDir)) {
+            try (Stream<Path> entries = Files.list(serverDir)) {
+                entries.forEach(entry -> {
+                    String name = entry.getFileName().toString();
+                    for (ResourceLocation dimensionId : dimensions) {
+                        if (matchesDimension(name, getXaeroDimensionName(dimensionId.getPath()))) {
+                            found.computeIfAbsent(dimensionId.toString(), k -> new TreeSet<>())
+                                .add(relativize(xaeroDir, entry));
+                        }
                     }
                 });
-        } catch (IOException e) {
-            BrecherDimensions.LOGGER.error("Error walking Minimap directory", e);
+            } catch (IOException e) {
+                BrecherDimensions.LOGGER.error("Error listing Xaero server directory: {}", serverDir, e);
+            }
+        }
+        if (found.isEmpty()) {
+            return;
+        }
+        synchronized (manifest) {
+            loadManifest(xaeroDir);
+            boolean changed = false;
+            for (Map.Entry<String, Set<String>> entry : found.entrySet()) {
+                changed |= manifest.computeIfAbsent(entry.getKey(), k -> new TreeSet<>()).addAll(entry.getValue());
+            }
+            if (changed) {
+                saveManifest(xaeroDir);
+            }
         }
     }
-    
+
     /**
-     * Clear all tracked dimensions (called on disconnect)
+     * Fill the manifest with every exploration map entry already on disk
      */
-    public static void clearTrackedDimensions() {
-        EXPLORATION_DIMENSIONS.clear();
+    private static void seedManifest(Path xaeroDir) {
+        synchronized (manifest) {
+            loadManifest(xaeroDir);
+            for (Path serverDir : listServerDirs(xaeroDir)) {
+                try (Stream<Path> entries = Files.list(serverDir)) {
+                    entries.forEach(entry -> {
+                        String name = entry.getFileName().toString().replace("%24", "$");
+                        int start = name.indexOf(BRECHER_DIM_PREFIX);
+                        if (start < 0) {
+                            return;
+                        }
+                        // Dimension path runs from "exploration_" to the end of its numeric id
+                        int end = start + BRECHER_DIM_PREFIX.length();
+                        while (end < name.length() && (Character.isLetterOrDigit(name.charAt(end)) || name.charAt(end) == '_')) {
+                            end++;
+                        }
+                        String dimensionPath = name.substring(start + BrecherDimensions.MOD_ID.length() + 1, end);
+                        manifest.computeIfAbsent(BrecherDimensions.MOD_ID + ":" + dimensionPath, k -> new TreeSet<>())
+                            .add(relativize(xaeroDir, entry));
+                    });
+                } catch (IOException e) {
+                    BrecherDimensions.LOGGER.error("Error listing Xaero server directory: {}", serverDir, e);
+                }
+            }
+            saveManifest(xaeroDir);
+        }
     }
-    
+
     /**
-     * Clean up old Xaero map data on server connection
-     * This removes map data for any exploration dimensions from previous sessions
+     * Delete the recorded map entries of some dimensions and drop them from the manifest
+     * @return the number of entries deleted
      */
-    public static void cleanupOldMapDataOnConnect() {
-        // Check if cleanup is enabled
-        if (!BrecherConfig.isCleanupXaeroMapData()) {
-            BrecherDimensions.LOGGER.debug("Xaero map cleanup is disabled in config");
-            return;
+    private static int deleteRecorded(Set<String> dimensions) {
+        Path xaeroDir = getXaeroDir();
+        Map<String, Set<String>> targets = new HashMap<>();
+        synchronized (manifest) {
+            loadManifest(xaeroDir);
+            for (String dimension : dimensions) {
+                Set<String> paths = manifest.get(dimension);
+                if (paths != null) {
+                    targets.put(dimension, new TreeSet<>(paths));
+                }
+            }
         }
-        
-        // Perform cleanup asynchronously to avoid blocking connection
-        CompletableFuture.runAsync(() -> {
-            try {
-                BrecherDimensions.LOGGER.info("Cleaning up old Xaero map data from previous sessions");
-                cleanupAllExplorationDimensions();
-            } catch (Exception e) {
-                BrecherDimensions.LOGGER.error("Failed to cleanup old Xaero map data", e);
+
+        int deleted = 0;
+        for (Map.Entry<String, Set<String>> target : targets.entrySet()) {
+            boolean complete = true;
+            for (String relative : target.getValue()) {
+                Path path = xaeroDir.resolve(relative);
+                try {
+                    if (Files.isDirectory(path)) {
+                        FileUtils.deleteDirectory(path.toFile());
+                        deleted++;
+                    } else if (Files.deleteIfExists(path)) {
+                        deleted++;
+                    }
+                    BrecherDimensions.LOGGER.debug("Deleted Xaero map data: {}", path);
+                } catch (IOException e) {
+                    complete = false;
+                    BrecherDimensions.LOGGER.error("Failed to delete Xaero map data: {}", path, e);
+                }
             }
-        });
+            if (complete) {
+                synchronized (manifest) {
+                    manifest.remove(target.getKey());
+                }
+            }
+        }
+
+        if (!targets.isEmpty()) {
+            synchronized (manifest) {
+                saveManifest(xaeroDir);
+            }
+        }
+        return deleted;
     }
-    
+
+    private static String relativize(Path xaeroDir, Path path) {
+        return xaeroDir.relativize(path).toString().replace('\\', '/');
+    }
+
     /**
-     * Clean up all exploration dimension map data
+     * Read the manifest once: lines of "dimension id, tab, relative path"
      */
-    private static void cleanupAllExplorationDimensions() {
-        Path gameDir = Minecraft.getInstance().gameDirectory.toPath();
-        Path xaeroDir = gameDir.resolve("xaero");
-        
-        if (!Files.exists(xaeroDir)) {
-            BrecherDimensions.LOGGER.debug("Xaero directory not found, skipping cleanup");
+    private static void loadManifest(Path xaeroDir) {
+        if (manifestLoaded) {
             return;
         }
-        
-        // Clean up World Map data
-        cleanupAllWorldMapData(xaeroDir);
-        
-        // Clean up Minimap data
-        cleanupAllMinimapData(xaeroDir);
-    }
-    
-    /**
-     * Clean up all exploration dimension world map data
-     */
-    private static void cleanupAllWorldMapData(Path xaeroDir) {
-        Path worldMapDir = xaeroDir.resolve("world-map");
-        if (!Files.exists(worldMapDir)) {
+        manifestLoaded = true;
+        Path file = xaeroDir.resolve(MANIFEST_FILE);
+        if (!Files.exists(file)) {
             return;
         }
-        
-        List<String> targetDirs = BrecherConfig.getXaeroCleanupTargets();
-        
         try {
-            // Find all server/world directories
-            Files.walk(worldMapDir, 2)
-                .filter(Files::isDirectory)
-                .filter(path -> {
-                    String dirName = path.getFileName().toString();
-                    // If target directories specified, only clean those
-                    if (!targetDirs.isEmpty()) {
-                        return targetDirs.contains(dirName);
-                    }
-                    // Otherwise clean all Multiplayer/Singleplayer directories
-                    return dirName.startsWith("Multiplayer_") || dirName.startsWith("Singleplayer_");
-                })
-                .forEach(serverDir -> {
-                    // Look for any folders that match exploration dimension pattern
-                    try {
-                        Files.list(serverDir)
-                            .filter(Files::isDirectory)
-                            .filter(path -> {
-                                String folderName = path.getFileName().toString();
-                                // Check for Brecher dimension folders
-                                return folderName.startsWith(BRECHER_DIM_PREFIX);
-                            })
-                            .forEach(dimFolder -> {
-                                try {
-                                    FileUtils.deleteDirectory(dimFolder.toFile());
-                                    BrecherDimensions.LOGGER.info("Deleted old Xaero World Map data: {}", dimFolder);
-                                } catch (IOException e) {
-                                    BrecherDimensions.LOGGER.error("Failed to delete World Map folder: {}", dimFolder, e);
-                                }
-                            });
-                    } catch (IOException e) {
-                        BrecherDimensions.LOGGER.error("Error listing server directory: {}", serverDir, e);
-                    }
-                });
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int split = line.indexOf('\t');
+                if (split > 0) {
+                    manifest.computeIfAbsent(line.substring(0, split), k -> new TreeSet<>()).add(line.substring(split + 1));
+                }
+            }
         } catch (IOException e) {
-            BrecherDimensions.LOGGER.error("Error walking World Map directory", e);
+            BrecherDimensions.LOGGER.error("Failed to read Xaero cleanup manifest", e);
         }
     }
-    
-    /**
-     * Clean up all exploration dimension minimap data
-     */
-    private static void cleanupAllMinimapData(Path xaeroDir) {
-        Path minimapDir = xaeroDir.resolve("minimap");
-        if (!Files.exists(minimapDir)) {
-            return;
-        }
-        
+
+    private static void saveManifest(Path xaeroDir) {
+        List<String> lines = new ArrayList<>();
+        manifest.forEach((dimension, paths) -> paths.forEach(path -> lines.add(dimension + "\t" + path)));
+        Path file = xaeroDir.resolve(MANIFEST_FILE);
+        Path temp = xaeroDir.resolve(MANIFEST_FILE + ".tmp");
         try {
-            // Clean up any waypoint data for exploration dimensions
-            Files.walk(minimapDir)
-                .filter(Files::isRegularFile)
-                .filter(path -> {
-                    String fileName = path.getFileName().toString();
-                    // Look for files that contain the Brecher dimension prefix
-                    return fileName.contains(BRECHER_DIM_PREFIX) || 
-                           // Also check for URL-encoded version
-                           fileName.contains(BRECHER_DIM_PREFIX.replace("$", "%24"));
-                })
-                .forEach(file -> {
-                    try {
-                        Files.delete(file);
-                        BrecherDimensions.LOGGER.info("Deleted old Xaero Minimap data: {}", file);
-                    } catch (IOException e) {
-                        BrecherDimensions.LOGGER.error("Failed to delete Minimap file: {}", file, e);
-                    }
-                });
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
-            BrecherDimensions.LOGGER.error("Error walking Minimap directory", e);
+            BrecherDimensions.LOGGER.error("Failed to write Xaero cleanup manifest", e);
         }
     }
-    
-    /**
-     * Check if cleanup should log detailed information
-     * @return true if debug logging is enabled
-     */
-    private static boolean isDebugEnabled() {
-        return BrecherDimensions.LOGGER.isDebugEnabled();
+
+    private static void notifyPlayer(String message) {
+        Minecraft minecraft = Minecraft.getInstance();
+        minecraft.execute(() -> {
+            if (minecraft.player != null) {
+                minecraft.player.displayClientMessage(
+                    Component.literal("[Brecher] " + message).withStyle(ChatFormatting.GRAY), false);
+            }
+        });
     }
-}
\ No newline at end of file
+}
@@ -14,6 +14,7 @@ import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.DimensionArgument;
 import net.minecraft.commands.arguments.EntityArgument;
+import net.minecraft.commands.arguments.ResourceLocationArgument;
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.ClickEvent;
@@ -25,19 +26,29 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.resources.ResourceKey;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
 import net.minecraft.world.level.entity.EntityTypeTest;
 import net.tinkstav.brecher_dim.BrecherDimensions;
 import net.tinkstav.brecher_dim.config.BrecherConfig;
 import net.tinkstav.brecher_dim.data.BrecherSavedData;
+import net.tinkstav.brecher_dim.data.DataRetention;
 import net.tinkstav.brecher_dim.dimension.BrecherDimensionManager;
 import net.tinkstav.brecher_dim.dimension.DimensionRegistrar;
+import net.tinkstav.brecher_dim.network.DimensionSyncTracker;
+import net.tinkstav.brecher_dim.network.OutboundCoalescer;
+import net.tinkstav.brecher_dim.teleport.TeleportAdmission;
 import net.tinkstav.brecher_dim.teleport.TeleportHandler;
 import net.tinkstav.brecher_dim.debug.RegistryFieldDiagnostics;
 import net.tinkstav.brecher_dim.util.AdvancementLockChecker;
 import net.tinkstav.brecher_dim.util.DimensionCounterUtil;
 import net.tinkstav.brecher_dim.generation.ChunkPreGenerator;
+import net.tinkstav.brecher_dim.generation.GenerationTask;
+import net.tinkstav.brecher_dim.generation.StructureIndex;
+import net.tinkstav.brecher_dim.performance.DimensionTickMonitor;
+import net.tinkstav.brecher_dim.performance.ExplorationChunkCache;
 import com.mojang.logging.LogUtils;
 import org.slf4j.Logger;
 import java.util.*;
@@ -52,6 +63,22 @@ public class BrecherCommands {
             return SharedSuggestionProvider.suggest(enabledDimensions, builder);
         };
     
+    // Suggestion provider for pregen target statuses
+    private static final SuggestionProvider<CommandSourceStack> TARGET_STATUS_SUGGESTIONS =
+        (context, builder) -> SharedSuggestionProvider.suggest(GenerationTask.TARGET_STATUSES, builder);
+    
+    // Suggestion provider for structure types in the selected dimension's structure index
+    private static final SuggestionProvider<CommandSourceStack> INDEXED_STRUCTURE_SUGGESTIONS =
+        (context, builder) -> {
+            ServerLevel dimension = DimensionArgument.getDimension(context, "dimension");
+            return SharedSuggestionProvider.suggestResource(
+                BrecherSavedData.get(context.getSource().getServer())
+                    .getStructureIndex(dimension.dimension().location())
+                    .map(index -> index.getCounts().keySet())
+                    .orElse(Collections.emptySet()),
+                builder);
+        };
+    
     /**
      * Register all commands
      */
@@ -89,6 +116,10 @@ public class BrecherCommands {
                         .executes(ctx -> debugRegistry(ctx)))
                     .then(Commands.literal("compass")
                         .executes(ctx -> debugCompass(ctx))))
+                .then(Commands.literal("data")
+                    .executes(ctx -> showDataStats(ctx))
+                    .then(Commands.literal("compact")
+                        .executes(ctx -> compactData(ctx))))
                 .then(Commands.literal("counter")
                     .then(Commands.literal("show")
                         .executes(ctx -> showCounters(ctx)))
@@ -98,11 +129,20 @@ public class BrecherCommands {
                         .then(Commands.argument("dimension", DimensionArgument.dimension())
                             .executes(ctx -> resetDimensionCounter(ctx)))))
                 .then(Commands.literal("pregen")
+                    .executes(ctx -> pregenOverview(ctx))
                     .then(Commands.literal("start")
                         .then(Commands.argument("dimension", DimensionArgument.dimension())
                             .executes(ctx -> startPregen(ctx))
                             .then(Commands.argument("radius", StringArgumentType.string())
-                                .executes(ctx -> startPregenWithRadius(ctx)))))
+                                .executes(ctx -> startPregenWithRadius(ctx))
+                                .then(Commands.argument("status", StringArgumentType.word())
+                                    .suggests(TARGET_STATUS_SUGGESTIONS)
+                                    .executes(ctx -> startPregenWithRadius(ctx))))))
+                    .then(Commands.literal("upgrade")
+                        .then(Commands.argument("dimension", DimensionArgument.dimension())
+                            .executes(ctx -> upgradePregen(ctx))
+                            .then(Commands.argument("radius", StringArgumentType.string())
+                                .executes(ctx -> upgradePregen(ctx)))))
                     .then(Commands.literal("stop")
                         .then(Commands.argument("dimension", DimensionArgument.dimension())
                             .executes(ctx -> stopPregen(ctx))))
@@ -116,6 +156,14 @@ public class BrecherCommands {
                         .executes(ctx -> pregenStatus(ctx))
                         .then(Commands.argument("dimension", DimensionArgument.dimension())
                             .executes(ctx -> pregenStatusDimension(ctx))))
+                    .then(Commands.literal("schedule")
+                        .executes(ctx -> pregenSchedule(ctx)))
+                    .then(Commands.literal("structures")
+                        .then(Commands.argument("dimension", DimensionArgument.dimension())
+                            .executes(ctx -> pregenStructures(ctx))
+                            .then(Commands.argument("structure", ResourceLocationArgument.id())
+                                .suggests(INDEXED_STRUCTURE_SUGGESTIONS)
+                                .executes(ctx -> pregenStructureNearest(ctx)))))
                     .then(Commands.literal("stopall")
                         .executes(ctx -> stopAllPregen(ctx))))
                 // Manual unlock management (progression gating)
@@ -543,17 +591,11 @@ public class BrecherCommands {
             return 0;
         }
         
-        int count = 0;
-        for (ServerPlayer player : source.getServer().getPlayerList().getPlayers()) {
-            if (manager.isExplorationDimension(player.level().dimension().location())) {
-                TeleportHandler.returnFromExploration(player);
-                count++;
-            }
-        }
+        // Players are moved over several ticks; completion is reported to the source
+        int count = manager.startEvacuation(source);
         
-        int finalCount = count;
-        source.sendSuccess(() -> Component.literal("Returned " + finalCount + " players to their home dimensions")
-            .withStyle(ChatFormatting.GREEN), true);
+        source.sendSuccess(() -> Component.literal("Evacuating " + count + " players from exploration dimensions...")
+            .withStyle(ChatFormatting.YELLOW), false);
         
         return count;
     }
@@ -640,6 +682,58 @@ public class BrecherCommands {
             });
         }
         
+        @SuppressWarnings("unchecked")
+        Map<String, DimensionTickMonitor.TickReport> perDimTicks =
+            (Map<String, DimensionTickMonitor.TickReport>) stats.get("perDimensionTicks");
+        if (!perDimTicks.isEmpty()) {
+            source.sendSuccess(() -> Component.literal("\nPer-Dimension Tick Cost:")
+                .withStyle(ChatFormatting.YELLOW), false);
+            perDimTicks.forEach((dim, report) -> {
+                String state = report.suspended()
+                    ? "suspended for " + (report.suspendedForMs() / 1000) + "s"
+                    : "active";
+                source.sendSuccess(() -> Component.literal(String.format("  %s: %.2f ms/tick avg, %.2f ms last ",
+                        dim, report.averageTickMs(), report.lastTickMs()))
+                    .append(Component.literal("(" + state + ")")
+                        .withStyle(report.suspended() ? ChatFormatting.GRAY : ChatFormatting.GREEN)), false);
+            });
+        }
+        
+        List<String> admissionLines = new ArrayList<>();
+        for (ServerLevel level : source.getServer().getAllLevels()) {
+            TeleportAdmission.AdmissionReport admission = TeleportAdmission.getReport(level);
+            if (admission != null) {
+                admissionLines.add(String.format("  %s: %d waiting, %d/%d arrivals pending, %d admitted, %d queued total",
+                    level.dimension().location(), admission.waiting(), admission.pendingArrivals(),
+                    admission.currentCap(), admission.admitted(), admission.queuedTotal()));
+            }
+        }
+        if (!admissionLines.isEmpty()) {
+            source.sendSuccess(() -> Component.literal("\nTeleport Admission:")
+                .withStyle(ChatFormatting.YELLOW), false);
+            admissionLines.forEach(line -> source.sendSuccess(() -> Component.literal(line), false));
+        }
+        
+        if (ExplorationChunkCache.isEnabled()) {
+            ExplorationChunkCache.CacheStats cache = ExplorationChunkCache.getStats();
+            source.sendSuccess(() -> Component.literal("\nChunk Cache:")
+                .withStyle(ChatFormatting.YELLOW), false);
+            source.sendSuccess(() -> Component.literal(String.format("  %d chunks, %.1f / %d MB",
+                cache.entryCount(), cache.bytesHeld() / 1048576.0, cache.budgetBytes() / 1048576)), false);
+            source.sendSuccess(() -> Component.literal(String.format("  Hit rate: %.1f%% (%d hits, %d misses), %d stored, %d evicted",
+                cache.hitRate(), cache.hits(), cache.misses(), cache.stores(), cache.evictions())), false);
+        }
+        
+        OutboundCoalescer.CoalescerStats network = OutboundCoalescer.getStats();
+        if (network.queued() > 0) {
+            source.sendSuccess(() -> Component.literal("\nClient Announcements:")
+                .withStyle(ChatFormatting.YELLOW), false);
+            source.sendSuccess(() -> Component.literal(String.format("  %d queued, %d superseded, %d sent in %d bundles (%.1f per bundle)",
+                network.queued(), network.superseded(), network.sentPayloads(), network.sentBundles(),
+                network.payloadsPerBundle())), false);
+            source.sendSuccess(() -> Component.literal("  Registry epoch: " + DimensionSyncTracker.getEpoch()), false);
+        }
+        
         return 1;
     }
     
@@ -953,27 +1047,68 @@ public class BrecherCommands {
     
     private static int startPregenWithRadius(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
         ServerLevel dimension = DimensionArgument.getDimension(ctx, "dimension");
-        String radiusStr = StringArgumentType.getString(ctx, "radius");
         MinecraftServer server = ctx.getSource().getServer();
         
-        int radius;
+        int radius = parsePregenRadius(ctx);
+        if (radius < 0) {
+            return 0;
+        }
+        
+        ChunkStatus target = null;
+        if (ctx.getNodes().stream().anyMatch(node -> node.getNode().getName().equals("status"))) {
+            String statusStr = StringArgumentType.getString(ctx, "status");
+            target = GenerationTask.parseTargetStatus(statusStr);
+            if (target == null) {
+                ctx.getSource().sendFailure(Component.literal("Invalid target status: " + statusStr
+                    + " (valid: " + String.join(", ", GenerationTask.TARGET_STATUSES) + ")")
+                    .withStyle(ChatFormatting.RED));
+                return 0;
+            }
+        }
+        
+        Component result = ChunkPreGenerator.startGeneration(server, dimension.dimension(), radius, target);
+        ctx.getSource().sendSuccess(() -> result, true);
+        
+        return 1;
+    }
+    
+    private static int upgradePregen(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
+        ServerLevel dimension = DimensionArgument.getDimension(ctx, "dimension");
+        MinecraftServer server = ctx.getSource().getServer();
+        
+        int radius = 0;
+        if (ctx.getNodes().stream().anyMatch(node -> node.getNode().getName().equals("radius"))) {
+            radius = parsePregenRadius(ctx);
+            if (radius < 0) {
+                return 0;
+            }
+        }
+        
+        Component result = ChunkPreGenerator.upgradeGeneration(server, dimension.dimension(), radius);
+        ctx.getSource().sendSuccess(() -> result, true);
+        
+        return 1;
+    }
+    
+    /**
+     * Parse the radius argument, reporting invalid values
+     * @return the radius, or -1 if invalid
+     */
+    private static int parsePregenRadius(CommandContext<CommandSourceStack> ctx) {
+        String radiusStr = StringArgumentType.getString(ctx, "radius");
         try {
-            radius = Integer.parseInt(radiusStr);
+            int radius = Integer.parseInt(radiusStr);
             if (radius < 1 || radius > 5000) {
                 ctx.getSource().sendFailure(Component.literal("Radius must be between 1 and 5000 chunks")
                     .withStyle(ChatFormatting.RED));
-                return 0;
+                return -1;
             }
+            return radius;
         } catch (NumberFormatException e) {
             ctx.getSource().sendFailure(Component.literal("Invalid radius: " + radiusStr)
                 .withStyle(ChatFormatting.RED));
-            return 0;
+            return -1;
         }
-        
-        Component result = ChunkPreGenerator.startGeneration(server, dimension.dimension(), radius);
-        ctx.getSource().sendSuccess(() -> result, true);
-        
-        return 1;
     }
     
     private static int stopPregen(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
@@ -993,6 +1128,22 @@ public class BrecherCommands {
         return 1;
     }
     
+    private static int pregenOverview(CommandContext<CommandSourceStack> ctx) {
+        Component status = ChunkPreGenerator.getStatus(null);
+        Component schedule = ChunkPreGenerator.getScheduleStatus();
+        ctx.getSource().sendSuccess(() -> status, false);
+        ctx.getSource().sendSuccess(() -> schedule, false);
+        
+        return 1;
+    }
+    
+    private static int pregenSchedule(CommandContext<CommandSourceStack> ctx) {
+        Component result = ChunkPreGenerator.getScheduleStatus();
+        ctx.getSource().sendSuccess(() -> result, false);
+        
+        return 1;
+    }
+    
     private static int pregenStatusDimension(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
         ServerLevel dimension = DimensionArgument.getDimension(ctx, "dimension");
 
@@ -1002,6 +1153,105 @@ public class BrecherCommands {
         return 1;
     }
 
+    private static int showDataStats(CommandContext<CommandSourceStack> ctx) {
+        BrecherSavedData data = BrecherSavedData.get(ctx.getSource().getServer());
+        List<BrecherSavedData.DataCategory> categories = data.getCategoryStats();
+        long totalBytes = categories.stream().mapToLong(BrecherSavedData.DataCategory::bytes).sum();
+        
+        ctx.getSource().sendSuccess(() -> Component.literal("=== Saved Data (" + formatBytes(totalBytes) + " uncompressed) ===")
+            .withStyle(ChatFormatting.GOLD), false);
+        for (BrecherSavedData.DataCategory category : categories) {
+            ctx.getSource().sendSuccess(() -> Component.literal("  " + category.name() + ": ")
+                .append(Component.literal(category.records() + " records").withStyle(ChatFormatting.AQUA))
+                .append(Component.literal(", " + formatBytes(category.bytes())).withStyle(ChatFormatting.GRAY)), false);
+        }
+        
+        Map<String, long[]> archived = data.getArchivedHistory();
+        if (!archived.isEmpty()) {
+            ctx.getSource().sendSuccess(() -> Component.literal("Condensed history:").withStyle(ChatFormatting.YELLOW), false);
+            archived.forEach((type, totals) ->
+                ctx.getSource().sendSuccess(() -> Component.literal(String.format("  %s: %d dimensions, %d visits, %d visitors",
+                    type, totals[0], totals[1], totals[2])).withStyle(ChatFormatting.GRAY), false));
+        }
+        
+        int pending = DataRetention.getPendingCount();
+        if (pending > 0) {
+            ctx.getSource().sendSuccess(() -> Component.literal("Compaction in progress: " + pending + " entries queued")
+                .withStyle(ChatFormatting.GRAY), false);
+        }
+        
+        return categories.size();
+    }
+    
+    private static int compactData(CommandContext<CommandSourceStack> ctx) {
+        DataRetention.requestPass();
+        ctx.getSource().sendSuccess(() -> Component.literal("Data retention pass scheduled (history kept for "
+            + BrecherConfig.getHistoryRetentionRotations() + " rotations)").withStyle(ChatFormatting.GREEN), true);
+        return 1;
+    }
+    
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    private static int pregenStructures(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
+        ServerLevel dimension = DimensionArgument.getDimension(ctx, "dimension");
+        ResourceLocation dimLoc = dimension.dimension().location();
+        Optional<StructureIndex> index = BrecherSavedData.get(ctx.getSource().getServer()).getStructureIndex(dimLoc);
+
+        if (index.isEmpty() || index.get().size() == 0) {
+            ctx.getSource().sendSuccess(() -> Component.literal("No structures indexed for " + dimLoc
+                + " yet; they are recorded as chunks are pre-generated").withStyle(ChatFormatting.GRAY), false);
+            return 0;
+        }
+
+        StructureIndex structures = index.get();
+        ctx.getSource().sendSuccess(() -> Component.literal("=== Indexed Structures: " + dimLoc + " (" + structures.size() + ") ===")
+            .withStyle(ChatFormatting.GOLD), false);
+        structures.getCounts().forEach((structure, count) ->
+            ctx.getSource().sendSuccess(() -> Component.literal("  " + structure + ": ")
+                .append(Component.literal(String.valueOf(count)).withStyle(ChatFormatting.AQUA)), false));
+
+        return structures.size();
+    }
+
+    private static int pregenStructureNearest(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
+        ServerLevel dimension = DimensionArgument.getDimension(ctx, "dimension");
+        ResourceLocation structure = ResourceLocationArgument.getId(ctx, "structure");
+        ResourceLocation dimLoc = dimension.dimension().location();
+
+        // Measure from the caller when they are in the dimension, otherwise from its spawn
+        BlockPos origin = ctx.getSource().getLevel() == dimension
+            ? BlockPos.containing(ctx.getSource().getPosition()) : dimension.getSharedSpawnPos();
+        Optional<StructureIndex.Entry> nearest = BrecherSavedData.get(ctx.getSource().getServer())
+            .getStructureIndex(dimLoc)
+            .flatMap(index -> index.findNearest(structure, origin.getX(), origin.getZ()));
+
+        if (nearest.isEmpty()) {
+            ctx.getSource().sendFailure(Component.literal("No " + structure + " indexed in " + dimLoc));
+            return 0;
+        }
+
+        StructureIndex.Entry entry = nearest.get();
+        BlockPos center = entry.box().getCenter();
+        int distance = (int) Math.sqrt(entry.distanceSqr(origin.getX(), origin.getZ()));
+        ctx.getSource().sendSuccess(() -> Component.literal("Nearest " + structure + ": ")
+            .append(Component.literal(center.getX() + ", " + center.getY() + ", " + center.getZ())
+                .withStyle(style -> style.withColor(ChatFormatting.GREEN)
+                    .withClickEvent(new ClickEvent(ClickEvent.Action.SUGGEST_COMMAND,
+                        "/execute in " + dimLoc + " run tp @s " + center.getX() + " " + center.getY() + " " + center.getZ()))))
+            .append(Component.literal(" (" + distance + " blocks, start chunk " + entry.chunk().x + ", " + entry.chunk().z + ")")
+                .withStyle(ChatFormatting.GRAY)), false);
+
+        return 1;
+    }
+
     private static int pausePregen(CommandContext<CommandSourceStack> ctx) throws CommandSyntaxException {
         ServerLevel dimension = DimensionArgument.getDimension(ctx, "dimension");
 
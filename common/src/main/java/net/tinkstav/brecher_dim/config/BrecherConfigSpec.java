@@ -63,7 +63,14 @@ public class BrecherConfigSpec {
         public static final int ENTITY_CLEANUP_INTERVAL = 1200;
         public static final int CHUNK_CLEANUP_INTERVAL = 200;
         public static final boolean PREVENT_DISK_SAVES = false;
+        public static final int CHUNK_CACHE_SIZE_MB = 128;
+        public static final String REGION_COMPRESSION = "lz4";
         public static final int OLD_DIMENSION_RETENTION_COUNT = 2;
+        public static final int HISTORY_RETENTION_ROTATIONS = 3;
+        public static final boolean SUSPEND_IDLE_DIMENSIONS = true;
+        public static final int IDLE_HEARTBEAT_INTERVAL = 20;
+        public static final int EVACUATION_PLAYERS_PER_TICK = 4;
+        public static final int MAX_PENDING_ARRIVALS = 4;
         
         // Chunk Pre-generation (Spawn)
         public static final boolean PRE_GENERATE_SPAWN_CHUNKS = true;
@@ -85,6 +92,9 @@ public class BrecherConfigSpec {
         public static final int PREGEN_STALE_HOURS = 168;
         public static final int PREGEN_MAX_TICK_MS = 5;  // Max milliseconds per tick for generation loop
         public static final int PREGEN_LOG_INTERVAL = 1000;  // Log progress every N chunks (1000 = less spam)
+        public static final boolean PREGEN_PREDICTIVE_ENABLED = true;
+        public static final int PREGEN_PREDICTIVE_MAX_LOOKAHEAD = 16;  // Chunks ahead of fast-moving players
+        public static final String PREGEN_TARGET_STATUS = "full";
 
         // Safety
         public static final int TELEPORT_SAFETY_RADIUS = 16;
@@ -92,6 +102,9 @@ public class BrecherConfigSpec {
         public static final boolean PREFER_SURFACE_SPAWNS = true;
         public static final boolean EXTENDED_SEARCH_RADIUS = true;
         
+        // Per-dimension overrides
+        public static final Map<String, DimensionOverrides> DIMENSION_OVERRIDES = Map.of();
+        
         // Messages
         public static final String WELCOME_MESSAGE = "Welcome to the Exploration Dimension! This dimension will be replaced with a new world on the next server restart. If you're still here when the server restarts, you'll be returned to your departure point or the world spawn.";
         public static final String RETURN_MESSAGE = "Returned to the main world.";
@@ -130,7 +143,14 @@ public class BrecherConfigSpec {
         public static final String ENTITY_CLEANUP_INTERVAL = "Entity cleanup interval (ticks)";
         public static final String CHUNK_CLEANUP_INTERVAL = "Chunk cleanup interval (ticks)";
         public static final String PREVENT_DISK_SAVES = "Skip saving chunks to disk. (If true, Exploration chunks will NOT persist once unloaded.)";
+        public static final String CHUNK_CACHE_SIZE_MB = "Memory budget in MB for compressed exploration chunks kept in memory when disk saves are skipped (0 = disabled)";
+        public static final String REGION_COMPRESSION = "Region file compression for exploration dimensions (default, deflate, lz4, none)";
         public static final String OLD_DIMENSION_RETENTION_COUNT = "Old dimension folders to keep per dimension type";
+        public static final String HISTORY_RETENTION_ROTATIONS = "Rotations a dimension's history records are kept before they are condensed into totals (0 = keep forever)";
+        public static final String SUSPEND_IDLE_DIMENSIONS = "Skip entity, block entity and random ticking in exploration dimensions with no players, pregen or forced chunks";
+        public static final String IDLE_HEARTBEAT_INTERVAL = "Ticks between full heartbeat ticks while a dimension is suspended";
+        public static final String EVACUATION_PLAYERS_PER_TICK = "Players moved per tick when evacuating exploration dimensions";
+        public static final String MAX_PENDING_ARRIVALS = "Arrivals per exploration dimension still loading chunks before further teleports are queued (0 = no limit)";
         
         public static final String PRE_GENERATE_SPAWN_CHUNKS = "Pre-generate spawn chunks";
         public static final String IMMEDIATE_SPAWN_RADIUS = "Immediate spawn radius (chunks)";
@@ -150,12 +170,18 @@ public class BrecherConfigSpec {
         public static final String PREGEN_STALE_HOURS = "Hours before considering a task stale";
         public static final String PREGEN_MAX_TICK_MS = "Max milliseconds per tick for generation loop (prevents lag spikes)";
         public static final String PREGEN_LOG_INTERVAL = "Log progress every N chunks (100 = frequent, 1000 = less spam)";
+        public static final String PREGEN_PREDICTIVE_ENABLED = "Generate chunks ahead of fast-moving players in exploration dimensions";
+        public static final String PREGEN_PREDICTIVE_MAX_LOOKAHEAD = "Maximum chunks to generate ahead of a fast-moving player";
+        public static final String PREGEN_TARGET_STATUS = "Chunk status background generation stops at (full, features, structure_starts, ...)";
+        public static final String PREGEN_SCHEDULE = "Time windows that override generation intensity (server local time)";
 
         public static final String TELEPORT_SAFETY_RADIUS = "Safe teleport search radius";
         public static final String CREATE_EMERGENCY_PLATFORMS = "Create emergency platforms";
         public static final String PREFER_SURFACE_SPAWNS = "Prefer surface spawns over caves";
         public static final String EXTENDED_SEARCH_RADIUS = "Enable extended search radius (up to 48 blocks) for all dimensions";
         
+        public static final String DIMENSION_OVERRIDES = "Pregen, chunk, border, teleport and region compression settings for one parent dimension's exploration copy, replacing the global values";
+        
         public static final String WELCOME_MESSAGE = "Welcome message";
         public static final String RETURN_MESSAGE = "Return message";
     }
@@ -0,0 +1,133 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.config;
+
+import com.mojang.logging.LogUtils;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the config file and runs a callback after it changes on disk.
+ *
+ * <p>Editors often save a file in several steps (truncate, write, rename), so the
+ * callback runs once the directory has been quiet for {@link #SETTLE_MS}, not on
+ * every event. The watcher runs on its own daemon thread until {@link #close()}.
+ */
+public class ConfigFileWatcher {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final long SETTLE_MS = 500;
+
+    private final Path file;
+    private final Runnable onChange;
+    private WatchService watchService;
+    private Thread thread;
+
+    public ConfigFileWatcher(Path file, Runnable onChange) {
+        this.file = file;
+        this.onChange = onChange;
+    }
+
+    /**
+     * Start watching; failures are logged and leave hot reload disabled
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Config hot reload unavailable, changes to {} need a restart: {}",
+                file.getFileName(), e.getMessage());
+            return;
+        }
+        thread = new Thread(this::run, "Brecher Config Watcher");
+        thread.setDaemon(true);
+        thread.start();
+        LOGGER.debug("Watching {} for changes", file);
+    }
+
+    /**
+     * Stop watching and wait briefly for the watcher thread to exit
+     */
+    public synchronized void close() {
+        if (thread == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to close config watch service: {}", e.getMessage());
+        }
+        thread.interrupt();
+        try {
+            thread.join(SETTLE_MS * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+        watchService = null;
+        LOGGER.debug("Stopped watching {}", file);
+    }
+    
+    private void run() {
+        WatchService watchService = this.watchService;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean changed = drain(key);
+                if (!key.reset()) {
+                    LOGGER.warn("Config directory is no longer accessible, hot reload stopped");
+                    return;
+                }
+                if (!changed) {
+                    continue;
+                }
+
+                // Wait for the save to settle before reading the file
+                WatchKey next;
+                while ((next = watchService.poll(SETTLE_MS, TimeUnit.MILLISECONDS)) != null) {
+                    drain(next);
+                    next.reset();
+                }
+                try {
+                    onChange.run();
+                } catch (Exception e) {
+                    LOGGER.error("Config reload after file change failed", e);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Stopped
+        }
+    }
+
+    /**
+     * Consume a key's events
+     * @return whether any of them concern the watched file
+     */
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed = true;
+            } else if (event.context() instanceof Path name && name.equals(file.getFileName())) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+}
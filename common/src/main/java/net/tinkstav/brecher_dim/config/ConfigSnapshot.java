@@ -0,0 +1,443 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.config;
+
+import com.mojang.logging.LogUtils;
+import net.tinkstav.brecher_dim.generation.GenerationTask;
+import net.tinkstav.brecher_dim.generation.PregenSchedule;
+import net.tinkstav.brecher_dim.performance.RegionCompression;
+import org.slf4j.Logger;
+
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * One complete, immutable set of config values.
+ *
+ * <p>{@link BrecherConfig} publishes the current snapshot through a single volatile
+ * reference, so a reload replaces every value at once. Code that reads several values
+ * for one operation should take the snapshot once with {@link BrecherConfig#snapshot()}
+ * rather than calling the static getters repeatedly, so a reload in between can't mix
+ * old and new values. Snapshots are assembled with a {@link Builder}, which clamps and
+ * validates values the same way for the initial load and for reloads.
+ */
+public record ConfigSnapshot(
+    // General settings
+    int explorationBorder,
+
+    // Seed settings
+    String seedStrategy,
+    long debugSeed,
+    String weeklyResetDay,
+
+    // Dimension settings
+    List<String> enabledDimensions,
+    List<String> blacklist,
+    boolean allowModdedDimensions,
+
+    // Feature settings
+    boolean preventExplorationSpawnSetting,
+    boolean disableEnderChests,
+    boolean clearInventoryOnReturn,
+    boolean keepInventoryInExploration,
+    boolean deferToCorpseMods,
+    boolean disableModdedPortals,
+    boolean preventModdedTeleports,
+    boolean cleanupXaeroMapData,
+    List<String> xaeroCleanupTargets,
+    boolean disableEndGateways,
+
+    // Gameplay settings
+    int teleportCooldown,
+    boolean restrictToCurrentDimension,
+
+    // Dimension locks settings (Progression Gating)
+    boolean dimensionLocksEnabled,
+    Map<String, String> dimensionLocks,
+
+    // Performance settings
+    int chunkUnloadDelay,
+    int maxChunksPerPlayer,
+    boolean aggressiveChunkUnloading,
+    int entityCleanupInterval,
+    int chunkCleanupInterval,
+    boolean preventDiskSaves,
+    int chunkCacheSizeMb,
+    String regionCompression,
+    int oldDimensionRetentionCount,
+    int historyRetentionRotations,
+    boolean suspendIdleDimensions,
+    int idleHeartbeatInterval,
+    int evacuationPlayersPerTick,
+    int maxPendingArrivals,
+
+    // Chunk pre-generation settings (spawn)
+    boolean preGenerateSpawnChunks,
+    int immediateSpawnRadius,
+    int extendedSpawnRadius,
+
+    // Chunk pre-generation settings (background)
+    boolean pregenEnabled,
+    int pregenChunksPerTick,
+    int pregenTickInterval,
+    int pregenTicksPerChunk,
+    int pregenTicketDuration,
+    boolean pregenAutoStart,
+    boolean pregenAutoResume,
+    int pregenMinTPS,
+    int pregenMemoryThreshold,
+    int pregenDefaultRadius,
+    boolean pregenPauseWithPlayers,
+    int pregenStaleHours,
+    int pregenMaxTickMs,
+    int pregenLogInterval,
+    boolean pregenPredictiveEnabled,
+    int pregenPredictiveMaxLookahead,
+    List<PregenSchedule.Window> pregenSchedule,
+    String pregenTargetStatus,
+
+    // Safety settings
+    int teleportSafetyRadius,
+    boolean createEmergencyPlatforms,
+    boolean preferSurfaceSpawns,
+    boolean extendedSearchRadius,
+
+    // Per-dimension overrides, keyed by parent dimension
+    Map<String, DimensionOverrides> dimensionOverrides,
+
+    // Messages
+    String welcomeMessage,
+    String returnMessage
+) {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    public ConfigSnapshot {
+        enabledDimensions = List.copyOf(enabledDimensions);
+        blacklist = List.copyOf(blacklist);
+        xaeroCleanupTargets = List.copyOf(xaeroCleanupTargets);
+        dimensionLocks = Map.copyOf(dimensionLocks);
+        pregenSchedule = List.copyOf(pregenSchedule);
+        dimensionOverrides = Map.copyOf(dimensionOverrides);
+    }
+
+    /**
+     * Snapshot with every value at its default
+     */
+    public static ConfigSnapshot defaults() {
+        return new Builder().build();
+    }
+
+    /**
+     * Describe the values that differ from an earlier snapshot, one "name: old -> new" entry per value
+     */
+    public List<String> describeChanges(ConfigSnapshot previous) {
+        List<String> changes = new ArrayList<>();
+        for (RecordComponent component : ConfigSnapshot.class.getRecordComponents()) {
+            try {
+                Object before = component.getAccessor().invoke(previous);
+                Object after = component.getAccessor().invoke(this);
+                if (!Objects.equals(before, after)) {
+                    changes.add(component.getName() + ": " + before + " -> " + after);
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot read config value " + component.getName(), e);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Check if a string is a valid ResourceLocation format (namespace:path)
+     */
+    static boolean isValidResourceLocation(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        int colonIndex = value.indexOf(':');
+        if (colonIndex < 1) {
+            return false; // No colon or colon at start
+        }
+        String namespace = value.substring(0, colonIndex);
+        String path = value.substring(colonIndex + 1);
+        // Namespace: [a-z0-9_.-]
+        // Path: [a-z0-9/._-]
+        return namespace.matches("[a-z0-9_.-]+") && path.matches("[a-z0-9/._-]+");
+    }
+
+    /**
+     * Collects values for a snapshot, starting from the defaults. Setters clamp or validate
+     * their value; {@link #build()} applies the checks that span several values.
+     */
+    public static final class Builder {
+        private int explorationBorder = BrecherConfigSpec.Defaults.EXPLORATION_BORDER;
+        private String seedStrategy = BrecherConfigSpec.Defaults.SEED_STRATEGY;
+        private long debugSeed = BrecherConfigSpec.Defaults.DEBUG_SEED;
+        private String weeklyResetDay = BrecherConfigSpec.Defaults.WEEKLY_RESET_DAY;
+        private List<String> enabledDimensions = BrecherConfigSpec.Defaults.ENABLED_DIMENSIONS;
+        private List<String> blacklist = BrecherConfigSpec.Defaults.BLACKLIST;
+        private boolean allowModdedDimensions = BrecherConfigSpec.Defaults.ALLOW_MODDED_DIMENSIONS;
+        private boolean preventExplorationSpawnSetting = BrecherConfigSpec.Defaults.PREVENT_EXPLORATION_SPAWN_SETTING;
+        private boolean disableEnderChests = BrecherConfigSpec.Defaults.DISABLE_ENDER_CHESTS;
+        private boolean clearInventoryOnReturn = BrecherConfigSpec.Defaults.CLEAR_INVENTORY_ON_RETURN;
+        private boolean keepInventoryInExploration = BrecherConfigSpec.Defaults.KEEP_INVENTORY_IN_EXPLORATION;
+        private boolean deferToCorpseMods = BrecherConfigSpec.Defaults.DEFER_TO_CORPSE_MODS;
+        private boolean disableModdedPortals = BrecherConfigSpec.Defaults.DISABLE_MODDED_PORTALS;
+        private boolean preventModdedTeleports = BrecherConfigSpec.Defaults.PREVENT_MODDED_TELEPORTS;
+        private boolean cleanupXaeroMapData = BrecherConfigSpec.Defaults.CLEANUP_XAERO_MAP_DATA;
+        private List<String> xaeroCleanupTargets = BrecherConfigSpec.Defaults.XAERO_CLEANUP_TARGETS;
+        private boolean disableEndGateways = BrecherConfigSpec.Defaults.DISABLE_END_GATEWAYS;
+        private int teleportCooldown = BrecherConfigSpec.Defaults.TELEPORT_COOLDOWN;
+        private boolean restrictToCurrentDimension = BrecherConfigSpec.Defaults.RESTRICT_TO_CURRENT_DIMENSION;
+        private boolean dimensionLocksEnabled = BrecherConfigSpec.Defaults.DIMENSION_LOCKS_ENABLED;
+        private Map<String, String> dimensionLocks = BrecherConfigSpec.Defaults.DIMENSION_LOCKS;
+        private int chunkUnloadDelay = BrecherConfigSpec.Defaults.CHUNK_UNLOAD_DELAY;
+        private int maxChunksPerPlayer = BrecherConfigSpec.Defaults.MAX_CHUNKS_PER_PLAYER;
+        private boolean aggressiveChunkUnloading = BrecherConfigSpec.Defaults.AGGRESSIVE_CHUNK_UNLOADING;
+        private int entityCleanupInterval = BrecherConfigSpec.Defaults.ENTITY_CLEANUP_INTERVAL;
+        private int chunkCleanupInterval = BrecherConfigSpec.Defaults.CHUNK_CLEANUP_INTERVAL;
+        private boolean preventDiskSaves = BrecherConfigSpec.Defaults.PREVENT_DISK_SAVES;
+        private int chunkCacheSizeMb = BrecherConfigSpec.Defaults.CHUNK_CACHE_SIZE_MB;
+        private String regionCompression = BrecherConfigSpec.Defaults.REGION_COMPRESSION;
+        private int oldDimensionRetentionCount = BrecherConfigSpec.Defaults.OLD_DIMENSION_RETENTION_COUNT;
+        private int historyRetentionRotations = BrecherConfigSpec.Defaults.HISTORY_RETENTION_ROTATIONS;
+        private boolean suspendIdleDimensions = BrecherConfigSpec.Defaults.SUSPEND_IDLE_DIMENSIONS;
+        private int idleHeartbeatInterval = BrecherConfigSpec.Defaults.IDLE_HEARTBEAT_INTERVAL;
+        private int evacuationPlayersPerTick = BrecherConfigSpec.Defaults.EVACUATION_PLAYERS_PER_TICK;
+        private int maxPendingArrivals = BrecherConfigSpec.Defaults.MAX_PENDING_ARRIVALS;
+        private boolean preGenerateSpawnChunks = BrecherConfigSpec.Defaults.PRE_GENERATE_SPAWN_CHUNKS;
+        private int immediateSpawnRadius = BrecherConfigSpec.Defaults.IMMEDIATE_SPAWN_RADIUS;
+        private int extendedSpawnRadius = BrecherConfigSpec.Defaults.EXTENDED_SPAWN_RADIUS;
+        private boolean pregenEnabled = BrecherConfigSpec.Defaults.PREGEN_ENABLED;
+        private int pregenChunksPerTick = BrecherConfigSpec.Defaults.PREGEN_CHUNKS_PER_TICK;
+        private int pregenTickInterval = BrecherConfigSpec.Defaults.PREGEN_TICK_INTERVAL;
+        private int pregenTicksPerChunk = BrecherConfigSpec.Defaults.PREGEN_TICKS_PER_CHUNK;
+        private int pregenTicketDuration = BrecherConfigSpec.Defaults.PREGEN_TICKET_DURATION;
+        private boolean pregenAutoStart = BrecherConfigSpec.Defaults.PREGEN_AUTO_START;
+        private boolean pregenAutoResume = BrecherConfigSpec.Defaults.PREGEN_AUTO_RESUME;
+        private int pregenMinTPS = BrecherConfigSpec.Defaults.PREGEN_MIN_TPS;
+        private int pregenMemoryThreshold = BrecherConfigSpec.Defaults.PREGEN_MEMORY_THRESHOLD;
+        private int pregenDefaultRadius = BrecherConfigSpec.Defaults.PREGEN_DEFAULT_RADIUS;
+        private boolean pregenPauseWithPlayers = BrecherConfigSpec.Defaults.PREGEN_PAUSE_WITH_PLAYERS;
+        private int pregenStaleHours = BrecherConfigSpec.Defaults.PREGEN_STALE_HOURS;
+        private int pregenMaxTickMs = BrecherConfigSpec.Defaults.PREGEN_MAX_TICK_MS;
+        private int pregenLogInterval = BrecherConfigSpec.Defaults.PREGEN_LOG_INTERVAL;
+        private boolean pregenPredictiveEnabled = BrecherConfigSpec.Defaults.PREGEN_PREDICTIVE_ENABLED;
+        private int pregenPredictiveMaxLookahead = BrecherConfigSpec.Defaults.PREGEN_PREDICTIVE_MAX_LOOKAHEAD;
+        private List<PregenSchedule.Window> pregenSchedule = List.of();
+        private String pregenTargetStatus = BrecherConfigSpec.Defaults.PREGEN_TARGET_STATUS;
+        private int teleportSafetyRadius = BrecherConfigSpec.Defaults.TELEPORT_SAFETY_RADIUS;
+        private boolean createEmergencyPlatforms = BrecherConfigSpec.Defaults.CREATE_EMERGENCY_PLATFORMS;
+        private boolean preferSurfaceSpawns = BrecherConfigSpec.Defaults.PREFER_SURFACE_SPAWNS;
+        private boolean extendedSearchRadius = BrecherConfigSpec.Defaults.EXTENDED_SEARCH_RADIUS;
+        private Map<String, DimensionOverrides> dimensionOverrides = BrecherConfigSpec.Defaults.DIMENSION_OVERRIDES;
+        private String welcomeMessage = BrecherConfigSpec.Defaults.WELCOME_MESSAGE;
+        private String returnMessage = BrecherConfigSpec.Defaults.RETURN_MESSAGE;
+
+        public Builder explorationBorder(int value) { explorationBorder = value; return this; }
+        public Builder seedStrategy(String value) { seedStrategy = value; return this; }
+        public Builder debugSeed(long value) { debugSeed = value; return this; }
+        public Builder weeklyResetDay(String value) { weeklyResetDay = value; return this; }
+        public Builder enabledDimensions(List<String> value) { enabledDimensions = value; return this; }
+        public Builder blacklist(List<String> value) { blacklist = value; return this; }
+        public Builder allowModdedDimensions(boolean value) { allowModdedDimensions = value; return this; }
+        public Builder preventExplorationSpawnSetting(boolean value) { preventExplorationSpawnSetting = value; return this; }
+        public Builder disableEnderChests(boolean value) { disableEnderChests = value; return this; }
+        public Builder clearInventoryOnReturn(boolean value) { clearInventoryOnReturn = value; return this; }
+        public Builder keepInventoryInExploration(boolean value) { keepInventoryInExploration = value; return this; }
+        public Builder deferToCorpseMods(boolean value) { deferToCorpseMods = value; return this; }
+        public Builder disableModdedPortals(boolean value) { disableModdedPortals = value; return this; }
+        public Builder preventModdedTeleports(boolean value) { preventModdedTeleports = value; return this; }
+        public Builder cleanupXaeroMapData(boolean value) { cleanupXaeroMapData = value; return this; }
+        public Builder xaeroCleanupTargets(List<String> value) { xaeroCleanupTargets = value; return this; }
+        public Builder disableEndGateways(boolean value) { disableEndGateways = value; return this; }
+        public Builder teleportCooldown(int value) { teleportCooldown = value; return this; }
+        public Builder restrictToCurrentDimension(boolean value) { restrictToCurrentDimension = value; return this; }
+        public Builder dimensionLocksEnabled(boolean value) { dimensionLocksEnabled = value; return this; }
+
+        /**
+         * Set dimension locks from config. Invalid entries are skipped with a warning.
+         * @param rawLocks Raw map from config
+         */
+        public Builder dimensionLocks(Map<String, String> rawLocks) {
+            Map<String, String> validatedLocks = new HashMap<>();
+            for (Map.Entry<String, String> entry : rawLocks.entrySet()) {
+                String dimension = entry.getKey().trim();
+                String advancement = entry.getValue().trim();
+
+                if (!isValidResourceLocation(dimension)) {
+                    LOGGER.warn("Invalid dimension lock: dimension '{}' is not a valid ResourceLocation format", dimension);
+                    continue;
+                }
+                if (!isValidResourceLocation(advancement)) {
+                    LOGGER.warn("Invalid dimension lock: advancement '{}' for dimension '{}' is not a valid ResourceLocation format",
+                        advancement, dimension);
+                    continue;
+                }
+                validatedLocks.put(dimension, advancement);
+            }
+            dimensionLocks = validatedLocks;
+            LOGGER.debug("Loaded {} dimension locks", validatedLocks.size());
+            return this;
+        }
+
+        public Builder chunkUnloadDelay(int value) { chunkUnloadDelay = value; return this; }
+        public Builder maxChunksPerPlayer(int value) { maxChunksPerPlayer = value; return this; }
+        public Builder aggressiveChunkUnloading(boolean value) { aggressiveChunkUnloading = value; return this; }
+        public Builder entityCleanupInterval(int value) { entityCleanupInterval = value; return this; }
+        public Builder chunkCleanupInterval(int value) { chunkCleanupInterval = value; return this; }
+        public Builder preventDiskSaves(boolean value) { preventDiskSaves = value; return this; }
+        public Builder chunkCacheSizeMb(int value) { chunkCacheSizeMb = Math.max(0, value); return this; }
+
+        /**
+         * Set the exploration region codec, falling back to the default for unknown names
+         */
+        public Builder regionCompression(String value) {
+            String codec = value == null ? "" : value.trim().toLowerCase();
+            if (!RegionCompression.CODECS.contains(codec)) {
+                LOGGER.warn("Unknown region compression '{}', using {}", value, BrecherConfigSpec.Defaults.REGION_COMPRESSION);
+                codec = BrecherConfigSpec.Defaults.REGION_COMPRESSION;
+            }
+            regionCompression = codec;
+            return this;
+        }
+
+        public Builder oldDimensionRetentionCount(int value) { oldDimensionRetentionCount = value; return this; }
+        public Builder historyRetentionRotations(int value) { historyRetentionRotations = Math.max(0, Math.min(1000, value)); return this; }
+        public Builder suspendIdleDimensions(boolean value) { suspendIdleDimensions = value; return this; }
+        public Builder idleHeartbeatInterval(int value) { idleHeartbeatInterval = Math.max(1, Math.min(1200, value)); return this; }
+        public Builder evacuationPlayersPerTick(int value) { evacuationPlayersPerTick = Math.max(1, Math.min(100, value)); return this; }
+        public Builder maxPendingArrivals(int value) { maxPendingArrivals = Math.max(0, value); return this; }
+        public Builder preGenerateSpawnChunks(boolean value) { preGenerateSpawnChunks = value; return this; }
+        public Builder immediateSpawnRadius(int value) { immediateSpawnRadius = value; return this; }
+        public Builder extendedSpawnRadius(int value) { extendedSpawnRadius = value; return this; }
+        public Builder pregenEnabled(boolean value) { pregenEnabled = value; return this; }
+        public Builder pregenChunksPerTick(int value) { pregenChunksPerTick = value; return this; }
+        public Builder pregenTickInterval(int value) { pregenTickInterval = value; return this; }
+        public Builder pregenTicksPerChunk(int value) { pregenTicksPerChunk = Math.max(1, value); return this; }
+        public Builder pregenTicketDuration(int value) { pregenTicketDuration = value; return this; }
+        public Builder pregenAutoStart(boolean value) { pregenAutoStart = value; return this; }
+        public Builder pregenAutoResume(boolean value) { pregenAutoResume = value; return this; }
+        public Builder pregenMinTPS(int value) { pregenMinTPS = value; return this; }
+        public Builder pregenMemoryThreshold(int value) { pregenMemoryThreshold = value; return this; }
+        public Builder pregenDefaultRadius(int value) { pregenDefaultRadius = value; return this; }
+        public Builder pregenPauseWithPlayers(boolean value) { pregenPauseWithPlayers = value; return this; }
+        public Builder pregenStaleHours(int value) { pregenStaleHours = value; return this; }
+        public Builder pregenMaxTickMs(int value) { pregenMaxTickMs = Math.max(1, Math.min(50, value)); return this; }
+        public Builder pregenLogInterval(int value) { pregenLogInterval = Math.max(10, Math.min(10000, value)); return this; }
+        public Builder pregenPredictiveEnabled(boolean value) { pregenPredictiveEnabled = value; return this; }
+        public Builder pregenPredictiveMaxLookahead(int value) { pregenPredictiveMaxLookahead = Math.max(1, Math.min(64, value)); return this; }
+        public Builder pregenSchedule(List<PregenSchedule.Window> value) { pregenSchedule = value; return this; }
+
+        /**
+         * Set the default pregen target status, falling back to the default for unknown names
+         */
+        public Builder pregenTargetStatus(String value) {
+            String status = value == null ? "" : value.trim().toLowerCase();
+            if (!GenerationTask.TARGET_STATUSES.contains(status)) {
+                LOGGER.warn("Unknown pregen target status '{}', using {}", value, BrecherConfigSpec.Defaults.PREGEN_TARGET_STATUS);
+                status = BrecherConfigSpec.Defaults.PREGEN_TARGET_STATUS;
+            }
+            pregenTargetStatus = status;
+            return this;
+        }
+
+        public Builder teleportSafetyRadius(int value) { teleportSafetyRadius = value; return this; }
+        public Builder createEmergencyPlatforms(boolean value) { createEmergencyPlatforms = value; return this; }
+        public Builder preferSurfaceSpawns(boolean value) { preferSurfaceSpawns = value; return this; }
+        public Builder extendedSearchRadius(boolean value) { extendedSearchRadius = value; return this; }
+        public Builder dimensionOverrides(Map<String, DimensionOverrides> value) { dimensionOverrides = value; return this; }
+        public Builder welcomeMessage(String value) { welcomeMessage = value; return this; }
+        public Builder returnMessage(String value) { returnMessage = value; return this; }
+
+        /**
+         * Correct invalid combinations of values and create the snapshot
+         */
+        public ConfigSnapshot build() {
+            // Validate seed strategy
+            String strategy = seedStrategy.toLowerCase();
+            if (!strategy.equals("random") && !strategy.equals("date-based") &&
+                !strategy.equals("date") && !strategy.equals("weekly")) {
+                LOGGER.error(
+                    "Invalid seed strategy '{}'. Using 'random' instead.", strategy
+                );
+                seedStrategy = "random";
+            }
+
+            // Validate weekly reset day if using weekly strategy
+            if (strategy.equals("weekly")) {
+                try {
+                    java.time.DayOfWeek.valueOf(weeklyResetDay.toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    LOGGER.error("Invalid weekly reset day '{}'. Using MONDAY.", weeklyResetDay);
+                    weeklyResetDay = "MONDAY";
+                }
+            }
+
+            // Validate background pre-generation settings
+            if (pregenEnabled) {
+                // Note: 0 is valid for pregenChunksPerTick - it enables fractional-rate mode
+                // where ticksPerChunk controls the rate instead (e.g., 1 chunk per 2 ticks)
+                if (pregenChunksPerTick < 0 || pregenChunksPerTick > 10) {
+                    LOGGER.warn("pregenChunksPerTick should be between 0 and 10 (0 = use ticksPerChunk). Current value: {}",
+                        pregenChunksPerTick);
+                    pregenChunksPerTick = Math.max(0, Math.min(10, pregenChunksPerTick));
+                }
+
+                // Validate ticksPerChunk (used when chunksPerTick=0 for fractional rates)
+                if (pregenTicksPerChunk < 1 || pregenTicksPerChunk > 100) {
+                    LOGGER.warn("pregenTicksPerChunk should be between 1 and 100. Current value: {}",
+                        pregenTicksPerChunk);
+                    pregenTicksPerChunk = Math.max(1, Math.min(100, pregenTicksPerChunk));
+                }
+
+                if (pregenTickInterval < 1 || pregenTickInterval > 200) {
+                    LOGGER.warn("pregenTickInterval should be between 1 and 200. Current value: {}",
+                        pregenTickInterval);
+                    pregenTickInterval = Math.max(1, Math.min(200, pregenTickInterval));
+                }
+
+                if (pregenMinTPS < 10 || pregenMinTPS > 20) {
+                    LOGGER.warn("pregenMinTPS should be between 10 and 20. Current value: {}",
+                        pregenMinTPS);
+                    pregenMinTPS = Math.max(10, Math.min(20, pregenMinTPS));
+                }
+
+                if (pregenMemoryThreshold < 50 || pregenMemoryThreshold > 95) {
+                    LOGGER.warn("pregenMemoryThreshold should be between 50 and 95. Current value: {}",
+                        pregenMemoryThreshold);
+                    pregenMemoryThreshold = Math.max(50, Math.min(95, pregenMemoryThreshold));
+                }
+            }
+
+            return new ConfigSnapshot(
+                explorationBorder,
+                seedStrategy, debugSeed, weeklyResetDay,
+                enabledDimensions, blacklist, allowModdedDimensions,
+                preventExplorationSpawnSetting, disableEnderChests, clearInventoryOnReturn,
+                keepInventoryInExploration, deferToCorpseMods, disableModdedPortals, preventModdedTeleports,
+                cleanupXaeroMapData, xaeroCleanupTargets, disableEndGateways,
+                teleportCooldown, restrictToCurrentDimension,
+                dimensionLocksEnabled, dimensionLocks,
+                chunkUnloadDelay, maxChunksPerPlayer, aggressiveChunkUnloading, entityCleanupInterval,
+                chunkCleanupInterval, preventDiskSaves, chunkCacheSizeMb, regionCompression,
+                oldDimensionRetentionCount, historyRetentionRotations,
+                suspendIdleDimensions, idleHeartbeatInterval, evacuationPlayersPerTick, maxPendingArrivals,
+                preGenerateSpawnChunks, immediateSpawnRadius, extendedSpawnRadius,
+                pregenEnabled, pregenChunksPerTick, pregenTickInterval, pregenTicksPerChunk, pregenTicketDuration,
+                pregenAutoStart, pregenAutoResume, pregenMinTPS, pregenMemoryThreshold, pregenDefaultRadius,
+                pregenPauseWithPlayers, pregenStaleHours, pregenMaxTickMs, pregenLogInterval,
+                pregenPredictiveEnabled, pregenPredictiveMaxLookahead, pregenSchedule, pregenTargetStatus,
+                teleportSafetyRadius, createEmergencyPlatforms, preferSurfaceSpawns, extendedSearchRadius,
+                dimensionOverrides,
+                welcomeMessage, returnMessage
+            );
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.config;
+
+import java.util.Objects;
+
+/**
+ * Effective per-dimension settings for one exploration dimension: the global values
+ * with that parent dimension's {@link DimensionOverrides} applied.
+ *
+ * <p>Resolved once when the dimension is created and cached by {@link BrecherConfig#forDimension};
+ * a config reload resolves it again on next use.
+ */
+public record DimensionConfig(
+    int explorationBorder,
+    int pregenDefaultRadius,
+    int pregenChunksPerTick,
+    int pregenTicksPerChunk,
+    int chunkUnloadDelay,
+    int maxChunksPerPlayer,
+    int teleportSafetyRadius,
+    boolean extendedSearchRadius,
+    String regionCompression
+) {
+    /**
+     * Combine the global values with the overrides for a parent dimension
+     * @param baseDimension parent dimension id, or null for the global values only
+     */
+    public static DimensionConfig resolve(ConfigSnapshot config, String baseDimension) {
+        DimensionOverrides overrides = baseDimension == null ? null : config.dimensionOverrides().get(baseDimension);
+        if (overrides == null) {
+            return new DimensionConfig(
+                config.explorationBorder(), config.pregenDefaultRadius(), config.pregenChunksPerTick(),
+                config.pregenTicksPerChunk(), config.chunkUnloadDelay(), config.maxChunksPerPlayer(),
+                config.teleportSafetyRadius(), config.extendedSearchRadius(), config.regionCompression()
+            );
+        }
+        return new DimensionConfig(
+            Objects.requireNonNullElse(overrides.explorationBorder(), config.explorationBorder()),
+            Objects.requireNonNullElse(overrides.pregenDefaultRadius(), config.pregenDefaultRadius()),
+            Objects.requireNonNullElse(overrides.pregenChunksPerTick(), config.pregenChunksPerTick()),
+            Objects.requireNonNullElse(overrides.pregenTicksPerChunk(), config.pregenTicksPerChunk()),
+            Objects.requireNonNullElse(overrides.chunkUnloadDelay(), config.chunkUnloadDelay()),
+            Objects.requireNonNullElse(overrides.maxChunksPerPlayer(), config.maxChunksPerPlayer()),
+            Objects.requireNonNullElse(overrides.teleportSafetyRadius(), config.teleportSafetyRadius()),
+            Objects.requireNonNullElse(overrides.extendedSearchRadius(), config.extendedSearchRadius()),
+            Objects.requireNonNullElse(overrides.regionCompression(), config.regionCompression())
+        );
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.config;
+
+import com.mojang.logging.LogUtils;
+import net.tinkstav.brecher_dim.performance.RegionCompression;
+import org.slf4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings one parent dimension's exploration copy uses instead of the global values.
+ * A null component means the global value applies; {@link DimensionConfig#resolve}
+ * combines the two.
+ */
+public record DimensionOverrides(
+    Integer explorationBorder,
+    Integer pregenDefaultRadius,
+    Integer pregenChunksPerTick,
+    Integer pregenTicksPerChunk,
+    Integer chunkUnloadDelay,
+    Integer maxChunksPerPlayer,
+    Integer teleportSafetyRadius,
+    Boolean extendedSearchRadius,
+    String regionCompression
+) {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /**
+     * Parse the {@code dimension_overrides} section, keyed by parent dimension.
+     * Entries with an invalid key are skipped; values are clamped to the same ranges
+     * as the global settings.
+     */
+    public static Map<String, DimensionOverrides> parse(Map<?, ?> rawOverrides) {
+        Map<String, DimensionOverrides> overrides = new HashMap<>();
+        for (Map.Entry<?, ?> entry : rawOverrides.entrySet()) {
+            String dimension = entry.getKey() instanceof String s ? s.trim() : null;
+            if (!ConfigSnapshot.isValidResourceLocation(dimension) || !(entry.getValue() instanceof Map<?, ?> raw)) {
+                LOGGER.warn("Invalid dimension override '{}': expected a dimension id mapped to settings", entry.getKey());
+                continue;
+            }
+            Integer border = getInt(raw, "exploration_border");
+            if (border != null && border < 1) {
+                border = -1; // -1 = follow the parent border
+            }
+            String codec = raw.get("region_compression") instanceof String value ? value.trim().toLowerCase() : null;
+            if (codec != null && !RegionCompression.CODECS.contains(codec)) {
+                LOGGER.warn("Invalid region compression override for {}: '{}'", dimension, raw.get("region_compression"));
+                codec = null;
+            }
+            overrides.put(dimension, new DimensionOverrides(
+                border,
+                clamp(getInt(raw, "pregen_radius"), 10, 1000),
+                clamp(getInt(raw, "pregen_chunks_per_tick"), 0, 10),
+                clamp(getInt(raw, "pregen_ticks_per_chunk"), 1, 100),
+                clamp(getInt(raw, "chunk_unload_delay"), 20, 6000),
+                clamp(getInt(raw, "max_chunks_per_player"), 9, 500),
+                clamp(getInt(raw, "teleport_search_radius"), 1, 64),
+                raw.get("extended_search_radius") instanceof Boolean b ? b : null,
+                codec
+            ));
+        }
+        LOGGER.debug("Loaded overrides for {} dimensions", overrides.size());
+        return overrides;
+    }
+
+    private static Integer getInt(Map<?, ?> raw, String key) {
+        return raw.get(key) instanceof Number n ? n.intValue() : null;
+    }
+
+    private static Integer clamp(Integer value, int min, int max) {
+        return value == null ? null : Math.max(min, Math.min(max, value));
+    }
+}
@@ -6,6 +6,7 @@
 package net.tinkstav.brecher_dim.config;
 
 import com.mojang.logging.LogUtils;
+import net.tinkstav.brecher_dim.generation.PregenSchedule;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.representer.Representer;
@@ -28,6 +29,8 @@ public class YamlConfigHandler {
     private final Path configPath;
     private Yaml yaml;
     private Map<String, Object> config;
+    private ConfigFileWatcher watcher;
+    private boolean loaded = false;
     
     public YamlConfigHandler(Path configDir) {
         this.configPath = configDir.resolve(CONFIG_FILE_NAME);
@@ -62,6 +65,22 @@ public class YamlConfigHandler {
             config = new LinkedHashMap<>();
             loadDefaults();
         }
+        
+        // Pick up edits to the file without a restart
+        if (watcher == null) {
+            watcher = new ConfigFileWatcher(configPath, this::onFileChanged);
+            watcher.start();
+        }
+    }
+    
+    /**
+     * Stop watching the config file
+     */
+    public void close() {
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
     }
     
     private void createDefaultConfig() {
@@ -70,7 +89,8 @@ public class YamlConfigHandler {
         // Header
         yamlContent.append("# Brecher's Dimensions Configuration File\n");
         yamlContent.append("# Version: 1.0.0\n");
-        yamlContent.append("# Configure exploration dimensions, teleportation, and performance settings\n\n");
+        yamlContent.append("# Configure exploration dimensions, teleportation, and performance settings\n");
+        yamlContent.append("# Changes are applied automatically when this file is saved\n\n");
         
         // General Settings
         yamlContent.append("general:\n");
@@ -184,19 +204,41 @@ public class YamlConfigHandler {
         yamlContent.append("  \n");
         yamlContent.append("  # Skip saving exploration dimensions to disk\n");
         yamlContent.append("  prevent_disk_saves: ").append(BrecherConfigSpec.Defaults.PREVENT_DISK_SAVES).append("\n");
+        yamlContent.append("  # Memory budget (MB) for compressed chunks kept in memory while disk saves are skipped\n");
+        yamlContent.append("  # Avoids regenerating chunks every time they reload (0 = disabled)\n");
+        yamlContent.append("  chunk_cache_size_mb: ").append(BrecherConfigSpec.Defaults.CHUNK_CACHE_SIZE_MB).append("\n");
+        yamlContent.append("  \n");
+        yamlContent.append("  # Region file compression for exploration dimensions: default, deflate, lz4, none\n");
+        yamlContent.append("  # Exploration data is disposable, so a fast codec saves CPU on chunk saves and loads\n");
+        yamlContent.append("  region_compression: \"").append(BrecherConfigSpec.Defaults.REGION_COMPRESSION).append("\"\n");
+        yamlContent.append("  # Set region_compression under dimension_overrides to use another codec for one dimension\n");
         yamlContent.append("  \n");
         yamlContent.append("  # Number of old dimension folders to keep on disk\n");
-        yamlContent.append("  old_dimension_retention_count: ").append(BrecherConfigSpec.Defaults.OLD_DIMENSION_RETENTION_COUNT).append("\n\n");
+        yamlContent.append("  old_dimension_retention_count: ").append(BrecherConfigSpec.Defaults.OLD_DIMENSION_RETENTION_COUNT).append("\n");
+        yamlContent.append("  # Rotations a replaced dimension's visit history is kept in saved data before it is\n");
+        yamlContent.append("  # condensed into per-dimension-type totals (0 = keep forever)\n");
+        yamlContent.append("  history_retention_rotations: ").append(BrecherConfigSpec.Defaults.HISTORY_RETENTION_ROTATIONS).append("\n");
+        yamlContent.append("  \n");
+        yamlContent.append("  # Skip entity, block entity and random ticking in exploration dimensions\n");
+        yamlContent.append("  # with no players, no running pregen and no forced chunks\n");
+        yamlContent.append("  suspend_idle_dimensions: ").append(BrecherConfigSpec.Defaults.SUSPEND_IDLE_DIMENSIONS).append("\n");
+        yamlContent.append("  # Ticks between full heartbeat ticks while a dimension is suspended\n");
+        yamlContent.append("  idle_heartbeat_interval: ").append(BrecherConfigSpec.Defaults.IDLE_HEARTBEAT_INTERVAL).append("\n");
+        yamlContent.append("  # Players moved per tick when evacuating exploration dimensions\n");
+        yamlContent.append("  evacuation_players_per_tick: ").append(BrecherConfigSpec.Defaults.EVACUATION_PLAYERS_PER_TICK).append("\n");
+        yamlContent.append("  # Arrivals per exploration dimension still loading chunks before further teleports are queued\n");
+        yamlContent.append("  # Scaled down automatically as MSPT rises (0 = no limit)\n");
+        yamlContent.append("  max_pending_arrivals: ").append(BrecherConfigSpec.Defaults.MAX_PENDING_ARRIVALS).append("\n\n");
         
         // Spawn Pre-generation Settings
         yamlContent.append("spawn_generation:\n");
         yamlContent.append("  # Pre-generate spawn chunks on dimension creation\n");
         yamlContent.append("  enabled: ").append(BrecherConfigSpec.Defaults.PRE_GENERATE_SPAWN_CHUNKS).append("\n");
         yamlContent.append("  \n");
-        yamlContent.append("  # Radius of chunks to generate immediately (in chunks)\n");
+        yamlContent.append("  # Radius of chunks generated before the dimension accepts teleports (in chunks)\n");
         yamlContent.append("  immediate_radius: ").append(BrecherConfigSpec.Defaults.IMMEDIATE_SPAWN_RADIUS).append("\n");
         yamlContent.append("  \n");
-        yamlContent.append("  # Radius of chunks to generate in background (in chunks)\n");
+        yamlContent.append("  # Radius of chunks generated at elevated priority right after, ahead of background pregen (in chunks)\n");
         yamlContent.append("  extended_radius: ").append(BrecherConfigSpec.Defaults.EXTENDED_SPAWN_RADIUS).append("\n\n");
         
         // Background Pre-generation Settings
@@ -216,6 +258,9 @@ public class YamlConfigHandler {
         yamlContent.append("    ticket_duration: ").append(BrecherConfigSpec.Defaults.PREGEN_TICKET_DURATION).append("\n");
         yamlContent.append("    # Default radius for pre-generation (chunks)\n");
         yamlContent.append("    default_radius: ").append(BrecherConfigSpec.Defaults.PREGEN_DEFAULT_RADIUS).append("\n");
+        yamlContent.append("    # Status chunks are generated to: full, or an earlier stage such as features or structure_starts\n");
+        yamlContent.append("    # Partial chunks finish when first visited; /explorationadmin pregen upgrade promotes them to full\n");
+        yamlContent.append("    target_status: ").append(BrecherConfigSpec.Defaults.PREGEN_TARGET_STATUS).append("\n");
         yamlContent.append("  \n");
         yamlContent.append("  # Automation settings\n");
         yamlContent.append("  automation:\n");
@@ -233,7 +278,30 @@ public class YamlConfigHandler {
         yamlContent.append("    # Memory usage threshold percentage\n");
         yamlContent.append("    memory_threshold: ").append(BrecherConfigSpec.Defaults.PREGEN_MEMORY_THRESHOLD).append("\n");
         yamlContent.append("    # Hours before pre-generation data is considered stale\n");
-        yamlContent.append("    stale_hours: ").append(BrecherConfigSpec.Defaults.PREGEN_STALE_HOURS).append("\n\n");
+        yamlContent.append("    stale_hours: ").append(BrecherConfigSpec.Defaults.PREGEN_STALE_HOURS).append("\n");
+        yamlContent.append("    # Max milliseconds per tick spent generating (schedule windows without max_tick_ms use this)\n");
+        yamlContent.append("    max_tick_ms: ").append(BrecherConfigSpec.Defaults.PREGEN_MAX_TICK_MS).append("\n");
+        yamlContent.append("  \n");
+        yamlContent.append("  # Predictive generation ahead of players flying, boating or riding in a straight line\n");
+        yamlContent.append("  predictive:\n");
+        yamlContent.append("    # Generate chunks in a cone ahead of fast-moving players\n");
+        yamlContent.append("    enabled: ").append(BrecherConfigSpec.Defaults.PREGEN_PREDICTIVE_ENABLED).append("\n");
+        yamlContent.append("    # Maximum lookahead in chunks (scaled by speed, reduced as MSPT rises)\n");
+        yamlContent.append("    max_lookahead: ").append(BrecherConfigSpec.Defaults.PREGEN_PREDICTIVE_MAX_LOOKAHEAD).append("\n");
+        yamlContent.append("  \n");
+        yamlContent.append("  # Time windows that override generation intensity (server local time, first match wins)\n");
+        yamlContent.append("  # days: \"*\", \"weekdays\", \"weekends\", days and ranges like \"mon-fri,sun\", or a YAML list like [mon, tue]\n");
+        yamlContent.append("  # start/end: \"HH:mm\"; a window ending before it starts runs past midnight\n");
+        yamlContent.append("  # Example - run flat out overnight:\n");
+        yamlContent.append("  #   schedule:\n");
+        yamlContent.append("  #     - name: overnight\n");
+        yamlContent.append("  #       days: \"*\"\n");
+        yamlContent.append("  #       start: \"03:00\"\n");
+        yamlContent.append("  #       end: \"07:00\"\n");
+        yamlContent.append("  #       chunks_per_tick: 8\n");
+        yamlContent.append("  #       max_tick_ms: 25\n");
+        yamlContent.append("  #       pause_with_players: false\n");
+        yamlContent.append("  schedule: []\n\n");
         
         // Safety Settings
         yamlContent.append("safety:\n");
@@ -249,6 +317,21 @@ public class YamlConfigHandler {
         yamlContent.append("  # Use extended search radius for safe locations\n");
         yamlContent.append("  extended_search_radius: ").append(BrecherConfigSpec.Defaults.EXTENDED_SEARCH_RADIUS).append("\n\n");
         
+        // Per-dimension Overrides
+        yamlContent.append("# Settings for one parent dimension's exploration copy, replacing the global values above\n");
+        yamlContent.append("# Keys: exploration_border, pregen_radius, pregen_chunks_per_tick, pregen_ticks_per_chunk,\n");
+        yamlContent.append("# chunk_unload_delay, max_chunks_per_player, teleport_search_radius, extended_search_radius,\n");
+        yamlContent.append("# region_compression\n");
+        yamlContent.append("# Omitted keys use the global value; an active pregen schedule window still sets chunks_per_tick\n");
+        yamlContent.append("# Example - generate the Nether faster and further than the Overworld:\n");
+        yamlContent.append("#   dimension_overrides:\n");
+        yamlContent.append("#     \"minecraft:the_nether\":\n");
+        yamlContent.append("#       pregen_radius: 150\n");
+        yamlContent.append("#       pregen_chunks_per_tick: 2\n");
+        yamlContent.append("#       teleport_search_radius: 32\n");
+        yamlContent.append("#       region_compression: \"none\"\n");
+        yamlContent.append("dimension_overrides: {}\n\n");
+        
         // Messages
         yamlContent.append("messages:\n");
         yamlContent.append("  # Message shown when entering exploration dimension\n");
@@ -268,172 +351,185 @@ public class YamlConfigHandler {
         }
     }
     
-    @SuppressWarnings("unchecked")
-    private void loadConfig() {
+    /**
+     * Read, parse and validate the config file, then publish it as the current snapshot.
+     * A file that can't be read or parsed leaves the current values in place.
+     * @return whether the file was applied
+     */
+    private synchronized boolean loadConfig() {
+        ConfigSnapshot snapshot;
         try {
             String content = Files.readString(configPath, StandardCharsets.UTF_8);
-            config = yaml.load(content);
-            if (config == null) {
-                config = new LinkedHashMap<>();
-            }
-            applyConfig();
-            LOGGER.info("Loaded YAML configuration from: {}", configPath);
-        } catch (IOException e) {
-            LOGGER.error("Failed to load configuration", e);
-            config = new LinkedHashMap<>();
-            loadDefaults();
+            snapshot = parse(content);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Failed to load configuration from {}, keeping current values", configPath, e);
+            return false;
         }
+        ConfigSnapshot previous = BrecherConfig.publish(snapshot);
+        if (loaded) {
+            logChanges(previous, snapshot);
+        }
+        loaded = true;
+        LOGGER.info("Loaded YAML configuration from: {}", configPath);
+        return true;
     }
     
     private void loadDefaults() {
         // Apply all default values when config can't be loaded
-        BrecherConfig.setExplorationBorder(BrecherConfigSpec.Defaults.EXPLORATION_BORDER);
-        BrecherConfig.setSeedStrategy(BrecherConfigSpec.Defaults.SEED_STRATEGY);
-        BrecherConfig.setDebugSeed(BrecherConfigSpec.Defaults.DEBUG_SEED);
-        BrecherConfig.setWeeklyResetDay(BrecherConfigSpec.Defaults.WEEKLY_RESET_DAY);
-        BrecherConfig.setEnabledDimensions(BrecherConfigSpec.Defaults.ENABLED_DIMENSIONS);
-        BrecherConfig.setBlacklist(BrecherConfigSpec.Defaults.BLACKLIST);
-        BrecherConfig.setAllowModdedDimensions(BrecherConfigSpec.Defaults.ALLOW_MODDED_DIMENSIONS);
-        BrecherConfig.setPreventExplorationSpawnSetting(BrecherConfigSpec.Defaults.PREVENT_EXPLORATION_SPAWN_SETTING);
-        BrecherConfig.setDisableEnderChests(BrecherConfigSpec.Defaults.DISABLE_ENDER_CHESTS);
-        BrecherConfig.setClearInventoryOnReturn(BrecherConfigSpec.Defaults.CLEAR_INVENTORY_ON_RETURN);
-        BrecherConfig.setKeepInventoryInExploration(BrecherConfigSpec.Defaults.KEEP_INVENTORY_IN_EXPLORATION);
-        BrecherConfig.setDeferToCorpseMods(BrecherConfigSpec.Defaults.DEFER_TO_CORPSE_MODS);
-        BrecherConfig.setDisableModdedPortals(BrecherConfigSpec.Defaults.DISABLE_MODDED_PORTALS);
-        BrecherConfig.setPreventModdedTeleports(BrecherConfigSpec.Defaults.PREVENT_MODDED_TELEPORTS);
-        BrecherConfig.setCleanupXaeroMapData(BrecherConfigSpec.Defaults.CLEANUP_XAERO_MAP_DATA);
-        BrecherConfig.setXaeroCleanupTargets(BrecherConfigSpec.Defaults.XAERO_CLEANUP_TARGETS);
-        BrecherConfig.setDisableEndGateways(BrecherConfigSpec.Defaults.DISABLE_END_GATEWAYS);
-        BrecherConfig.setTeleportCooldown(BrecherConfigSpec.Defaults.TELEPORT_COOLDOWN);
-        BrecherConfig.setRestrictToCurrentDimension(BrecherConfigSpec.Defaults.RESTRICT_TO_CURRENT_DIMENSION);
-        BrecherConfig.setDimensionLocksEnabled(BrecherConfigSpec.Defaults.DIMENSION_LOCKS_ENABLED);
-        BrecherConfig.setDimensionLocks(BrecherConfigSpec.Defaults.DIMENSION_LOCKS);
-        BrecherConfig.setChunkUnloadDelay(BrecherConfigSpec.Defaults.CHUNK_UNLOAD_DELAY);
-        BrecherConfig.setMaxChunksPerPlayer(BrecherConfigSpec.Defaults.MAX_CHUNKS_PER_PLAYER);
-        BrecherConfig.setAggressiveChunkUnloading(BrecherConfigSpec.Defaults.AGGRESSIVE_CHUNK_UNLOADING);
-        BrecherConfig.setEntityCleanupInterval(BrecherConfigSpec.Defaults.ENTITY_CLEANUP_INTERVAL);
-        BrecherConfig.setChunkCleanupInterval(BrecherConfigSpec.Defaults.CHUNK_CLEANUP_INTERVAL);
-        BrecherConfig.setPreventDiskSaves(BrecherConfigSpec.Defaults.PREVENT_DISK_SAVES);
-        BrecherConfig.setOldDimensionRetentionCount(BrecherConfigSpec.Defaults.OLD_DIMENSION_RETENTION_COUNT);
-        BrecherConfig.setPreGenerateSpawnChunks(BrecherConfigSpec.Defaults.PRE_GENERATE_SPAWN_CHUNKS);
-        BrecherConfig.setImmediateSpawnRadius(BrecherConfigSpec.Defaults.IMMEDIATE_SPAWN_RADIUS);
-        BrecherConfig.setExtendedSpawnRadius(BrecherConfigSpec.Defaults.EXTENDED_SPAWN_RADIUS);
-        BrecherConfig.setPregenEnabled(BrecherConfigSpec.Defaults.PREGEN_ENABLED);
-        BrecherConfig.setPregenChunksPerTick(BrecherConfigSpec.Defaults.PREGEN_CHUNKS_PER_TICK);
-        BrecherConfig.setPregenTickInterval(BrecherConfigSpec.Defaults.PREGEN_TICK_INTERVAL);
-        BrecherConfig.setPregenTicksPerChunk(BrecherConfigSpec.Defaults.PREGEN_TICKS_PER_CHUNK);
-        BrecherConfig.setPregenTicketDuration(BrecherConfigSpec.Defaults.PREGEN_TICKET_DURATION);
-        BrecherConfig.setPregenAutoStart(BrecherConfigSpec.Defaults.PREGEN_AUTO_START);
-        BrecherConfig.setPregenAutoResume(BrecherConfigSpec.Defaults.PREGEN_AUTO_RESUME);
-        BrecherConfig.setPregenMinTPS(BrecherConfigSpec.Defaults.PREGEN_MIN_TPS);
-        BrecherConfig.setPregenMemoryThreshold(BrecherConfigSpec.Defaults.PREGEN_MEMORY_THRESHOLD);
-        BrecherConfig.setPregenDefaultRadius(BrecherConfigSpec.Defaults.PREGEN_DEFAULT_RADIUS);
-        BrecherConfig.setPregenPauseWithPlayers(BrecherConfigSpec.Defaults.PREGEN_PAUSE_WITH_PLAYERS);
-        BrecherConfig.setPregenStaleHours(BrecherConfigSpec.Defaults.PREGEN_STALE_HOURS);
-        BrecherConfig.setTeleportSafetyRadius(BrecherConfigSpec.Defaults.TELEPORT_SAFETY_RADIUS);
-        BrecherConfig.setCreateEmergencyPlatforms(BrecherConfigSpec.Defaults.CREATE_EMERGENCY_PLATFORMS);
-        BrecherConfig.setPreferSurfaceSpawns(BrecherConfigSpec.Defaults.PREFER_SURFACE_SPAWNS);
-        BrecherConfig.setExtendedSearchRadius(BrecherConfigSpec.Defaults.EXTENDED_SEARCH_RADIUS);
-        BrecherConfig.setWelcomeMessage(BrecherConfigSpec.Defaults.WELCOME_MESSAGE);
-        BrecherConfig.setReturnMessage(BrecherConfigSpec.Defaults.RETURN_MESSAGE);
+        BrecherConfig.publish(ConfigSnapshot.defaults());
     }
     
     @SuppressWarnings("unchecked")
-    private void applyConfig() {
-        try {
-            // General settings
-            Map<String, Object> general = getSection("general");
-            BrecherConfig.setExplorationBorder(getInt(general, "exploration_border", BrecherConfigSpec.Defaults.EXPLORATION_BORDER));
-            
-            // Seed settings
-            Map<String, Object> seeds = getSection("seeds");
-            BrecherConfig.setSeedStrategy(getString(seeds, "strategy", BrecherConfigSpec.Defaults.SEED_STRATEGY));
-            BrecherConfig.setDebugSeed(getLong(seeds, "debug_seed", BrecherConfigSpec.Defaults.DEBUG_SEED));
-            BrecherConfig.setWeeklyResetDay(getString(seeds, "weekly_reset_day", BrecherConfigSpec.Defaults.WEEKLY_RESET_DAY));
-            
-            // Dimension settings
-            Map<String, Object> dimensions = getSection("dimensions");
-            BrecherConfig.setEnabledDimensions(getStringList(dimensions, "enabled", BrecherConfigSpec.Defaults.ENABLED_DIMENSIONS));
-            BrecherConfig.setBlacklist(getStringList(dimensions, "blacklist", BrecherConfigSpec.Defaults.BLACKLIST));
-            BrecherConfig.setAllowModdedDimensions(getBoolean(dimensions, "allow_modded", BrecherConfigSpec.Defaults.ALLOW_MODDED_DIMENSIONS));
-            
-            // Feature settings
-            Map<String, Object> features = getSection("features");
-            BrecherConfig.setPreventExplorationSpawnSetting(getBoolean(features, "prevent_spawn_setting", BrecherConfigSpec.Defaults.PREVENT_EXPLORATION_SPAWN_SETTING));
-            BrecherConfig.setDisableEnderChests(getBoolean(features, "disable_ender_chests", BrecherConfigSpec.Defaults.DISABLE_ENDER_CHESTS));
-            BrecherConfig.setClearInventoryOnReturn(getBoolean(features, "clear_inventory_on_return", BrecherConfigSpec.Defaults.CLEAR_INVENTORY_ON_RETURN));
-            BrecherConfig.setKeepInventoryInExploration(getBoolean(features, "keep_inventory_in_exploration", BrecherConfigSpec.Defaults.KEEP_INVENTORY_IN_EXPLORATION));
-            BrecherConfig.setDeferToCorpseMods(getBoolean(features, "defer_to_corpse_mods", BrecherConfigSpec.Defaults.DEFER_TO_CORPSE_MODS));
-            BrecherConfig.setDisableModdedPortals(getBoolean(features, "disable_modded_portals", BrecherConfigSpec.Defaults.DISABLE_MODDED_PORTALS));
-            BrecherConfig.setPreventModdedTeleports(getBoolean(features, "prevent_modded_teleports", BrecherConfigSpec.Defaults.PREVENT_MODDED_TELEPORTS));
-            BrecherConfig.setCleanupXaeroMapData(getBoolean(features, "cleanup_xaero_map_data", BrecherConfigSpec.Defaults.CLEANUP_XAERO_MAP_DATA));
-            BrecherConfig.setXaeroCleanupTargets(getStringList(features, "xaero_cleanup_targets", BrecherConfigSpec.Defaults.XAERO_CLEANUP_TARGETS));
-            BrecherConfig.setDisableEndGateways(getBoolean(features, "disable_end_gateways", BrecherConfigSpec.Defaults.DISABLE_END_GATEWAYS));
-            
-            // Gameplay settings
-            Map<String, Object> gameplay = getSection("gameplay");
-            BrecherConfig.setTeleportCooldown(getInt(gameplay, "teleport_cooldown", BrecherConfigSpec.Defaults.TELEPORT_COOLDOWN));
-            BrecherConfig.setRestrictToCurrentDimension(getBoolean(gameplay, "restrict_to_current_dimension", BrecherConfigSpec.Defaults.RESTRICT_TO_CURRENT_DIMENSION));
+    private ConfigSnapshot parse(String content) {
+        Object root = yaml.load(content);
+        if (root != null && !(root instanceof Map)) {
+            throw new IllegalArgumentException("Expected a mapping of config sections at the top level");
+        }
+        config = root == null ? new LinkedHashMap<>() : (Map<String, Object>) root;
+        return applyConfig();
+    }
+    
+    private ConfigSnapshot applyConfig() {
+        ConfigSnapshot.Builder builder = new ConfigSnapshot.Builder();
+        
+        // General settings
+        Map<String, Object> general = getSection("general");
+        builder.explorationBorder(getInt(general, "exploration_border", BrecherConfigSpec.Defaults.EXPLORATION_BORDER));
+        
+        // Seed settings
+        Map<String, Object> seeds = getSection("seeds");
+        builder.seedStrategy(getString(seeds, "strategy", BrecherConfigSpec.Defaults.SEED_STRATEGY));
+        builder.debugSeed(getLong(seeds, "debug_seed", BrecherConfigSpec.Defaults.DEBUG_SEED));
+        builder.weeklyResetDay(getString(seeds, "weekly_reset_day", BrecherConfigSpec.Defaults.WEEKLY_RESET_DAY));
+        
+        // Dimension settings
+        Map<String, Object> dimensions = getSection("dimensions");
+        builder.enabledDimensions(getStringList(dimensions, "enabled", BrecherConfigSpec.Defaults.ENABLED_DIMENSIONS));
+        builder.blacklist(getStringList(dimensions, "blacklist", BrecherConfigSpec.Defaults.BLACKLIST));
+        builder.allowModdedDimensions(getBoolean(dimensions, "allow_modded", BrecherConfigSpec.Defaults.ALLOW_MODDED_DIMENSIONS));
+        
+        // Feature settings
+        Map<String, Object> features = getSection("features");
+        builder.preventExplorationSpawnSetting(getBoolean(features, "prevent_spawn_setting", BrecherConfigSpec.Defaults.PREVENT_EXPLORATION_SPAWN_SETTING));
+        builder.disableEnderChests(getBoolean(features, "disable_ender_chests", BrecherConfigSpec.Defaults.DISABLE_ENDER_CHESTS));
+        builder.clearInventoryOnReturn(getBoolean(features, "clear_inventory_on_return", BrecherConfigSpec.Defaults.CLEAR_INVENTORY_ON_RETURN));
+        builder.keepInventoryInExploration(getBoolean(features, "keep_inventory_in_exploration", BrecherConfigSpec.Defaults.KEEP_INVENTORY_IN_EXPLORATION));
+        builder.deferToCorpseMods(getBoolean(features, "defer_to_corpse_mods", BrecherConfigSpec.Defaults.DEFER_TO_CORPSE_MODS));
+        builder.disableModdedPortals(getBoolean(features, "disable_modded_portals", BrecherConfigSpec.Defaults.DISABLE_MODDED_PORTALS));
+        builder.preventModdedTeleports(getBoolean(features, "prevent_modded_teleports", BrecherConfigSpec.Defaults.PREVENT_MODDED_TELEPORTS));
+        builder.cleanupXaeroMapData(getBoolean(features, "cleanup_xaero_map_data", BrecherConfigSpec.Defaults.CLEANUP_XAERO_MAP_DATA));
+        builder.xaeroCleanupTargets(getStringList(features, "xaero_cleanup_targets", BrecherConfigSpec.Defaults.XAERO_CLEANUP_TARGETS));
+        builder.disableEndGateways(getBoolean(features, "disable_end_gateways", BrecherConfigSpec.Defaults.DISABLE_END_GATEWAYS));
+        
+        // Gameplay settings
+        Map<String, Object> gameplay = getSection("gameplay");
+        builder.teleportCooldown(getInt(gameplay, "teleport_cooldown", BrecherConfigSpec.Defaults.TELEPORT_COOLDOWN));
+        builder.restrictToCurrentDimension(getBoolean(gameplay, "restrict_to_current_dimension", BrecherConfigSpec.Defaults.RESTRICT_TO_CURRENT_DIMENSION));
 
-            // Dimension locks (Progression Gating)
-            Map<String, Object> dimensionLocks = getSection("dimension_locks");
-            BrecherConfig.setDimensionLocksEnabled(getBoolean(dimensionLocks, "enabled", BrecherConfigSpec.Defaults.DIMENSION_LOCKS_ENABLED));
-            Map<String, String> locks = getStringMap(dimensionLocks, "locks", BrecherConfigSpec.Defaults.DIMENSION_LOCKS);
-            BrecherConfig.setDimensionLocksValidated(locks);
+        // Dimension locks (Progression Gating)
+        Map<String, Object> dimensionLocks = getSection("dimension_locks");
+        builder.dimensionLocksEnabled(getBoolean(dimensionLocks, "enabled", BrecherConfigSpec.Defaults.DIMENSION_LOCKS_ENABLED));
+        Map<String, String> locks = getStringMap(dimensionLocks, "locks", BrecherConfigSpec.Defaults.DIMENSION_LOCKS);
+        builder.dimensionLocks(locks);
 
-            // Performance settings
-            Map<String, Object> performance = getSection("performance");
-            Map<String, Object> chunks = getSection(performance, "chunks");
-            BrecherConfig.setChunkUnloadDelay(getInt(chunks, "unload_delay", BrecherConfigSpec.Defaults.CHUNK_UNLOAD_DELAY));
-            BrecherConfig.setMaxChunksPerPlayer(getInt(chunks, "max_per_player", BrecherConfigSpec.Defaults.MAX_CHUNKS_PER_PLAYER));
-            BrecherConfig.setAggressiveChunkUnloading(getBoolean(chunks, "aggressive_unloading", BrecherConfigSpec.Defaults.AGGRESSIVE_CHUNK_UNLOADING));
-            BrecherConfig.setChunkCleanupInterval(getInt(chunks, "cleanup_interval", BrecherConfigSpec.Defaults.CHUNK_CLEANUP_INTERVAL));
-            BrecherConfig.setEntityCleanupInterval(getInt(performance, "entity_cleanup_interval", BrecherConfigSpec.Defaults.ENTITY_CLEANUP_INTERVAL));
-            BrecherConfig.setPreventDiskSaves(getBoolean(performance, "prevent_disk_saves", BrecherConfigSpec.Defaults.PREVENT_DISK_SAVES));
-            BrecherConfig.setOldDimensionRetentionCount(getInt(performance, "old_dimension_retention_count", BrecherConfigSpec.Defaults.OLD_DIMENSION_RETENTION_COUNT));
-            
-            // Spawn pre-generation settings
-            Map<String, Object> spawnGen = getSection("spawn_generation");
-            BrecherConfig.setPreGenerateSpawnChunks(getBoolean(spawnGen, "enabled", BrecherConfigSpec.Defaults.PRE_GENERATE_SPAWN_CHUNKS));
-            BrecherConfig.setImmediateSpawnRadius(getInt(spawnGen, "immediate_radius", BrecherConfigSpec.Defaults.IMMEDIATE_SPAWN_RADIUS));
-            BrecherConfig.setExtendedSpawnRadius(getInt(spawnGen, "extended_radius", BrecherConfigSpec.Defaults.EXTENDED_SPAWN_RADIUS));
-            
-            // Background pre-generation settings
-            Map<String, Object> bgPregen = getSection("background_pregen");
-            BrecherConfig.setPregenEnabled(getBoolean(bgPregen, "enabled", BrecherConfigSpec.Defaults.PREGEN_ENABLED));
-            
-            Map<String, Object> generation = getSection(bgPregen, "generation");
-            BrecherConfig.setPregenChunksPerTick(getInt(generation, "chunks_per_tick", BrecherConfigSpec.Defaults.PREGEN_CHUNKS_PER_TICK));
-            BrecherConfig.setPregenTickInterval(getInt(generation, "tick_interval", BrecherConfigSpec.Defaults.PREGEN_TICK_INTERVAL));
-            BrecherConfig.setPregenTicksPerChunk(getInt(generation, "ticks_per_chunk", BrecherConfigSpec.Defaults.PREGEN_TICKS_PER_CHUNK));
-            BrecherConfig.setPregenTicketDuration(getInt(generation, "ticket_duration", BrecherConfigSpec.Defaults.PREGEN_TICKET_DURATION));
-            BrecherConfig.setPregenDefaultRadius(getInt(generation, "default_radius", BrecherConfigSpec.Defaults.PREGEN_DEFAULT_RADIUS));
-            
-            Map<String, Object> automation = getSection(bgPregen, "automation");
-            BrecherConfig.setPregenAutoStart(getBoolean(automation, "auto_start", BrecherConfigSpec.Defaults.PREGEN_AUTO_START));
-            BrecherConfig.setPregenAutoResume(getBoolean(automation, "auto_resume", BrecherConfigSpec.Defaults.PREGEN_AUTO_RESUME));
-            BrecherConfig.setPregenPauseWithPlayers(getBoolean(automation, "pause_with_players", BrecherConfigSpec.Defaults.PREGEN_PAUSE_WITH_PLAYERS));
-            
-            Map<String, Object> limits = getSection(bgPregen, "limits");
-            BrecherConfig.setPregenMinTPS(getInt(limits, "min_tps", BrecherConfigSpec.Defaults.PREGEN_MIN_TPS));
-            BrecherConfig.setPregenMemoryThreshold(getInt(limits, "memory_threshold", BrecherConfigSpec.Defaults.PREGEN_MEMORY_THRESHOLD));
-            BrecherConfig.setPregenStaleHours(getInt(limits, "stale_hours", BrecherConfigSpec.Defaults.PREGEN_STALE_HOURS));
-            
-            // Safety settings
-            Map<String, Object> safety = getSection("safety");
-            BrecherConfig.setTeleportSafetyRadius(getInt(safety, "teleport_search_radius", BrecherConfigSpec.Defaults.TELEPORT_SAFETY_RADIUS));
-            BrecherConfig.setCreateEmergencyPlatforms(getBoolean(safety, "create_emergency_platforms", BrecherConfigSpec.Defaults.CREATE_EMERGENCY_PLATFORMS));
-            BrecherConfig.setPreferSurfaceSpawns(getBoolean(safety, "prefer_surface_spawns", BrecherConfigSpec.Defaults.PREFER_SURFACE_SPAWNS));
-            BrecherConfig.setExtendedSearchRadius(getBoolean(safety, "extended_search_radius", BrecherConfigSpec.Defaults.EXTENDED_SEARCH_RADIUS));
-            
-            // Messages
-            Map<String, Object> messages = getSection("messages");
-            BrecherConfig.setWelcomeMessage(getString(messages, "welcome", BrecherConfigSpec.Defaults.WELCOME_MESSAGE));
-            BrecherConfig.setReturnMessage(getString(messages, "return", BrecherConfigSpec.Defaults.RETURN_MESSAGE));
-            
-        } catch (Exception e) {
-            LOGGER.error("Error parsing YAML configuration, using defaults", e);
-            loadDefaults();
+        // Performance settings
+        Map<String, Object> performance = getSection("performance");
+        Map<String, Object> chunks = getSection(performance, "chunks");
+        builder.chunkUnloadDelay(getInt(chunks, "unload_delay", BrecherConfigSpec.Defaults.CHUNK_UNLOAD_DELAY));
+        builder.maxChunksPerPlayer(getInt(chunks, "max_per_player", BrecherConfigSpec.Defaults.MAX_CHUNKS_PER_PLAYER));
+        builder.aggressiveChunkUnloading(getBoolean(chunks, "aggressive_unloading", BrecherConfigSpec.Defaults.AGGRESSIVE_CHUNK_UNLOADING));
+        builder.chunkCleanupInterval(getInt(chunks, "cleanup_interval", BrecherConfigSpec.Defaults.CHUNK_CLEANUP_INTERVAL));
+        builder.entityCleanupInterval(getInt(performance, "entity_cleanup_interval", BrecherConfigSpec.Defaults.ENTITY_CLEANUP_INTERVAL));
+        builder.preventDiskSaves(getBoolean(performance, "prevent_disk_saves", BrecherConfigSpec.Defaults.PREVENT_DISK_SAVES));
+        builder.chunkCacheSizeMb(getInt(performance, "chunk_cache_size_mb", BrecherConfigSpec.Defaults.CHUNK_CACHE_SIZE_MB));
+        builder.regionCompression(getString(performance, "region_compression", BrecherConfigSpec.Defaults.REGION_COMPRESSION));
+        builder.oldDimensionRetentionCount(getInt(performance, "old_dimension_retention_count", BrecherConfigSpec.Defaults.OLD_DIMENSION_RETENTION_COUNT));
+        builder.historyRetentionRotations(getInt(performance, "history_retention_rotations", BrecherConfigSpec.Defaults.HISTORY_RETENTION_ROTATIONS));
+        builder.suspendIdleDimensions(getBoolean(performance, "suspend_idle_dimensions", BrecherConfigSpec.Defaults.SUSPEND_IDLE_DIMENSIONS));
+        builder.idleHeartbeatInterval(getInt(performance, "idle_heartbeat_interval", BrecherConfigSpec.Defaults.IDLE_HEARTBEAT_INTERVAL));
+        builder.evacuationPlayersPerTick(getInt(performance, "evacuation_players_per_tick", BrecherConfigSpec.Defaults.EVACUATION_PLAYERS_PER_TICK));
+        builder.maxPendingArrivals(getInt(performance, "max_pending_arrivals", BrecherConfigSpec.Defaults.MAX_PENDING_ARRIVALS));
+        
+        // Spawn pre-generation settings
+        Map<String, Object> spawnGen = getSection("spawn_generation");
+        builder.preGenerateSpawnChunks(getBoolean(spawnGen, "enabled", BrecherConfigSpec.Defaults.PRE_GENERATE_SPAWN_CHUNKS));
+        builder.immediateSpawnRadius(getInt(spawnGen, "immediate_radius", BrecherConfigSpec.Defaults.IMMEDIATE_SPAWN_RADIUS));
+        builder.extendedSpawnRadius(getInt(spawnGen, "extended_radius", BrecherConfigSpec.Defaults.EXTENDED_SPAWN_RADIUS));
+        
+        // Background pre-generation settings
+        Map<String, Object> bgPregen = getSection("background_pregen");
+        builder.pregenEnabled(getBoolean(bgPregen, "enabled", BrecherConfigSpec.Defaults.PREGEN_ENABLED));
+        
+        Map<String, Object> generation = getSection(bgPregen, "generation");
+        builder.pregenChunksPerTick(getInt(generation, "chunks_per_tick", BrecherConfigSpec.Defaults.PREGEN_CHUNKS_PER_TICK));
+        builder.pregenTickInterval(getInt(generation, "tick_interval", BrecherConfigSpec.Defaults.PREGEN_TICK_INTERVAL));
+        builder.pregenTicksPerChunk(getInt(generation, "ticks_per_chunk", BrecherConfigSpec.Defaults.PREGEN_TICKS_PER_CHUNK));
+        builder.pregenTicketDuration(getInt(generation, "ticket_duration", BrecherConfigSpec.Defaults.PREGEN_TICKET_DURATION));
+        builder.pregenDefaultRadius(getInt(generation, "default_radius", BrecherConfigSpec.Defaults.PREGEN_DEFAULT_RADIUS));
+        builder.pregenTargetStatus(getString(generation, "target_status", BrecherConfigSpec.Defaults.PREGEN_TARGET_STATUS));
+        
+        Map<String, Object> automation = getSection(bgPregen, "automation");
+        builder.pregenAutoStart(getBoolean(automation, "auto_start", BrecherConfigSpec.Defaults.PREGEN_AUTO_START));
+        builder.pregenAutoResume(getBoolean(automation, "auto_resume", BrecherConfigSpec.Defaults.PREGEN_AUTO_RESUME));
+        boolean pauseWithPlayers = getBoolean(automation, "pause_with_players", BrecherConfigSpec.Defaults.PREGEN_PAUSE_WITH_PLAYERS);
+        builder.pregenPauseWithPlayers(pauseWithPlayers);
+        
+        Map<String, Object> limits = getSection(bgPregen, "limits");
+        builder.pregenMinTPS(getInt(limits, "min_tps", BrecherConfigSpec.Defaults.PREGEN_MIN_TPS));
+        builder.pregenMemoryThreshold(getInt(limits, "memory_threshold", BrecherConfigSpec.Defaults.PREGEN_MEMORY_THRESHOLD));
+        builder.pregenStaleHours(getInt(limits, "stale_hours", BrecherConfigSpec.Defaults.PREGEN_STALE_HOURS));
+        int maxTickMs = getInt(limits, "max_tick_ms", BrecherConfigSpec.Defaults.PREGEN_MAX_TICK_MS);
+        builder.pregenMaxTickMs(maxTickMs);
+        
+        Map<String, Object> predictive = getSection(bgPregen, "predictive");
+        builder.pregenPredictiveEnabled(getBoolean(predictive, "enabled", BrecherConfigSpec.Defaults.PREGEN_PREDICTIVE_ENABLED));
+        builder.pregenPredictiveMaxLookahead(getInt(predictive, "max_lookahead", BrecherConfigSpec.Defaults.PREGEN_PREDICTIVE_MAX_LOOKAHEAD));
+        
+        Object schedule = bgPregen.get("schedule");
+        builder.pregenSchedule(schedule instanceof List<?> windows
+            ? PregenSchedule.parse(windows, maxTickMs, pauseWithPlayers)
+            : List.of());
+        
+        // Safety settings
+        Map<String, Object> safety = getSection("safety");
+        builder.teleportSafetyRadius(getInt(safety, "teleport_search_radius", BrecherConfigSpec.Defaults.TELEPORT_SAFETY_RADIUS));
+        builder.createEmergencyPlatforms(getBoolean(safety, "create_emergency_platforms", BrecherConfigSpec.Defaults.CREATE_EMERGENCY_PLATFORMS));
+        builder.preferSurfaceSpawns(getBoolean(safety, "prefer_surface_spawns", BrecherConfigSpec.Defaults.PREFER_SURFACE_SPAWNS));
+        builder.extendedSearchRadius(getBoolean(safety, "extended_search_radius", BrecherConfigSpec.Defaults.EXTENDED_SEARCH_RADIUS));
+        
+        // Per-dimension overrides
+        builder.dimensionOverrides(DimensionOverrides.parse(getSection("dimension_overrides")));
+        
+        // Messages
+        Map<String, Object> messages = getSection("messages");
+        builder.welcomeMessage(getString(messages, "welcome", BrecherConfigSpec.Defaults.WELCOME_MESSAGE));
+        builder.returnMessage(getString(messages, "return", BrecherConfigSpec.Defaults.RETURN_MESSAGE));
+        
+        return builder.build();
+    }
+    
+    /**
+     * Log every value a reload changed
+     */
+    private void logChanges(ConfigSnapshot previous, ConfigSnapshot next) {
+        List<String> changes = next.describeChanges(previous);
+        if (changes.isEmpty()) {
+            LOGGER.info("Configuration reloaded, no values changed");
+            return;
+        }
+        LOGGER.info("Configuration reloaded, {} values changed:", changes.size());
+        for (String change : changes) {
+            LOGGER.info("  {}", change);
+        }
+    }
+    
+    /**
+     * Reload after the file changed on disk (called from the watcher thread)
+     */
+    private void onFileChanged() {
+        LOGGER.info("Detected change to {}, reloading", configPath.getFileName());
+        if (loadConfig()) {
+            BrecherConfig.validateConfig();
         }
     }
     
@@ -521,11 +617,12 @@ public class YamlConfigHandler {
     public void reload() {
         try {
             if (Files.exists(configPath)) {
-                loadConfig();
+                if (loadConfig()) {
+                    LOGGER.info("Reloaded YAML configuration");
+                }
             } else {
                 init();
             }
-            LOGGER.info("Reloaded YAML configuration");
         } catch (Exception e) {
             LOGGER.error("Failed to reload YAML configuration", e);
         }
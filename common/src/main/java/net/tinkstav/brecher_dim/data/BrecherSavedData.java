@@ -5,27 +5,70 @@
 
 package net.tinkstav.brecher_dim.data;
 
+import net.minecraft.nbt.CollectionTag;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
 import net.minecraft.nbt.Tag;
 import net.minecraft.nbt.StringTag;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.saveddata.SavedData;
+import net.minecraft.world.level.storage.LevelResource;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.level.Level;
 import net.minecraft.core.BlockPos;
 import net.tinkstav.brecher_dim.generation.GenerationProgress;
+import net.tinkstav.brecher_dim.generation.StructureIndex;
 import com.mojang.logging.LogUtils;
 import org.slf4j.Logger;
 
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
+/**
+ * Persistent mod state, stored as independent shards instead of one SavedData file.
+ *
+ * <p>Each category below and each player's stats is its own file under
+ * {@code data/brecher_dimensions/} with its own dirty flag. When the data storage saves,
+ * only dirty shards are snapshotted to NBT on the calling thread; compressing and writing
+ * them happens off-thread through {@link SavedDataWriter}, so an autosave costs what
+ * changed rather than the whole history. A legacy {@code brecher_dimensions.dat} is
+ * migrated into shards on first load and removed once they are written.
+ */
 public class BrecherSavedData extends SavedData {
     private static final Logger LOGGER = LogUtils.getLogger();
     private static final String NAME = "brecher_dimensions";
+    private static final String STATS_DIRECTORY = "stats";
+    
+    /**
+     * Independently saved categories
+     */
+    public enum Shard {
+        // Active dimensions, reset times, access history, metadata, archived totals, next reset time,
+        // level.dat references still to remove
+        DIMENSIONS("dimensions.dat"),
+        // Last positions, return positions, last known dimensions, manual unlocks
+        PLAYERS("players.dat"),
+        // Pregen progress, partial run radii and structure indexes
+        PREGEN("pregen.dat");
+        
+        private final String fileName;
+        
+        Shard(String fileName) {
+            this.fileName = fileName;
+        }
+    }
     
     private final Set<ResourceLocation> activeDimensions = ConcurrentHashMap.newKeySet();
     private final Map<ResourceLocation, Long> dimensionResetTimes = new ConcurrentHashMap<>();
@@ -36,107 +79,122 @@ public class BrecherSavedData extends SavedData {
     private final Map<UUID, PlayerExplorationStats> playerStats = new ConcurrentHashMap<>();
     private final Map<UUID, ResourceLocation> playerLastKnownDimensions = new ConcurrentHashMap<>();
     private final Map<ResourceLocation, GenerationProgress> pregenTasks = new ConcurrentHashMap<>();
-    private long nextResetTime = 0;
+    private final Map<ResourceLocation, StructureIndex> structureIndexes = new ConcurrentHashMap<>();
+    // Radius of the last finished run per dimension that left chunks below FULL, for the upgrade pass
+    private final Map<ResourceLocation, Integer> partialRuns = new ConcurrentHashMap<>();
+    // Condensed history of retired dimensions per dimension type: {dimensions, visits, visitors}
+    private final Map<String, long[]> archivedHistory = new ConcurrentHashMap<>();
+    // Deleted dimension folders whose level.dat entries have not been removed yet
+    private final Set<String> pendingLevelDatRemovals = ConcurrentHashMap.newKeySet();
+    private volatile long nextResetTime = 0;
+    
+    private final Path shardDirectory;
+    private final Set<Shard> dirtyShards = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> dirtyStats = ConcurrentHashMap.newKeySet();
+    // Set when a legacy single-file save was loaded and must be removed after the shards are written
+    private boolean legacyFilePending = false;
+    
+    private BrecherSavedData(Path shardDirectory) {
+        this.shardDirectory = shardDirectory;
+    }
     
     public static BrecherSavedData get(MinecraftServer server) {
+        Path shardDirectory = server.getWorldPath(LevelResource.ROOT).resolve("data").resolve(NAME);
         return server.overworld().getDataStorage().computeIfAbsent(
             new SavedData.Factory<>(
-                BrecherSavedData::new,
-                (tag, provider) -> load(tag),
+                () -> loadShards(shardDirectory),
+                (tag, provider) -> loadLegacy(shardDirectory, tag),
                 null
             ),
             NAME
         );
     }
     
-    public static BrecherSavedData load(CompoundTag tag) {
-        BrecherSavedData data = new BrecherSavedData();
+    /**
+     * Record count and serialized size of one saved category
+     */
+    public record DataCategory(String name, int records, long bytes) {}
+    
+    /**
+     * Load from the shard directory; missing shards start empty
+     */
+    private static BrecherSavedData loadShards(Path shardDirectory) {
+        BrecherSavedData data = new BrecherSavedData(shardDirectory);
         
         try {
-            // Load active dimensions
-            ListTag activeList = tag.getList("activeDimensions", Tag.TAG_STRING);
-            for (int i = 0; i < activeList.size(); i++) {
-                try {
-                    data.activeDimensions.add(ResourceLocation.parse(activeList.getString(i)));
-                } catch (Exception e) {
-                    LOGGER.warn("Failed to load active dimension at index {}: {}", i, e.getMessage());
-                }
-            }
+            readShard(shardDirectory.resolve(Shard.DIMENSIONS.fileName)).ifPresent(data::loadDimensions);
+            readShard(shardDirectory.resolve(Shard.PLAYERS.fileName)).ifPresent(data::loadPlayers);
+            readShard(shardDirectory.resolve(Shard.PREGEN.fileName)).ifPresent(data::loadPregen);
             
-            // Load reset times
-            CompoundTag resetTimes = tag.getCompound("resetTimes");
-            for (String key : resetTimes.getAllKeys()) {
-                try {
-                    data.dimensionResetTimes.put(ResourceLocation.parse(key), resetTimes.getLong(key));
-                } catch (Exception e) {
-                    LOGGER.warn("Failed to load reset time for dimension {}: {}", key, e.getMessage());
-                }
-            }
-            
-            // Load player positions
-            CompoundTag positions = tag.getCompound("playerPositions");
-            for (String key : positions.getAllKeys()) {
-                try {
-                    data.playerLastPositions.put(
-                        UUID.fromString(key), 
-                        ResourceLocation.parse(positions.getString(key))
-                    );
-                } catch (Exception e) {
-                    LOGGER.warn("Failed to load player position for {}: {}", key, e.getMessage());
-                }
-            }
-            
-            // Load access history
-            CompoundTag accessHistory = tag.getCompound("accessHistory");
-            for (String dimKey : accessHistory.getAllKeys()) {
-                try {
-                    ResourceLocation dimLoc = ResourceLocation.parse(dimKey);
-                    Set<UUID> players = ConcurrentHashMap.newKeySet();
-                    
-                    ListTag playerList = accessHistory.getList(dimKey, Tag.TAG_STRING);
-                    for (int i = 0; i < playerList.size(); i++) {
+            Path statsDirectory = shardDirectory.resolve(STATS_DIRECTORY);
+            if (Files.isDirectory(statsDirectory)) {
+                try (Stream<Path> files = Files.list(statsDirectory)) {
+                    for (Path file : (Iterable<Path>) files::iterator) {
+                        String fileName = file.getFileName().toString();
+                        if (!fileName.endsWith(".dat")) {
+                            continue;
+                        }
                         try {
-                            players.add(UUID.fromString(playerList.getString(i)));
-                        } catch (Exception e) {
-                            LOGGER.warn("Failed to load player UUID in access history: {}", e.getMessage());
+                            UUID playerId = UUID.fromString(fileName.substring(0, fileName.length() - 4));
+                            Optional<CompoundTag> tag = readShard(file);
+                            PlayerExplorationStats stats = tag.map(PlayerExplorationStats::fromNBT).orElse(null);
+                            if (stats != null) {
+                                data.playerStats.put(playerId, stats);
+                            }
+                        } catch (IllegalArgumentException e) {
+                            LOGGER.warn("Ignoring unexpected file in stats shard directory: {}", fileName);
                         }
                     }
-                    
-                    data.dimensionAccessHistory.put(dimLoc, players);
-                } catch (Exception e) {
-                    LOGGER.warn("Failed to load access history for dimension {}: {}", dimKey, e.getMessage());
-                }
-            }
-            
-            // Load return positions
-            CompoundTag returnPositions = tag.getCompound("returnPositions");
-            for (String key : returnPositions.getAllKeys()) {
-                try {
-                    UUID playerId = UUID.fromString(key);
-                    CompoundTag posTag = returnPositions.getCompound(key);
-                    ReturnPosition pos = ReturnPosition.fromNBT(posTag);
-                    // Only load non-expired positions
-                    if (pos != null && !pos.isExpired()) {
-                        data.playerReturnPositions.put(playerId, pos);
-                    }
-                } catch (Exception e) {
-                    LOGGER.warn("Failed to load return position for player {}: {}", key, e.getMessage());
-                }
-            }
-            
-            // Load dimension metadata
-            CompoundTag metadataTag = tag.getCompound("dimensionMetadata");
-            for (String key : metadataTag.getAllKeys()) {
-                try {
-                    ResourceLocation dimLoc = ResourceLocation.parse(key);
-                    DimensionMetadata metadata = DimensionMetadata.fromNBT(metadataTag.getCompound(key));
-                    if (metadata != null) {
-                        data.dimensionMetadata.put(dimLoc, metadata);
-                    }
-                } catch (Exception e) {
-                    LOGGER.warn("Failed to load dimension metadata for {}: {}", key, e.getMessage());
                 }
             }
+        } catch (Exception e) {
+            LOGGER.error("Critical error loading BrecherSavedData shards, returning partial data", e);
+        }
+        
+        return data;
+    }
+    
+    /**
+     * Load a legacy single-file save and schedule its migration into shards
+     */
+    private static BrecherSavedData loadLegacy(Path shardDirectory, CompoundTag tag) {
+        // Shards written before the legacy file could be removed are newer than it
+        if (Files.isDirectory(shardDirectory)) {
+            BrecherSavedData data = loadShards(shardDirectory);
+            data.legacyFilePending = true;
+            return data;
+        }
+        
+        BrecherSavedData data = load(shardDirectory, tag);
+        LOGGER.info("Migrating {}.dat into per-category shards", NAME);
+        data.dirtyShards.addAll(EnumSet.allOf(Shard.class));
+        data.dirtyStats.addAll(data.playerStats.keySet());
+        data.legacyFilePending = true;
+        return data;
+    }
+    
+    private static Optional<CompoundTag> readShard(Path file) {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(NbtIo.readCompressed(file, NbtAccounter.unlimitedHeap()));
+        } catch (IOException e) {
+            LOGGER.error("Failed to read data shard {}", file, e);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Load all categories from one combined tag, as written by the single-file format
+     */
+    public static BrecherSavedData load(Path shardDirectory, CompoundTag tag) {
+        BrecherSavedData data = new BrecherSavedData(shardDirectory);
+        
+        try {
+            data.loadDimensions(tag);
+            data.loadPlayers(tag);
+            data.loadPregen(tag);
             
             // Load player stats
             CompoundTag statsTag = tag.getCompound("playerStats");
@@ -151,69 +209,290 @@ public class BrecherSavedData extends SavedData {
                     LOGGER.warn("Failed to load player stats for {}: {}", key, e.getMessage());
                 }
             }
-            
-            // Load player last known dimensions
-            CompoundTag lastDimensionsTag = tag.getCompound("playerLastKnownDimensions");
-            for (String key : lastDimensionsTag.getAllKeys()) {
-                try {
-                    UUID playerId = UUID.fromString(key);
-                    ResourceLocation dim = ResourceLocation.parse(lastDimensionsTag.getString(key));
-                    data.playerLastKnownDimensions.put(playerId, dim);
-                } catch (Exception e) {
-                    LOGGER.warn("Failed to load last known dimension for {}: {}", key, e.getMessage());
-                }
+        } catch (Exception e) {
+            LOGGER.error("Critical error loading BrecherSavedData, returning partial data", e);
+        }
+        
+        return data;
+    }
+    
+    private void loadDimensions(CompoundTag tag) {
+        // Load active dimensions
+        ListTag activeList = tag.getList("activeDimensions", Tag.TAG_STRING);
+        for (int i = 0; i < activeList.size(); i++) {
+            try {
+                activeDimensions.add(ResourceLocation.parse(activeList.getString(i)));
+            } catch (Exception e) {
+                LOGGER.warn("Failed to load active dimension at index {}: {}", i, e.getMessage());
             }
-            
-            // Load next reset time
-            data.nextResetTime = tag.getLong("nextResetTime");
-            
-            // Load pregen tasks
-            CompoundTag pregenTag = tag.getCompound("pregenTasks");
-            for (String key : pregenTag.getAllKeys()) {
-                try {
-                    ResourceLocation dimLoc = ResourceLocation.parse(key);
-                    GenerationProgress progress = GenerationProgress.fromNbt(pregenTag.getCompound(key));
-                    if (progress != null) {
-                        data.pregenTasks.put(dimLoc, progress);
+        }
+        
+        // Load reset times
+        CompoundTag resetTimes = tag.getCompound("resetTimes");
+        for (String key : resetTimes.getAllKeys()) {
+            try {
+                dimensionResetTimes.put(ResourceLocation.parse(key), resetTimes.getLong(key));
+            } catch (Exception e) {
+                LOGGER.warn("Failed to load reset time for dimension {}: {}", key, e.getMessage());
+            }
+        }
+        
+        // Load access history
+        CompoundTag accessHistory = tag.getCompound("accessHistory");
+        for (String dimKey : accessHistory.getAllKeys()) {
+            try {
+                ResourceLocation dimLoc = ResourceLocation.parse(dimKey);
+                Set<UUID> players = ConcurrentHashMap.newKeySet();
+                
+                ListTag playerList = accessHistory.getList(dimKey, Tag.TAG_STRING);
+                for (int i = 0; i < playerList.size(); i++) {
+                    try {
+                        players.add(UUID.fromString(playerList.getString(i)));
+                    } catch (Exception e) {
+                        LOGGER.warn("Failed to load player UUID in access history: {}", e.getMessage());
                     }
-                } catch (Exception e) {
-                    LOGGER.warn("Failed to load pregen task for {}: {}", key, e.getMessage());
                 }
+                
+                dimensionAccessHistory.put(dimLoc, players);
+            } catch (Exception e) {
+                LOGGER.warn("Failed to load access history for dimension {}: {}", dimKey, e.getMessage());
             }
+        }
+        
+        // Load dimension metadata
+        CompoundTag metadataTag = tag.getCompound("dimensionMetadata");
+        for (String key : metadataTag.getAllKeys()) {
+            try {
+                ResourceLocation dimLoc = ResourceLocation.parse(key);
+                DimensionMetadata metadata = DimensionMetadata.fromNBT(metadataTag.getCompound(key));
+                if (metadata != null) {
+                    dimensionMetadata.put(dimLoc, metadata);
+                }
+            } catch (Exception e) {
+                LOGGER.warn("Failed to load dimension metadata for {}: {}", key, e.getMessage());
+            }
+        }
+        
+        // Load archived history
+        CompoundTag archivedTag = tag.getCompound("archivedHistory");
+        for (String key : archivedTag.getAllKeys()) {
+            long[] totals = archivedTag.getLongArray(key);
+            if (totals.length == 3) {
+                archivedHistory.put(key, totals);
+            }
+        }
+        
+        // Load next reset time
+        nextResetTime = tag.getLong("nextResetTime");
+        
+        // Load level.dat references still to remove
+        ListTag pendingList = tag.getList("pendingLevelDatRemovals", Tag.TAG_STRING);
+        for (int i = 0; i < pendingList.size(); i++) {
+            pendingLevelDatRemovals.add(pendingList.getString(i));
+        }
+    }
+    
+    private void loadPlayers(CompoundTag tag) {
+        // Load player positions
+        CompoundTag positions = tag.getCompound("playerPositions");
+        for (String key : positions.getAllKeys()) {
+            try {
+                playerLastPositions.put(
+                    UUID.fromString(key), 
+                    ResourceLocation.parse(positions.getString(key))
+                );
+            } catch (Exception e) {
+                LOGGER.warn("Failed to load player position for {}: {}", key, e.getMessage());
+            }
+        }
+        
+        // Load return positions
+        CompoundTag returnPositions = tag.getCompound("returnPositions");
+        for (String key : returnPositions.getAllKeys()) {
+            try {
+                UUID playerId = UUID.fromString(key);
+                CompoundTag posTag = returnPositions.getCompound(key);
+                ReturnPosition pos = ReturnPosition.fromNBT(posTag);
+                // Only load non-expired positions
+                if (pos != null && !pos.isExpired()) {
+                    playerReturnPositions.put(playerId, pos);
+                }
+            } catch (Exception e) {
+                LOGGER.warn("Failed to load return position for player {}: {}", key, e.getMessage());
+            }
+        }
+        
+        // Load player last known dimensions
+        CompoundTag lastDimensionsTag = tag.getCompound("playerLastKnownDimensions");
+        for (String key : lastDimensionsTag.getAllKeys()) {
+            try {
+                UUID playerId = UUID.fromString(key);
+                ResourceLocation dim = ResourceLocation.parse(lastDimensionsTag.getString(key));
+                playerLastKnownDimensions.put(playerId, dim);
+            } catch (Exception e) {
+                LOGGER.warn("Failed to load last known dimension for {}: {}", key, e.getMessage());
+            }
+        }
+        
+        // Load manual unlocks (progression gating)
+        CompoundTag manualUnlocksTag = tag.getCompound("manualUnlocks");
+        for (String playerKey : manualUnlocksTag.getAllKeys()) {
+            try {
+                UUID playerId = UUID.fromString(playerKey);
+                Set<ResourceLocation> unlocks = ConcurrentHashMap.newKeySet();
 
-            // Load manual unlocks (progression gating)
-            CompoundTag manualUnlocksTag = tag.getCompound("manualUnlocks");
-            for (String playerKey : manualUnlocksTag.getAllKeys()) {
-                try {
-                    UUID playerId = UUID.fromString(playerKey);
-                    Set<ResourceLocation> unlocks = ConcurrentHashMap.newKeySet();
-
-                    ListTag dimensionList = manualUnlocksTag.getList(playerKey, Tag.TAG_STRING);
-                    for (int i = 0; i < dimensionList.size(); i++) {
-                        try {
-                            unlocks.add(ResourceLocation.parse(dimensionList.getString(i)));
-                        } catch (Exception e) {
-                            LOGGER.warn("Failed to load manual unlock dimension: {}", e.getMessage());
-                        }
+                ListTag dimensionList = manualUnlocksTag.getList(playerKey, Tag.TAG_STRING);
+                for (int i = 0; i < dimensionList.size(); i++) {
+                    try {
+                        unlocks.add(ResourceLocation.parse(dimensionList.getString(i)));
+                    } catch (Exception e) {
+                        LOGGER.warn("Failed to load manual unlock dimension: {}", e.getMessage());
                     }
+                }
 
-                    if (!unlocks.isEmpty()) {
-                        data.manualUnlocks.put(playerId, unlocks);
-                    }
-                } catch (Exception e) {
-                    LOGGER.warn("Failed to load manual unlocks for player {}: {}", playerKey, e.getMessage());
+                if (!unlocks.isEmpty()) {
+                    manualUnlocks.put(playerId, unlocks);
+                }
+            } catch (Exception e) {
+                LOGGER.warn("Failed to load manual unlocks for player {}: {}", playerKey, e.getMessage());
+            }
+        }
+    }
+    
+    private void loadPregen(CompoundTag tag) {
+        // Load pregen tasks
+        CompoundTag pregenTag = tag.getCompound("pregenTasks");
+        for (String key : pregenTag.getAllKeys()) {
+            try {
+                ResourceLocation dimLoc = ResourceLocation.parse(key);
+                GenerationProgress progress = GenerationProgress.fromNbt(pregenTag.getCompound(key));
+                if (progress != null) {
+                    pregenTasks.put(dimLoc, progress);
                 }
+            } catch (Exception e) {
+                LOGGER.warn("Failed to load pregen task for {}: {}", key, e.getMessage());
+            }
+        }
+
+        // Load partial run radii
+        CompoundTag partialTag = tag.getCompound("partialRuns");
+        for (String key : partialTag.getAllKeys()) {
+            try {
+                partialRuns.put(ResourceLocation.parse(key), partialTag.getInt(key));
+            } catch (Exception e) {
+                LOGGER.warn("Failed to load partial run radius for {}: {}", key, e.getMessage());
             }
+        }
 
-        } catch (Exception e) {
-            LOGGER.error("Critical error loading BrecherSavedData, returning partial data", e);
+        // Load structure indexes
+        CompoundTag structureTag = tag.getCompound("structureIndexes");
+        for (String key : structureTag.getAllKeys()) {
+            try {
+                structureIndexes.put(ResourceLocation.parse(key),
+                    StructureIndex.fromNbt(structureTag.getCompound(key)));
+            } catch (Exception e) {
+                LOGGER.warn("Failed to load structure index for {}: {}", key, e.getMessage());
+            }
         }
+    }
+    
+    /**
+     * Write dirty shards (called by the data storage on every save, dirty or not).
+     * The legacy file is never written again.
+     */
+    @Override
+    public void save(File file, HolderLookup.Provider registries) {
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
         
-        return data;
+        for (Shard shard : Shard.values()) {
+            if (dirtyShards.remove(shard)) {
+                CompoundTag snapshot = switch (shard) {
+                    case DIMENSIONS -> saveDimensions(new CompoundTag());
+                    case PLAYERS -> savePlayers(new CompoundTag());
+                    case PREGEN -> savePregen(new CompoundTag());
+                };
+                writes.add(SavedDataWriter.write(shardDirectory.resolve(shard.fileName), snapshot)
+                    .whenComplete((result, error) -> {
+                        if (error != null) {
+                            dirtyShards.add(shard);
+                        }
+                    }));
+            }
+        }
+        
+        Path statsDirectory = shardDirectory.resolve(STATS_DIRECTORY);
+        for (UUID playerId : List.copyOf(dirtyStats)) {
+            dirtyStats.remove(playerId);
+            PlayerExplorationStats stats = playerStats.get(playerId);
+            Path statsFile = statsDirectory.resolve(playerId + ".dat");
+            writes.add(stats == null ? SavedDataWriter.delete(statsFile)
+                : SavedDataWriter.write(statsFile, stats.toNBT()).whenComplete((result, error) -> {
+                    if (error != null) {
+                        dirtyStats.add(playerId);
+                    }
+                }));
+        }
+        
+        if (!writes.isEmpty()) {
+            LOGGER.debug("Saving {} dirty data shards", writes.size());
+        }
+        
+        if (legacyFilePending) {
+            legacyFilePending = false;
+            CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new))
+                .thenCompose(ignored -> SavedDataWriter.delete(file.toPath()))
+                .whenComplete((result, error) -> {
+                    if (error == null) {
+                        LOGGER.info("Migrated {}.dat into shards under {}", NAME, shardDirectory);
+                    } else {
+                        legacyFilePending = true;
+                    }
+                });
+        }
+    }
+    
+    @Override
+    public boolean isDirty() {
+        return !dirtyShards.isEmpty() || !dirtyStats.isEmpty() || legacyFilePending;
+    }
+    
+    /**
+     * Mark every category shard dirty. Prefer {@link #markDirty(Shard)}; this is the
+     * fallback for callers that don't know what they changed.
+     */
+    @Override
+    public void setDirty() {
+        dirtyShards.addAll(EnumSet.allOf(Shard.class));
+    }
+    
+    public void markDirty(Shard shard) {
+        dirtyShards.add(shard);
+    }
+    
+    public void markPlayerStatsDirty(UUID player) {
+        dirtyStats.add(player);
     }
     
+    /**
+     * Write all categories into one combined tag, as the single-file format did
+     */
     @Override
     public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        saveDimensions(tag);
+        savePlayers(tag);
+        savePregen(tag);
+        
+        // Save player stats
+        CompoundTag statsTag = new CompoundTag();
+        playerStats.forEach((uuid, stats) -> 
+            statsTag.put(uuid.toString(), stats.toNBT())
+        );
+        tag.put("playerStats", statsTag);
+        
+        return tag;
+    }
+    
+    private CompoundTag saveDimensions(CompoundTag tag) {
         // Save active dimensions
         ListTag activeList = new ListTag();
         for (ResourceLocation dim : activeDimensions) {
@@ -228,13 +507,6 @@ public class BrecherSavedData extends SavedData {
         );
         tag.put("resetTimes", resetTimes);
         
-        // Save player positions
-        CompoundTag positions = new CompoundTag();
-        playerLastPositions.forEach((uuid, dim) -> 
-            positions.putString(uuid.toString(), dim.toString())
-        );
-        tag.put("playerPositions", positions);
-        
         // Save access history
         CompoundTag accessHistory = new CompoundTag();
         dimensionAccessHistory.forEach((dim, players) -> {
@@ -246,6 +518,41 @@ public class BrecherSavedData extends SavedData {
         });
         tag.put("accessHistory", accessHistory);
         
+        // Save dimension metadata
+        CompoundTag metadataTag = new CompoundTag();
+        dimensionMetadata.forEach((dim, metadata) -> 
+            metadataTag.put(dim.toString(), metadata.toNBT())
+        );
+        tag.put("dimensionMetadata", metadataTag);
+        
+        // Save archived history
+        CompoundTag archivedTag = new CompoundTag();
+        archivedHistory.forEach((type, totals) ->
+            archivedTag.putLongArray(type, totals.clone())
+        );
+        tag.put("archivedHistory", archivedTag);
+        
+        // Save next reset time
+        tag.putLong("nextResetTime", nextResetTime);
+        
+        // Save level.dat references still to remove
+        ListTag pendingList = new ListTag();
+        for (String name : pendingLevelDatRemovals) {
+            pendingList.add(StringTag.valueOf(name));
+        }
+        tag.put("pendingLevelDatRemovals", pendingList);
+        
+        return tag;
+    }
+    
+    private CompoundTag savePlayers(CompoundTag tag) {
+        // Save player positions
+        CompoundTag positions = new CompoundTag();
+        playerLastPositions.forEach((uuid, dim) -> 
+            positions.putString(uuid.toString(), dim.toString())
+        );
+        tag.put("playerPositions", positions);
+        
         // Save return positions
         CompoundTag returnPositions = new CompoundTag();
         playerReturnPositions.forEach((uuid, pos) -> {
@@ -256,20 +563,6 @@ public class BrecherSavedData extends SavedData {
         });
         tag.put("returnPositions", returnPositions);
         
-        // Save dimension metadata
-        CompoundTag metadataTag = new CompoundTag();
-        dimensionMetadata.forEach((dim, metadata) -> 
-            metadataTag.put(dim.toString(), metadata.toNBT())
-        );
-        tag.put("dimensionMetadata", metadataTag);
-        
-        // Save player stats
-        CompoundTag statsTag = new CompoundTag();
-        playerStats.forEach((uuid, stats) -> 
-            statsTag.put(uuid.toString(), stats.toNBT())
-        );
-        tag.put("playerStats", statsTag);
-        
         // Save player last known dimensions
         CompoundTag lastDimensionsTag = new CompoundTag();
         playerLastKnownDimensions.forEach((uuid, dim) -> 
@@ -277,16 +570,6 @@ public class BrecherSavedData extends SavedData {
         );
         tag.put("playerLastKnownDimensions", lastDimensionsTag);
         
-        // Save next reset time
-        tag.putLong("nextResetTime", nextResetTime);
-        
-        // Save pregen tasks
-        CompoundTag pregenTag = new CompoundTag();
-        pregenTasks.forEach((dim, progress) ->
-            pregenTag.put(dim.toString(), progress.toNbt())
-        );
-        tag.put("pregenTasks", pregenTag);
-
         // Save manual unlocks (progression gating)
         CompoundTag manualUnlocksTag = new CompoundTag();
         manualUnlocks.forEach((playerId, dimensions) -> {
@@ -297,7 +580,32 @@ public class BrecherSavedData extends SavedData {
             manualUnlocksTag.put(playerId.toString(), dimensionList);
         });
         tag.put("manualUnlocks", manualUnlocksTag);
+        
+        return tag;
+    }
+    
+    private CompoundTag savePregen(CompoundTag tag) {
+        // Save pregen tasks
+        CompoundTag pregenTag = new CompoundTag();
+        pregenTasks.forEach((dim, progress) ->
+            pregenTag.put(dim.toString(), progress.toNbt())
+        );
+        tag.put("pregenTasks", pregenTag);
+
+        // Save partial run radii
+        CompoundTag partialTag = new CompoundTag();
+        partialRuns.forEach((dim, radius) ->
+            partialTag.putInt(dim.toString(), radius)
+        );
+        tag.put("partialRuns", partialTag);
 
+        // Save structure indexes
+        CompoundTag structureTag = new CompoundTag();
+        structureIndexes.forEach((dim, index) ->
+            structureTag.put(dim.toString(), index.toNbt())
+        );
+        tag.put("structureIndexes", structureTag);
+        
         return tag;
     }
     
@@ -319,7 +627,8 @@ public class BrecherSavedData extends SavedData {
             k -> new PlayerExplorationStats(player));
         stats.recordVisit(dimension);
         
-        setDirty();
+        markDirty(Shard.DIMENSIONS);
+        markPlayerStatsDirty(player);
     }
     
     public void recordDimensionReset(ResourceKey<Level> dimension) {
@@ -334,12 +643,12 @@ public class BrecherSavedData extends SavedData {
             metadata.reset();
         }
         
-        setDirty();
+        markDirty(Shard.DIMENSIONS);
     }
     
     public void savePlayerPosition(UUID player, ResourceLocation dimension) {
         playerLastPositions.put(player, dimension);
-        setDirty();
+        markDirty(Shard.PLAYERS);
     }
     
     public Optional<ResourceLocation> getPlayerLastPosition(UUID player) {
@@ -357,14 +666,14 @@ public class BrecherSavedData extends SavedData {
     public void saveReturnPosition(UUID player, BlockPos pos, ResourceLocation dimension) {
         // Get player's current rotation from server if available
         playerReturnPositions.put(player, new ReturnPosition(pos, dimension, 0, 0));
-        setDirty();
+        markDirty(Shard.PLAYERS);
     }
     
     public void saveReturnPosition(UUID player, BlockPos pos, ResourceLocation dimension, float yRot, float xRot) {
         playerReturnPositions.put(player, new ReturnPosition(pos, dimension, yRot, xRot));
         LOGGER.debug("Saved return position for player {}: {} in dimension {} (rotation: {}/{})", 
             player, pos, dimension, yRot, xRot);
-        setDirty();
+        markDirty(Shard.PLAYERS);
     }
     
     public Optional<ReturnPosition> getReturnPosition(UUID player) {
@@ -376,7 +685,7 @@ public class BrecherSavedData extends SavedData {
     
     public void clearReturnPosition(UUID player) {
         playerReturnPositions.remove(player);
-        setDirty();
+        markDirty(Shard.PLAYERS);
     }
     
     /**
@@ -384,7 +693,7 @@ public class BrecherSavedData extends SavedData {
      */
     public void updatePlayerDimension(UUID player, ResourceLocation dimension) {
         playerLastKnownDimensions.put(player, dimension);
-        setDirty();
+        markDirty(Shard.PLAYERS);
     }
     
     /**
@@ -417,12 +726,12 @@ public class BrecherSavedData extends SavedData {
      */
     public void clearPlayerDimensionTracking(UUID player) {
         playerLastKnownDimensions.remove(player);
-        setDirty();
+        markDirty(Shard.PLAYERS);
     }
     
     public void setNextResetTime(long time) {
         this.nextResetTime = time;
-        setDirty();
+        markDirty(Shard.DIMENSIONS);
     }
     
     public long getNextResetTime() {
@@ -441,7 +750,7 @@ public class BrecherSavedData extends SavedData {
         PlayerExplorationStats stats = playerStats.get(playerId);
         if (stats != null) {
             stats.recordChunkLoad(chunkPos);
-            setDirty();
+            markPlayerStatsDirty(playerId);
         }
     }
     
@@ -449,7 +758,7 @@ public class BrecherSavedData extends SavedData {
         PlayerExplorationStats stats = playerStats.get(playerId);
         if (stats != null) {
             stats.recordChunkUnload(chunkPos);
-            setDirty();
+            markPlayerStatsDirty(playerId);
         }
     }
     
@@ -476,7 +785,7 @@ public class BrecherSavedData extends SavedData {
      */
     public void grantManualUnlock(UUID player, ResourceLocation dimension) {
         manualUnlocks.computeIfAbsent(player, k -> ConcurrentHashMap.newKeySet()).add(dimension);
-        setDirty();
+        markDirty(Shard.PLAYERS);
         LOGGER.info("Granted manual unlock for dimension {} to player {}", dimension, player);
     }
 
@@ -489,7 +798,7 @@ public class BrecherSavedData extends SavedData {
     public boolean revokeManualUnlock(UUID player, ResourceLocation dimension) {
         Set<ResourceLocation> unlocks = manualUnlocks.get(player);
         if (unlocks != null && unlocks.remove(dimension)) {
-            setDirty();
+            markDirty(Shard.PLAYERS);
             LOGGER.info("Revoked manual unlock for dimension {} from player {}", dimension, player);
             return true;
         }
@@ -514,20 +823,199 @@ public class BrecherSavedData extends SavedData {
     public void setPregenTasks(Map<ResourceLocation, GenerationProgress> tasks) {
         pregenTasks.clear();
         pregenTasks.putAll(tasks);
-        setDirty();
+        markDirty(Shard.PREGEN);
     }
     
     public void addPregenTask(ResourceLocation dimension, GenerationProgress progress) {
         pregenTasks.put(dimension, progress);
-        setDirty();
+        markDirty(Shard.PREGEN);
     }
     
     public void removePregenTask(ResourceLocation dimension) {
         pregenTasks.remove(dimension);
-        setDirty();
+        markDirty(Shard.PREGEN);
     }
     
     public Optional<GenerationProgress> getPregenTask(ResourceLocation dimension) {
         return Optional.ofNullable(pregenTasks.get(dimension));
     }
-}
\ No newline at end of file
+
+    // level.dat cleanup
+
+    /**
+     * Deleted dimension folders whose level.dat entries still need removing
+     */
+    public Set<String> getPendingLevelDatRemovals() {
+        return new HashSet<>(pendingLevelDatRemovals);
+    }
+
+    public void addPendingLevelDatRemovals(Collection<String> names) {
+        if (pendingLevelDatRemovals.addAll(names)) {
+            markDirty(Shard.DIMENSIONS);
+        }
+    }
+
+    public void removePendingLevelDatRemovals(Collection<String> names) {
+        if (pendingLevelDatRemovals.removeAll(names)) {
+            markDirty(Shard.DIMENSIONS);
+        }
+    }
+
+    /**
+     * Radius of the last finished run in a dimension that left chunks below FULL, or 0 if none
+     */
+    public int getPartialRunRadius(ResourceLocation dimension) {
+        return partialRuns.getOrDefault(dimension, 0);
+    }
+
+    public void setPartialRunRadius(ResourceLocation dimension, int radius) {
+        partialRuns.put(dimension, radius);
+        markDirty(Shard.PREGEN);
+    }
+
+    public void clearPartialRun(ResourceLocation dimension) {
+        if (partialRuns.remove(dimension) != null) {
+            markDirty(Shard.PREGEN);
+        }
+    }
+
+    // Structure index management
+    public StructureIndex getOrCreateStructureIndex(ResourceLocation dimension) {
+        return structureIndexes.computeIfAbsent(dimension, k -> new StructureIndex());
+    }
+
+    public Optional<StructureIndex> getStructureIndex(ResourceLocation dimension) {
+        return Optional.ofNullable(structureIndexes.get(dimension));
+    }
+
+    /**
+     * Drop the structure indexes and partial run radii of dimensions that no longer exist (rotated away)
+     */
+    public void retainPregenData(Set<ResourceLocation> dimensions) {
+        boolean changed = structureIndexes.keySet().retainAll(dimensions);
+        changed |= partialRuns.keySet().retainAll(dimensions);
+        if (changed) {
+            markDirty(Shard.PREGEN);
+        }
+    }
+
+    // Retention and compaction
+
+    /**
+     * Every dimension that still has per-dimension history records
+     */
+    public Set<ResourceLocation> getHistoricalDimensions() {
+        Set<ResourceLocation> dimensions = new HashSet<>(dimensionMetadata.keySet());
+        dimensions.addAll(dimensionAccessHistory.keySet());
+        dimensions.addAll(dimensionResetTimes.keySet());
+        dimensions.addAll(activeDimensions);
+        dimensions.addAll(playerLastPositions.values());
+        return dimensions;
+    }
+
+    /**
+     * Drop the per-dimension records of a retired dimension, keeping only its
+     * contribution to the totals of its dimension type
+     * @param type dimension type the totals are kept under
+     * @return the number of records removed
+     */
+    public int archiveDimension(ResourceLocation dimension, String type) {
+        int removed = 0;
+        Set<UUID> visitors = dimensionAccessHistory.remove(dimension);
+        DimensionMetadata metadata = dimensionMetadata.remove(dimension);
+        if (visitors != null) {
+            removed++;
+        }
+        if (metadata != null) {
+            removed++;
+        }
+        if (dimensionResetTimes.remove(dimension) != null) {
+            removed++;
+        }
+        if (activeDimensions.remove(dimension)) {
+            removed++;
+        }
+        for (Iterator<ResourceLocation> it = playerLastPositions.values().iterator(); it.hasNext(); ) {
+            if (it.next().equals(dimension)) {
+                it.remove();
+                removed++;
+            }
+        }
+
+        long visits = metadata != null ? metadata.getTotalVisits() : 0;
+        long visitorCount = metadata != null ? metadata.getAccessedBy().size() : visitors != null ? visitors.size() : 0;
+        archivedHistory.merge(type, new long[] {1, visits, visitorCount},
+            (a, b) -> new long[] {a[0] + b[0], a[1] + b[1], a[2] + b[2]});
+
+        for (PlayerExplorationStats stats : playerStats.values()) {
+            if (stats.archiveVisits(dimension)) {
+                markPlayerStatsDirty(stats.getPlayerId());
+                removed++;
+            }
+        }
+
+        markDirty(Shard.DIMENSIONS);
+        markDirty(Shard.PLAYERS);
+        return removed;
+    }
+
+    /**
+     * Players with return positions, for incremental expiry checks
+     */
+    public List<UUID> getReturnPositionPlayers() {
+        return new ArrayList<>(playerReturnPositions.keySet());
+    }
+
+    /**
+     * Remove a player's return position if it has expired
+     */
+    public boolean removeReturnPositionIfExpired(UUID player) {
+        ReturnPosition pos = playerReturnPositions.get(player);
+        if (pos != null && pos.isExpired() && playerReturnPositions.remove(player, pos)) {
+            markDirty(Shard.PLAYERS);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Totals of retired dimensions per dimension type: {dimensions, visits, visitors}
+     */
+    public Map<String, long[]> getArchivedHistory() {
+        return new TreeMap<>(archivedHistory);
+    }
+
+    /**
+     * Record count and serialized size of every saved category, largest first
+     */
+    public List<DataCategory> getCategoryStats() {
+        List<DataCategory> categories = new ArrayList<>();
+        for (CompoundTag shard : List.of(saveDimensions(new CompoundTag()), savePlayers(new CompoundTag()),
+                savePregen(new CompoundTag()))) {
+            for (String key : shard.getAllKeys()) {
+                Tag value = shard.get(key);
+                int records = value instanceof CompoundTag compound ? compound.size()
+                    : value instanceof CollectionTag<?> list ? list.size() : 1;
+                categories.add(new DataCategory(key, records, serializedSize(value)));
+            }
+        }
+
+        long statsBytes = 0;
+        for (PlayerExplorationStats stats : playerStats.values()) {
+            statsBytes += serializedSize(stats.toNBT());
+        }
+        categories.add(new DataCategory("playerStats", playerStats.size(), statsBytes));
+
+        categories.sort(Comparator.comparingLong(DataCategory::bytes).reversed());
+        return categories;
+    }
+
+    private static long serializedSize(Tag tag) {
+        try (DataOutputStream out = new DataOutputStream(OutputStream.nullOutputStream())) {
+            tag.write(out);
+            return out.size();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.data;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.Level;
+import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.dimension.DimensionRegistrar;
+import org.slf4j.Logger;
+
+import java.util.*;
+
+/**
+ * Condenses the history of exploration dimensions that were rotated away.
+ *
+ * <p>Every few minutes a pass collects the retired dimensions that are more than
+ * history_retention_rotations ids behind the current dimension of their type, plus all
+ * players with return positions. The pass then drains a few entries per tick. A
+ * retired dimension's access history, metadata, reset time, last positions and visit
+ * counts are dropped and its visits are added to the totals of its dimension type.
+ * Expired return positions are removed.
+ */
+public class DataRetention {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final int PASS_INTERVAL_TICKS = 6000;
+    private static final int DIMENSIONS_PER_TICK = 4;
+    private static final int RETURN_POSITIONS_PER_TICK = 64;
+
+    private static final Deque<ResourceLocation> pendingDimensions = new ArrayDeque<>();
+    private static final Deque<UUID> pendingReturnPositions = new ArrayDeque<>();
+    private static int ticksUntilPass = PASS_INTERVAL_TICKS;
+    private static int archivedThisPass = 0;
+    private static int recordsThisPass = 0;
+    private static int expiredThisPass = 0;
+
+    /**
+     * Advance compaction (called every server tick)
+     */
+    public static void tick(MinecraftServer server) {
+        if (pendingDimensions.isEmpty() && pendingReturnPositions.isEmpty()) {
+            if (--ticksUntilPass > 0) {
+                return;
+            }
+            ticksUntilPass = PASS_INTERVAL_TICKS;
+            startPass(server);
+            return;
+        }
+
+        BrecherSavedData data = BrecherSavedData.get(server);
+        for (int i = 0; i < DIMENSIONS_PER_TICK && !pendingDimensions.isEmpty(); i++) {
+            ResourceLocation dimension = pendingDimensions.poll();
+            recordsThisPass += data.archiveDimension(dimension, getDimensionType(dimension));
+            archivedThisPass++;
+        }
+        for (int i = 0; i < RETURN_POSITIONS_PER_TICK && !pendingReturnPositions.isEmpty(); i++) {
+            if (data.removeReturnPositionIfExpired(pendingReturnPositions.poll())) {
+                expiredThisPass++;
+            }
+        }
+
+        if (pendingDimensions.isEmpty() && pendingReturnPositions.isEmpty()
+            && (archivedThisPass > 0 || expiredThisPass > 0)) {
+            LOGGER.info("Data retention condensed {} retired dimensions ({} records) and removed {} expired return positions",
+                archivedThisPass, recordsThisPass, expiredThisPass);
+        }
+    }
+
+    /**
+     * Start a pass on the next tick instead of waiting for the interval
+     */
+    public static void requestPass() {
+        ticksUntilPass = 1;
+    }
+
+    /**
+     * Entries still queued by the current pass
+     */
+    public static int getPendingCount() {
+        return pendingDimensions.size() + pendingReturnPositions.size();
+    }
+
+    public static void shutdown() {
+        pendingDimensions.clear();
+        pendingReturnPositions.clear();
+        ticksUntilPass = PASS_INTERVAL_TICKS;
+    }
+
+    private static void startPass(MinecraftServer server) {
+        archivedThisPass = 0;
+        recordsThisPass = 0;
+        expiredThisPass = 0;
+        BrecherSavedData data = BrecherSavedData.get(server);
+        pendingReturnPositions.addAll(data.getReturnPositionPlayers());
+
+        int keepRotations = BrecherConfig.getHistoryRetentionRotations();
+        if (keepRotations <= 0) {
+            return;
+        }
+
+        // Current id per dimension type; ids only ever grow, so older ids are retired
+        Map<String, Long> currentIds = new HashMap<>();
+        Set<ResourceLocation> loaded = new HashSet<>();
+        for (ResourceKey<Level> key : DimensionRegistrar.getInstance().getRuntimeDimensions().keySet()) {
+            loaded.add(key.location());
+            long id = getDimensionId(key.location());
+            if (id >= 0) {
+                currentIds.merge(getDimensionType(key.location()), id, Math::max);
+            }
+        }
+
+        for (ResourceLocation dimension : data.getHistoricalDimensions()) {
+            long id = getDimensionId(dimension);
+            if (id < 0 || loaded.contains(dimension)) {
+                continue;
+            }
+            // A type with no loaded dimension was disabled; its history can't grow any more
+            long current = currentIds.getOrDefault(getDimensionType(dimension), Long.MAX_VALUE);
+            if (current - id > keepRotations) {
+                pendingDimensions.add(dimension);
+            }
+        }
+
+        if (!pendingDimensions.isEmpty()) {
+            LOGGER.debug("Data retention pass queued {} retired dimensions and {} return positions",
+                pendingDimensions.size(), pendingReturnPositions.size());
+        }
+    }
+
+    /**
+     * Dimension type of an exploration dimension: its name without the numeric id
+     */
+    static String getDimensionType(ResourceLocation dimension) {
+        String path = dimension.getPath();
+        int split = path.lastIndexOf('_');
+        return dimension.getNamespace() + ":" + (split > 0 ? path.substring(0, split) : path);
+    }
+
+    /**
+     * Numeric id of an exploration dimension like exploration_overworld_5, or -1
+     */
+    private static long getDimensionId(ResourceLocation dimension) {
+        String path = dimension.getPath();
+        if (!dimension.getNamespace().equals("brecher_dim") || !path.startsWith("exploration_")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(path.substring(path.lastIndexOf('_') + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
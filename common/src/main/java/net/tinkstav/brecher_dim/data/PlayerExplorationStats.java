@@ -18,6 +18,8 @@ public class PlayerExplorationStats {
     private final Set<ChunkPos> loadedChunks = new HashSet<>();
     private long totalExplorationTime = 0;
     private long lastVisitStart = 0;
+    // Visits to dimensions whose per-dimension counts were condensed by retention
+    private int archivedVisits = 0;
     
     public PlayerExplorationStats(UUID playerId) {
         this.playerId = playerId;
@@ -36,6 +38,19 @@ public class PlayerExplorationStats {
         loadedChunks.remove(pos);
     }
     
+    /**
+     * Fold the visit count of a retired dimension into the archived total
+     * @return true if the player had visited it
+     */
+    public boolean archiveVisits(ResourceLocation dimension) {
+        Integer count = dimensionVisits.remove(dimension);
+        if (count == null) {
+            return false;
+        }
+        archivedVisits += count;
+        return true;
+    }
+    
     public void endVisit() {
         if (lastVisitStart > 0) {
             totalExplorationTime += (System.currentTimeMillis() - lastVisitStart);
@@ -51,6 +66,10 @@ public class PlayerExplorationStats {
         return new HashMap<>(dimensionVisits);
     }
     
+    public int getArchivedVisits() {
+        return archivedVisits;
+    }
+    
     public int getLoadedChunkCount() {
         return loadedChunks.size();
     }
@@ -64,6 +83,7 @@ public class PlayerExplorationStats {
         tag.putUUID("playerId", playerId);
         tag.putLong("totalExplorationTime", totalExplorationTime);
         tag.putLong("lastVisitStart", lastVisitStart);
+        tag.putInt("archivedVisits", archivedVisits);
         
         ListTag visitsList = new ListTag();
         dimensionVisits.forEach((dim, count) -> {
@@ -84,6 +104,7 @@ public class PlayerExplorationStats {
         PlayerExplorationStats stats = new PlayerExplorationStats(tag.getUUID("playerId"));
         stats.totalExplorationTime = tag.getLong("totalExplorationTime");
         stats.lastVisitStart = tag.getLong("lastVisitStart");
+        stats.archivedVisits = tag.getInt("archivedVisits");
         
         ListTag visitsList = tag.getList("dimensionVisits", Tag.TAG_COMPOUND);
         for (int i = 0; i < visitsList.size(); i++) {
@@ -0,0 +1,130 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.data;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.Util;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Writes NBT snapshots to disk off the server thread.
+ *
+ * <p>Callers snapshot their state into a tag on their own thread; compression and the
+ * file write run on the IO pool. Each file is written to a temporary sibling and moved
+ * into place, so a crash leaves either the old or the new contents. Operations on the
+ * same file are chained so they land in submission order.
+ *
+ * <p>Once {@link #flush()} has run during shutdown, writes happen synchronously so the
+ * final world save is on disk before the server exits.
+ */
+public class SavedDataWriter {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final long FLUSH_TIMEOUT_SECONDS = 30;
+
+    private static final Map<Path, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+    private static volatile boolean synchronous = false;
+
+    /**
+     * Write a snapshot to a file; the future fails if the write does
+     */
+    public static CompletableFuture<Void> write(Path path, CompoundTag snapshot) {
+        return submit(path, () -> writeNow(path, snapshot));
+    }
+
+    /**
+     * Delete a file after any pending writes to it
+     */
+    public static CompletableFuture<Void> delete(Path path) {
+        return submit(path, () -> {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                LOGGER.error("Failed to delete {}", path, e);
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static CompletableFuture<Void> submit(Path path, Runnable operation) {
+        if (synchronous) {
+            try {
+                operation.run();
+                return CompletableFuture.completedFuture(null);
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        CompletableFuture<Void> future = pending.compute(path, (key, previous) ->
+            (previous == null ? CompletableFuture.<Void>completedFuture(null) : previous.exceptionally(error -> null))
+                .thenRunAsync(operation, Util.ioPool()));
+        future.whenComplete((result, error) -> pending.remove(path, future));
+        return future;
+    }
+
+    private static void writeNow(Path path, CompoundTag snapshot) {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(path.getParent());
+            NbtIo.writeCompressed(snapshot, temp);
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to write {}", path, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Number of files with writes in flight
+     */
+    public static int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Wait for in-flight writes and write synchronously from now on (called on server shutdown)
+     */
+    public static void flush() {
+        synchronous = true;
+        CompletableFuture<?>[] inFlight = pending.values().toArray(CompletableFuture[]::new);
+        if (inFlight.length == 0) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(inFlight).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.error("Timed out waiting for {} data writes to finish", pending.size());
+        } catch (Exception e) {
+            // Individual failures were already logged by the write
+            LOGGER.debug("Data writes finished with errors: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Go back to asynchronous writes (called on server start)
+     */
+    public static void reset() {
+        synchronous = false;
+    }
+}
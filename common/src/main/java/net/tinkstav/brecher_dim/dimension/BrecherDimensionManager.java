@@ -5,6 +5,7 @@
 
 package net.tinkstav.brecher_dim.dimension;
 
+import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
@@ -14,10 +15,11 @@ import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.level.Level;
 import net.minecraft.core.registries.Registries;
 import net.tinkstav.brecher_dim.BrecherDimensions;
-import net.tinkstav.brecher_dim.network.BrecherNetworking;
+import net.tinkstav.brecher_dim.network.DimensionSyncTracker;
 import net.tinkstav.brecher_dim.teleport.TeleportHandler;
 import net.tinkstav.brecher_dim.performance.ChunkManager;
 import net.tinkstav.brecher_dim.performance.MemoryMonitor;
+import net.tinkstav.brecher_dim.performance.DimensionTickMonitor;
 import net.tinkstav.brecher_dim.util.DimensionUtils;
 import com.mojang.logging.LogUtils;
 import org.slf4j.Logger;
@@ -73,8 +75,8 @@ public class BrecherDimensionManager {
                     EndGatewayGenerator.generateEndGateways(level);
                 }
                 
-                // Notify clients
-                BrecherNetworking.sendDimensionSyncToAll(explorationKey.location(), true);
+                // Notify clients through the registry epoch, in order with its other changes
+                DimensionSyncTracker.syncToAll(server);
             }
         }
         
@@ -137,52 +139,60 @@ public class BrecherDimensionManager {
     
     /**
      * Evacuate all players from exploration dimensions
-     * Called when server is stopping
+     * Called when server is stopping, so the work runs synchronously
      */
     public void evacuateAllPlayers() {
         LOGGER.info("Evacuating all players from exploration dimensions");
-        
-        List<ServerPlayer> playersToEvacuate = getPlayersInExplorationDimensions();
-        
-        for (ServerPlayer player : playersToEvacuate) {
+        EvacuationCoordinator.runToCompletion(server, getPlayersInExplorationDimensions());
+    }
+    
+    /**
+     * Start a tick-spread evacuation of all players in exploration dimensions
+     * @param source optional command source to receive progress reports
+     * @return the number of players queued
+     */
+    public int startEvacuation(CommandSourceStack source) {
+        return EvacuationCoordinator.start(server, getPlayersInExplorationDimensions(), source);
+    }
+    
+    /**
+     * Return a single player from an exploration dimension, falling back to
+     * progressively simpler teleports if the normal return fails
+     */
+    public void evacuatePlayer(ServerPlayer player) {
+        try {
+            TeleportHandler.returnFromExploration(player);
+            LOGGER.debug("Evacuated player {} from exploration dimension", player.getName().getString());
+        } catch (Exception e) {
+            LOGGER.error("Failed to evacuate player {}", player.getName().getString(), e);
+            // Force safe teleport to spawn as fallback
             try {
-                TeleportHandler.returnFromExploration(player);
-                LOGGER.info("Evacuated player {} from exploration dimension", player.getName().getString());
-            } catch (Exception e) {
-                LOGGER.error("Failed to evacuate player {}", player.getName().getString(), e);
-                // Force safe teleport to spawn as fallback
-                try {
-                    TeleportHandler.forceReturnToSpawn(player);
-                } catch (Exception fallbackException) {
-                    LOGGER.error("Failed to use safe fallback teleport for player {}", player.getName().getString(), fallbackException);
-                    // Ultimate fallback - teleport to world spawn with basic safety
-                    ServerLevel overworld = server.overworld();
-                    BlockPos spawnPos = player.getRespawnPosition();
-                    if (spawnPos == null) {
-                        spawnPos = overworld.getSharedSpawnPos();
-                    }
-                    // At least try to find safe Y position
-                    while (spawnPos.getY() > overworld.getMinBuildHeight() && !overworld.getBlockState(spawnPos.below()).isSolid()) {
-                        spawnPos = spawnPos.below();
-                    }
-                    while (spawnPos.getY() < overworld.getMaxBuildHeight() && overworld.getBlockState(spawnPos).isSolid()) {
-                        spawnPos = spawnPos.above();
-                    }
-                    player.teleportTo(overworld, 
-                        spawnPos.getX() + 0.5, 
-                        spawnPos.getY(), 
-                        spawnPos.getZ() + 0.5, 
-                        0, 0);
-                    // Add safety effects
-                    player.addEffect(new net.minecraft.world.effect.MobEffectInstance(
-                        net.minecraft.world.effect.MobEffects.DAMAGE_RESISTANCE, 100, 4));
-                    player.addEffect(new net.minecraft.world.effect.MobEffectInstance(
-                        net.minecraft.world.effect.MobEffects.SLOW_FALLING, 200, 0));
+                TeleportHandler.forceReturnToSpawn(player);
+            } catch (Exception fallbackException) {
+                LOGGER.error("Failed to use safe fallback teleport for player {}", player.getName().getString(), fallbackException);
+                // Ultimate fallback - teleport to the respawn point or world spawn with basic safety
+                TeleportHandler.SpawnTarget spawn = TeleportHandler.resolveSpawnTarget(player);
+                ServerLevel spawnLevel = spawn.level();
+                BlockPos spawnPos = spawn.pos();
+                // At least try to find safe Y position
+                while (spawnPos.getY() > spawnLevel.getMinBuildHeight() && !spawnLevel.getBlockState(spawnPos.below()).isSolid()) {
+                    spawnPos = spawnPos.below();
+                }
+                while (spawnPos.getY() < spawnLevel.getMaxBuildHeight() && spawnLevel.getBlockState(spawnPos).isSolid()) {
+                    spawnPos = spawnPos.above();
                 }
+                player.teleportTo(spawnLevel, 
+                    spawnPos.getX() + 0.5, 
+                    spawnPos.getY(), 
+                    spawnPos.getZ() + 0.5, 
+                    0, 0);
+                // Add safety effects
+                player.addEffect(new net.minecraft.world.effect.MobEffectInstance(
+                    net.minecraft.world.effect.MobEffects.DAMAGE_RESISTANCE, 100, 4));
+                player.addEffect(new net.minecraft.world.effect.MobEffectInstance(
+                    net.minecraft.world.effect.MobEffects.SLOW_FALLING, 200, 0));
             }
         }
-        
-        LOGGER.info("Evacuated {} players from exploration dimensions", playersToEvacuate.size());
     }
     
     /**
@@ -213,13 +223,19 @@ public class BrecherDimensionManager {
         
         // Per-dimension stats
         Map<String, Integer> perDimStats = new HashMap<>();
+        Map<String, DimensionTickMonitor.TickReport> perDimTicks = new HashMap<>();
         for (ResourceKey<Level> explorationKey : dimensionMappings.values()) {
             ServerLevel level = server.getLevel(explorationKey);
             if (level != null) {
                 perDimStats.put(explorationKey.location().toString(), level.players().size());
+                DimensionTickMonitor.TickReport tickReport = DimensionTickMonitor.getReport(explorationKey);
+                if (tickReport != null) {
+                    perDimTicks.put(explorationKey.location().toString(), tickReport);
+                }
             }
         }
         stats.put("perDimensionPlayers", perDimStats);
+        stats.put("perDimensionTicks", perDimTicks);
         
         return stats;
     }
@@ -12,9 +12,18 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.dimension.LevelStem;
 import net.tinkstav.brecher_dim.BrecherDimensions;
+import net.tinkstav.brecher_dim.accessor.IRegistryAccessor;
 import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.config.DimensionConfig;
+import net.tinkstav.brecher_dim.data.BrecherSavedData;
 import net.tinkstav.brecher_dim.generation.ChunkPreGenerator;
+import net.tinkstav.brecher_dim.generation.HeadlessPregen;
+import net.tinkstav.brecher_dim.network.DimensionSyncTracker;
+import net.tinkstav.brecher_dim.performance.ChunkManager;
+import net.tinkstav.brecher_dim.performance.ExplorationChunkCache;
 import org.slf4j.Logger;
 
 import java.util.*;
@@ -58,51 +67,82 @@ public class DimensionRegistrar {
         
         List<String> enabledDimensions = BrecherConfig.getEnabledDimensions();
         
-        for (String baseDimStr : enabledDimensions) {
-            try {
-                ResourceLocation baseDim = ResourceLocation.parse(baseDimStr);
-                if (baseDim == null) {
-                    LOGGER.error("Invalid dimension name in config: {}", baseDimStr);
-                    continue;
-                }
-                
-                // Generate seed for this dimension
-                long seed = SimpleSeedManager.generateDailySeed(baseDim);
-                
-                // Create the exploration dimension
-                ServerLevel explorationLevel = DynamicDimensionFactory.createExplorationDimension(
-                    server, baseDim, seed
-                );
-                
-                if (explorationLevel != null) {
-                    ResourceKey<Level> explorationKey = explorationLevel.dimension();
-                    ResourceKey<Level> baseKey = ResourceKey.create(Registries.DIMENSION, baseDim);
+        // Queue level stem registrations so the registry is unfrozen once for all dimensions
+        IRegistryAccessor<LevelStem> stemAccessor = null;
+        if (server.registryAccess().registryOrThrow(Registries.LEVEL_STEM) instanceof IRegistryAccessor<?> accessor) {
+            @SuppressWarnings("unchecked")
+            IRegistryAccessor<LevelStem> typed = (IRegistryAccessor<LevelStem>) accessor;
+            stemAccessor = typed;
+            stemAccessor.brecher_dim$beginRuntimeBatch();
+        }
+        
+        try {
+            for (String baseDimStr : enabledDimensions) {
+                try {
+                    ResourceLocation baseDim = ResourceLocation.parse(baseDimStr);
+                    if (baseDim == null) {
+                        LOGGER.error("Invalid dimension name in config: {}", baseDimStr);
+                        continue;
+                    }
                     
-                    // Check if we actually got a different dimension
-                    if (!explorationKey.equals(baseKey)) {
-                        // Track the dimension
-                        runtimeDimensions.put(explorationKey, explorationLevel);
-                        dimensionMappings.put(baseDim, explorationKey);
-                        dimensionSeeds.put(explorationKey, seed);
-                        
-                        LOGGER.info("Successfully created exploration dimension {} with seed {}", 
-                            explorationKey.location(), seed);
+                    // Generate seed for this dimension, unless it was fixed by a headless pregen run
+                    long seed = HeadlessPregen.resolveSeed(server, baseDim)
+                        .orElseGet(() -> SimpleSeedManager.generateDailySeed(baseDim));
+                    
+                    // Create the exploration dimension
+                    ServerLevel explorationLevel = DynamicDimensionFactory.createExplorationDimension(
+                        server, baseDim, seed
+                    );
+                    
+                    if (explorationLevel != null) {
+                        ResourceKey<Level> explorationKey = explorationLevel.dimension();
+                        ResourceKey<Level> baseKey = ResourceKey.create(Registries.DIMENSION, baseDim);
                         
+                        // Check if we actually got a different dimension
+                        if (!explorationKey.equals(baseKey)) {
+                            // Track the dimension
+                            runtimeDimensions.put(explorationKey, explorationLevel);
+                            dimensionMappings.put(baseDim, explorationKey);
+                            dimensionSeeds.put(explorationKey, seed);
+                            DimensionConfig dimensionConfig = BrecherConfig.forDimension(explorationKey.location());
+                            applyBorder(explorationLevel, dimensionConfig);
+                            ChunkPreGenerator.startSpawnGeneration(explorationLevel, seed);
+                            explorationLevel.getWorldBorder().addListener(DimensionSyncTracker.BORDER_LISTENER);
+                            
+                            LOGGER.info("Successfully created exploration dimension {} with seed {}", 
+                                explorationKey.location(), seed);
+                            
+                        } else {
+                            LOGGER.warn("Exploration dimension creation returned base dimension for {}. " +
+                                "This may be due to platform limitations.", baseDim);
+                        }
                     } else {
-                        LOGGER.warn("Exploration dimension creation returned base dimension for {}. " +
-                            "This may be due to platform limitations.", baseDim);
+                        LOGGER.error("Failed to create exploration dimension for {}", baseDim);
                     }
-                } else {
-                    LOGGER.error("Failed to create exploration dimension for {}", baseDim);
+                    
+                } catch (Exception e) {
+                    LOGGER.error("Error creating exploration dimension for: {}", baseDimStr, e);
                 }
-                
-            } catch (Exception e) {
-                LOGGER.error("Error creating exploration dimension for: {}", baseDimStr, e);
+            }
+        } finally {
+            if (stemAccessor != null) {
+                int registered = stemAccessor.brecher_dim$endRuntimeBatch();
+                LOGGER.debug("Registered {} level stems in one batch", registered);
             }
         }
         
         LOGGER.info("Finished creating {} exploration dimensions", runtimeDimensions.size());
         
+        // Pregen data of rotated-away dimensions describes worlds that no longer exist
+        Set<ResourceLocation> current = new HashSet<>();
+        runtimeDimensions.keySet().forEach(key -> current.add(key.location()));
+        BrecherSavedData.get(server).retainPregenData(current);
+        
+        // A headless pregen run drives generation itself once the server has started
+        if (HeadlessPregen.isActive()) {
+            return;
+        }
+        
         // Resume saved pre-generation tasks
         ChunkPreGenerator.resumeSavedTasks(server);
         
@@ -117,6 +157,19 @@ public class DimensionRegistrar {
         }
     }
     
+    /**
+     * Give a new exploration dimension its configured border size. With -1 it keeps the
+     * border it inherits from the overworld and follows later overworld changes; a
+     * configured size is not mirrored from the overworld (see MixinMinecraftServer).
+     */
+    private void applyBorder(ServerLevel level, DimensionConfig dimensionConfig) {
+        int size = dimensionConfig.explorationBorder();
+        if (size > 0) {
+            level.getWorldBorder().setSize(Math.min(size, WorldBorder.MAX_SIZE));
+            LOGGER.debug("Set border of {} to {} blocks", level.dimension().location(), size);
+        }
+    }
+    
     /**
      * Gets all runtime dimensions created by this mod
      * @return Map of exploration dimension keys to their ServerLevels
@@ -202,9 +255,14 @@ public class DimensionRegistrar {
      * Called when server is stopping
      */
     public void clearRuntimeDimensions() {
+        runtimeDimensions.keySet().forEach(dimensionKey -> {
+            ChunkManager.clearDimensionData(dimensionKey.location());
+            ExplorationChunkCache.clearDimension(dimensionKey);
+        });
         runtimeDimensions.clear();
         dimensionMappings.clear();
         dimensionSeeds.clear();
+        BrecherConfig.clearDimensions();
         LOGGER.info("Cleared runtime dimension tracking");
     }
     
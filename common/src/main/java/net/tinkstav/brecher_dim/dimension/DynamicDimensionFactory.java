@@ -22,6 +22,9 @@ import net.minecraft.world.level.biome.TheEndBiomeSource;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.core.Holder;
 import net.tinkstav.brecher_dim.BrecherDimensions;
+import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.performance.ChunkManager;
+import net.tinkstav.brecher_dim.performance.ExplorationChunkCache;
 import net.tinkstav.brecher_dim.platform.Services;
 import net.tinkstav.brecher_dim.util.DimensionCounterUtil;
 import org.slf4j.Logger;
@@ -99,6 +102,8 @@ public class DynamicDimensionFactory {
             // This ensures structure generation uses the correct seed
             ExplorationSeedManager.registerDimensionSeed(explorationKey, seed);
             ExplorationSeedManager.setCurrentDimension(explorationKey);
+            // Resolve its settings now so level creation sees the per-dimension overrides
+            BrecherConfig.registerDimension(explorationKey.location(), baseDimensionLocation);
             
             try {
                 // Create appropriate chunk generator based on dimension type
@@ -207,6 +212,8 @@ public class DynamicDimensionFactory {
      */
     public static void removeExplorationDimension(MinecraftServer server, ResourceKey<Level> dimensionKey) {
         Services.DIMENSIONS.removeDimension(server, dimensionKey);
+        ChunkManager.clearDimensionData(dimensionKey.location());
+        ExplorationChunkCache.clearDimension(dimensionKey);
         LOGGER.info("Removed runtime dimension: {}", dimensionKey.location());
     }
 }
\ No newline at end of file
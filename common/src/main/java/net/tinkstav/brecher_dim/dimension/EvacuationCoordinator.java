@@ -0,0 +1,280 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.dimension;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.tinkstav.brecher_dim.BrecherDimensions;
+import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.data.BrecherSavedData;
+import net.tinkstav.brecher_dim.teleport.TeleportHandler;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.*;
+
+/**
+ * Moves players out of exploration dimensions without a single-tick spike.
+ *
+ * <p>Players are grouped by the chunk they will land in. Each destination chunk is
+ * loaded once through a short-lived ticket, then players are moved a few per tick
+ * (see evacuationPlayersPerTick), group by group, so the landing chunks are already
+ * resident when the teleport runs.
+ *
+ * <p>{@link #runToCompletion} does the same work synchronously for server shutdown,
+ * when no further ticks will run.
+ */
+public class EvacuationCoordinator {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    // Tickets expire on their own, so a stalled evacuation never pins chunks
+    private static final int TICKET_LIFETIME_TICKS = 200;
+    private static final TicketType<ChunkPos> EVACUATION_TICKET =
+        TicketType.create("brecher_evacuation", Comparator.comparingLong(ChunkPos::toLong), TICKET_LIFETIME_TICKS);
+
+    // Give up waiting for destination chunks after this many ticks and move players anyway
+    private static final int PRELOAD_TIMEOUT_TICKS = 100;
+    private static final int PROGRESS_INTERVAL_TICKS = 20;
+
+    private static Evacuation active = null;
+
+    /**
+     * Where a player will land
+     */
+    private record Destination(ResourceKey<Level> dimension, ChunkPos chunk) {}
+
+    /**
+     * State of a running evacuation
+     */
+    private static class Evacuation {
+        final Map<Destination, List<ServerPlayer>> groups = new LinkedHashMap<>();
+        final Set<UUID> queued = new HashSet<>();
+        final Deque<ServerPlayer> moveQueue = new ArrayDeque<>();
+        final List<CommandSourceStack> listeners = new ArrayList<>();
+        final long startNanos = System.nanoTime();
+        int total = 0;
+        int moved = 0;
+        int skipped = 0;
+        int preloadTicks = 0;
+        int ticksSinceProgress = 0;
+        boolean preloading = true;
+    }
+
+    /**
+     * Queue players for evacuation. If an evacuation is already running the
+     * players are added to it.
+     * @param source optional command source to receive progress reports
+     * @return the number of players newly queued
+     */
+    public static int start(MinecraftServer server, Collection<ServerPlayer> players, @Nullable CommandSourceStack source) {
+        if (active == null) {
+            active = new Evacuation();
+        }
+        Evacuation evacuation = active;
+        if (source != null) {
+            evacuation.listeners.add(source);
+        }
+
+        int added = 0;
+        List<Destination> newDestinations = new ArrayList<>();
+        for (ServerPlayer player : players) {
+            if (!evacuation.queued.add(player.getUUID())) {
+                continue;
+            }
+            Destination destination = resolveDestination(server, player);
+            List<ServerPlayer> group = evacuation.groups.get(destination);
+            if (group == null) {
+                group = new ArrayList<>();
+                evacuation.groups.put(destination, group);
+                newDestinations.add(destination);
+            }
+            group.add(player);
+            added++;
+        }
+        evacuation.total += added;
+
+        for (Destination destination : newDestinations) {
+            ServerLevel level = server.getLevel(destination.dimension());
+            if (level != null) {
+                level.getChunkSource().addRegionTicket(EVACUATION_TICKET, destination.chunk(), 1, destination.chunk());
+            }
+        }
+
+        if (!evacuation.preloading) {
+            // Already moving players; new groups go to the back of the queue
+            for (Destination destination : newDestinations) {
+                evacuation.moveQueue.addAll(evacuation.groups.get(destination));
+            }
+        }
+
+        LOGGER.info("Queued {} players for evacuation across {} destination chunks", added, newDestinations.size());
+        if (evacuation.total == 0) {
+            finish(evacuation);
+        }
+        return added;
+    }
+
+    /**
+     * Advance the running evacuation (called every server tick)
+     */
+    public static void tick(MinecraftServer server) {
+        Evacuation evacuation = active;
+        if (evacuation == null) {
+            return;
+        }
+
+        if (evacuation.preloading) {
+            evacuation.preloadTicks++;
+            boolean ready = allDestinationsLoaded(server, evacuation);
+            if (!ready && evacuation.preloadTicks < PRELOAD_TIMEOUT_TICKS) {
+                return;
+            }
+            if (!ready) {
+                LOGGER.warn("Evacuation destination chunks not loaded after {} ticks, moving players anyway",
+                    evacuation.preloadTicks);
+            }
+            LOGGER.debug("Evacuation destinations ready after {} ticks", evacuation.preloadTicks);
+            evacuation.preloading = false;
+            for (List<ServerPlayer> group : evacuation.groups.values()) {
+                evacuation.moveQueue.addAll(group);
+            }
+        }
+
+        int budget = BrecherConfig.getEvacuationPlayersPerTick();
+        while (budget > 0 && !evacuation.moveQueue.isEmpty()) {
+            if (moveNext(evacuation)) {
+                budget--;
+            }
+        }
+
+        if (evacuation.moveQueue.isEmpty()) {
+            finish(evacuation);
+        } else if (++evacuation.ticksSinceProgress >= PROGRESS_INTERVAL_TICKS) {
+            evacuation.ticksSinceProgress = 0;
+            reportProgress(evacuation);
+        }
+    }
+
+    /**
+     * Evacuate players immediately, finishing any running evacuation first.
+     * Used on server shutdown when no further ticks will run.
+     */
+    public static void runToCompletion(MinecraftServer server, Collection<ServerPlayer> players) {
+        start(server, players, null);
+        Evacuation evacuation = active;
+        if (evacuation == null) {
+            return;
+        }
+
+        if (evacuation.preloading) {
+            // Each destination chunk is loaded once, no matter how many players land in it
+            for (Destination destination : evacuation.groups.keySet()) {
+                ServerLevel level = server.getLevel(destination.dimension());
+                if (level != null) {
+                    level.getChunk(destination.chunk().x, destination.chunk().z);
+                }
+            }
+            evacuation.preloading = false;
+            for (List<ServerPlayer> group : evacuation.groups.values()) {
+                evacuation.moveQueue.addAll(group);
+            }
+        }
+
+        while (!evacuation.moveQueue.isEmpty()) {
+            moveNext(evacuation);
+        }
+        finish(evacuation);
+    }
+
+    /**
+     * Check if an evacuation is running
+     */
+    public static boolean isActive() {
+        return active != null;
+    }
+
+    /**
+     * Drop any running evacuation (called on server shutdown)
+     */
+    public static void shutdown() {
+        active = null;
+    }
+
+    /**
+     * Move the next queued player.
+     * @return true if a teleport was attempted, false if the player was skipped
+     */
+    private static boolean moveNext(Evacuation evacuation) {
+        ServerPlayer player = evacuation.moveQueue.poll();
+        BrecherDimensionManager manager = BrecherDimensions.getDimensionManager();
+
+        // Players may have left the dimension or disconnected while queued
+        if (player == null || manager == null || player.hasDisconnected()
+            || !manager.isExplorationDimension(player.level().dimension().location())) {
+            evacuation.skipped++;
+            return false;
+        }
+
+        manager.evacuatePlayer(player);
+        evacuation.moved++;
+        return true;
+    }
+
+    private static boolean allDestinationsLoaded(MinecraftServer server, Evacuation evacuation) {
+        for (Destination destination : evacuation.groups.keySet()) {
+            ServerLevel level = server.getLevel(destination.dimension());
+            if (level != null && level.getChunkSource().getChunkNow(destination.chunk().x, destination.chunk().z) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Destination resolveDestination(MinecraftServer server, ServerPlayer player) {
+        BrecherSavedData data = BrecherSavedData.get(server);
+        return data.getReturnPosition(player.getUUID())
+            .filter(returnPos -> server.getLevel(ResourceKey.create(Registries.DIMENSION, returnPos.dimension())) != null)
+            .map(returnPos -> new Destination(
+                ResourceKey.create(Registries.DIMENSION, returnPos.dimension()), new ChunkPos(returnPos.pos())))
+            .orElseGet(() -> {
+                // Same respawn point the return teleport falls back to
+                TeleportHandler.SpawnTarget spawn = TeleportHandler.resolveSpawnTarget(player);
+                return new Destination(spawn.level().dimension(), new ChunkPos(spawn.pos()));
+            });
+    }
+
+    private static void reportProgress(Evacuation evacuation) {
+        int done = evacuation.moved + evacuation.skipped;
+        LOGGER.debug("Evacuation progress: {}/{} players", done, evacuation.total);
+        for (CommandSourceStack source : evacuation.listeners) {
+            source.sendSuccess(() -> Component.literal("Evacuation: " + done + "/" + evacuation.total + " players moved")
+                .withStyle(ChatFormatting.GRAY), false);
+        }
+    }
+
+    private static void finish(Evacuation evacuation) {
+        long elapsedMs = (System.nanoTime() - evacuation.startNanos) / 1_000_000;
+        LOGGER.info("Evacuated {} players from exploration dimensions in {} ms ({} skipped, {} destination chunks)",
+            evacuation.moved, elapsedMs, evacuation.skipped, evacuation.groups.size());
+        for (CommandSourceStack source : evacuation.listeners) {
+            source.sendSuccess(() -> Component.literal("Returned " + evacuation.moved + " players to their home dimensions in "
+                + elapsedMs + " ms").withStyle(ChatFormatting.GREEN), true);
+        }
+        if (active == evacuation) {
+            active = null;
+        }
+    }
+}
@@ -21,13 +21,19 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.tinkstav.brecher_dim.BrecherDimensions;
 import net.tinkstav.brecher_dim.config.BrecherConfig;
 import net.tinkstav.brecher_dim.data.BrecherSavedData;
+import net.tinkstav.brecher_dim.data.DataRetention;
 import net.tinkstav.brecher_dim.dimension.BrecherDimensionManager;
+import net.tinkstav.brecher_dim.dimension.EvacuationCoordinator;
+import net.tinkstav.brecher_dim.network.DimensionSyncTracker;
+import net.tinkstav.brecher_dim.network.OutboundCoalescer;
 import net.tinkstav.brecher_dim.performance.ChunkManager;
+import net.tinkstav.brecher_dim.teleport.TeleportAdmission;
 import net.tinkstav.brecher_dim.teleport.TeleportHandler;
 import net.tinkstav.brecher_dim.util.InventoryKeeper;
 import net.tinkstav.brecher_dim.compat.CorpseModCompat;
 import net.tinkstav.brecher_dim.dimension.SimpleSeedManager;
 import net.tinkstav.brecher_dim.generation.ChunkPreGenerator;
+import net.tinkstav.brecher_dim.generation.HeadlessPregen;
 import net.tinkstav.brecher_dim.util.DimensionEnvironment;
 import net.minecraft.server.level.ServerLevel;
 import org.slf4j.Logger;
@@ -48,6 +54,9 @@ public class BrecherEventHandlers {
     public static void onPlayerJoin(ServerPlayer player) {
         LOGGER.debug("Player {} joined the server", player.getName().getString());
         
+        // Kept inventories only survive for the death the player is respawning from
+        InventoryKeeper.onPlayerLogin(player);
+        
         // Check if player is in exploration dimension
         BrecherDimensionManager manager = BrecherDimensions.getDimensionManager();
         if (manager != null && manager.isExplorationDimension(player.level().dimension().location())) {
@@ -74,6 +83,8 @@ public class BrecherEventHandlers {
                 player.getName().getString());
         }
 
+        TeleportAdmission.cancel(player.getUUID());
+
         BrecherDimensionManager manager = BrecherDimensions.getDimensionManager();
         if (manager != null) {
             // Record player location before they leave
@@ -85,6 +96,7 @@ public class BrecherEventHandlers {
                 var stats = savedData.getPlayerStats(player.getUUID());
                 if (stats.isPresent()) {
                     stats.get().endVisit();
+                    savedData.markPlayerStatsDirty(player.getUUID());
                 }
             }
         }
@@ -99,6 +111,8 @@ public class BrecherEventHandlers {
             from.dimension().location(), 
             to.dimension().location());
         
+        TeleportAdmission.cancel(player.getUUID());
+        
         BrecherDimensionManager manager = BrecherDimensions.getDimensionManager();
         if (manager != null) {
             boolean fromExploration = manager.isExplorationDimension(from.dimension().location());
@@ -134,6 +148,8 @@ public class BrecherEventHandlers {
      * Handle player death
      */
     public static void onPlayerDeath(ServerPlayer player) {
+        TeleportAdmission.cancel(player.getUUID());
+        
         BrecherDimensionManager manager = BrecherDimensions.getDimensionManager();
         if (manager != null && manager.isExplorationDimension(player.level().dimension().location())) {
             // Log death in exploration dimension for debugging
@@ -311,6 +327,21 @@ public class BrecherEventHandlers {
         
         // Process chunk pre-generation tasks
         ChunkPreGenerator.tick(server);
+        HeadlessPregen.tick(server);
+        
+        // Move queued players out of exploration dimensions
+        EvacuationCoordinator.tick(server);
+        
+        // Admit players waiting to enter exploration dimensions
+        TeleportAdmission.tick(server);
+        
+        // Drop expired teleport cooldowns once a second
+        if (tickCounter % 20 == 0) {
+            TeleportHandler.expireCooldowns();
+        }
+        
+        // Condense history of rotated-away dimensions a few records at a time
+        DataRetention.tick(server);
         
         // Entity cleanup based on config interval
         if (tickCounter % BrecherConfig.getEntityCleanupInterval() == 0) {
@@ -333,6 +364,10 @@ public class BrecherEventHandlers {
         if (tickCounter > 1000000) {
             tickCounter = 0;
         }
+        
+        // Send clients the registry delta for this tick's changes, then one bundle per player
+        DimensionSyncTracker.tick(server);
+        OutboundCoalescer.flush(server);
     }
     
     /**
@@ -15,36 +15,70 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
 import net.tinkstav.brecher_dim.BrecherDimensions;
 import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.config.ConfigSnapshot;
+import net.tinkstav.brecher_dim.config.DimensionConfig;
 import net.tinkstav.brecher_dim.data.BrecherSavedData;
 import net.tinkstav.brecher_dim.dimension.BrecherDimensionManager;
 import net.tinkstav.brecher_dim.dimension.DimensionRegistrar;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Main orchestrator for chunk pre-generation across exploration dimensions.
  * Manages all generation tasks and coordinates with the server tick system.
+ *
+ * <p>Spawn areas are generated in two stages when a dimension is created: the
+ * immediate radius first, during which the dimension does not accept teleports,
+ * then the extended radius at elevated priority. Both stages run every tick
+ * ahead of, and instead of, the dimension's background task.
  */
 public class ChunkPreGenerator {
     private static final Logger LOGGER = LogUtils.getLogger();
     private static final Map<ResourceKey<Level>, GenerationTask> activeTasks = new ConcurrentHashMap<>();
+    private static final Map<ResourceKey<Level>, GenerationTask> spawnTasks = new ConcurrentHashMap<>();
+    // Dimensions whose immediate spawn area is still being generated -> tick after which arrivals are let in anyway
+    private static final Map<ResourceKey<Level>, Integer> spawnPending = new ConcurrentHashMap<>();
+    // A spawn stage that takes longer than this stops holding back arrivals
+    private static final int SPAWN_READY_TIMEOUT_TICKS = 20 * 60;
+    // Re-evaluate the schedule once a second
+    private static final int SCHEDULE_CHECK_INTERVAL_TICKS = 20;
+    private static volatile PregenSchedule.Window activeWindow = null;
+    private static int scheduleCheckCounter = 0;
     private static int tickCounter = 0;
     
     /**
      * Called every server tick to process chunk generation
      */
     public static void tick(MinecraftServer server) {
-        if (!BrecherConfig.isPregenEnabled()) {
+        ConfigSnapshot config = BrecherConfig.snapshot();
+        if (scheduleCheckCounter-- <= 0) {
+            scheduleCheckCounter = SCHEDULE_CHECK_INTERVAL_TICKS;
+            updateActiveWindow(config);
+        }
+        
+        // Spawn stages run every tick, independent of the background pregen settings
+        if (!spawnTasks.isEmpty()) {
+            tickSpawnTasks(server);
+        }
+        
+        // Chunks ahead of fast-moving players, also independent of the background settings
+        PredictiveGenerator.tick(server);
+        
+        if (!config.pregenEnabled()) {
             return;
         }
         
         // Only process on configured interval
         tickCounter++;
-        if (tickCounter < BrecherConfig.getPregenTickInterval()) {
+        if (tickCounter < config.pregenTickInterval()) {
             return;
         }
         tickCounter = 0;
@@ -56,6 +90,11 @@ public class ChunkPreGenerator {
             ResourceKey<Level> dimKey = entry.getKey();
             GenerationTask task = entry.getValue();
             
+            // Background generation waits until the spawn area is done
+            if (spawnTasks.containsKey(dimKey)) {
+                continue;
+            }
+            
             // Get the server level
             ServerLevel level = server.getLevel(dimKey);
             if (level == null) {
@@ -69,16 +108,215 @@ public class ChunkPreGenerator {
             
             // Remove completed tasks
             if (task.isComplete()) {
+                GenerationProgress progress = task.getProgress();
+                // Kept in saved data so an upgrade after a restart still knows the radius
+                if (progress.getChunksPartial() > 0 && progress.getSpiralIterator() != null) {
+                    BrecherSavedData.get(server).setPartialRunRadius(dimKey.location(), progress.getSpiralIterator().getMaxRadius());
+                    LOGGER.info("{} chunks in {} were left at {}; run /explorationadmin pregen upgrade to promote them to full",
+                        progress.getChunksPartial(), dimKey.location(), GenerationTask.getStatusName(progress.getTargetStatus()));
+                } else if (progress.getTargetStatus() == ChunkStatus.FULL) {
+                    BrecherSavedData.get(server).clearPartialRun(dimKey.location());
+                }
+                task.releaseTickets(level);
                 it.remove();
                 saveProgress(server);
             }
         }
     }
     
+    private static void tickSpawnTasks(MinecraftServer server) {
+        int now = server.getTickCount();
+        Iterator<Map.Entry<ResourceKey<Level>, GenerationTask>> it = spawnTasks.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<ResourceKey<Level>, GenerationTask> entry = it.next();
+            ResourceKey<Level> dimKey = entry.getKey();
+            GenerationTask task = entry.getValue();
+            
+            ServerLevel level = server.getLevel(dimKey);
+            if (level == null) {
+                it.remove();
+                spawnPending.remove(dimKey);
+                continue;
+            }
+            
+            try {
+                task.processNextBatch(level);
+            } catch (Exception e) {
+                LOGGER.error("Spawn generation for {} failed, accepting teleports", dimKey.location(), e);
+                task.releaseTickets(level);
+                it.remove();
+                spawnPending.remove(dimKey);
+                continue;
+            }
+            if (!task.isComplete()) {
+                Integer deadline = spawnPending.get(dimKey);
+                if (deadline != null && now >= deadline) {
+                    // Keep generating, but stop holding arrivals; admission still caps them
+                    spawnPending.remove(dimKey);
+                    LOGGER.warn("Spawn area of {} is not ready after {} ticks, accepting teleports anyway",
+                        dimKey.location(), SPAWN_READY_TIMEOUT_TICKS);
+                }
+                continue;
+            }
+            
+            task.releaseTickets(level);
+            if (task.getPriority() == GenerationTask.Priority.IMMEDIATE) {
+                spawnPending.remove(dimKey);
+                LOGGER.info("Spawn area of {} is ready, accepting teleports", dimKey.location());
+                
+                GenerationProgress progress = task.getProgress();
+                SpiralIterator iterator = progress.getSpiralIterator();
+                int extendedRadius = BrecherConfig.getExtendedSpawnRadius();
+                if (iterator != null && extendedRadius > iterator.getMaxRadius()) {
+                    entry.setValue(new GenerationTask(dimKey, progress.getDimensionSeed(), iterator.getCenterX(),
+                        iterator.getCenterZ(), extendedRadius, GenerationTask.Priority.ELEVATED));
+                    continue;
+                }
+            }
+            it.remove();
+        }
+    }
+    
+    private static void updateActiveWindow(ConfigSnapshot config) {
+        PregenSchedule.Window window = PregenSchedule.getActive(config.pregenSchedule(), LocalDateTime.now());
+        PregenSchedule.Window previous = activeWindow;
+        if (window == previous) {
+            return;
+        }
+        activeWindow = window;
+        if (window != null) {
+            LOGGER.info("Pregen schedule window started: {}", window.describe());
+        } else {
+            LOGGER.info("Pregen schedule window '{}' ended, back to configured intensity", previous.name());
+        }
+    }
+    
     /**
-     * Start generation for a dimension
+     * Chunks per tick for background generation, from the active schedule window if any,
+     * otherwise from the dimension's settings
+     */
+    static int getEffectiveChunksPerTick(DimensionConfig dimension) {
+        PregenSchedule.Window window = activeWindow;
+        return window != null ? window.chunksPerTick() : dimension.pregenChunksPerTick();
+    }
+    
+    /**
+     * Generation time budget per tick in ms, from the active schedule window if any
+     */
+    static int getEffectiveMaxTickMs(ConfigSnapshot config) {
+        PregenSchedule.Window window = activeWindow;
+        return window != null ? window.maxTickMs() : config.pregenMaxTickMs();
+    }
+    
+    /**
+     * Whether players in a dimension pause background generation, from the active schedule window if any
+     */
+    static boolean isEffectivePauseWithPlayers(ConfigSnapshot config) {
+        PregenSchedule.Window window = activeWindow;
+        return window != null ? window.pauseWithPlayers() : config.pregenPauseWithPlayers();
+    }
+    
+    /**
+     * Describe the current and next schedule windows
+     */
+    public static Component getScheduleStatus() {
+        List<PregenSchedule.Window> windows = BrecherConfig.getPregenSchedule();
+        if (windows.isEmpty()) {
+            return Component.literal("No pregen schedule configured, using background_pregen settings at all times")
+                .withStyle(style -> style.withColor(0xAAAAAA));
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        PregenSchedule.Window current = PregenSchedule.getActive(windows, now);
+        PregenSchedule.Upcoming next = PregenSchedule.getNext(windows, now);
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("EEE HH:mm", Locale.ROOT);
+        
+        Component result = Component.literal("Pregen schedule (" + windows.size() + " windows, server time "
+            + now.format(format) + "):").withStyle(style -> style.withColor(0x55FFFF));
+        result = result.copy().append("\n  Current: " + (current != null ? current.describe()
+            : String.format("none (%d chunks/tick, %d ms/tick)", BrecherConfig.getPregenChunksPerTick(),
+                BrecherConfig.getPregenMaxTickMs())));
+        if (next != null) {
+            result = result.copy().append("\n  Next: " + next.window().describe() + " at " + next.start().format(format));
+        }
+        return result;
+    }
+    
+    /**
+     * Start the two-stage spawn generation for a newly created exploration dimension.
+     * Until the immediate radius is generated {@link #isSpawnReady} reports false and
+     * arrivals are held back.
+     */
+    public static void startSpawnGeneration(ServerLevel level, long seed) {
+        if (!BrecherConfig.isPreGenerateSpawnChunks()) {
+            return;
+        }
+        
+        ResourceKey<Level> dimensionKey = level.dimension();
+        BlockPos spawn = level.getSharedSpawnPos();
+        int centerX = spawn.getX() >> 4;
+        int centerZ = spawn.getZ() >> 4;
+        int immediateRadius = Math.max(0, BrecherConfig.getImmediateSpawnRadius());
+        
+        spawnTasks.put(dimensionKey, new GenerationTask(dimensionKey, seed, centerX, centerZ, immediateRadius,
+            GenerationTask.Priority.IMMEDIATE));
+        spawnPending.put(dimensionKey, level.getServer().getTickCount() + SPAWN_READY_TIMEOUT_TICKS);
+        LOGGER.info("Generating spawn area of {} around chunk [{}, {}] (immediate radius {}, extended radius {})",
+            dimensionKey.location(), centerX, centerZ, immediateRadius, BrecherConfig.getExtendedSpawnRadius());
+    }
+    
+    /**
+     * Check if a dimension's immediate spawn area has been generated.
+     * Dimensions without a spawn stage are always ready, and so are those whose
+     * spawn stage failed or ran past its timeout.
+     */
+    public static boolean isSpawnReady(ResourceKey<Level> dimensionKey) {
+        return !spawnPending.containsKey(dimensionKey);
+    }
+    
+    /**
+     * Check if a dimension still has a spawn stage running
+     */
+    public static boolean hasSpawnTask(ResourceKey<Level> dimensionKey) {
+        return spawnTasks.containsKey(dimensionKey);
+    }
+    
+    /**
+     * Number of pregen tickets currently held in a dimension across all its tasks
+     */
+    public static int getPendingTicketCount(ResourceKey<Level> dimensionKey) {
+        int count = 0;
+        GenerationTask task = activeTasks.get(dimensionKey);
+        if (task != null) {
+            count += task.getPendingTicketCount();
+        }
+        GenerationTask spawnTask = spawnTasks.get(dimensionKey);
+        if (spawnTask != null) {
+            count += spawnTask.getPendingTicketCount();
+        }
+        return count + PredictiveGenerator.getPendingTicketCount(dimensionKey);
+    }
+    
+    /**
+     * Start generation for a dimension to the configured target status
      */
     public static Component startGeneration(MinecraftServer server, ResourceKey<Level> dimensionKey, int radius) {
+        return startGeneration(server, dimensionKey, radius, null);
+    }
+    
+    /**
+     * Start generation for a dimension
+     * @param targetStatus status to generate chunks to, or null for the configured target
+     */
+    public static Component startGeneration(MinecraftServer server, ResourceKey<Level> dimensionKey, int radius,
+                                            @Nullable ChunkStatus targetStatus) {
+        if (targetStatus == null) {
+            targetStatus = GenerationTask.parseTargetStatus(BrecherConfig.getPregenTargetStatus());
+            if (targetStatus == null) {
+                targetStatus = ChunkStatus.FULL;
+            }
+        }
+        
         // Check if dimension exists
         ServerLevel level = server.getLevel(dimensionKey);
         if (level == null) {
@@ -115,7 +353,7 @@ public class ChunkPreGenerator {
             radius = (int)(borderSize / 32); // Convert blocks to chunks, divide by 2 for radius
             
             if (radius <= 0 || radius > 10000) {
-                radius = BrecherConfig.getPregenDefaultRadius();
+                radius = BrecherConfig.forDimension(dimensionKey.location()).pregenDefaultRadius();
             }
         }
         
@@ -126,6 +364,7 @@ public class ChunkPreGenerator {
         
         // Create and start task
         GenerationTask task = new GenerationTask(dimensionKey, seed, centerX, centerZ, radius);
+        task.getProgress().setTargetStatus(targetStatus);
         activeTasks.put(dimensionKey, task);
         saveProgress(server);
 
@@ -136,10 +375,23 @@ public class ChunkPreGenerator {
             .append("\n  Center: [" + centerX + ", " + centerZ + "]")
             .append("\n  Radius: " + String.format("%,d", radius) + " chunks")
             .append("\n  Total chunks: " + String.format("%,d", totalChunks))
+            .append("\n  Target status: " + GenerationTask.getStatusName(targetStatus))
             .append("\n  Seed: " + seed)
             .withStyle(style -> style.withColor(0x55FF55));
     }
     
+    /**
+     * Promote chunks left below FULL by an earlier run. Already complete chunks are
+     * only scanned, so this costs a disk read per chunk plus the remaining stages.
+     * @param radius radius to upgrade, or 0 for the radius of the last partial run
+     */
+    public static Component upgradeGeneration(MinecraftServer server, ResourceKey<Level> dimensionKey, int radius) {
+        if (radius <= 0) {
+            radius = BrecherSavedData.get(server).getPartialRunRadius(dimensionKey.location());
+        }
+        return startGeneration(server, dimensionKey, radius, ChunkStatus.FULL);
+    }
+    
     /**
      * Stop generation for a dimension
      */
@@ -213,6 +465,11 @@ public class ChunkPreGenerator {
     public static Component getStatus(ResourceKey<Level> dimensionKey) {
         if (dimensionKey != null) {
             GenerationTask task = activeTasks.get(dimensionKey);
+            GenerationTask spawnTask = spawnTasks.get(dimensionKey);
+            if (spawnTask != null) {
+                Component result = formatTaskStatus(dimensionKey, spawnTask);
+                return task == null ? result : result.copy().append("\n").append(formatTaskStatus(dimensionKey, task));
+            }
             if (task == null) {
                 return Component.literal("No active generation for " + dimensionKey.location())
                     .withStyle(style -> style.withColor(0xFFAA00));
@@ -220,7 +477,7 @@ public class ChunkPreGenerator {
             return formatTaskStatus(dimensionKey, task);
         } else {
             // Show all tasks
-            if (activeTasks.isEmpty()) {
+            if (activeTasks.isEmpty() && spawnTasks.isEmpty()) {
                 return Component.literal("No active generation tasks")
                     .withStyle(style -> style.withColor(0xAAAAAA));
             }
@@ -228,10 +485,18 @@ public class ChunkPreGenerator {
             Component result = Component.literal("Active generation tasks:")
                 .withStyle(style -> style.withColor(0x55FFFF));
             
+            for (Map.Entry<ResourceKey<Level>, GenerationTask> entry : spawnTasks.entrySet()) {
+                result = result.copy().append("\n").append(formatTaskStatus(entry.getKey(), entry.getValue()));
+            }
             for (Map.Entry<ResourceKey<Level>, GenerationTask> entry : activeTasks.entrySet()) {
                 result = result.copy().append("\n").append(formatTaskStatus(entry.getKey(), entry.getValue()));
             }
             
+            PregenSchedule.Window window = activeWindow;
+            if (window != null) {
+                result = result.copy().append("\nSchedule window: " + window.describe());
+            }
+            
             return result;
         }
     }
@@ -270,8 +535,13 @@ public class ChunkPreGenerator {
             .withStyle(style -> style.withColor(0x55FFFF));
 
         // Use String.format for thousands separators on large numbers
+        if (task.getPriority() != GenerationTask.Priority.NORMAL) {
+            status += " (" + task.getPriority().name().toLowerCase() + " spawn stage)";
+        }
+        ChunkStatus target = progress.getTargetStatus();
         result = result.copy()
             .append("\n  Status: " + status)
+            .append("\n  Target status: " + GenerationTask.getStatusName(target))
             .append(String.format("\n  Progress: %d%% (scanned %,d/%,d, generated %,d new)",
                 percent, chunksScanned, totalChunks, chunksGenerated))
             .append(String.format("\n  Generation rate: %.1f new chunks/min", rate));
@@ -282,6 +552,14 @@ public class ChunkPreGenerator {
             result = result.copy().append("\n  Est. time: Complete!");
         }
 
+        if (progress.getChunksPartial() > 0) {
+            result = result.copy().append(String.format("\n  Left below full: %,d (promote with pregen upgrade)",
+                progress.getChunksPartial()));
+        }
+        if (progress.getChunksUpgraded() > 0) {
+            result = result.copy().append(String.format("\n  Upgraded from partial: %,d", progress.getChunksUpgraded()));
+        }
+
         if (skippedCount > 0) {
             result = result.copy().append(String.format("\n  Skipped chunks: %,d (due to errors)", skippedCount));
         }
@@ -371,7 +649,7 @@ public class ChunkPreGenerator {
         }
         
         data.setPregenTasks(toSave);
-        data.setDirty();
+        data.markDirty(BrecherSavedData.Shard.PREGEN);
     }
     
     /**
@@ -408,7 +686,7 @@ public class ChunkPreGenerator {
         }
         
         if (changed) {
-            data.setDirty();
+            data.markDirty(BrecherSavedData.Shard.PREGEN);
         }
     }
     
@@ -453,6 +731,11 @@ public class ChunkPreGenerator {
             LOGGER.info("ChunkPreGenerator shutting down, clearing {} active tasks", taskCount);
         }
         activeTasks.clear();
+        spawnTasks.clear();
+        PredictiveGenerator.shutdown(server);
+        activeWindow = null;
+        scheduleCheckCounter = 0;
+        spawnPending.clear();
         tickCounter = 0;
     }
 
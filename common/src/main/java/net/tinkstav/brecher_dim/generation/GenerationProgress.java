@@ -6,9 +6,11 @@
 package net.tinkstav.brecher_dim.generation;
 
 import com.mojang.logging.LogUtils;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
 import org.slf4j.Logger;
 
 import java.util.HashMap;
@@ -38,10 +40,14 @@ public class GenerationProgress {
     private final long dimensionSeed;
     private volatile Status status;  // volatile for safe cross-thread reads
     private SpiralIterator spiralIterator;
+    // Status chunks are driven to; anything below FULL leaves chunks for a later upgrade pass
+    private ChunkStatus targetStatus = ChunkStatus.FULL;
 
     // Thread-safe counters - may be read from command threads while updated on tick thread
     private final AtomicLong chunksGenerated = new AtomicLong(0);  // Chunks visited
     private final AtomicLong chunksActuallyGenerated = new AtomicLong(0);  // New chunks generated
+    private final AtomicLong chunksPartial = new AtomicLong(0);  // Chunks left below FULL
+    private final AtomicLong chunksUpgraded = new AtomicLong(0);  // Partially generated chunks advanced further
 
     // Retry tracking - persisted across restarts
     // Thread-Safety: Uses ConcurrentHashMap because chunk generation may involve worker threads.
@@ -147,6 +153,20 @@ public class GenerationProgress {
             }
         }
 
+        // Load target status; older saves always generated to FULL
+        if (tag.contains("targetStatus")) {
+            ResourceLocation statusId = ResourceLocation.tryParse(tag.getString("targetStatus"));
+            ChunkStatus target = statusId == null ? null : BuiltInRegistries.CHUNK_STATUS.getOptional(statusId).orElse(null);
+            if (target == null || target == ChunkStatus.EMPTY) {
+                LOGGER.warn("Unknown target status '{}' in saved generation task for {}, using full",
+                    tag.getString("targetStatus"), dimId);
+            } else {
+                progress.targetStatus = target;
+            }
+        }
+        progress.chunksPartial.set(tag.getLong("chunksPartial"));
+        progress.chunksUpgraded.set(tag.getLong("chunksUpgraded"));
+
         // Load fractional tick counter (added in v1.2.0)
         // Backwards compatibility: defaults to 0 for old saves (may cause one extra tick delay, not critical)
         if (tag.contains("fractionalTickCounter")) {
@@ -169,6 +189,9 @@ public class GenerationProgress {
         // Use AtomicLong.get() for thread-safe reads
         tag.putLong("chunksGenerated", chunksGenerated.get());
         tag.putLong("chunksActuallyGenerated", chunksActuallyGenerated.get());
+        tag.putString("targetStatus", BuiltInRegistries.CHUNK_STATUS.getKey(targetStatus).toString());
+        tag.putLong("chunksPartial", chunksPartial.get());
+        tag.putLong("chunksUpgraded", chunksUpgraded.get());
 
         tag.putLong("startTime", startTime);
         tag.putLong("lastActivity", lastActivity);
@@ -229,6 +252,22 @@ public class GenerationProgress {
         chunksActuallyGenerated.incrementAndGet();
     }
 
+    /**
+     * Increment the counter of chunks this task left below FULL.
+     * Thread-safe via AtomicLong.
+     */
+    public void incrementChunksPartial() {
+        chunksPartial.incrementAndGet();
+    }
+
+    /**
+     * Increment the counter of partially generated chunks this task advanced.
+     * Thread-safe via AtomicLong.
+     */
+    public void incrementChunksUpgraded() {
+        chunksUpgraded.incrementAndGet();
+    }
+
     // ========== Retry Tracking Methods ==========
     // Thread-Safety: All methods are safe for concurrent access via ConcurrentHashMap.
     // - getRetryCount: Simple read, thread-safe
@@ -399,6 +438,15 @@ public class GenerationProgress {
     /** Get new chunks generated (thread-safe). */
     public long getChunksActuallyGenerated() { return chunksActuallyGenerated.get(); }
 
+    /** Get chunks left below FULL (thread-safe). */
+    public long getChunksPartial() { return chunksPartial.get(); }
+
+    /** Get partially generated chunks advanced by this task (thread-safe). */
+    public long getChunksUpgraded() { return chunksUpgraded.get(); }
+
+    public ChunkStatus getTargetStatus() { return targetStatus; }
+    public void setTargetStatus(ChunkStatus targetStatus) { this.targetStatus = targetStatus; }
+
     public long getStartTime() { return startTime; }
     public long getLastActivity() { return lastActivity; }
     public String getLastError() { return lastError; }
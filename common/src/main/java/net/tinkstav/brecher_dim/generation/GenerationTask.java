@@ -6,8 +6,12 @@
 package net.tinkstav.brecher_dim.generation;
 
 import com.mojang.logging.LogUtils;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ChunkLevel;
+import net.minecraft.server.level.ChunkResult;
+import net.minecraft.server.level.FullChunkStatus;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.TicketType;
 import net.minecraft.world.level.ChunkPos;
@@ -15,12 +19,21 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.status.ChunkStatus;
 import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.config.ConfigSnapshot;
+import net.tinkstav.brecher_dim.config.DimensionConfig;
+import net.tinkstav.brecher_dim.data.BrecherSavedData;
 import net.tinkstav.brecher_dim.performance.MemoryMonitor;
 import org.slf4j.Logger;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Manages chunk generation for a single exploration dimension.
@@ -30,8 +43,11 @@ import java.util.Map;
  * <ul>
  *   <li>Time-based loop limiting to prevent lag spikes (5ms per tick budget)</li>
  *   <li>Correct chunk detection: loads chunk to EMPTY status first to check if already generated</li>
+ *   <li>Per-task target status: chunks can be left at e.g. FEATURES and promoted to FULL by a later pass</li>
  *   <li>Ticket leak prevention: uses finally block to ensure tickets are always scheduled for removal</li>
  *   <li>Retry mechanism: failed chunks are retried up to MAX_CHUNK_RETRIES times before being skipped</li>
+ *   <li>Queued chunks of LOW tasks are requested asynchronously and collected on later ticks</li>
+ *   <li>Structure index: structure starts of every visited chunk are recorded in a {@link StructureIndex}</li>
  * </ul>
  */
 public class GenerationTask {
@@ -39,6 +55,13 @@ public class GenerationTask {
     private static final TicketType<ChunkPos> PREGEN_TICKET = TicketType.create("brecher_pregen", (a, b) -> 0);
     private static final int MAX_CHUNK_RETRIES = 3;
 
+    /**
+     * Statuses a task may target, in generation order
+     */
+    public static final List<String> TARGET_STATUSES = List.of(
+        "structure_starts", "structure_references", "biomes", "noise", "surface", "carvers",
+        "features", "initialize_light", "light", "spawn", "full");
+
     // TPS thresholds for batch size adjustment
     // - At FULL_SPEED or above: use full chunksPerTick from config
     // - At REDUCED_SPEED or above: reduce by 1 chunk per tick
@@ -48,19 +71,65 @@ public class GenerationTask {
     private static final double TPS_REDUCED_SPEED = 19.0;
     private static final double TPS_MINIMUM_SPEED = 18.0;
 
+    // Spawn-stage tasks get a larger share of the tick than background generation
+    private static final int IMMEDIATE_BUDGET_MULTIPLIER = 4;
+    private static final int ELEVATED_BATCH_MULTIPLIER = 2;
+
+    /**
+     * Scheduling priority of a task.
+     * <ul>
+     *   <li>IMMEDIATE - spawn area that must exist before players may arrive; never throttled</li>
+     *   <li>ELEVATED - ring around spawn generated right after; ignores player presence</li>
+     *   <li>NORMAL - background radius generation started by command or auto-start</li>
+     *   <li>LOW - chunks predicted ahead of moving players; requested without blocking the tick</li>
+     * </ul>
+     */
+    public enum Priority {
+        IMMEDIATE,
+        ELEVATED,
+        NORMAL,
+        LOW
+    }
+
     private final ResourceKey<Level> dimensionKey;
     private final GenerationProgress progress;
+    private final Priority priority;
+    // Explicit chunk queue for LOW tasks; null for spiral tasks
+    private final Deque<ChunkPos> targets;
     private final Map<ChunkPos, Integer> ticketRemovalSchedule = new HashMap<>();
+    // Chunks of a LOW task the chunk system is still loading or generating
+    private final Map<ChunkPos, CompletableFuture<ChunkResult<ChunkAccess>>> inFlight = new HashMap<>();
     // Note: failedChunkRetries, skippedChunksCount, and fractionalTickCounter are now stored
     // in GenerationProgress for persistence across server restarts
     private boolean throttled = false;
+    private StructureIndex structureIndex;
     
     /**
      * Create a new generation task
      */
     public GenerationTask(ResourceKey<Level> dimensionKey, long seed, int centerX, int centerZ, int radius) {
+        this(dimensionKey, seed, centerX, centerZ, radius, Priority.NORMAL);
+    }
+
+    /**
+     * Create a new generation task with the given priority
+     */
+    public GenerationTask(ResourceKey<Level> dimensionKey, long seed, int centerX, int centerZ, int radius, Priority priority) {
         this.dimensionKey = dimensionKey;
         this.progress = new GenerationProgress(dimensionKey.location(), seed, centerX, centerZ, radius);
+        this.priority = priority;
+        this.targets = null;
+    }
+
+    /**
+     * Create a LOW priority task that generates queued chunks instead of a spiral.
+     * It never completes on its own and idles while the queue is empty.
+     */
+    public GenerationTask(ResourceKey<Level> dimensionKey, long seed) {
+        this.dimensionKey = dimensionKey;
+        this.progress = new GenerationProgress(dimensionKey.location(), seed, 0, 0, 0);
+        this.priority = Priority.LOW;
+        this.targets = new ArrayDeque<>();
     }
     
     /**
@@ -69,6 +138,8 @@ public class GenerationTask {
     public GenerationTask(ResourceKey<Level> dimensionKey, GenerationProgress progress) {
         this.dimensionKey = dimensionKey;
         this.progress = progress;
+        this.priority = Priority.NORMAL;
+        this.targets = null;
     }
     
     /**
@@ -81,23 +152,36 @@ public class GenerationTask {
         // keeping chunks loaded and preventing TPS recovery
         processTicketRemovals(level);
 
+        // One config snapshot for the whole batch, so a reload can't change values mid-batch
+        ConfigSnapshot config = BrecherConfig.snapshot();
+
+        // Requests finished since the last tick are collected even while paused or throttled
+        if (targets != null) {
+            collectRequests(level, config);
+        }
+
         // Check if paused or completed
         if (progress.getStatus() != GenerationProgress.Status.RUNNING) {
             return;
         }
 
+        if (targets != null && targets.isEmpty()) {
+            return;
+        }
+
         // Check for completion
-        if (progress.isComplete()) {
+        if (targets == null && progress.isComplete()) {
             progress.setStatus(GenerationProgress.Status.COMPLETED);
             int skipped = progress.getSkippedChunksCount();
-            LOGGER.info("Chunk generation completed for dimension {}: {} chunks visited, {} new chunks generated{}",
+            LOGGER.info("Chunk generation{} completed for dimension {}: {} chunks visited, {} new chunks generated{}",
+                priority == Priority.NORMAL ? "" : " (" + priority.name().toLowerCase() + " spawn stage)",
                 dimensionKey.location(), progress.getChunksGenerated(), progress.getChunksActuallyGenerated(),
                 skipped > 0 ? " (" + skipped + " skipped due to errors)" : "");
             return;
         }
 
-        // Check performance throttling
-        if (shouldThrottle(level)) {
+        // Check performance throttling (the immediate spawn stage holds back arrivals, so it never waits)
+        if (priority != Priority.IMMEDIATE && shouldThrottle(level, config)) {
             if (!throttled) {
                 LOGGER.debug("Throttling chunk generation for {} due to performance", dimensionKey.location());
                 throttled = true;
@@ -109,15 +193,25 @@ public class GenerationTask {
         }
         
         // Calculate batch size based on performance
-        int batchSize = calculateBatchSize(level);
+        int batchSize = calculateBatchSize(level, config);
         if (batchSize <= 0) {
             return;
         }
 
+        if (targets != null) {
+            requestQueuedChunks(level, batchSize);
+            return;
+        }
+
         // Generate chunks with time-based limiting
-        // Use configurable time budget (converted from ms to ns)
-        long maxTickNanos = BrecherConfig.getPregenMaxTickMs() * 1_000_000L;
+        // Use configurable time budget, or the active schedule window's (converted from ms to ns)
+        long maxTickNanos = ChunkPreGenerator.getEffectiveMaxTickMs(config) * 1_000_000L;
+        if (priority == Priority.IMMEDIATE) {
+            maxTickNanos *= IMMEDIATE_BUDGET_MULTIPLIER;
+        }
         SpiralIterator iterator = progress.getSpiralIterator();
+        ChunkStatus target = progress.getTargetStatus();
+        int ticketDistance = getTicketDistance();
         int actuallyGenerated = 0;
         int chunksVisited = 0;
         long tickStartTime = System.nanoTime();
@@ -133,14 +227,13 @@ public class GenerationTask {
             }
 
             ChunkPos pos = iterator.next();
-            if (pos == null) break;
 
             chunksVisited++;
             boolean ticketAdded = false;
 
             try {
                 // 1. Add ticket FIRST to keep chunk loaded during processing
-                level.getChunkSource().addRegionTicket(PREGEN_TICKET, pos, 0, pos);
+                level.getChunkSource().addRegionTicket(PREGEN_TICKET, pos, ticketDistance, pos);
                 ticketAdded = true;
 
                 // 2. Load chunk to EMPTY status - this forces a disk load if the chunk exists,
@@ -149,15 +242,24 @@ public class GenerationTask {
                 // chunks were incorrectly counted as "new".
                 ChunkAccess chunk = level.getChunk(pos.x, pos.z, ChunkStatus.EMPTY, true);
 
-                // 3. Check if chunk was already fully generated
-                boolean wasAlreadyGenerated = chunk.getPersistedStatus().isOrAfter(ChunkStatus.FULL);
+                // 3. Check if chunk was already generated to the target status
+                ChunkStatus persisted = chunk.getPersistedStatus();
+                boolean wasAlreadyGenerated = persisted.isOrAfter(target);
 
-                // 4. Generate to FULL status only if needed
+                // 4. Generate to the target status only if needed
                 if (!wasAlreadyGenerated) {
-                    level.getChunk(pos.x, pos.z, ChunkStatus.FULL, true);
+                    chunk = level.getChunk(pos.x, pos.z, target, true);
                     progress.incrementChunksActuallyGenerated();
                     actuallyGenerated++;
+                    if (persisted != ChunkStatus.EMPTY) {
+                        // Left partial by an earlier run; this is the upgrade pass at work
+                        progress.incrementChunksUpgraded();
+                    }
+                }
+                if (!persisted.isOrAfter(ChunkStatus.FULL) && !target.isOrAfter(ChunkStatus.FULL)) {
+                    progress.incrementChunksPartial();
                 }
+                recordStructures(level, chunk);
 
                 // 5. Always count as visited (scanned) to track position in spiral
                 progress.incrementChunksGenerated();
@@ -187,14 +289,14 @@ public class GenerationTask {
                 // CRITICAL: Always schedule ticket removal to prevent memory leak
                 // This must be in finally block to ensure cleanup even on exceptions
                 if (ticketAdded) {
-                    int removalTick = level.getServer().getTickCount() + BrecherConfig.getPregenTicketDuration();
+                    int removalTick = level.getServer().getTickCount() + config.pregenTicketDuration();
                     ticketRemovalSchedule.put(pos, removalTick);
                 }
             }
         }
 
         // Log progress periodically (interval is configurable via pregenLogInterval)
-        int logInterval = BrecherConfig.getPregenLogInterval();
+        int logInterval = config.pregenLogInterval();
         if (logInterval > 0 && progress.getChunksGenerated() % logInterval == 0 && progress.getChunksGenerated() > 0) {
             LOGGER.info("Generation progress for {}: {}% (scanned {}/{}, generated {} new, {} chunks/min)",
                 dimensionKey.location(),
@@ -211,6 +313,77 @@ public class GenerationTask {
         }
     }
     
+    /**
+     * Start loading queued chunks of a LOW task. Each chunk gets a ticket and a chunk future,
+     * the chunk system generates it over the following ticks, and {@link #collectRequests}
+     * picks up the result. At most batchSize chunks are in flight at once.
+     */
+    private void requestQueuedChunks(ServerLevel level, int batchSize) {
+        ChunkStatus target = progress.getTargetStatus();
+        int ticketDistance = getTicketDistance();
+        while (inFlight.size() < batchSize && !targets.isEmpty()) {
+            ChunkPos pos = targets.poll();
+            // The player may have reached it while it waited in the queue
+            if (inFlight.containsKey(pos) || level.getChunkSource().getChunkNow(pos.x, pos.z) != null) {
+                continue;
+            }
+            level.getChunkSource().addRegionTicket(PREGEN_TICKET, pos, ticketDistance, pos);
+            inFlight.put(pos, level.getChunkSource().getChunkFuture(pos.x, pos.z, target, true));
+        }
+    }
+
+    /**
+     * Record finished chunk requests and schedule their tickets for removal
+     */
+    private void collectRequests(ServerLevel level, ConfigSnapshot config) {
+        if (inFlight.isEmpty()) {
+            return;
+        }
+        int removalTick = level.getServer().getTickCount() + config.pregenTicketDuration();
+        Iterator<Map.Entry<ChunkPos, CompletableFuture<ChunkResult<ChunkAccess>>>> it = inFlight.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<ChunkPos, CompletableFuture<ChunkResult<ChunkAccess>>> entry = it.next();
+            if (!entry.getValue().isDone()) {
+                continue;
+            }
+            it.remove();
+            ChunkPos pos = entry.getKey();
+            ticketRemovalSchedule.put(pos, removalTick);
+
+            // Predicted chunks are best effort; the player will load it anyway
+            ChunkAccess chunk;
+            try {
+                ChunkResult<ChunkAccess> result = entry.getValue().join();
+                chunk = result.orElse(null);
+                if (chunk == null) {
+                    LOGGER.debug("Predicted chunk {} generation failed in {}: {}", pos, dimensionKey.location(), result.getError());
+                    continue;
+                }
+            } catch (CompletionException e) {
+                LOGGER.debug("Predicted chunk {} generation failed in {}: {}", pos, dimensionKey.location(), e.getMessage());
+                continue;
+            }
+            recordStructures(level, chunk);
+            progress.incrementChunksGenerated();
+        }
+    }
+
+    /**
+     * Add the chunk's structure starts to the dimension's structure index
+     */
+    private void recordStructures(ServerLevel level, ChunkAccess chunk) {
+        if (chunk.getAllStarts().isEmpty()) {
+            return;
+        }
+        BrecherSavedData data = BrecherSavedData.get(level.getServer());
+        if (structureIndex == null) {
+            structureIndex = data.getOrCreateStructureIndex(dimensionKey.location());
+        }
+        if (structureIndex.recordChunk(level, chunk) > 0) {
+            data.markDirty(BrecherSavedData.Shard.PREGEN);
+        }
+    }
+
     /**
      * Process scheduled ticket removals
      */
@@ -219,6 +392,7 @@ public class GenerationTask {
             return;
         }
         
+        int ticketDistance = getTicketDistance();
         int currentTick = level.getServer().getTickCount();
         Iterator<Map.Entry<ChunkPos, Integer>> it = ticketRemovalSchedule.entrySet().iterator();
         
@@ -226,33 +400,68 @@ public class GenerationTask {
             Map.Entry<ChunkPos, Integer> entry = it.next();
             if (currentTick >= entry.getValue()) {
                 ChunkPos pos = entry.getKey();
-                level.getChunkSource().removeRegionTicket(PREGEN_TICKET, pos, 0, pos);
+                level.getChunkSource().removeRegionTicket(PREGEN_TICKET, pos, ticketDistance, pos);
                 it.remove();
             }
         }
     }
     
+    /**
+     * Ticket distance that holds a chunk at the target status. FULL is distance 0;
+     * earlier statuses need a weaker ticket (negative distance) or the ticket itself
+     * would drive the chunk on to FULL.
+     */
+    private int getTicketDistance() {
+        return getTicketDistance(progress.getTargetStatus());
+    }
+    
+    /**
+     * Region ticket distance that loads a chunk to the given status and no further
+     */
+    public static int getTicketDistance(ChunkStatus status) {
+        return ChunkLevel.byStatus(FullChunkStatus.FULL) - ChunkLevel.byStatus(status);
+    }
+    
+    /**
+     * Parse a target status name from {@link #TARGET_STATUSES}
+     * @return the status, or null if the name is not a valid target
+     */
+    public static ChunkStatus parseTargetStatus(String name) {
+        String value = name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+        if (!TARGET_STATUSES.contains(value)) {
+            return null;
+        }
+        return BuiltInRegistries.CHUNK_STATUS.get(ResourceLocation.withDefaultNamespace(value));
+    }
+    
+    /**
+     * Name of a status as used in config and commands
+     */
+    public static String getStatusName(ChunkStatus status) {
+        return BuiltInRegistries.CHUNK_STATUS.getKey(status).getPath();
+    }
+    
     /**
      * Check if generation should be throttled based on server performance.
      * Note: Per-tick spike detection is not available due to API limitations.
      * The average TPS check provides gradual throttling instead.
      */
-    private boolean shouldThrottle(ServerLevel level) {
+    private boolean shouldThrottle(ServerLevel level, ConfigSnapshot config) {
         // Check average TPS
         double mspt = level.getServer().getAverageTickTimeNanos() / 1_000_000.0;
         double tps = Math.min(20.0, 1000.0 / mspt);
-        if (tps < BrecherConfig.getPregenMinTPS()) {
+        if (tps < config.pregenMinTPS()) {
             return true;
         }
 
         // Check memory
         int memoryPercent = MemoryMonitor.getMemoryUsagePercent();
-        if (memoryPercent > BrecherConfig.getPregenMemoryThreshold()) {
+        if (memoryPercent > config.pregenMemoryThreshold()) {
             return true;
         }
 
-        // Check if players are in the dimension
-        if (!level.players().isEmpty() && BrecherConfig.isPregenPauseWithPlayers()) {
+        // Check if players are in the dimension (spawn stages run regardless)
+        if (priority == Priority.NORMAL && !level.players().isEmpty() && ChunkPreGenerator.isEffectivePauseWithPlayers(config)) {
             return true;
         }
 
@@ -262,14 +471,25 @@ public class GenerationTask {
     /**
      * Calculate batch size based on current performance
      */
-    private int calculateBatchSize(ServerLevel level) {
-        int chunksPerTick = BrecherConfig.getPregenChunksPerTick();
+    private int calculateBatchSize(ServerLevel level, ConfigSnapshot config) {
+        DimensionConfig dimension = BrecherConfig.forDimension(dimensionKey.location(), config);
+        int chunksPerTick = ChunkPreGenerator.getEffectiveChunksPerTick(dimension);
+
+        // Spawn stages are bounded by the time budget rather than the background rate
+        if (priority == Priority.IMMEDIATE) {
+            return Integer.MAX_VALUE;
+        }
+        if (priority == Priority.ELEVATED) {
+            chunksPerTick = Math.max(1, chunksPerTick) * ELEVATED_BATCH_MULTIPLIER;
+        } else if (priority == Priority.LOW) {
+            chunksPerTick = Math.max(1, chunksPerTick);
+        }
 
         // Handle fractional generation rates (sub-1 chunk/tick)
         if (chunksPerTick == 0) {
             // Use ticksPerChunk for fractional rates
             // Counter is stored in progress for persistence across restarts
-            int ticksPerChunk = BrecherConfig.getPregenTicksPerChunk();
+            int ticksPerChunk = dimension.pregenTicksPerChunk();
             int counter = progress.incrementFractionalTickCounter();
 
             // Only generate a chunk when counter reaches the threshold
@@ -320,23 +540,56 @@ public class GenerationTask {
      * Stop the generation task and clean up
      */
     public void stop(ServerLevel level) {
-        // Remove all remaining tickets
+        releaseTickets(level);
+        
+        progress.setStatus(GenerationProgress.Status.COMPLETED);
+        LOGGER.info("Stopped chunk generation for {} at {} chunks visited ({} new generated)", 
+            dimensionKey.location(), progress.getChunksGenerated(), progress.getChunksActuallyGenerated());
+    }
+    
+    /**
+     * Remove all remaining tickets without waiting for their scheduled removal
+     */
+    public void releaseTickets(ServerLevel level) {
+        int ticketDistance = getTicketDistance();
         if (level != null) {
             for (ChunkPos pos : ticketRemovalSchedule.keySet()) {
-                level.getChunkSource().removeRegionTicket(PREGEN_TICKET, pos, 0, pos);
+                level.getChunkSource().removeRegionTicket(PREGEN_TICKET, pos, ticketDistance, pos);
+            }
+            for (ChunkPos pos : inFlight.keySet()) {
+                level.getChunkSource().removeRegionTicket(PREGEN_TICKET, pos, ticketDistance, pos);
             }
         }
         ticketRemovalSchedule.clear();
-        
-        progress.setStatus(GenerationProgress.Status.COMPLETED);
-        LOGGER.info("Stopped chunk generation for {} at {} chunks visited ({} new generated)", 
-            dimensionKey.location(), progress.getChunksGenerated(), progress.getChunksActuallyGenerated());
+        inFlight.clear();
     }
     
     // Getters
     public ResourceKey<Level> getDimensionKey() { return dimensionKey; }
+    public Priority getPriority() { return priority; }
+
+    /**
+     * Queue a chunk on a LOW task. Callers queue nearest chunks first, so a full queue
+     * turns away the newcomer, which is further out than everything ahead of it.
+     * @return false if the queue is full
+     */
+    public boolean enqueue(ChunkPos pos, int maxQueued) {
+        if (targets == null) {
+            throw new IllegalStateException("Only LOW priority tasks accept queued chunks");
+        }
+        if (targets.size() >= maxQueued) {
+            return false;
+        }
+        targets.addLast(pos);
+        return true;
+    }
+
+    /**
+     * Number of chunks waiting on a LOW task
+     */
+    public int getQueuedCount() { return targets == null ? 0 : targets.size(); }
     public GenerationProgress getProgress() { return progress; }
-    public boolean isComplete() { return progress.isComplete(); }
+    public boolean isComplete() { return targets == null && progress.isComplete(); }
     public boolean isPaused() { return progress.getStatus() == GenerationProgress.Status.PAUSED; }
     public boolean isRunning() { return progress.getStatus() == GenerationProgress.Status.RUNNING; }
 
@@ -352,5 +605,5 @@ public class GenerationTask {
      * Used for monitoring chunk unloading health during generation.
      * A growing number indicates tickets aren't being cleaned up properly.
      */
-    public int getPendingTicketCount() { return ticketRemovalSchedule.size(); }
+    public int getPendingTicketCount() { return ticketRemovalSchedule.size() + inFlight.size(); }
 }
\ No newline at end of file
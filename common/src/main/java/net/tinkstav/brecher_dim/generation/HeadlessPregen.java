@@ -0,0 +1,412 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.generation;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ChunkResult;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.storage.LevelResource;
+import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.data.BrecherSavedData;
+import net.tinkstav.brecher_dim.dimension.DimensionRegistrar;
+import net.tinkstav.brecher_dim.util.DimensionCounterUtil;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Offline pre-generation of an exploration dimension on a dedicated server with no players.
+ *
+ * <p>Launch the server with {@code -Dbrecher_dim.pregen.dimension=<base dimension>} and
+ * {@code -Dbrecher_dim.pregen.radius=<chunks>}, optionally {@code -Dbrecher_dim.pregen.seed=<seed>}
+ * and {@code -Dbrecher_dim.pregen.status=<target status>}. Once the server has started the
+ * exploration dimension for that base dimension is generated batch by batch as the server
+ * ticks: tickets for a whole batch are placed at once so the worldgen executor works on every
+ * chunk of the batch in parallel, and the next batch starts once the last one is done. The
+ * server thread never blocks on generation, so the watchdog ({@code max-tick-time}) needs no
+ * changes. The server shuts down when the run is done.
+ *
+ * <p>Progress is checkpointed in the {@link GenerationProgress} format, so an interrupted run
+ * is resumed by the next headless run or by a live server's auto-resume. The dimension id
+ * and seed are recorded so the next start reuses the baked dimension instead of creating a
+ * fresh one.
+ *
+ * <p>With {@code -Dbrecher_dim.pregen.shard=<index>/<count>} the run only generates the
+ * region files owned by that shard (see {@link RegionShardMerge#shardOf}), so several workers,
+ * each started from its own copy of the same world and given the same seed, can split one
+ * area between processes or machines. {@link RegionShardMerge} then moves each worker's
+ * region files into the target world.
+ */
+public class HeadlessPregen {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final String PROPERTY_PREFIX = "brecher_dim.pregen.";
+    private static final String PREBAKED_FILE = "brecher_prebaked_dimensions.dat";
+    private static final TicketType<ChunkPos> HEADLESS_TICKET =
+        TicketType.create("brecher_headless_pregen", Comparator.comparingLong(ChunkPos::toLong));
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final int CHECKPOINT_INTERVAL_CHUNKS = 4096;
+    private static final long LOG_INTERVAL_MS = 10_000;
+
+    private static volatile Run active;
+
+    /**
+     * Check if the server was launched for a headless pregen run
+     */
+    public static boolean isActive() {
+        return System.getProperty(PROPERTY_PREFIX + "dimension") != null;
+    }
+
+    /**
+     * Resolve a seed that must be used for an exploration dimension instead of the
+     * configured strategy: the seed given for a headless run, or the seed a previous
+     * headless run baked the next dimension id with.
+     */
+    public static Optional<Long> resolveSeed(MinecraftServer server, ResourceLocation baseDimension) {
+        if (isActive() && baseDimension.equals(getBaseDimension())) {
+            String seed = System.getProperty(PROPERTY_PREFIX + "seed");
+            if (seed != null) {
+                try {
+                    return Optional.of(Long.parseLong(seed.trim()));
+                } catch (NumberFormatException e) {
+                    LOGGER.error("Invalid headless pregen seed '{}', using the configured seed strategy", seed);
+                }
+            }
+        }
+
+        Map<String, long[]> prebaked = readPrebaked(server);
+        long[] entry = prebaked.get(baseDimension.toString());
+        if (entry != null && entry[0] == DimensionCounterUtil.getCurrentCounter(baseDimension)) {
+            LOGGER.info("Reusing pre-generated exploration dimension {} #{} with seed {}", baseDimension, entry[0], entry[1]);
+            return Optional.of(entry[1]);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Set up the headless pregen (called once the server has started). The batches then run
+     * from {@link #tick}, so the server keeps ticking normally and its watchdog doesn't
+     * mistake a long run for a hung server.
+     */
+    public static void start(MinecraftServer server) {
+        ResourceLocation baseDimension = getBaseDimension();
+        Optional<ResourceKey<Level>> explorationKey = baseDimension == null
+            ? Optional.empty() : DimensionRegistrar.getInstance().getExplorationDimension(baseDimension);
+        ServerLevel level = explorationKey.map(server::getLevel).orElse(null);
+        if (level == null) {
+            LOGGER.error("Headless pregen: no exploration dimension for '{}' (is it in the enabled list?)",
+                System.getProperty(PROPERTY_PREFIX + "dimension"));
+            server.halt(false);
+            return;
+        }
+
+        ResourceKey<Level> dimensionKey = explorationKey.get();
+        long seed = DimensionRegistrar.getInstance().getDimensionSeed(dimensionKey).orElse(0L);
+        int radius = Integer.getInteger(PROPERTY_PREFIX + "radius",
+            BrecherConfig.forDimension(dimensionKey.location()).pregenDefaultRadius());
+        int[] shard = parseShard();
+        if (shard != null && System.getProperty(PROPERTY_PREFIX + "seed") == null) {
+            LOGGER.warn("Sharded headless pregen without an explicit seed; every worker must generate the same seed");
+        }
+        ChunkStatus target = GenerationTask.parseTargetStatus(
+            System.getProperty(PROPERTY_PREFIX + "status", BrecherConfig.getPregenTargetStatus()));
+        if (target == null) {
+            target = ChunkStatus.FULL;
+        }
+
+        // The next start must come back to this dimension id and seed, even if the run is interrupted
+        long dimensionId = parseDimensionId(dimensionKey.location());
+        if (dimensionId >= 0) {
+            DimensionCounterUtil.rewindCounter(baseDimension, dimensionId);
+            writePrebaked(server, baseDimension, dimensionId, seed);
+        }
+
+        GenerationProgress progress = loadOrCreateProgress(server, dimensionKey, seed, level, radius, target);
+        int batchSize = Math.min(MAX_BATCH_SIZE, Math.max(16, Runtime.getRuntime().availableProcessors() * 8));
+        LOGGER.info("Headless pregen of {} (seed {}): radius {}, target {}, {} chunks per batch, resuming at {}%",
+            dimensionKey.location(), seed, progress.getSpiralIterator().getMaxRadius(), GenerationTask.getStatusName(target),
+            batchSize, progress.getProgressPercent());
+        if (shard != null) {
+            LOGGER.info("Headless pregen is shard {} of {}, generating only the regions it owns", shard[0], shard[1]);
+        }
+        active = new Run(server, level, dimensionKey, progress, target, shard, batchSize);
+    }
+
+    /**
+     * Advance the headless pregen without blocking (called every server tick)
+     */
+    public static void tick(MinecraftServer server) {
+        Run run = active;
+        if (run != null && run.tick()) {
+            active = null;
+            run.finish();
+        }
+    }
+
+    /**
+     * One headless run. Tickets for a whole batch are placed at once so the worldgen executor
+     * works on every chunk of the batch in parallel; each tick checks whether the batch is done
+     * and, once it is, releases it and tickets the next one.
+     */
+    private static final class Run {
+        private final MinecraftServer server;
+        private final ServerLevel level;
+        private final ResourceKey<Level> dimensionKey;
+        private final GenerationProgress progress;
+        private final SpiralIterator iterator;
+        private final ChunkStatus target;
+        private final int[] shard;
+        private final int batchSize;
+        private final int ticketDistance;
+        private final boolean partial;
+        private final StructureIndex structureIndex;
+        private final List<ChunkPos> batch = new ArrayList<>();
+        private final List<CompletableFuture<ChunkResult<ChunkAccess>>> futures = new ArrayList<>();
+        private final long startNanos = System.nanoTime();
+        private final long startVisited;
+        private long lastLog = System.currentTimeMillis();
+        private int sinceCheckpoint = 0;
+
+        Run(MinecraftServer server, ServerLevel level, ResourceKey<Level> dimensionKey, GenerationProgress progress,
+            ChunkStatus target, int[] shard, int batchSize) {
+            this.server = server;
+            this.level = level;
+            this.dimensionKey = dimensionKey;
+            this.progress = progress;
+            this.iterator = progress.getSpiralIterator();
+            this.target = target;
+            this.shard = shard;
+            this.batchSize = batchSize;
+            this.ticketDistance = GenerationTask.getTicketDistance(target);
+            this.partial = !target.isOrAfter(ChunkStatus.FULL);
+            this.structureIndex = BrecherSavedData.get(server).getOrCreateStructureIndex(dimensionKey.location());
+            this.startVisited = progress.getChunksGenerated();
+        }
+
+        /**
+         * @return whether the run has finished
+         */
+        boolean tick() {
+            if (!batch.isEmpty()) {
+                for (CompletableFuture<ChunkResult<ChunkAccess>> future : futures) {
+                    if (!future.isDone()) {
+                        return false;
+                    }
+                }
+                completeBatch();
+            }
+            return !startBatch();
+        }
+
+        /**
+         * Ticket the next batch of chunks owned by this worker
+         * @return false once the spiral is exhausted
+         */
+        private boolean startBatch() {
+            ServerChunkCache source = level.getChunkSource();
+            while (batch.isEmpty() && iterator.hasNext()) {
+                while (batch.size() < batchSize && iterator.hasNext()) {
+                    ChunkPos pos = iterator.next();
+                    if (shard != null && RegionShardMerge.shardOf(pos.getRegionX(), pos.getRegionZ(), shard[1]) != shard[0]) {
+                        // Another worker owns this region; count it as visited so progress follows the spiral
+                        progress.incrementChunksGenerated();
+                        continue;
+                    }
+                    batch.add(pos);
+                }
+            }
+            if (batch.isEmpty()) {
+                return false;
+            }
+
+            // Ticket the whole batch before requesting any of it, so it all generates at once
+            for (ChunkPos pos : batch) {
+                source.addRegionTicket(HEADLESS_TICKET, pos, ticketDistance, pos);
+            }
+            for (ChunkPos pos : batch) {
+                futures.add(source.getChunkFuture(pos.x, pos.z, target, true));
+            }
+            return true;
+        }
+
+        private void completeBatch() {
+            ServerChunkCache source = level.getChunkSource();
+            for (int i = 0; i < batch.size(); i++) {
+                ChunkPos pos = batch.get(i);
+                ChunkResult<ChunkAccess> result = futures.get(i).getNow(null);
+                ChunkAccess chunk = result == null ? null : result.orElse(null);
+                if (chunk != null) {
+                    structureIndex.recordChunk(level, chunk);
+                    progress.incrementChunksActuallyGenerated();
+                    if (partial) {
+                        progress.incrementChunksPartial();
+                    }
+                } else {
+                    LOGGER.warn("Headless pregen skipped chunk {} in {}: {}", pos, dimensionKey.location(),
+                        result == null ? "no result" : result.getError());
+                    progress.incrementSkippedChunks();
+                }
+                progress.incrementChunksGenerated();
+            }
+
+            // Release the batch; the chunk map saves and unloads it as the server ticks
+            for (ChunkPos pos : batch) {
+                source.removeRegionTicket(HEADLESS_TICKET, pos, ticketDistance, pos);
+            }
+            sinceCheckpoint += batch.size();
+            batch.clear();
+            futures.clear();
+
+            if (sinceCheckpoint >= CHECKPOINT_INTERVAL_CHUNKS) {
+                sinceCheckpoint = 0;
+                checkpoint(server, level, dimensionKey, progress);
+            }
+
+            long now = System.currentTimeMillis();
+            if (now - lastLog >= LOG_INTERVAL_MS) {
+                lastLog = now;
+                double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+                LOGGER.info("Headless pregen {}: {}% ({}/{} chunks, {} chunks/s)", dimensionKey.location(),
+                    progress.getProgressPercent(), progress.getChunksGenerated(), iterator.getTotalChunks(),
+                    String.format("%.1f", (progress.getChunksGenerated() - startVisited) / seconds));
+            }
+        }
+
+        void finish() {
+            progress.setStatus(GenerationProgress.Status.COMPLETED);
+            checkpoint(server, level, dimensionKey, progress);
+            LOGGER.info("Headless pregen of {} finished: {} chunks in {} s ({} skipped), stopping server",
+                dimensionKey.location(), progress.getChunksGenerated() - startVisited,
+                (System.nanoTime() - startNanos) / 1_000_000_000L, progress.getSkippedChunksCount());
+            if (shard != null) {
+                LOGGER.info("Merge this shard with: RegionShardMerge <target dimension dir> {} {}={}", shard[1],
+                    DimensionType.getStorageFolder(dimensionKey, server.getWorldPath(LevelResource.ROOT)).toAbsolutePath(), shard[0]);
+            }
+            server.halt(false);
+        }
+    }
+
+    private static GenerationProgress loadOrCreateProgress(MinecraftServer server, ResourceKey<Level> dimensionKey,
+                                                           long seed, ServerLevel level, int radius, ChunkStatus target) {
+        GenerationProgress saved = BrecherSavedData.get(server).getPregenTasks().get(dimensionKey.location());
+        if (saved != null && saved.getDimensionSeed() == seed && saved.getSpiralIterator() != null
+            && saved.getSpiralIterator().getMaxRadius() == radius && saved.getTargetStatus() == target
+            && saved.getStatus() != GenerationProgress.Status.COMPLETED) {
+            saved.setStatus(GenerationProgress.Status.RUNNING);
+            return saved;
+        }
+
+        int centerX = level.getSharedSpawnPos().getX() >> 4;
+        int centerZ = level.getSharedSpawnPos().getZ() >> 4;
+        GenerationProgress progress = new GenerationProgress(dimensionKey.location(), seed, centerX, centerZ, radius);
+        progress.setTargetStatus(target);
+        return progress;
+    }
+
+    private static void checkpoint(MinecraftServer server, ServerLevel level, ResourceKey<Level> dimensionKey,
+                                   GenerationProgress progress) {
+        BrecherSavedData data = BrecherSavedData.get(server);
+        data.addPregenTask(dimensionKey.location(), progress);
+        level.save(null, true, false);
+        server.overworld().getDataStorage().save();
+        LOGGER.debug("Headless pregen checkpoint for {} at {} chunks", dimensionKey.location(), progress.getChunksGenerated());
+    }
+
+    /**
+     * Parse the shard property as {index, count}, or null for an unsharded run
+     */
+    private static int[] parseShard() {
+        String value = System.getProperty(PROPERTY_PREFIX + "shard");
+        if (value == null) {
+            return null;
+        }
+        String[] parts = value.trim().split("/");
+        try {
+            int index = Integer.parseInt(parts[0].trim());
+            int count = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : 0;
+            if (count > 1 && index >= 0 && index < count) {
+                return new int[] {index, count};
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        LOGGER.error("Invalid headless pregen shard '{}' (expected <index>/<count>), generating the whole area", value);
+        return null;
+    }
+
+    private static ResourceLocation getBaseDimension() {
+        String value = System.getProperty(PROPERTY_PREFIX + "dimension");
+        return value == null ? null : ResourceLocation.tryParse(value.trim());
+    }
+
+    /**
+     * Extract the numeric id from a name like exploration_overworld_5
+     */
+    private static long parseDimensionId(ResourceLocation location) {
+        String path = location.getPath();
+        try {
+            return Long.parseLong(path.substring(path.lastIndexOf('_') + 1));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Cannot determine dimension id of {}, the baked dimension will not be reused", location);
+            return -1;
+        }
+    }
+
+    private static Path getPrebakedPath(MinecraftServer server) {
+        return server.getWorldPath(LevelResource.ROOT).resolve("data").resolve(PREBAKED_FILE);
+    }
+
+    /**
+     * Read base dimension -> {dimension id, seed} entries
+     */
+    private static Map<String, long[]> readPrebaked(MinecraftServer server) {
+        Map<String, long[]> entries = new HashMap<>();
+        Path path = getPrebakedPath(server);
+        if (!Files.exists(path)) {
+            return entries;
+        }
+        try {
+            for (String line : Files.readAllLines(path)) {
+                String[] parts = line.split("=");
+                String[] values = parts.length == 2 ? parts[1].split(":") : new String[0];
+                if (values.length == 2) {
+                    entries.put(parts[0].trim(), new long[] {Long.parseLong(values[0].trim()), Long.parseLong(values[1].trim())});
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.error("Failed to read pre-generated dimension list", e);
+        }
+        return entries;
+    }
+
+    private static void writePrebaked(MinecraftServer server, ResourceLocation baseDimension, long dimensionId, long seed) {
+        Map<String, long[]> entries = readPrebaked(server);
+        entries.put(baseDimension.toString(), new long[] {dimensionId, seed});
+        StringBuilder content = new StringBuilder();
+        entries.forEach((base, entry) -> content.append(base).append("=").append(entry[0]).append(":").append(entry[1]).append("\n"));
+        try {
+            Path path = getPrebakedPath(server);
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, content.toString());
+        } catch (IOException e) {
+            LOGGER.error("Failed to record pre-generated dimension {} #{}", baseDimension, dimensionId, e);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.generation;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.dimension.DimensionRegistrar;
+import org.slf4j.Logger;
+
+import java.util.*;
+
+/**
+ * Generates chunks ahead of players travelling fast through exploration dimensions.
+ *
+ * <p>Player positions are sampled every few ticks. For anyone moving faster than a
+ * sprint, a cone of chunks along their heading is queued on a LOW priority
+ * {@link GenerationTask} for the dimension. That task requests the chunks with
+ * tickets and chunk futures, so worldgen never blocks the server thread, and keeps
+ * a bounded number of them in flight. The lookahead grows with speed and shrinks as
+ * MSPT rises, so elytra flights pre-generate their path while a struggling server
+ * is left alone.
+ *
+ * <p>All methods are expected to be called from the server thread.
+ */
+public class PredictiveGenerator {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final int SAMPLE_INTERVAL_TICKS = 10;
+    // Blocks per tick; sprinting is ~0.28, elytra and boats on ice are well above this
+    private static final double MIN_SPEED = 0.6;
+    // How far ahead in time the cone reaches at full lookahead
+    private static final int LOOKAHEAD_TICKS = 100;
+    // Cone half-width in chunks per chunk of depth
+    private static final double CONE_SPREAD = 0.35;
+    // Same MSPT marks as teleport admission: full lookahead below, none above
+    private static final double MSPT_LOW = 30.0;
+    private static final double MSPT_HIGH = 50.0;
+    private static final int MAX_QUEUED_PER_DIMENSION = 512;
+    private static final int RECENT_LIMIT = 4096;
+
+    private record Sample(ResourceKey<Level> dimension, double x, double z, int tick) {}
+
+    private static final Map<UUID, Sample> lastSamples = new HashMap<>();
+    private static final Map<ResourceKey<Level>, GenerationTask> tasks = new HashMap<>();
+    // Chunks queued recently per dimension, so overlapping cones are not re-queued
+    private static final Map<ResourceKey<Level>, LinkedHashSet<Long>> recentlyQueued = new HashMap<>();
+    private static int tickCounter = 0;
+
+    /**
+     * Sample players and advance predictive tasks (called every server tick)
+     */
+    public static void tick(MinecraftServer server) {
+        if (!BrecherConfig.isPregenPredictiveEnabled()) {
+            if (!tasks.isEmpty() || !lastSamples.isEmpty()) {
+                shutdown(server);
+            }
+            return;
+        }
+
+        if (++tickCounter >= SAMPLE_INTERVAL_TICKS) {
+            tickCounter = 0;
+            sample(server);
+        }
+
+        Iterator<Map.Entry<ResourceKey<Level>, GenerationTask>> it = tasks.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<ResourceKey<Level>, GenerationTask> entry = it.next();
+            ServerLevel level = server.getLevel(entry.getKey());
+            if (level == null) {
+                it.remove();
+                recentlyQueued.remove(entry.getKey());
+                continue;
+            }
+            // The spawn stages own the dimension's budget until they finish
+            if (ChunkPreGenerator.hasSpawnTask(entry.getKey())) {
+                continue;
+            }
+            entry.getValue().processNextBatch(level);
+        }
+    }
+
+    /**
+     * Number of chunks currently queued ahead of players in a dimension
+     */
+    public static int getQueuedCount(ResourceKey<Level> dimensionKey) {
+        GenerationTask task = tasks.get(dimensionKey);
+        return task == null ? 0 : task.getQueuedCount();
+    }
+
+    /**
+     * Number of pregen tickets held by the predictive task of a dimension
+     */
+    public static int getPendingTicketCount(ResourceKey<Level> dimensionKey) {
+        GenerationTask task = tasks.get(dimensionKey);
+        return task == null ? 0 : task.getPendingTicketCount();
+    }
+
+    /**
+     * Release tickets and clear all state (called on server shutdown)
+     */
+    public static void shutdown(MinecraftServer server) {
+        for (Map.Entry<ResourceKey<Level>, GenerationTask> entry : tasks.entrySet()) {
+            entry.getValue().releaseTickets(server == null ? null : server.getLevel(entry.getKey()));
+        }
+        tasks.clear();
+        recentlyQueued.clear();
+        lastSamples.clear();
+        tickCounter = 0;
+    }
+
+    private static void sample(MinecraftServer server) {
+        int now = server.getTickCount();
+        double lookaheadScale = getLookaheadScale(server);
+        Map<UUID, Sample> samples = new HashMap<>();
+
+        for (Map.Entry<ResourceKey<Level>, ServerLevel> entry : DimensionRegistrar.getInstance().getRuntimeDimensions().entrySet()) {
+            ServerLevel level = entry.getValue();
+            for (ServerPlayer player : level.players()) {
+                if (player.isSpectator()) {
+                    continue;
+                }
+                Sample current = new Sample(entry.getKey(), player.getX(), player.getZ(), now);
+                samples.put(player.getUUID(), current);
+
+                Sample previous = lastSamples.get(player.getUUID());
+                if (previous == null || !previous.dimension().equals(current.dimension()) || lookaheadScale <= 0.0) {
+                    continue;
+                }
+                predict(level, previous, current, lookaheadScale);
+            }
+        }
+
+        // Players who left exploration dimensions or disconnected drop out here
+        lastSamples.clear();
+        lastSamples.putAll(samples);
+    }
+
+    private static void predict(ServerLevel level, Sample previous, Sample current, double lookaheadScale) {
+        int elapsed = current.tick() - previous.tick();
+        if (elapsed <= 0) {
+            return;
+        }
+        double dx = current.x() - previous.x();
+        double dz = current.z() - previous.z();
+        double distance = Math.sqrt(dx * dx + dz * dz);
+        double speed = distance / elapsed;
+        if (speed < MIN_SPEED) {
+            return;
+        }
+
+        int depth = (int) Math.min(BrecherConfig.getPregenPredictiveMaxLookahead(),
+            speed * LOOKAHEAD_TICKS / 16.0 * lookaheadScale);
+        if (depth < 1) {
+            return;
+        }
+
+        // Unit heading and its perpendicular
+        double hx = dx / distance;
+        double hz = dz / distance;
+        double px = -hz;
+        double pz = hx;
+
+        ResourceKey<Level> dimension = current.dimension();
+        LinkedHashSet<Long> recent = recentlyQueued.computeIfAbsent(dimension, k -> new LinkedHashSet<>());
+        GenerationTask task = null;
+        int queued = 0;
+
+        // Nearest slices first so the queue matches the order the player reaches them
+        cone:
+        for (int step = 1; step <= depth; step++) {
+            int halfWidth = (int) Math.ceil(step * CONE_SPREAD);
+            double cx = current.x() + hx * step * 16.0;
+            double cz = current.z() + hz * step * 16.0;
+            for (int offset = -halfWidth; offset <= halfWidth; offset++) {
+                int chunkX = ((int) Math.floor(cx + px * offset * 16.0)) >> 4;
+                int chunkZ = ((int) Math.floor(cz + pz * offset * 16.0)) >> 4;
+                long key = ChunkPos.asLong(chunkX, chunkZ);
+                if (!level.getWorldBorder().isWithinBounds(new ChunkPos(chunkX, chunkZ))
+                    || level.getChunkSource().getChunkNow(chunkX, chunkZ) != null
+                    || recent.contains(key)) {
+                    continue;
+                }
+                if (task == null) {
+                    task = getOrCreateTask(dimension);
+                }
+                // A full queue keeps the nearer chunks it already has; the rest of the cone is further out
+                if (!task.enqueue(new ChunkPos(chunkX, chunkZ), MAX_QUEUED_PER_DIMENSION)) {
+                    break cone;
+                }
+                recent.add(key);
+                if (recent.size() > RECENT_LIMIT) {
+                    Iterator<Long> oldest = recent.iterator();
+                    oldest.next();
+                    oldest.remove();
+                }
+                queued++;
+            }
+        }
+
+        if (queued > 0) {
+            LOGGER.debug("Queued {} chunks ahead of player moving {} blocks/tick in {} (depth {})",
+                queued, String.format("%.2f", speed), dimension.location(), depth);
+        }
+    }
+
+    private static GenerationTask getOrCreateTask(ResourceKey<Level> dimension) {
+        return tasks.computeIfAbsent(dimension, key -> new GenerationTask(key,
+            DimensionRegistrar.getInstance().getDimensionSeed(key).orElse(0L)));
+    }
+
+    /**
+     * Scale the lookahead down linearly between the MSPT marks
+     */
+    private static double getLookaheadScale(MinecraftServer server) {
+        double mspt = server.getAverageTickTimeNanos() / 1_000_000.0;
+        return Math.max(0.0, Math.min(1.0, (MSPT_HIGH - mspt) / (MSPT_HIGH - MSPT_LOW)));
+    }
+}
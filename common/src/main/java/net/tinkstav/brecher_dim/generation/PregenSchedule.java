@@ -0,0 +1,207 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.generation;
+
+import com.mojang.logging.LogUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Time windows that override background generation intensity.
+ *
+ * <p>Each window names the days it applies to and a start and end time in server
+ * local time; a window whose end is before its start runs past midnight into the
+ * next day. While a window is active its batch size, tick budget and player
+ * setting replace the background_pregen values. The first matching window wins.
+ */
+public class PregenSchedule {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final Set<DayOfWeek> ALL_DAYS = EnumSet.allOf(DayOfWeek.class);
+
+    /**
+     * A scheduled intensity window
+     */
+    public record Window(String name, Set<DayOfWeek> days, LocalTime start, LocalTime end,
+                         int chunksPerTick, int maxTickMs, boolean pauseWithPlayers) {
+
+        /**
+         * Check if the window covers a point in time
+         */
+        public boolean contains(LocalDateTime time) {
+            LocalTime clock = time.toLocalTime();
+            DayOfWeek day = time.getDayOfWeek();
+            if (start.isBefore(end)) {
+                return days.contains(day) && !clock.isBefore(start) && clock.isBefore(end);
+            }
+            // Runs past midnight: the evening part belongs to today, the morning part to yesterday
+            return (days.contains(day) && !clock.isBefore(start))
+                || (days.contains(day.minus(1)) && clock.isBefore(end));
+        }
+
+        /**
+         * Next time this window opens strictly after the given time
+         */
+        public LocalDateTime nextStart(LocalDateTime after) {
+            for (int offset = 0; offset <= 7; offset++) {
+                LocalDateTime candidate = after.toLocalDate().plusDays(offset).atTime(start);
+                if (candidate.isAfter(after) && days.contains(candidate.getDayOfWeek())) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Summary for admin output
+         */
+        public String describe() {
+            return String.format("%s (%s %s-%s: %s, %d ms/tick, %s)", name, formatDays(days), start, end,
+                chunksPerTick == 0 ? "ticks_per_chunk rate" : chunksPerTick + " chunks/tick",
+                maxTickMs, pauseWithPlayers ? "pauses with players" : "ignores players");
+        }
+    }
+
+    /**
+     * A window and the time it next opens
+     */
+    public record Upcoming(Window window, LocalDateTime start) {}
+
+    /**
+     * Get the window active at a point in time, or null if none applies
+     */
+    @Nullable
+    public static Window getActive(List<Window> windows, LocalDateTime now) {
+        for (Window window : windows) {
+            if (window.contains(now)) {
+                return window;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the window that opens next after a point in time, or null if there are none
+     */
+    @Nullable
+    public static Upcoming getNext(List<Window> windows, LocalDateTime now) {
+        Upcoming next = null;
+        for (Window window : windows) {
+            LocalDateTime start = window.nextStart(now);
+            if (start != null && (next == null || start.isBefore(next.start()))) {
+                next = new Upcoming(window, start);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Parse the schedule list from the YAML config, skipping invalid entries with a warning
+     */
+    public static List<Window> parse(List<?> rawWindows, int defaultMaxTickMs, boolean defaultPauseWithPlayers) {
+        List<Window> windows = new ArrayList<>();
+        for (int i = 0; i < rawWindows.size(); i++) {
+            if (!(rawWindows.get(i) instanceof Map<?, ?> raw)) {
+                LOGGER.warn("Invalid pregen schedule entry #{}: expected a map", i + 1);
+                continue;
+            }
+            String name = raw.get("name") instanceof String s ? s : "window " + (i + 1);
+            try {
+                Set<DayOfWeek> days = parseDays(getDaySpec(raw.get("days")));
+                LocalTime start = LocalTime.parse(String.valueOf(raw.get("start")));
+                LocalTime end = LocalTime.parse(String.valueOf(raw.get("end")));
+                if (start.equals(end)) {
+                    LOGGER.warn("Invalid pregen schedule window '{}': start and end are the same", name);
+                    continue;
+                }
+                int chunksPerTick = raw.get("chunks_per_tick") instanceof Number n ? n.intValue() : 0;
+                int maxTickMs = raw.get("max_tick_ms") instanceof Number n ? n.intValue() : defaultMaxTickMs;
+                boolean pauseWithPlayers = raw.get("pause_with_players") instanceof Boolean b ? b : defaultPauseWithPlayers;
+                windows.add(new Window(name, days, start, end,
+                    Math.max(0, Math.min(50, chunksPerTick)), Math.max(1, Math.min(50, maxTickMs)), pauseWithPlayers));
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                LOGGER.warn("Invalid pregen schedule window '{}': {}", name, e.getMessage());
+            }
+        }
+        LOGGER.debug("Loaded {} pregen schedule windows", windows.size());
+        return List.copyOf(windows);
+    }
+
+    /**
+     * Day spec from a window's days value: a string, or a list of day specs joined with commas.
+     * A missing value means every day.
+     */
+    private static String getDaySpec(Object raw) {
+        if (raw == null) {
+            return "*";
+        }
+        if (raw instanceof String spec) {
+            return spec;
+        }
+        if (raw instanceof List<?> list) {
+            StringJoiner joiner = new StringJoiner(",");
+            for (Object day : list) {
+                joiner.add(String.valueOf(day));
+            }
+            return joiner.toString();
+        }
+        throw new IllegalArgumentException("days must be a string or a list, got '" + raw + "'");
+    }
+
+    /**
+     * Parse a day spec: "*", "weekdays", "weekends", or comma-separated days and ranges like "mon-fri,sun"
+     */
+    static Set<DayOfWeek> parseDays(String spec) {
+        String value = spec.trim().toLowerCase(Locale.ROOT);
+        switch (value) {
+            case "*", "daily", "" -> { return ALL_DAYS; }
+            case "weekdays" -> { return EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY); }
+            case "weekends" -> { return EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY); }
+            default -> { }
+        }
+
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String part : value.split(",")) {
+            String[] range = part.trim().split("-");
+            DayOfWeek first = parseDay(range[0]);
+            DayOfWeek last = range.length > 1 ? parseDay(range[1]) : first;
+            // Ranges may wrap the week, e.g. fri-mon
+            for (DayOfWeek day = first; ; day = day.plus(1)) {
+                days.add(day);
+                if (day == last) {
+                    break;
+                }
+            }
+        }
+        return days;
+    }
+
+    private static DayOfWeek parseDay(String token) {
+        String prefix = token.trim();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (prefix.length() >= 3 && day.name().toLowerCase(Locale.ROOT).startsWith(prefix)) {
+                return day;
+            }
+        }
+        throw new IllegalArgumentException("unknown day '" + token + "'");
+    }
+
+    private static String formatDays(Set<DayOfWeek> days) {
+        if (days.size() == 7) {
+            return "daily";
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        for (DayOfWeek day : days) {
+            joiner.add(day.name().substring(0, 3).toLowerCase(Locale.ROOT));
+        }
+        return joiner.toString();
+    }
+}
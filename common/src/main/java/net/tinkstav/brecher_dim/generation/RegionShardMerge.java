@@ -0,0 +1,181 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.generation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Merges the output of sharded headless pregen workers into one dimension folder.
+ *
+ * <p>Shards are whole region files (see {@link #shardOf}), so merging is a file move per
+ * region rather than a chunk copy. Workers also write partial neighbour chunks into
+ * regions they do not own while generating their edges; those files are left behind,
+ * since the owning worker produced the complete version. Every moved region file has
+ * its header checked first, and oversized chunk files (.mcc) follow their region.
+ *
+ * <p>Runs without a server:
+ * {@code java -cp <mod jar> net.tinkstav.brecher_dim.generation.RegionShardMerge
+ * <target dimension dir> <shard count> <worker dimension dir>=<shard index>...}
+ * Stop the target server first; the dimension must not be loaded while files are moved.
+ */
+public class RegionShardMerge {
+    private static final String[] SUBFOLDERS = {"region", "entities", "poi"};
+    private static final Pattern REGION_FILE = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
+    private static final Pattern EXTERNAL_CHUNK_FILE = Pattern.compile("c\\.(-?\\d+)\\.(-?\\d+)\\.mcc");
+    private static final int SECTOR_BYTES = 4096;
+
+    /**
+     * Outcome of a merge
+     */
+    public record Result(int moved, int foreign, int invalid, int conflicts) {}
+
+    /**
+     * Shard that owns a region. Diagonal stripes keep shards balanced for any square area.
+     */
+    public static int shardOf(int regionX, int regionZ, int shardCount) {
+        return Math.floorMod(regionX + regionZ, shardCount);
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.err.println("Usage: RegionShardMerge <target dimension dir> <shard count> <worker dimension dir>=<shard index>...");
+            System.exit(2);
+        }
+
+        Path target = Path.of(args[0]);
+        int shardCount = Integer.parseInt(args[1]);
+        Map<Path, Integer> shards = new LinkedHashMap<>();
+        for (int i = 2; i < args.length; i++) {
+            int split = args[i].lastIndexOf('=');
+            if (split < 0) {
+                System.err.println("Missing shard index in '" + args[i] + "'");
+                System.exit(2);
+            }
+            shards.put(Path.of(args[i].substring(0, split)), Integer.parseInt(args[i].substring(split + 1)));
+        }
+
+        try {
+            Result result = merge(target, shardCount, shards);
+            System.out.printf("Moved %d files, left %d foreign files, %d invalid, %d already present in target%n",
+                result.moved(), result.foreign(), result.invalid(), result.conflicts());
+            System.exit(result.invalid() > 0 || result.conflicts() > 0 ? 1 : 0);
+        } catch (IOException e) {
+            System.err.println("Merge failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Move every region file a worker owns into the target dimension folder.
+     * Files that already exist in the target are never overwritten.
+     */
+    public static Result merge(Path target, int shardCount, Map<Path, Integer> shards) throws IOException {
+        int moved = 0;
+        int foreign = 0;
+        int invalid = 0;
+        int conflicts = 0;
+
+        for (Map.Entry<Path, Integer> shard : shards.entrySet()) {
+            for (String subfolder : SUBFOLDERS) {
+                Path source = shard.getKey().resolve(subfolder);
+                if (!Files.isDirectory(source)) {
+                    continue;
+                }
+                Path destination = target.resolve(subfolder);
+                Files.createDirectories(destination);
+
+                try (Stream<Path> files = Files.list(source)) {
+                    for (Path file : (Iterable<Path>) files::iterator) {
+                        int[] region = regionOf(file.getFileName().toString());
+                        if (region == null) {
+                            continue;
+                        }
+                        if (shardOf(region[0], region[1], shardCount) != shard.getValue()) {
+                            foreign++;
+                            continue;
+                        }
+                        if (file.getFileName().toString().endsWith(".mca") && !verifyHeader(file)) {
+                            System.err.println("Invalid region header, not merged: " + file);
+                            invalid++;
+                            continue;
+                        }
+                        Path destinationFile = destination.resolve(file.getFileName());
+                        if (Files.exists(destinationFile)) {
+                            System.err.println("Already present in target, not merged: " + destinationFile);
+                            conflicts++;
+                            continue;
+                        }
+                        move(file, destinationFile);
+                        moved++;
+                    }
+                }
+            }
+        }
+        return new Result(moved, foreign, invalid, conflicts);
+    }
+
+    /**
+     * Region coordinates of a region or external chunk file, or null for anything else
+     */
+    private static int[] regionOf(String fileName) {
+        Matcher region = REGION_FILE.matcher(fileName);
+        if (region.matches()) {
+            return new int[] {Integer.parseInt(region.group(1)), Integer.parseInt(region.group(2))};
+        }
+        Matcher chunk = EXTERNAL_CHUNK_FILE.matcher(fileName);
+        if (chunk.matches()) {
+            return new int[] {Integer.parseInt(chunk.group(1)) >> 5, Integer.parseInt(chunk.group(2)) >> 5};
+        }
+        return null;
+    }
+
+    /**
+     * Check that a region file has a complete header and every chunk entry points inside the file
+     */
+    static boolean verifyHeader(Path file) throws IOException {
+        long size = Files.size(file);
+        if (size < 2L * SECTOR_BYTES || size % SECTOR_BYTES != 0) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.allocate(SECTOR_BYTES);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Keep reading until the offset table is complete
+            }
+        }
+        header.flip();
+        long sectors = size / SECTOR_BYTES;
+        while (header.remaining() >= Integer.BYTES) {
+            int entry = header.getInt();
+            if (entry == 0) {
+                continue;
+            }
+            int offset = entry >>> 8;
+            int count = entry & 0xFF;
+            if (offset < 2 || count == 0 || offset + count > sectors) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void move(Path source, Path destination) throws IOException {
+        try {
+            Files.move(source, destination, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Different file system; fall back to copy and delete
+            Files.move(source, destination);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.generation;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.levelgen.structure.StructureStart;
+
+import java.util.*;
+
+/**
+ * Structure starts found while pre-generating one exploration dimension.
+ *
+ * <p>Every chunk pregen visits already has its structure starts, so recording them costs
+ * a map lookup per chunk and lets admins and placement code find structures without the
+ * outward search {@code /locate} performs. Entries are packed per structure type as runs
+ * of {@link #ENTRY_INTS} ints (start chunk and bounding box) and saved next to the
+ * dimension's {@link GenerationProgress}. The index goes away with the dimension.
+ */
+public class StructureIndex {
+    private static final int ENTRY_INTS = 8;
+
+    /**
+     * An indexed structure start
+     */
+    public record Entry(ResourceLocation structure, ChunkPos chunk, BoundingBox box) {
+        /**
+         * Squared horizontal distance from a block position to the centre of the structure
+         */
+        public long distanceSqr(int blockX, int blockZ) {
+            long dx = (box.minX() + box.maxX()) / 2 - blockX;
+            long dz = (box.minZ() + box.maxZ()) / 2 - blockZ;
+            return dx * dx + dz * dz;
+        }
+    }
+
+    private final Map<ResourceLocation, IntArrayList> entries = new HashMap<>();
+    // Start chunks already recorded per structure type, so upgrade passes don't add duplicates
+    private final Map<ResourceLocation, LongOpenHashSet> recorded = new HashMap<>();
+
+    /**
+     * Record the structure starts of a chunk at or past STRUCTURE_STARTS
+     * @return the number of new starts recorded
+     */
+    public int recordChunk(ServerLevel level, ChunkAccess chunk) {
+        Map<Structure, StructureStart> starts = chunk.getAllStarts();
+        if (starts.isEmpty()) {
+            return 0;
+        }
+        Registry<Structure> registry = level.registryAccess().registryOrThrow(Registries.STRUCTURE);
+        int added = 0;
+        for (Map.Entry<Structure, StructureStart> start : starts.entrySet()) {
+            ResourceLocation id = registry.getKey(start.getKey());
+            if (id != null && start.getValue().isValid()
+                && add(id, start.getValue().getChunkPos(), start.getValue().getBoundingBox())) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    private boolean add(ResourceLocation structure, ChunkPos chunk, BoundingBox box) {
+        if (!recorded.computeIfAbsent(structure, k -> new LongOpenHashSet()).add(chunk.toLong())) {
+            return false;
+        }
+        IntArrayList packed = entries.computeIfAbsent(structure, k -> new IntArrayList());
+        packed.addElements(packed.size(),
+            new int[] {chunk.x, chunk.z, box.minX(), box.minY(), box.minZ(), box.maxX(), box.maxY(), box.maxZ()});
+        return true;
+    }
+
+    /**
+     * Find the indexed start of a structure type closest to a block position
+     */
+    public Optional<Entry> findNearest(ResourceLocation structure, int blockX, int blockZ) {
+        IntArrayList packed = entries.get(structure);
+        if (packed == null) {
+            return Optional.empty();
+        }
+        Entry nearest = null;
+        long nearestDistance = Long.MAX_VALUE;
+        for (int i = 0; i < packed.size(); i += ENTRY_INTS) {
+            Entry entry = unpack(structure, packed, i);
+            long distance = entry.distanceSqr(blockX, blockZ);
+            if (distance < nearestDistance) {
+                nearest = entry;
+                nearestDistance = distance;
+            }
+        }
+        return Optional.ofNullable(nearest);
+    }
+
+    /**
+     * Find all indexed starts of a structure type within a block radius, nearest first
+     */
+    public List<Entry> findWithin(ResourceLocation structure, int blockX, int blockZ, int radius) {
+        IntArrayList packed = entries.get(structure);
+        if (packed == null) {
+            return List.of();
+        }
+        long radiusSqr = (long) radius * radius;
+        List<Entry> found = new ArrayList<>();
+        for (int i = 0; i < packed.size(); i += ENTRY_INTS) {
+            Entry entry = unpack(structure, packed, i);
+            if (entry.distanceSqr(blockX, blockZ) <= radiusSqr) {
+                found.add(entry);
+            }
+        }
+        found.sort(Comparator.comparingLong(entry -> entry.distanceSqr(blockX, blockZ)));
+        return found;
+    }
+
+    /**
+     * Number of indexed starts per structure type
+     */
+    public Map<ResourceLocation, Integer> getCounts() {
+        Map<ResourceLocation, Integer> counts = new TreeMap<>();
+        entries.forEach((structure, packed) -> counts.put(structure, packed.size() / ENTRY_INTS));
+        return counts;
+    }
+
+    public int size() {
+        int total = 0;
+        for (IntArrayList packed : entries.values()) {
+            total += packed.size() / ENTRY_INTS;
+        }
+        return total;
+    }
+
+    private static Entry unpack(ResourceLocation structure, IntArrayList packed, int offset) {
+        return new Entry(structure, new ChunkPos(packed.getInt(offset), packed.getInt(offset + 1)),
+            new BoundingBox(packed.getInt(offset + 2), packed.getInt(offset + 3), packed.getInt(offset + 4),
+                packed.getInt(offset + 5), packed.getInt(offset + 6), packed.getInt(offset + 7)));
+    }
+
+    /**
+     * Serialize as one int array per structure type
+     */
+    public CompoundTag toNbt() {
+        CompoundTag tag = new CompoundTag();
+        entries.forEach((structure, packed) -> tag.putIntArray(structure.toString(), packed.toIntArray()));
+        return tag;
+    }
+
+    /**
+     * Deserialize from NBT, skipping malformed structure types
+     */
+    public static StructureIndex fromNbt(CompoundTag tag) {
+        StructureIndex index = new StructureIndex();
+        for (String key : tag.getAllKeys()) {
+            ResourceLocation structure = ResourceLocation.tryParse(key);
+            int[] packed = tag.getIntArray(key);
+            if (structure == null || packed.length % ENTRY_INTS != 0) {
+                continue;
+            }
+            for (int i = 0; i < packed.length; i += ENTRY_INTS) {
+                index.add(structure, new ChunkPos(packed[i], packed[i + 1]),
+                    new BoundingBox(packed[i + 2], packed[i + 3], packed[i + 4], packed[i + 5], packed[i + 6], packed[i + 7]));
+            }
+        }
+        return index;
+    }
+}
@@ -5,12 +5,20 @@
 
 package net.tinkstav.brecher_dim.network;
 
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.tinkstav.brecher_dim.BrecherDimensions;
+import net.tinkstav.brecher_dim.client.ChunkedRegistryAssembler;
 import net.tinkstav.brecher_dim.network.payload.*;
 import net.tinkstav.brecher_dim.platform.Services;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Cross-platform networking handler using platform-specific implementations
  * This delegates to Fabric or NeoForge networking APIs via service loader pattern
@@ -30,6 +38,10 @@ public class BrecherNetworking {
     public static final ResourceLocation CHUNKED_REGISTRY_SYNC = 
         ResourceLocation.fromNamespaceAndPath(BrecherDimensions.MOD_ID, "chunked_registry_sync");
     
+    // Compressed bytes per chunked registry sync part
+    private static final int CHUNK_SIZE = 32 * 1024;
+    private static final AtomicInteger nextTransferId = new AtomicInteger();
+    
     /**
      * Initialize networking channels and register packet handlers
      * Platform-specific registration happens in each platform module
@@ -41,31 +53,17 @@ public class BrecherNetworking {
     }
     
     /**
-     * Send a dimension sync packet to a specific player
-     */
-    public static void sendDimensionSync(ServerPlayer player, ResourceLocation dimensionId, boolean exists) {
-        Services.PACKETS.sendToPlayer(player, new DimensionSyncPayload(dimensionId, exists));
-    }
-    
-    /**
-     * Send a dimension sync packet to all players
-     */
-    public static void sendDimensionSyncToAll(ResourceLocation dimensionId, boolean exists) {
-        Services.PACKETS.sendToAllPlayers(new DimensionSyncPayload(dimensionId, exists));
-    }
-    
-    /**
-     * Send a dimension reset notification to a player
+     * Send a dimension reset notification to a player at the end of the tick
      */
     public static void sendDimensionReset(ServerPlayer player, ResourceLocation dimensionId, long resetTime) {
-        Services.PACKETS.sendToPlayer(player, new DimensionResetPayload(dimensionId, resetTime));
+        OutboundCoalescer.queue(player, new DimensionResetPayload(dimensionId, resetTime));
     }
     
     /**
-     * Send a reset warning to a player
+     * Send a reset warning to a player at the end of the tick
      */
     public static void sendResetWarning(ServerPlayer player, int minutesRemaining, String message) {
-        Services.PACKETS.sendToPlayer(player, new ResetWarningPayload(minutesRemaining, message));
+        OutboundCoalescer.queue(player, new ResetWarningPayload(minutesRemaining, message));
     }
     
     /**
@@ -83,9 +81,29 @@ public class BrecherNetworking {
     }
     
     /**
-     * Send chunked registry sync data to a player
+     * Compress registry data once and queue it as consecutive slices of the compressed stream
+     * for the end of the tick, in order with the player's other packets
+     * @return false if the data could not be encoded or is more than the client accepts
      */
-    public static void sendChunkedRegistrySync(ServerPlayer player, int chunkIndex, int totalChunks, byte[] nbtData) {
-        Services.PACKETS.sendToPlayer(player, new ChunkedRegistrySyncPayload(chunkIndex, totalChunks, nbtData));
+    public static boolean sendChunkedRegistrySync(ServerPlayer player, CompoundTag registryData) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            NbtIo.writeCompressed(registryData, out);
+        } catch (IOException e) {
+            BrecherDimensions.LOGGER.error("Failed to encode registry sync for {}", player.getName().getString(), e);
+            return false;
+        }
+        byte[] compressed = out.toByteArray();
+        int totalChunks = Math.max(1, (compressed.length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        if (compressed.length > ChunkedRegistryAssembler.MAX_TOTAL_BYTES || totalChunks > ChunkedRegistryAssembler.MAX_PARTS) {
+            return false;
+        }
+        int transferId = nextTransferId.incrementAndGet();
+        for (int chunkIndex = 0; chunkIndex < totalChunks; chunkIndex++) {
+            int from = chunkIndex * CHUNK_SIZE;
+            byte[] chunk = Arrays.copyOfRange(compressed, from, Math.min(compressed.length, from + CHUNK_SIZE));
+            OutboundCoalescer.queue(player, new ChunkedRegistrySyncPayload(transferId, chunkIndex, totalChunks, chunk));
+        }
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,291 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.network;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.border.BorderChangeListener;
+import net.minecraft.world.level.border.WorldBorder;
+import net.tinkstav.brecher_dim.accessor.IServerDimensionAccessor;
+import net.tinkstav.brecher_dim.dimension.BrecherDimensionManager;
+import net.tinkstav.brecher_dim.network.payload.DimensionRegistrySyncPayload;
+import org.slf4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps clients' view of the exploration dimension registry up to date with deltas.
+ *
+ * <p>The server describes each runtime exploration dimension with a small property tag
+ * (parent dimension, dimension type, border). Whenever a dimension is added or removed
+ * or its properties change, the registry epoch goes up and the dimensions touched are
+ * recorded for that epoch. Each player is sent only the dimensions touched since the
+ * epoch they were last sent; a full snapshot goes out on join, when the player's epoch
+ * has fallen out of the retained history, or when the client reports that it could not
+ * apply a delta (see {@link #onClientEpochReport}).
+ *
+ * <p>Snapshots of at least {@link #CHUNKED_SNAPSHOT_MIN_DIMENSIONS} dimensions go out as a
+ * chunked transfer queued in the same place as the deltas, so they still arrive in epoch
+ * order; the client holds back later deltas until the transfer is decoded.
+ */
+public class DimensionSyncTracker {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final int MAX_HISTORY = 64;
+    // Snapshots this large are compressed and sent in parts instead of as one payload
+    private static final int CHUNKED_SNAPSHOT_MIN_DIMENSIONS = 128;
+
+    // Epoch last sent to each player; deltas are built from here
+    private static final Map<UUID, Long> sentEpochs = new ConcurrentHashMap<>();
+    // Dimensions touched by each epoch, oldest first
+    private static final Deque<EpochChange> history = new ArrayDeque<>();
+    private static Map<ResourceLocation, CompoundTag> current = Map.of();
+    private static long epoch = 0;
+    private static volatile boolean propertiesDirty = false;
+    // Syncs requested during the tick, sent from tick()
+    private static final Set<UUID> pendingPlayers = ConcurrentHashMap.newKeySet();
+    private static volatile boolean pendingAll = false;
+
+    private record EpochChange(long epoch, Set<ResourceLocation> touched) {}
+
+    /**
+     * Marks the registry for a refresh when the border of an exploration dimension changes
+     */
+    public static final BorderChangeListener BORDER_LISTENER = new BorderChangeListener() {
+        @Override
+        public void onBorderSizeSet(WorldBorder border, double size) {
+            propertiesDirty = true;
+        }
+
+        @Override
+        public void onBorderSizeLerping(WorldBorder border, double oldSize, double newSize, long time) {
+            propertiesDirty = true;
+        }
+
+        @Override
+        public void onBorderCenterSet(WorldBorder border, double x, double z) {
+            propertiesDirty = true;
+        }
+
+        @Override
+        public void onBorderSetWarningTime(WorldBorder border, int warningTime) {
+        }
+
+        @Override
+        public void onBorderSetWarningBlocks(WorldBorder border, int warningBlocks) {
+        }
+
+        @Override
+        public void onBorderSetDamagePerBlock(WorldBorder border, double damagePerBlock) {
+        }
+
+        @Override
+        public void onBorderSetDamageSafeZOne(WorldBorder border, double damageSafeZone) {
+        }
+    };
+
+    /**
+     * Send a player whatever changed since the epoch they were last sent, at the end of the tick
+     */
+    public static void syncToPlayer(ServerPlayer player) {
+        pendingPlayers.add(player.getUUID());
+    }
+
+    /**
+     * Send every player whatever changed since the epoch they were last sent, at the end of the tick
+     */
+    public static void syncToAll(MinecraftServer server) {
+        pendingAll = true;
+    }
+
+    /**
+     * Queue the syncs requested during the tick, so several changes in one tick become
+     * a single delta per player (called at the end of every server tick)
+     */
+    public static void tick(MinecraftServer server) {
+        if (propertiesDirty || pendingAll) {
+            propertiesDirty = false;
+            pendingAll = false;
+            pendingPlayers.clear();
+            if (refresh(server)) {
+                for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+                    send(player);
+                }
+            }
+        } else if (!pendingPlayers.isEmpty()) {
+            List<UUID> players = new ArrayList<>(pendingPlayers);
+            pendingPlayers.removeAll(players);
+            if (refresh(server)) {
+                for (UUID playerId : players) {
+                    ServerPlayer player = server.getPlayerList().getPlayer(playerId);
+                    if (player != null) {
+                        send(player);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A client reported the epoch it actually has applied, because a delta did not
+     * match its state. Continue from there, or from a full snapshot if it has none.
+     */
+    public static void onClientEpochReport(ServerPlayer player, long appliedEpoch) {
+        LOGGER.debug("Player {} reported registry epoch {}, resyncing", player.getName().getString(), appliedEpoch);
+        if (appliedEpoch < 0) {
+            sentEpochs.remove(player.getUUID());
+        } else {
+            sentEpochs.put(player.getUUID(), appliedEpoch);
+        }
+        syncToPlayer(player);
+    }
+
+    /**
+     * Forget what a player was sent (called when they disconnect)
+     */
+    public static void onPlayerLeft(UUID playerId) {
+        sentEpochs.remove(playerId);
+        pendingPlayers.remove(playerId);
+    }
+
+    /**
+     * Current registry epoch
+     */
+    public static synchronized long getEpoch() {
+        return epoch;
+    }
+
+    public static synchronized void reset() {
+        sentEpochs.clear();
+        history.clear();
+        current = Map.of();
+        epoch = 0;
+        propertiesDirty = false;
+        pendingPlayers.clear();
+        pendingAll = false;
+    }
+
+    /**
+     * Rebuild the property tags of all runtime dimensions and start a new epoch if anything changed
+     * @return false if the server has no runtime dimension support
+     */
+    private static synchronized boolean refresh(MinecraftServer server) {
+        if (!(server instanceof IServerDimensionAccessor accessor)) {
+            return false;
+        }
+        Map<ResourceLocation, CompoundTag> latest = new HashMap<>();
+        for (Map.Entry<ResourceKey<Level>, ServerLevel> entry : accessor.brecher_dim$getRuntimeLevels().entrySet()) {
+            latest.put(entry.getKey().location(), describe(entry.getKey(), entry.getValue()));
+        }
+
+        Set<ResourceLocation> touched = new HashSet<>();
+        latest.forEach((id, properties) -> {
+            if (!properties.equals(current.get(id))) {
+                touched.add(id);
+            }
+        });
+        for (ResourceLocation id : current.keySet()) {
+            if (!latest.containsKey(id)) {
+                touched.add(id);
+            }
+        }
+
+        if (!touched.isEmpty()) {
+            current = latest;
+            epoch++;
+            history.addLast(new EpochChange(epoch, touched));
+            while (history.size() > MAX_HISTORY) {
+                history.removeFirst();
+            }
+            LOGGER.debug("Dimension registry epoch {}: {} dimensions changed", epoch, touched.size());
+        }
+        return true;
+    }
+
+    private static synchronized void send(ServerPlayer player) {
+        Long sent = sentEpochs.get(player.getUUID());
+        if (sent != null && sent == epoch) {
+            return;
+        }
+
+        DimensionRegistrySyncPayload payload = sent != null ? createDelta(sent) : null;
+        if (payload == null) {
+            if (current.size() >= CHUNKED_SNAPSHOT_MIN_DIMENSIONS
+                    && BrecherNetworking.sendChunkedRegistrySync(player, createSnapshotTag())) {
+                sentEpochs.put(player.getUUID(), epoch);
+                LOGGER.debug("Sent chunked registry snapshot for epoch {} to {} ({} dimensions)", epoch,
+                    player.getName().getString(), current.size());
+                return;
+            }
+            payload = new DimensionRegistrySyncPayload(DimensionRegistrySyncPayload.FULL_SNAPSHOT, epoch,
+                new HashMap<>(current), List.of());
+        }
+        sentEpochs.put(player.getUUID(), epoch);
+        OutboundCoalescer.queue(player, payload);
+        LOGGER.debug("Sent registry epoch {} to {} ({} updated, {} removed, base {})", epoch,
+            player.getName().getString(), payload.dimensions().size(), payload.removed().size(), payload.baseEpoch());
+    }
+
+    /**
+     * Build the delta from an epoch to the current one, or null if the history no longer reaches back that far
+     */
+    private static DimensionRegistrySyncPayload createDelta(long fromEpoch) {
+        if (fromEpoch > epoch || history.isEmpty() || history.peekFirst().epoch() > fromEpoch + 1) {
+            return null;
+        }
+        Set<ResourceLocation> touched = new HashSet<>();
+        for (EpochChange change : history) {
+            if (change.epoch() > fromEpoch) {
+                touched.addAll(change.touched());
+            }
+        }
+        Map<ResourceLocation, CompoundTag> updated = new HashMap<>();
+        List<ResourceLocation> removed = new ArrayList<>();
+        for (ResourceLocation id : touched) {
+            CompoundTag properties = current.get(id);
+            if (properties != null) {
+                updated.put(id, properties);
+            } else {
+                removed.add(id);
+            }
+        }
+        return new DimensionRegistrySyncPayload(fromEpoch, epoch, updated, removed);
+    }
+
+    /**
+     * Full snapshot in the form the client decodes from a chunked transfer
+     */
+    private static CompoundTag createSnapshotTag() {
+        CompoundTag dimensions = new CompoundTag();
+        current.forEach((id, properties) -> dimensions.put(id.toString(), properties));
+        CompoundTag snapshot = new CompoundTag();
+        snapshot.putLong("epoch", epoch);
+        snapshot.put("dimensions", dimensions);
+        return snapshot;
+    }
+
+    /**
+     * Client-relevant properties of a runtime dimension
+     */
+    private static CompoundTag describe(ResourceKey<Level> key, ServerLevel level) {
+        CompoundTag properties = new CompoundTag();
+        BrecherDimensionManager.getParentDimension(key)
+            .ifPresent(parent -> properties.putString("parent", parent.location().toString()));
+        level.dimensionTypeRegistration().unwrapKey()
+            .ifPresent(type -> properties.putString("type", type.location().toString()));
+        WorldBorder border = level.getWorldBorder();
+        properties.putDouble("border_center_x", border.getCenterX());
+        properties.putDouble("border_center_z", border.getCenterZ());
+        properties.putDouble("border_size", border.getLerpTarget());
+        return properties;
+    }
+}
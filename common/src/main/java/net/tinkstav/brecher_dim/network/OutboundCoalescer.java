@@ -0,0 +1,147 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.network;
+
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.tinkstav.brecher_dim.network.payload.DimensionResetPayload;
+import net.tinkstav.brecher_dim.network.payload.ResetWarningPayload;
+import net.tinkstav.brecher_dim.platform.Services;
+
+import java.util.*;
+
+/**
+ * Collects exploration announcements during a tick and sends each player one bundle at the end.
+ *
+ * <p>Messages that describe state rather than events supersede earlier ones in the same
+ * tick: a later reset notice for a dimension replaces the earlier one, and a later
+ * reset warning replaces the earlier warning. Other messages are only deduplicated when
+ * identical and otherwise kept in queue order. Broadcasts are expanded to the players
+ * online at flush time.
+ */
+public class OutboundCoalescer {
+    // Most payloads a vanilla client accepts in one bundle
+    private static final int MAX_BUNDLE_SIZE = 4096;
+
+    private static final Map<UUID, LinkedHashMap<Object, CustomPacketPayload>> pendingPlayers = new LinkedHashMap<>();
+    private static final LinkedHashMap<Object, CustomPacketPayload> pendingBroadcasts = new LinkedHashMap<>();
+    private static long queuedPayloads = 0;
+    private static long supersededPayloads = 0;
+    private static long sentPayloads = 0;
+    private static long sentBundles = 0;
+
+    /**
+     * Bundle counters since server start
+     */
+    public record CoalescerStats(long queued, long superseded, long sentPayloads, long sentBundles) {
+        public double payloadsPerBundle() {
+            return sentBundles == 0 ? 0 : (double) sentPayloads / sentBundles;
+        }
+    }
+
+    /**
+     * Queue a payload for a player, sent at the end of the tick
+     */
+    public static synchronized void queue(ServerPlayer player, CustomPacketPayload payload) {
+        add(pendingPlayers.computeIfAbsent(player.getUUID(), id -> new LinkedHashMap<>()), payload);
+    }
+
+    /**
+     * Queue a payload for every player online at the end of the tick
+     */
+    public static synchronized void queueAll(CustomPacketPayload payload) {
+        add(pendingBroadcasts, payload);
+    }
+
+    private static void add(LinkedHashMap<Object, CustomPacketPayload> queue, CustomPacketPayload payload) {
+        queuedPayloads++;
+        Object key = supersedeKey(payload);
+        // Re-inserting moves a superseding message to the back, after anything queued in between
+        if (queue.remove(key) != null) {
+            supersededPayloads++;
+        }
+        queue.put(key, payload);
+    }
+
+    /**
+     * Send every player their bundle (called at the end of each server tick)
+     */
+    public static void flush(MinecraftServer server) {
+        Map<UUID, LinkedHashMap<Object, CustomPacketPayload>> players;
+        List<CustomPacketPayload> broadcasts;
+        synchronized (OutboundCoalescer.class) {
+            if (pendingPlayers.isEmpty() && pendingBroadcasts.isEmpty()) {
+                return;
+            }
+            players = new LinkedHashMap<>(pendingPlayers);
+            broadcasts = new ArrayList<>(pendingBroadcasts.values());
+            pendingPlayers.clear();
+            pendingBroadcasts.clear();
+        }
+
+        // Messages queued for players who left during the tick are dropped with the copy
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            LinkedHashMap<Object, CustomPacketPayload> own = players.remove(player.getUUID());
+            List<CustomPacketPayload> bundle;
+            if (own == null) {
+                bundle = broadcasts;
+            } else {
+                // Broadcasts go first; a player's own message for the same key supersedes them
+                LinkedHashMap<Object, CustomPacketPayload> merged = new LinkedHashMap<>();
+                for (CustomPacketPayload payload : broadcasts) {
+                    merged.put(supersedeKey(payload), payload);
+                }
+                own.forEach((key, payload) -> {
+                    merged.remove(key);
+                    merged.put(key, payload);
+                });
+                bundle = new ArrayList<>(merged.values());
+            }
+            send(player, bundle);
+        }
+    }
+
+    private static void send(ServerPlayer player, List<CustomPacketPayload> payloads) {
+        for (int from = 0; from < payloads.size(); from += MAX_BUNDLE_SIZE) {
+            List<CustomPacketPayload> bundle = payloads.subList(from, Math.min(payloads.size(), from + MAX_BUNDLE_SIZE));
+            if (bundle.size() == 1) {
+                Services.PACKETS.sendToPlayer(player, bundle.get(0));
+            } else {
+                Services.PACKETS.sendBundleToPlayer(player, bundle);
+            }
+            synchronized (OutboundCoalescer.class) {
+                sentPayloads += bundle.size();
+                sentBundles++;
+            }
+        }
+    }
+
+    /**
+     * Key under which a later payload replaces an earlier one; other payloads only replace an equal one
+     */
+    private static Object supersedeKey(CustomPacketPayload payload) {
+        if (payload instanceof DimensionResetPayload p) {
+            return List.of(p.type(), p.dimensionId());
+        } else if (payload instanceof ResetWarningPayload p) {
+            return p.type();
+        }
+        return payload;
+    }
+
+    public static synchronized CoalescerStats getStats() {
+        return new CoalescerStats(queuedPayloads, supersededPayloads, sentPayloads, sentBundles);
+    }
+
+    public static synchronized void reset() {
+        pendingPlayers.clear();
+        pendingBroadcasts.clear();
+        queuedPayloads = 0;
+        supersededPayloads = 0;
+        sentPayloads = 0;
+        sentBundles = 0;
+    }
+}
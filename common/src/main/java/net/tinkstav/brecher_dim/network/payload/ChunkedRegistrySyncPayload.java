@@ -13,9 +13,10 @@ import net.minecraft.resources.ResourceLocation;
 import net.tinkstav.brecher_dim.BrecherDimensions;
 
 /**
- * Packet payload for sending large dimension lists in chunks
+ * Packet payload for sending large dimension lists in chunks; each part is a consecutive
+ * slice of one compressed NBT compound, and all parts of one compound share a transfer id
  */
-public record ChunkedRegistrySyncPayload(int chunkIndex, int totalChunks, byte[] nbtData) implements CustomPacketPayload {
+public record ChunkedRegistrySyncPayload(int transferId, int chunkIndex, int totalChunks, byte[] nbtData) implements CustomPacketPayload {
     // Type wrapper for the packet
     public static final CustomPacketPayload.Type<ChunkedRegistrySyncPayload> TYPE = 
         new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath(BrecherDimensions.MOD_ID, "chunked_registry_sync"));
@@ -24,15 +25,17 @@ public record ChunkedRegistrySyncPayload(int chunkIndex, int totalChunks, byte[]
     public static final StreamCodec<RegistryFriendlyByteBuf, ChunkedRegistrySyncPayload> STREAM_CODEC = 
         StreamCodec.of(
             (buf, payload) -> {
+                ByteBufCodecs.VAR_INT.encode(buf, payload.transferId);
                 ByteBufCodecs.VAR_INT.encode(buf, payload.chunkIndex);
                 ByteBufCodecs.VAR_INT.encode(buf, payload.totalChunks);
                 ByteBufCodecs.BYTE_ARRAY.encode(buf, payload.nbtData);
             },
             (buf) -> {
+                int transferId = ByteBufCodecs.VAR_INT.decode(buf);
                 int chunkIndex = ByteBufCodecs.VAR_INT.decode(buf);
                 int totalChunks = ByteBufCodecs.VAR_INT.decode(buf);
                 byte[] nbtData = ByteBufCodecs.BYTE_ARRAY.decode(buf);
-                return new ChunkedRegistrySyncPayload(chunkIndex, totalChunks, nbtData);
+                return new ChunkedRegistrySyncPayload(transferId, chunkIndex, totalChunks, nbtData);
             }
         );
     
@@ -0,0 +1,35 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.network.payload;
+
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.tinkstav.brecher_dim.BrecherDimensions;
+
+/**
+ * Packet payload from the client reporting the registry epoch it last applied,
+ * sent when a delta does not match its state (-1 if it has none)
+ */
+public record DimensionRegistryEpochPayload(long appliedEpoch) implements CustomPacketPayload {
+    // Type wrapper for the packet
+    public static final CustomPacketPayload.Type<DimensionRegistryEpochPayload> TYPE = 
+        new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath(BrecherDimensions.MOD_ID, "dimension_registry_epoch"));
+    
+    // StreamCodec for serialization
+    public static final StreamCodec<RegistryFriendlyByteBuf, DimensionRegistryEpochPayload> STREAM_CODEC = 
+        StreamCodec.composite(
+            ByteBufCodecs.VAR_LONG, DimensionRegistryEpochPayload::appliedEpoch,
+            DimensionRegistryEpochPayload::new
+        );
+    
+    @Override
+    public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
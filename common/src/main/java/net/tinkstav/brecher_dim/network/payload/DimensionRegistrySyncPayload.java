@@ -0,0 +1,51 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.network.payload;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.tinkstav.brecher_dim.BrecherDimensions;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Packet payload moving the client's exploration dimension registry from one epoch to another.
+ * A delta carries only the dimensions added, changed or removed since baseEpoch; a full
+ * snapshot ({@link #FULL_SNAPSHOT} as base) carries every dimension and replaces the client's set.
+ */
+public record DimensionRegistrySyncPayload(long baseEpoch, long epoch, Map<ResourceLocation, CompoundTag> dimensions,
+                                           List<ResourceLocation> removed) implements CustomPacketPayload {
+    public static final long FULL_SNAPSHOT = -1;
+    
+    // Type wrapper for the packet
+    public static final CustomPacketPayload.Type<DimensionRegistrySyncPayload> TYPE = 
+        new CustomPacketPayload.Type<>(ResourceLocation.fromNamespaceAndPath(BrecherDimensions.MOD_ID, "dimension_registry_sync"));
+    
+    // StreamCodec for serialization
+    public static final StreamCodec<RegistryFriendlyByteBuf, DimensionRegistrySyncPayload> STREAM_CODEC = 
+        StreamCodec.composite(
+            ByteBufCodecs.VAR_LONG, DimensionRegistrySyncPayload::baseEpoch,
+            ByteBufCodecs.VAR_LONG, DimensionRegistrySyncPayload::epoch,
+            ByteBufCodecs.map(HashMap::new, ResourceLocation.STREAM_CODEC, ByteBufCodecs.COMPOUND_TAG), DimensionRegistrySyncPayload::dimensions,
+            ResourceLocation.STREAM_CODEC.apply(ByteBufCodecs.list()), DimensionRegistrySyncPayload::removed,
+            DimensionRegistrySyncPayload::new
+        );
+    
+    public boolean isFullSnapshot() {
+        return baseEpoch == FULL_SNAPSHOT;
+    }
+    
+    @Override
+    public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -12,6 +12,7 @@ import net.minecraft.world.level.ChunkPos;
 import net.minecraft.resources.ResourceLocation;
 import net.tinkstav.brecher_dim.BrecherDimensions;
 import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.config.DimensionConfig;
 import net.tinkstav.brecher_dim.dimension.BrecherDimensionManager;
 import com.mojang.logging.LogUtils;
 import org.slf4j.Logger;
@@ -192,6 +193,11 @@ public class ChunkManager {
         stats.put("totalLoaded", chunkLoadCounts.getOrDefault(dimensionId, 0));
         stats.put("totalUnloaded", chunkUnloadCounts.getOrDefault(dimensionId, 0));
         
+        // Limits from the dimension's effective settings
+        DimensionConfig dimensionConfig = BrecherConfig.forDimension(dimensionId);
+        stats.put("maxChunksPerPlayer", dimensionConfig.maxChunksPerPlayer());
+        stats.put("unloadDelay", dimensionConfig.chunkUnloadDelay());
+        
         return stats;
     }
     
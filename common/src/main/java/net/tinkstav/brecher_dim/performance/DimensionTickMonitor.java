@@ -0,0 +1,160 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.performance;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.generation.ChunkPreGenerator;
+import net.tinkstav.brecher_dim.generation.GenerationTask;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks tick cost of exploration dimensions and decides when an idle
+ * exploration level may skip its entity, block entity and random ticking.
+ *
+ * <p>A level is idle when it has no players, no running pregen task and no
+ * forced chunks. Idle levels still run a full tick every heartbeat interval
+ * so scheduled work keeps advancing slowly. The idle check runs at the start
+ * of every level tick, so a level resumes on the first tick after a player
+ * or pregen task arrives.
+ *
+ * <p>All methods are expected to be called from the server thread.
+ */
+public class DimensionTickMonitor {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    // Weight of the newest sample in the moving average of tick cost
+    private static final double AVERAGE_WEIGHT = 0.05;
+
+    private static final Map<ResourceKey<Level>, TickStats> tickStats = new ConcurrentHashMap<>();
+
+    /**
+     * Per-dimension tick state
+     */
+    private static class TickStats {
+        boolean suspended = false;
+        boolean skipping = false;
+        long tickStartNanos = 0;
+        long lastTickNanos = 0;
+        double averageTickNanos = 0;
+        long totalTicks = 0;
+        long suspendedTicks = 0;
+        long suspendedSince = 0;
+    }
+
+    /**
+     * Snapshot of a dimension's tick state for admin reporting
+     */
+    public record TickReport(boolean suspended, double averageTickMs, double lastTickMs,
+                             long totalTicks, long suspendedTicks, long suspendedForMs) {}
+
+    /**
+     * Called at the start of an exploration level tick.
+     * @return true if entity, block entity and random ticking should be skipped this tick
+     */
+    public static boolean beginTick(ServerLevel level) {
+        TickStats stats = tickStats.computeIfAbsent(level.dimension(), k -> new TickStats());
+        stats.tickStartNanos = System.nanoTime();
+        stats.totalTicks++;
+
+        boolean idle = BrecherConfig.isSuspendIdleDimensions() && isIdle(level);
+        if (idle != stats.suspended) {
+            stats.suspended = idle;
+            if (idle) {
+                stats.suspendedSince = System.currentTimeMillis();
+                LOGGER.debug("Suspending ticking for idle exploration dimension {}", level.dimension().location());
+            } else {
+                LOGGER.debug("Resuming ticking for exploration dimension {} after {} ms",
+                    level.dimension().location(), System.currentTimeMillis() - stats.suspendedSince);
+            }
+        }
+
+        if (stats.suspended) {
+            stats.suspendedTicks++;
+            // Let a full tick through every heartbeat interval
+            stats.skipping = stats.suspendedTicks % BrecherConfig.getIdleHeartbeatInterval() != 0;
+        } else {
+            stats.skipping = false;
+        }
+        return stats.skipping;
+    }
+
+    /**
+     * Called at the end of an exploration level tick to record its cost
+     */
+    public static void endTick(ServerLevel level) {
+        TickStats stats = tickStats.get(level.dimension());
+        if (stats == null || stats.tickStartNanos == 0) {
+            return;
+        }
+
+        long elapsed = System.nanoTime() - stats.tickStartNanos;
+        stats.lastTickNanos = elapsed;
+        stats.averageTickNanos = stats.averageTickNanos == 0
+            ? elapsed
+            : stats.averageTickNanos + AVERAGE_WEIGHT * (elapsed - stats.averageTickNanos);
+        stats.tickStartNanos = 0;
+    }
+
+    /**
+     * Check if the current tick of a level is being skipped
+     */
+    public static boolean isSkippingTick(ServerLevel level) {
+        TickStats stats = tickStats.get(level.dimension());
+        return stats != null && stats.skipping;
+    }
+
+    /**
+     * Check if a level is currently considered idle
+     */
+    public static boolean isSuspended(ResourceKey<Level> dimension) {
+        TickStats stats = tickStats.get(dimension);
+        return stats != null && stats.suspended;
+    }
+
+    /**
+     * Get a tick report for a dimension, or null if it has not ticked yet
+     */
+    public static TickReport getReport(ResourceKey<Level> dimension) {
+        TickStats stats = tickStats.get(dimension);
+        if (stats == null) {
+            return null;
+        }
+        long suspendedFor = stats.suspended ? System.currentTimeMillis() - stats.suspendedSince : 0;
+        return new TickReport(stats.suspended, stats.averageTickNanos / 1_000_000.0,
+            stats.lastTickNanos / 1_000_000.0, stats.totalTicks, stats.suspendedTicks, suspendedFor);
+    }
+
+    /**
+     * Clear all tracking data (called on server shutdown)
+     */
+    public static void shutdown() {
+        tickStats.clear();
+    }
+
+    private static boolean isIdle(ServerLevel level) {
+        if (!level.players().isEmpty()) {
+            return false;
+        }
+
+        if (ChunkPreGenerator.hasSpawnTask(level.dimension())) {
+            return false;
+        }
+
+        GenerationTask task = ChunkPreGenerator.getActiveTasks().get(level.dimension());
+        if (task != null && (task.isRunning() || task.getPendingTicketCount() > 0)) {
+            return false;
+        }
+
+        return level.getForcedChunks().isEmpty();
+    }
+}
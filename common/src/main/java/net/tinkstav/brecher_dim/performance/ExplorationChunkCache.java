@@ -0,0 +1,227 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.performance;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.Util;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.tinkstav.brecher_dim.config.BrecherConfig;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Bounded in-memory store for exploration chunks when disk saves are disabled.
+ *
+ * <p>With preventDiskSaves enabled, unloaded exploration chunks would otherwise be
+ * regenerated from scratch every time they are loaded again. Chunk saves are caught
+ * here instead, stored as Deflate-compressed NBT and served back on the next load.
+ * Entries are evicted least-recently-used first once the configured memory budget
+ * is exceeded.
+ *
+ * <p>Chunk NBT is serialized on the server thread by the caller; compression and
+ * decompression run on the background executor. Until compression finishes, the
+ * uncompressed tag is served from a pending map so a quick reload still hits.
+ */
+public class ExplorationChunkCache {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private record CacheKey(ResourceKey<Level> dimension, long chunkPos) {}
+
+    // Access-ordered map gives LRU iteration order; guarded by LOCK
+    private static final Object LOCK = new Object();
+    private static final LinkedHashMap<CacheKey, byte[]> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private static long bytesHeld = 0;
+
+    // Tags waiting for background compression
+    private static final Map<CacheKey, CompoundTag> pending = new ConcurrentHashMap<>();
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong stores = new AtomicLong();
+    private static final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Snapshot of cache metrics for admin reporting
+     */
+    public record CacheStats(int entryCount, long bytesHeld, long budgetBytes,
+                             long hits, long misses, long stores, long evictions) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total * 100.0;
+        }
+    }
+
+    /**
+     * Check if the cache is enabled by config
+     */
+    public static boolean isEnabled() {
+        return BrecherConfig.isPreventDiskSaves() && BrecherConfig.getChunkCacheSizeMb() > 0;
+    }
+
+    /**
+     * Store a serialized chunk. The tag must not be modified by the caller afterwards.
+     */
+    public static void store(ResourceKey<Level> dimension, ChunkPos pos, CompoundTag tag) {
+        CacheKey key = new CacheKey(dimension, pos.toLong());
+        pending.put(key, tag);
+        stores.incrementAndGet();
+
+        CompletableFuture.runAsync(() -> {
+            byte[] compressed;
+            try {
+                compressed = compress(tag);
+            } catch (IOException e) {
+                LOGGER.warn("Failed to compress chunk {} in {}: {}", pos, dimension.location(), e.getMessage());
+                pending.remove(key, tag);
+                return;
+            }
+
+            synchronized (LOCK) {
+                // A newer save of the same chunk may have replaced this one while compressing
+                if (!pending.remove(key, tag)) {
+                    return;
+                }
+                byte[] previous = entries.put(key, compressed);
+                if (previous != null) {
+                    bytesHeld -= previous.length;
+                }
+                bytesHeld += compressed.length;
+                evictToBudget();
+            }
+        }, Util.backgroundExecutor());
+    }
+
+    /**
+     * Load a cached chunk.
+     * @return a future with the chunk NBT, or null if the chunk is not cached
+     */
+    public static CompletableFuture<Optional<CompoundTag>> load(ResourceKey<Level> dimension, ChunkPos pos) {
+        CacheKey key = new CacheKey(dimension, pos.toLong());
+
+        CompoundTag pendingTag = pending.get(key);
+        if (pendingTag != null) {
+            hits.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> Optional.of(pendingTag.copy()), Util.backgroundExecutor());
+        }
+
+        byte[] compressed;
+        synchronized (LOCK) {
+            compressed = entries.get(key);
+        }
+        if (compressed == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return Optional.of(decompress(compressed));
+            } catch (IOException e) {
+                LOGGER.warn("Failed to decompress cached chunk {} in {}, it will be regenerated: {}",
+                    pos, dimension.location(), e.getMessage());
+                return Optional.<CompoundTag>empty();
+            }
+        }, Util.backgroundExecutor());
+    }
+
+    /**
+     * Drop all cached chunks of a dimension
+     */
+    public static void clearDimension(ResourceKey<Level> dimension) {
+        pending.keySet().removeIf(key -> key.dimension().equals(dimension));
+        synchronized (LOCK) {
+            Iterator<Map.Entry<CacheKey, byte[]>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<CacheKey, byte[]> entry = it.next();
+                if (entry.getKey().dimension().equals(dimension)) {
+                    bytesHeld -= entry.getValue().length;
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop everything and reset metrics (called on server shutdown)
+     */
+    public static void clearAll() {
+        pending.clear();
+        synchronized (LOCK) {
+            if (!entries.isEmpty()) {
+                LOGGER.info("Clearing exploration chunk cache ({} chunks, {} KB)", entries.size(), bytesHeld / 1024);
+            }
+            entries.clear();
+            bytesHeld = 0;
+        }
+        hits.set(0);
+        misses.set(0);
+        stores.set(0);
+        evictions.set(0);
+    }
+
+    /**
+     * Get current cache metrics
+     */
+    public static CacheStats getStats() {
+        synchronized (LOCK) {
+            return new CacheStats(entries.size() + pending.size(), bytesHeld, getBudgetBytes(),
+                hits.get(), misses.get(), stores.get(), evictions.get());
+        }
+    }
+
+    private static long getBudgetBytes() {
+        return BrecherConfig.getChunkCacheSizeMb() * 1024L * 1024L;
+    }
+
+    private static void evictToBudget() {
+        long budget = getBudgetBytes();
+        Iterator<Map.Entry<CacheKey, byte[]>> it = entries.entrySet().iterator();
+        while (bytesHeld > budget && it.hasNext()) {
+            Map.Entry<CacheKey, byte[]> eldest = it.next();
+            bytesHeld -= eldest.getValue().length;
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static byte[] compress(CompoundTag tag) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16384);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            NbtIo.write(tag, out);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static CompoundTag decompress(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))) {
+            return NbtIo.read(in, NbtAccounter.unlimitedHeap());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.performance;
+
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.storage.RegionFileVersion;
+import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.config.ConfigSnapshot;
+import net.tinkstav.brecher_dim.config.DimensionConfig;
+import net.tinkstav.brecher_dim.dimension.BrecherDimensionManager;
+import net.tinkstav.brecher_dim.dimension.ExplorationSeedManager;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+
+/**
+ * Resolves the region file compression used for exploration dimensions.
+ *
+ * <p>Exploration dimensions are discarded on rotation, so cheaper codecs than the
+ * world default (usually zlib) are a good trade. Every chunk in a region file
+ * records its own compression id, so files written with different codecs stay
+ * readable.
+ */
+public class RegionCompression {
+    public static final Set<String> CODECS = Set.of("default", "deflate", "lz4", "none");
+
+    /**
+     * Get the codec name configured for an exploration dimension.
+     * A {@code region_compression} dimension override replaces the global codec.
+     */
+    public static String getCodecName(ResourceKey<Level> explorationDimension) {
+        ConfigSnapshot config = BrecherConfig.snapshot();
+        String baseDimension = BrecherDimensionManager.getParentDimension(explorationDimension)
+            .map(parent -> parent.location().toString())
+            .orElse(null);
+        // Mappings may not be registered yet while the level is being created,
+        // so fall back to the base path encoded in "exploration_<base>_<id>"
+        String path = explorationDimension.location().getPath();
+        int lastUnderscore = path.lastIndexOf('_');
+        if (baseDimension == null && path.startsWith("exploration_") && lastUnderscore > "exploration_".length()) {
+            String basePath = path.substring("exploration_".length(), lastUnderscore);
+            for (String dimension : config.dimensionOverrides().keySet()) {
+                if (dimension.endsWith(":" + basePath)) {
+                    baseDimension = dimension;
+                    break;
+                }
+            }
+        }
+        return DimensionConfig.resolve(config, baseDimension).regionCompression();
+    }
+
+    /**
+     * Get the region file version to use for a dimension.
+     * @return the version, or null to keep the world default
+     */
+    @Nullable
+    public static RegionFileVersion forDimension(ResourceKey<Level> dimension) {
+        if (dimension == null || !ExplorationSeedManager.isExplorationDimension(dimension)) {
+            return null;
+        }
+
+        return switch (getCodecName(dimension)) {
+            case "deflate" -> RegionFileVersion.VERSION_DEFLATE;
+            case "lz4" -> RegionFileVersion.VERSION_LZ4;
+            case "none" -> RegionFileVersion.VERSION_NONE;
+            default -> null;
+        };
+    }
+}
@@ -5,8 +5,12 @@
 
 package net.tinkstav.brecher_dim.platform;
 
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Client-side handler for processing packets.
  * Implementations handle platform-specific client logic.
@@ -17,6 +21,11 @@ public interface ClientHandler {
      */
     void handleDimensionSync(ResourceLocation dimensionId, boolean exists);
     
+    /**
+     * Handle dimension registry sync (snapshot or delta) on client
+     */
+    void handleDimensionRegistrySync(long baseEpoch, long epoch, Map<ResourceLocation, CompoundTag> dimensions, List<ResourceLocation> removed);
+    
     /**
      * Handle dimension reset notification on client
      */
@@ -40,5 +49,5 @@ public interface ClientHandler {
     /**
      * Handle chunked registry sync data on client
      */
-    void handleChunkedRegistrySync(int chunkIndex, int totalChunks, byte[] nbtData);
+    void handleChunkedRegistrySync(int transferId, int chunkIndex, int totalChunks, byte[] nbtData);
 }
\ No newline at end of file
@@ -21,6 +21,11 @@ public interface ConfigHandler {
      */
     void reload();
     
+    /**
+     * Stop watching the config file for changes.
+     */
+    void shutdown();
+    
     /**
      * Get the path to the config file.
      */
@@ -8,6 +8,8 @@ package net.tinkstav.brecher_dim.platform;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 
+import java.util.List;
+
 /**
  * Platform-specific packet handling.
  * Each platform implements this differently (Fabric uses ServerPlayNetworking, NeoForge uses SimpleChannel).
@@ -24,6 +26,11 @@ public interface PacketHandler {
      */
     void sendToPlayer(ServerPlayer player, CustomPacketPayload packet);
     
+    /**
+     * Sends several packets to a specific player as one bundle, handled by the client in a single frame.
+     */
+    void sendBundleToPlayer(ServerPlayer player, List<CustomPacketPayload> packets);
+    
     /**
      * Sends a packet to all connected players.
      */
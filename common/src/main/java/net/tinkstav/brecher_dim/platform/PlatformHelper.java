@@ -5,7 +5,9 @@
 
 package net.tinkstav.brecher_dim.platform;
 
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
 import java.nio.file.Path;
 
 /**
@@ -41,4 +43,10 @@ public interface PlatformHelper {
      * Checks if we're in a development environment.
      */
     boolean isDevelopmentEnvironment();
+    
+    /**
+     * Mod data stored in the player's save file and carried over when they respawn.
+     * Changes to the returned tag are saved with the player.
+     */
+    CompoundTag getPersistentData(ServerPlayer player);
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.teleport;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-player cooldowns with O(1) check and update and amortized expiry.
+ *
+ * <p>Each cooldown is stored by its expiry time and also filed into a ring of
+ * one-second buckets. {@link #expire} walks only the buckets that elapsed since
+ * the last call and drops entries whose cooldown is over. Cooldowns longer than
+ * the ring horizon are filed into the furthest bucket and re-filed when the ring
+ * reaches them, like the overflow level of a timing wheel. A refreshed cooldown
+ * leaves a stale reference in its old bucket, which is skipped when drained.
+ *
+ * <p>Not thread-safe; all calls are expected on the server thread.
+ */
+public class CooldownTracker {
+    private static final long BUCKET_MS = 1000;
+    private static final int RING_SIZE = 64;
+
+    private static class Entry {
+        long expiry;
+        long bucket;
+    }
+
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private final List<UUID>[] ring = new List[RING_SIZE];
+    // Absolute index of the last drained bucket
+    private long drained = Long.MIN_VALUE;
+
+    /**
+     * Start a cooldown for a player, replacing any running one
+     */
+    public void start(UUID playerId, long now, long durationMs) {
+        if (durationMs <= 0) {
+            entries.remove(playerId);
+            return;
+        }
+        if (drained == Long.MIN_VALUE) {
+            drained = now / BUCKET_MS - 1;
+        }
+        Entry entry = entries.computeIfAbsent(playerId, k -> new Entry());
+        entry.expiry = now + durationMs;
+        file(playerId, entry);
+    }
+
+    /**
+     * Get the remaining cooldown for a player
+     * @return remaining milliseconds, or 0 if the player is not on cooldown
+     */
+    public long getRemaining(UUID playerId, long now) {
+        Entry entry = entries.get(playerId);
+        return entry == null ? 0 : Math.max(0, entry.expiry - now);
+    }
+
+    /**
+     * Drop cooldowns that have run out (called periodically from the server tick)
+     */
+    public void expire(long now) {
+        if (drained == Long.MIN_VALUE) {
+            return;
+        }
+        long target = now / BUCKET_MS;
+        // A full turn covers every slot, so never walk further than that
+        long first = Math.max(drained + 1, target - RING_SIZE + 1);
+        for (long index = first; index <= target; index++) {
+            int slot = (int) Math.floorMod(index, (long) RING_SIZE);
+            List<UUID> bucket = ring[slot];
+            if (bucket == null) {
+                continue;
+            }
+            ring[slot] = null;
+            drained = index;
+            for (UUID playerId : bucket) {
+                Entry entry = entries.get(playerId);
+                if (entry == null || entry.bucket > index) {
+                    continue; // Removed, or refreshed into a later bucket
+                }
+                if (entry.expiry <= now) {
+                    entries.remove(playerId);
+                } else {
+                    file(playerId, entry);
+                }
+            }
+        }
+        drained = target;
+    }
+
+    /**
+     * Number of players currently tracked
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove all cooldowns
+     */
+    public void clear() {
+        entries.clear();
+        for (int i = 0; i < RING_SIZE; i++) {
+            ring[i] = null;
+        }
+        drained = Long.MIN_VALUE;
+    }
+
+    private void file(UUID playerId, Entry entry) {
+        // Clamp into the ring; anything beyond the horizon is re-filed when reached
+        long index = Math.max(drained + 1, Math.min(entry.expiry / BUCKET_MS, drained + RING_SIZE));
+        entry.bucket = index;
+        int slot = (int) Math.floorMod(index, (long) RING_SIZE);
+        if (ring[slot] == null) {
+            ring[slot] = new ArrayList<>();
+        }
+        ring[slot].add(playerId);
+    }
+}
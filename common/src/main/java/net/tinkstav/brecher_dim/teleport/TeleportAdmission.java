@@ -0,0 +1,245 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.teleport;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.generation.ChunkPreGenerator;
+import org.slf4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Admission control for teleports into exploration dimensions.
+ *
+ * <p>Each arrival loads and generates chunks around the landing point, so a rush
+ * of players into a fresh dimension turns into a server-wide lag spike. Arrivals
+ * are counted as pending for a short settle window after they are admitted; once
+ * maxPendingArrivals is reached further requests wait in a per-dimension queue
+ * and are admitted from the server tick as capacity frees up.
+ *
+ * <p>The cap shrinks as MSPT rises and admissions pause while the dimension's
+ * chunk work backlog is high, but one arrival is always allowed when none are
+ * pending so the queue keeps draining. Queued players see their position in the
+ * action bar.
+ *
+ * <p>Arrivals are also held here while the destination's spawn area is still
+ * being generated (see {@link ChunkPreGenerator#isSpawnReady}), whatever the cap.
+ *
+ * <p>All methods are expected to be called from the server thread.
+ */
+public class TeleportAdmission {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    // An admitted arrival counts as pending for this long while its chunks load
+    private static final int ARRIVAL_SETTLE_TICKS = 100;
+    // Full cap at or below the low mark, a single arrival at or above the high mark
+    private static final double MSPT_LOW = 30.0;
+    private static final double MSPT_HIGH = 50.0;
+    // Pending chunk tasks (including pregen tickets) above which admissions pause
+    private static final int MAX_CHUNK_BACKLOG = 256;
+    private static final int POSITION_UPDATE_INTERVAL_TICKS = 20;
+
+    private static final Map<ResourceKey<Level>, DimensionQueue> queues = new ConcurrentHashMap<>();
+    private static int tickCounter = 0;
+
+    /**
+     * Per-dimension admission state
+     */
+    private static class DimensionQueue {
+        // Queued player -> dimension they queued from
+        final LinkedHashMap<UUID, ResourceKey<Level>> waiting = new LinkedHashMap<>();
+        final ArrayDeque<Integer> recentArrivals = new ArrayDeque<>();
+        long admitted = 0;
+        long queuedTotal = 0;
+    }
+
+    /**
+     * Snapshot of a dimension's admission state for admin reporting
+     */
+    public record AdmissionReport(int waiting, int pendingArrivals, int currentCap, long admitted, long queuedTotal) {}
+
+    /**
+     * Request admission for a teleport into an exploration dimension.
+     * @param spawnReady whether the destination's spawn area has been generated
+     * @return true if the teleport may proceed now, false if the player was queued
+     */
+    public static boolean requestAdmission(ServerPlayer player, ServerLevel destination, boolean spawnReady) {
+        if (spawnReady && BrecherConfig.getMaxPendingArrivals() <= 0) {
+            return true;
+        }
+
+        DimensionQueue queue = queues.computeIfAbsent(destination.dimension(), k -> new DimensionQueue());
+        int now = player.server.getTickCount();
+        expireArrivals(queue, now);
+
+        if (spawnReady && queue.waiting.isEmpty() && canAdmit(destination, queue)) {
+            recordArrival(queue, now);
+            return true;
+        }
+
+        if (queue.waiting.putIfAbsent(player.getUUID(), player.level().dimension()) == null) {
+            queue.queuedTotal++;
+            LOGGER.debug("Queued player {} for {} (position {})",
+                player.getName().getString(), destination.dimension().location(), queue.waiting.size());
+        }
+        sendPosition(player, destination, queue);
+        return false;
+    }
+
+    /**
+     * Admit queued players as capacity allows (called every server tick)
+     */
+    public static void tick(MinecraftServer server) {
+        if (queues.isEmpty()) {
+            return;
+        }
+        tickCounter++;
+        int now = server.getTickCount();
+        boolean sendUpdates = tickCounter % POSITION_UPDATE_INTERVAL_TICKS == 0;
+
+        for (Map.Entry<ResourceKey<Level>, DimensionQueue> entry : queues.entrySet()) {
+            DimensionQueue queue = entry.getValue();
+            expireArrivals(queue, now);
+            if (queue.waiting.isEmpty()) {
+                continue;
+            }
+
+            ServerLevel destination = server.getLevel(entry.getKey());
+            if (destination == null) {
+                queue.waiting.clear();
+                continue;
+            }
+
+            Iterator<Map.Entry<UUID, ResourceKey<Level>>> it = queue.waiting.entrySet().iterator();
+            while (it.hasNext() && canAdmit(destination, queue)) {
+                Map.Entry<UUID, ResourceKey<Level>> waiting = it.next();
+                ServerPlayer player = server.getPlayerList().getPlayer(waiting.getKey());
+                it.remove();
+                // Dead, or moved elsewhere since queueing; the return position would be wrong
+                if (player == null || player.isRemoved() || player.isDeadOrDying()
+                        || !player.level().dimension().equals(waiting.getValue())) {
+                    continue;
+                }
+                recordArrival(queue, now);
+                LOGGER.debug("Admitting queued player {} to {}", player.getName().getString(), entry.getKey().location());
+                TeleportHandler.performTeleportToExploration(player, destination);
+            }
+
+            if (sendUpdates && !queue.waiting.isEmpty()) {
+                int position = 0;
+                for (UUID uuid : queue.waiting.keySet()) {
+                    position++;
+                    ServerPlayer player = server.getPlayerList().getPlayer(uuid);
+                    if (player != null) {
+                        sendPosition(player, destination, position, queue.waiting.size());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove a player from every queue (on logout, death or dimension change)
+     */
+    public static void cancel(UUID playerId) {
+        for (DimensionQueue queue : queues.values()) {
+            queue.waiting.remove(playerId);
+        }
+    }
+
+    /**
+     * Get an admission report for a dimension, or null if nobody has requested it yet
+     */
+    public static AdmissionReport getReport(ServerLevel level) {
+        DimensionQueue queue = queues.get(level.dimension());
+        if (queue == null) {
+            return null;
+        }
+        return new AdmissionReport(queue.waiting.size(), queue.recentArrivals.size(),
+            getCurrentCap(level), queue.admitted, queue.queuedTotal);
+    }
+
+    /**
+     * Clear all queues (called on server shutdown)
+     */
+    public static void shutdown() {
+        queues.clear();
+        tickCounter = 0;
+    }
+
+    private static boolean canAdmit(ServerLevel destination, DimensionQueue queue) {
+        if (!ChunkPreGenerator.isSpawnReady(destination.dimension())) {
+            return false;
+        }
+        if (BrecherConfig.getMaxPendingArrivals() <= 0) {
+            return true;
+        }
+        int pending = queue.recentArrivals.size();
+        if (pending == 0) {
+            return true;
+        }
+        if (pending >= getCurrentCap(destination)) {
+            return false;
+        }
+        return getChunkBacklog(destination) < MAX_CHUNK_BACKLOG;
+    }
+
+    /**
+     * Scale the configured cap down linearly between the MSPT marks
+     */
+    private static int getCurrentCap(ServerLevel level) {
+        int max = BrecherConfig.getMaxPendingArrivals();
+        double mspt = level.getServer().getAverageTickTimeNanos() / 1_000_000.0;
+        double headroom = Math.max(0.0, Math.min(1.0, (MSPT_HIGH - mspt) / (MSPT_HIGH - MSPT_LOW)));
+        return Math.max(1, (int) Math.round(max * headroom));
+    }
+
+    private static int getChunkBacklog(ServerLevel level) {
+        return level.getChunkSource().getPendingTasksCount()
+            + ChunkPreGenerator.getPendingTicketCount(level.dimension());
+    }
+
+    private static void recordArrival(DimensionQueue queue, int now) {
+        queue.recentArrivals.addLast(now);
+        queue.admitted++;
+    }
+
+    private static void expireArrivals(DimensionQueue queue, int now) {
+        while (!queue.recentArrivals.isEmpty() && now - queue.recentArrivals.peekFirst() >= ARRIVAL_SETTLE_TICKS) {
+            queue.recentArrivals.pollFirst();
+        }
+    }
+
+    private static void sendPosition(ServerPlayer player, ServerLevel destination, DimensionQueue queue) {
+        int position = 0;
+        for (UUID uuid : queue.waiting.keySet()) {
+            position++;
+            if (uuid.equals(player.getUUID())) {
+                break;
+            }
+        }
+        sendPosition(player, destination, position, queue.waiting.size());
+    }
+
+    private static void sendPosition(ServerPlayer player, ServerLevel destination, int position, int total) {
+        String reason = ChunkPreGenerator.isSpawnReady(destination.dimension()) ? "Waiting to enter " : "Preparing ";
+        player.displayClientMessage(
+            Component.literal(reason + destination.dimension().location().getPath()
+                + " - position " + position + " of " + total)
+                .withStyle(ChatFormatting.YELLOW),
+            true
+        );
+    }
+}
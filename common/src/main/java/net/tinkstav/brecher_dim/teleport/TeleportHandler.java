@@ -29,31 +29,26 @@ import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.entity.Entity;
 import net.tinkstav.brecher_dim.BrecherDimensions;
 import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.config.ConfigSnapshot;
+import net.tinkstav.brecher_dim.config.DimensionConfig;
 import net.tinkstav.brecher_dim.data.BrecherSavedData;
 import net.tinkstav.brecher_dim.data.ReturnPosition;
 import net.tinkstav.brecher_dim.dimension.BrecherDimensionManager;
 import net.tinkstav.brecher_dim.dimension.SimpleSeedManager;
+import net.tinkstav.brecher_dim.generation.ChunkPreGenerator;
 import net.tinkstav.brecher_dim.platform.Services;
 import net.tinkstav.brecher_dim.util.DimensionEnvironment;
+import net.tinkstav.brecher_dim.util.DimensionUtils;
 import com.mojang.logging.LogUtils;
 import org.slf4j.Logger;
 import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.*;
 
 public class TeleportHandler {
     private static final Logger LOGGER = LogUtils.getLogger();
     private static final int MAX_ATTEMPTS = 100;
-    private static final Map<UUID, Long> lastTeleportTime = new ConcurrentHashMap<>();
-    
-    private static final ScheduledExecutorService CLEANUP_EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
-        Thread t = new Thread(r, "BrecherDim-TeleportCleanup");
-        t.setDaemon(true);
-        return t;
-    });
-    private static final long CLEANUP_INTERVAL_MINUTES = 5;
-    private static final long DATA_RETENTION_MINUTES = 30;
-    private static final int MAX_TELEPORT_RECORDS = 1000;
+    // Driven from the server tick; see expireCooldowns
+    private static final CooldownTracker teleportCooldowns = new CooldownTracker();
     // 5ms = 10% of tick budget (50ms per tick at 20 TPS); prevents server lag during teleport.
     // If no safe position is found within budget, emergency platform is created as fallback.
     private static final long MAX_SEARCH_TIME_MS = 5;
@@ -85,26 +80,6 @@ public class TeleportHandler {
         }
     }
 
-    static {
-        // Schedule periodic cleanup of old teleport time data
-        CLEANUP_EXECUTOR.scheduleAtFixedRate(() -> {
-            try {
-                long cutoffTime = System.currentTimeMillis() - (DATA_RETENTION_MINUTES * 60 * 1000);
-
-                // Clean up old teleport times
-                lastTeleportTime.entrySet().removeIf(entry -> {
-                    Long time = entry.getValue();
-                    return time != null && time < cutoffTime;
-                });
-
-                LOGGER.debug("Cleaned up teleport data. Times: {}", lastTeleportTime.size());
-
-            } catch (Exception e) {
-                LOGGER.error("Error during teleport data cleanup", e);
-            }
-        }, CLEANUP_INTERVAL_MINUTES, CLEANUP_INTERVAL_MINUTES, TimeUnit.MINUTES);
-    }
-    
     /**
      * Teleport a player to an exploration dimension
      */
@@ -114,6 +89,22 @@ public class TeleportHandler {
             return;
         }
 
+        // Queue the arrival while the spawn area is still generating or the
+        // destination is already absorbing too many
+        boolean spawnReady = ChunkPreGenerator.isSpawnReady(destination.dimension());
+        if (!TeleportAdmission.requestAdmission(player, destination, spawnReady)) {
+            return;
+        }
+
+        performTeleportToExploration(player, destination);
+    }
+
+    /**
+     * Teleport a player to an exploration dimension once admitted
+     */
+    static void performTeleportToExploration(ServerPlayer player, ServerLevel destination) {
+        ConfigSnapshot config = BrecherConfig.snapshot();
+
         // Dismount player from any vehicle to prevent glitches
         dismountBeforeTeleport(player);
 
@@ -176,11 +167,11 @@ public class TeleportHandler {
             // Uses dimension properties (ultraWarm, fixedTime) for better modded dimension compatibility
             DimensionEnvironment dimEnv = DimensionEnvironment.getDimensionEnvironment(destination);
             if (dimEnv == DimensionEnvironment.NETHER_LIKE) {
-                safePos = findNetherSafePosition(destination, spawnPoint);
+                safePos = findNetherSafePosition(destination, spawnPoint, config);
             } else if (dimEnv == DimensionEnvironment.END_LIKE) {
-                safePos = findEndSafePosition(destination);
+                safePos = findEndSafePosition(destination, config);
             } else {
-                safePos = findSafePosition(destination, spawnPoint);
+                safePos = findSafePosition(destination, spawnPoint, config);
             }
             
             if (safePos == null) {
@@ -192,18 +183,18 @@ public class TeleportHandler {
 
                 // Retry the search now that chunk is loaded
                 if (dimEnv == DimensionEnvironment.NETHER_LIKE) {
-                    safePos = findNetherSafePosition(destination, spawnPoint);
+                    safePos = findNetherSafePosition(destination, spawnPoint, config);
                 } else if (dimEnv == DimensionEnvironment.END_LIKE) {
-                    safePos = findEndSafePosition(destination);
+                    safePos = findEndSafePosition(destination, config);
                 } else {
-                    safePos = findSafePosition(destination, spawnPoint);
+                    safePos = findSafePosition(destination, spawnPoint, config);
                 }
             }
 
             if (safePos == null) {
                 LOGGER.warn("Could not find safe position in {} after chunk load - creating emergency platform",
                     destination.dimension().location());
-                safePos = createEmergencyPlatform(destination, spawnPoint);
+                safePos = createEmergencyPlatform(destination, spawnPoint, config);
             }
             
             // Log detailed spawn information
@@ -266,7 +257,7 @@ public class TeleportHandler {
                         );
                     }
                 } else {
-                    String welcomeMsg = BrecherConfig.getWelcomeMessage();
+                    String welcomeMsg = config.welcomeMessage();
                     player.displayClientMessage(
                         Component.literal(welcomeMsg).withStyle(ChatFormatting.GREEN),
                         false
@@ -301,13 +292,8 @@ public class TeleportHandler {
                     manager.onPlayerEnterExploration(player, destination.dimension().location());
                 }
                 
-                // Update last teleport time
-                if (lastTeleportTime.size() >= MAX_TELEPORT_RECORDS) {
-                    lastTeleportTime.entrySet().stream()
-                        .min(Map.Entry.comparingByValue())
-                        .ifPresent(entry -> lastTeleportTime.remove(entry.getKey()));
-                }
-                lastTeleportTime.put(player.getUUID(), System.currentTimeMillis());
+                // Start teleport cooldown
+                startCooldown(player, config);
             } else {
                 throw new RuntimeException("Teleportation failed");
             }
@@ -340,6 +326,8 @@ public class TeleportHandler {
      * Return a player from an exploration dimension
      */
     public static void returnFromExploration(ServerPlayer player) {
+        ConfigSnapshot config = BrecherConfig.snapshot();
+
         // Dismount player from any vehicle to prevent glitches
         dismountBeforeTeleport(player);
 
@@ -356,7 +344,7 @@ public class TeleportHandler {
             
             if (returnLevel != null) {
                 // Clear inventory if configured
-                if (BrecherConfig.isClearInventoryOnReturn()) {
+                if (config.clearInventoryOnReturn()) {
                     player.getInventory().clearContent();
                 }
                 
@@ -365,26 +353,26 @@ public class TeleportHandler {
                 if (!isSafePosition(returnLevel, safePos)) {
                     // If preferring surface spawns and original position is underground, try to find surface first
                     // Only for overworld-like dimensions where surface spawns make sense
-                    if (BrecherConfig.isPreferSurfaceSpawns() &&
+                    if (config.preferSurfaceSpawns() &&
                         DimensionEnvironment.getDimensionEnvironment(returnLevel) == DimensionEnvironment.OVERWORLD_LIKE &&
                         !canSeeSky(returnLevel, safePos)) {
-                        BlockPos surfacePos = findSurfacePosition(returnLevel, safePos);
+                        BlockPos surfacePos = findSurfacePosition(returnLevel, safePos, config.teleportSafetyRadius());
                         if (surfacePos != null) {
                             LOGGER.debug("Found surface position {} for underground return position {} for player {}", 
                                 surfacePos, returnPos.pos(), player.getName().getString());
                             safePos = surfacePos;
                         } else {
                             // Fallback to normal safe position search
-                            safePos = findSafePosition(returnLevel, safePos);
+                            safePos = findSafePosition(returnLevel, safePos, config);
                         }
                     } else {
-                        safePos = findSafePosition(returnLevel, safePos);
+                        safePos = findSafePosition(returnLevel, safePos, config);
                     }
                     
                     if (safePos == null) {
                         LOGGER.warn("Return position at {} is not safe for player {} - creating emergency platform", 
                             returnPos.pos(), player.getName().getString());
-                        safePos = createEmergencyPlatform(returnLevel, returnPos.pos());
+                        safePos = createEmergencyPlatform(returnLevel, returnPos.pos(), config);
                     }
                 }
                 // For saved positions, we now try to find surface alternatives if configured and appropriate
@@ -420,7 +408,7 @@ public class TeleportHandler {
                         }
                         
                         // Send return message
-                        String returnMsg = BrecherConfig.getReturnMessage();
+                        String returnMsg = config.returnMessage();
                         player.displayClientMessage(
                             Component.literal(returnMsg).withStyle(ChatFormatting.GREEN),
                             false
@@ -432,13 +420,8 @@ public class TeleportHandler {
                             false
                         );
                         
-                        // Update last teleport time
-                        if (lastTeleportTime.size() >= MAX_TELEPORT_RECORDS) {
-                            lastTeleportTime.entrySet().stream()
-                                .min(Map.Entry.comparingByValue())
-                                .ifPresent(entry -> lastTeleportTime.remove(entry.getKey()));
-                        }
-                        lastTeleportTime.put(player.getUUID(), System.currentTimeMillis());
+                        // Start teleport cooldown
+                        startCooldown(player, config);
                     } else {
                         throw new RuntimeException("Return teleportation failed");
                     }
@@ -451,12 +434,12 @@ public class TeleportHandler {
             } else {
                 LOGGER.error("Return level {} not found for player {}", 
                     returnPos.dimension(), player.getName().getString());
-                teleportToWorldSpawn(player);
+                teleportToWorldSpawn(player, config);
             }
         }, () -> {
             LOGGER.debug("No return position found for player {}, falling back to world spawn", 
                 player.getName().getString());
-            teleportToWorldSpawn(player);
+            teleportToWorldSpawn(player, config);
         });
     }
     
@@ -468,17 +451,9 @@ public class TeleportHandler {
             return true; // Admins bypass cooldown
         }
         
-        Long lastTeleport = lastTeleportTime.get(player.getUUID());
-        if (lastTeleport == null) {
-            return true;
-        }
-        
-        long cooldownSeconds = BrecherConfig.getTeleportCooldown();
-        long cooldownMs = cooldownSeconds * 1000; // Convert seconds to milliseconds
-        long timeSinceLast = System.currentTimeMillis() - lastTeleport;
-        
-        if (timeSinceLast < cooldownMs) {
-            long remainingSeconds = (cooldownMs - timeSinceLast) / 1000;
+        long remainingMs = teleportCooldowns.getRemaining(player.getUUID(), System.currentTimeMillis());
+        if (remainingMs > 0) {
+            long remainingSeconds = remainingMs / 1000;
             player.displayClientMessage(
                 Component.literal("Teleport cooldown: " + remainingSeconds + " seconds remaining")
                     .withStyle(ChatFormatting.RED),
@@ -491,33 +466,64 @@ public class TeleportHandler {
     }
     
     /**
-     * Teleport player to world spawn
+     * Start the teleport cooldown for a player using the configured duration
      */
-    private static void teleportToWorldSpawn(ServerPlayer player) {
-        ServerLevel overworld = player.server.overworld();
-        BlockPos spawnPos = player.getRespawnPosition();
-        
-        if (spawnPos == null) {
-            spawnPos = overworld.getSharedSpawnPos();
+    private static void startCooldown(ServerPlayer player, ConfigSnapshot config) {
+        long cooldownMs = config.teleportCooldown() * 1000L; // Convert seconds to milliseconds
+        teleportCooldowns.start(player.getUUID(), System.currentTimeMillis(), cooldownMs);
+    }
+    
+    /**
+     * Drop expired teleport cooldowns (called from the server tick)
+     */
+    public static void expireCooldowns() {
+        teleportCooldowns.expire(System.currentTimeMillis());
+    }
+    
+    /**
+     * Where a player without a saved return position goes: their respawn point, or the
+     * world spawn when the respawn dimension is missing or is itself an exploration dimension
+     */
+    public record SpawnTarget(ServerLevel level, BlockPos pos) {}
+    
+    public static SpawnTarget resolveSpawnTarget(ServerPlayer player) {
+        ServerLevel respawnLevel = player.server.getLevel(player.getRespawnDimension());
+        BlockPos respawnPos = player.getRespawnPosition();
+        if (respawnLevel != null && respawnPos != null
+                && !DimensionUtils.isExplorationDimension(respawnLevel.dimension())) {
+            return new SpawnTarget(respawnLevel, respawnPos);
         }
+        ServerLevel overworld = player.server.overworld();
+        return new SpawnTarget(overworld, overworld.getSharedSpawnPos());
+    }
+    
+    /**
+     * Teleport player to their respawn point, or world spawn
+     */
+    private static void teleportToWorldSpawn(ServerPlayer player, ConfigSnapshot config) {
+        SpawnTarget spawn = resolveSpawnTarget(player);
+        ServerLevel spawnLevel = spawn.level();
+        BlockPos spawnPos = spawn.pos();
         
         // For emergency returns without saved positions, prefer surface spawns
+        // Only for overworld-like dimensions where surface spawns make sense
         BlockPos safeSpawn = null;
-        if (BrecherConfig.isPreferSurfaceSpawns()) {
+        if (config.preferSurfaceSpawns()
+                && DimensionEnvironment.getDimensionEnvironment(spawnLevel) == DimensionEnvironment.OVERWORLD_LIKE) {
             // Try to find a surface position first
-            safeSpawn = findSurfacePosition(overworld, spawnPos);
+            safeSpawn = findSurfacePosition(spawnLevel, spawnPos, config.teleportSafetyRadius());
             LOGGER.debug("Emergency return - found surface spawn: {}", safeSpawn != null);
         }
         
         // If no surface position or surface spawns disabled, use normal safe position finding
         if (safeSpawn == null) {
-            safeSpawn = findSafePosition(overworld, spawnPos);
+            safeSpawn = findSafePosition(spawnLevel, spawnPos, config);
         }
         
         if (safeSpawn == null) {
-            LOGGER.warn("World spawn at {} is not safe for player {} - creating emergency platform", 
+            LOGGER.warn("Spawn at {} is not safe for player {} - creating emergency platform", 
                 spawnPos, player.getName().getString());
-            safeSpawn = createEmergencyPlatform(overworld, spawnPos);
+            safeSpawn = createEmergencyPlatform(spawnLevel, spawnPos, config);
         }
         
         final BlockPos finalSafeSpawn = safeSpawn;
@@ -528,9 +534,9 @@ public class TeleportHandler {
         // Execute teleport
         try {
             Vec3 targetPos = new Vec3(finalSafeSpawn.getX() + 0.5, finalSafeSpawn.getY(), finalSafeSpawn.getZ() + 0.5);
-            Services.TELEPORT.preTeleport(player, overworld);
+            Services.TELEPORT.preTeleport(player, spawnLevel);
             preTeleportCalled = true;
-            boolean success = Services.TELEPORT.teleportPlayer(player, overworld, targetPos,
+            boolean success = Services.TELEPORT.teleportPlayer(player, spawnLevel, targetPos,
                                                               player.getYRot(), player.getXRot());
             
             if (success) {
@@ -539,7 +545,7 @@ public class TeleportHandler {
                 player.addEffect(new MobEffectInstance(MobEffects.SLOW_FALLING, 200, 0));
                 
                 player.displayClientMessage(
-                    Component.literal("No return position saved - returned to world spawn")
+                    Component.literal("No return position saved - returned to spawn")
                         .withStyle(ChatFormatting.YELLOW),
                     false
                 );
@@ -553,7 +559,7 @@ public class TeleportHandler {
         } finally {
             // Only call postTeleport if preTeleport was successfully called
             if (preTeleportCalled) {
-                Services.TELEPORT.postTeleport(player, overworld);
+                Services.TELEPORT.postTeleport(player, spawnLevel);
             }
         }
     }
@@ -568,7 +574,7 @@ public class TeleportHandler {
      * Surface preference only applies to exploration dimension spawns and emergency returns,
      * NOT to saved return positions (which are handled separately)
      */
-    private static BlockPos findSafePosition(ServerLevel level, BlockPos center) {
+    private static BlockPos findSafePosition(ServerLevel level, BlockPos center, ConfigSnapshot config) {
         // Determine dimension environment once for efficiency
         DimensionEnvironment dimEnv = DimensionEnvironment.getDimensionEnvironment(level);
 
@@ -576,7 +582,7 @@ public class TeleportHandler {
         if (isSafePosition(level, center)) {
             // For exploration dimensions, check if we should prefer surface
             // Only for overworld-like dimensions where surface spawns make sense
-            if (BrecherConfig.isPreferSurfaceSpawns() &&
+            if (config.preferSurfaceSpawns() &&
                 dimEnv == DimensionEnvironment.OVERWORLD_LIKE &&
                 BrecherDimensions.getDimensionManager() != null &&
                 BrecherDimensions.getDimensionManager().isExplorationDimension(level.dimension().location())) {
@@ -594,8 +600,9 @@ public class TeleportHandler {
         }
 
         // Progressive search system - use dimension environment for behavior
+        DimensionConfig dimension = BrecherConfig.forDimension(level.dimension().location(), config);
         boolean isNether = (dimEnv == DimensionEnvironment.NETHER_LIKE);
-        boolean preferSurface = BrecherConfig.isPreferSurfaceSpawns() &&
+        boolean preferSurface = config.preferSurfaceSpawns() &&
                                (dimEnv == DimensionEnvironment.OVERWORLD_LIKE);
 
         // Track time budget to prevent blocking main thread too long
@@ -628,7 +635,7 @@ public class TeleportHandler {
         }
 
         // Phase 3: For Nether or if configured, try larger radius (32 blocks)
-        if (isNether || BrecherConfig.isExtendedSearchRadius()) {
+        if (isNether || dimension.extendedSearchRadius()) {
             BlockPos farPos = searchInRadius(level, center, 32, preferSurface);
             if (farPos != null) {
                 LOGGER.debug("Found safe position within 32 blocks of center");
@@ -748,13 +755,6 @@ public class TeleportHandler {
         return null;
     }
     
-    /**
-     * Find a surface position near the target
-     */
-    private static BlockPos findSurfacePosition(ServerLevel level, BlockPos center) {
-        return findSurfacePosition(level, center, BrecherConfig.getTeleportSafetyRadius());
-    }
-    
     /**
      * Find a surface position near the target with specific radius
      */
@@ -868,10 +868,10 @@ public class TeleportHandler {
     /**
      * Find a safe position in the Nether dimension
      */
-    private static BlockPos findNetherSafePosition(ServerLevel level, BlockPos center) {
+    private static BlockPos findNetherSafePosition(ServerLevel level, BlockPos center, ConfigSnapshot config) {
         final int minY = 5;
         final int maxY = 122;
-        final int searchRadius = BrecherConfig.getTeleportSafetyRadius();
+        final int searchRadius = BrecherConfig.forDimension(level.dimension().location(), config).teleportSafetyRadius();
         
         int startY = Math.min(Math.max(center.getY(), minY + 10), maxY - 10);
         
@@ -907,13 +907,13 @@ public class TeleportHandler {
     /**
      * Find a safe position in the End dimension
      */
-    private static BlockPos findEndSafePosition(ServerLevel level) {
+    private static BlockPos findEndSafePosition(ServerLevel level, ConfigSnapshot config) {
         // For exploration End dimensions with gateways, spawn on the main island
         // This is where players would normally spawn after defeating the dragon
         BlockPos mainIslandSpawn = new BlockPos(0, 65, 0);
         
         // First try to find a safe position on the main island
-        BlockPos safePos = findSafePosition(level, mainIslandSpawn);
+        BlockPos safePos = findSafePosition(level, mainIslandSpawn, config);
         if (safePos != null) {
             return safePos;
         }
@@ -1120,8 +1120,8 @@ public class TeleportHandler {
     /**
      * Create emergency platform for teleportation
      */
-    private static BlockPos createEmergencyPlatform(ServerLevel level, BlockPos center) {
-        if (!BrecherConfig.isCreateEmergencyPlatforms()) {
+    private static BlockPos createEmergencyPlatform(ServerLevel level, BlockPos center, ConfigSnapshot config) {
+        if (!config.createEmergencyPlatforms()) {
             LOGGER.warn("Emergency platforms disabled - returning original position despite safety concerns");
             return center;
         }
@@ -1173,24 +1173,14 @@ public class TeleportHandler {
         
         // Use the existing safe teleport to world spawn method
         // This will prefer surface spawns for emergency returns
-        teleportToWorldSpawn(player);
+        teleportToWorldSpawn(player, BrecherConfig.snapshot());
     }
     
     /**
      * Shutdown cleanup
      */
     public static void shutdown() {
-        CLEANUP_EXECUTOR.shutdown();
-        try {
-            if (!CLEANUP_EXECUTOR.awaitTermination(5, TimeUnit.SECONDS)) {
-                CLEANUP_EXECUTOR.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            CLEANUP_EXECUTOR.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-
-        lastTeleportTime.clear();
+        teleportCooldowns.clear();
 
         LOGGER.info("TeleportHandler cleanup complete");
     }
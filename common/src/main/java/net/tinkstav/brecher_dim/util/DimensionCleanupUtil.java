@@ -6,21 +6,27 @@
 package net.tinkstav.brecher_dim.util;
 
 import com.mojang.logging.LogUtils;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.NbtIo;
-import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.Tag;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.storage.LevelResource;
 import net.tinkstav.brecher_dim.BrecherDimensions;
 import net.tinkstav.brecher_dim.config.BrecherConfig;
+import net.tinkstav.brecher_dim.data.BrecherSavedData;
 import org.slf4j.Logger;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileTime;
 import java.util.*;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
@@ -29,12 +35,27 @@ import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
  */
 public class DimensionCleanupUtil {
     private static final Logger LOGGER = LogUtils.getLogger();
+    private static final List<String> DIMENSIONS_PATH = List.of("Data", "WorldGenSettings", "dimensions");
+    private static final int MAX_NBT_DEPTH = 512;
     
     /**
-     * Clean up old exploration dimension folders, keeping the most recent N folders for each dimension type
+     * Clean up old exploration dimension folders, keeping the most recent N folders for each dimension type,
+     * and remove their references from level.dat
      * @param server The Minecraft server instance
      */
     public static void cleanupOldDimensions(MinecraftServer server) {
+        Set<String> deletedDimensionNames = deleteOldDimensionFolders(server);
+        // Also retries references a previous start failed to remove
+        cleanupLevelDatReferences(server, deletedDimensionNames);
+    }
+    
+    /**
+     * Delete old exploration dimension folders beyond the retention count
+     * @return names of the folders that were deleted
+     */
+    private static Set<String> deleteOldDimensionFolders(MinecraftServer server) {
+        // Collect names of successfully deleted dimensions for level.dat cleanup
+        Set<String> deletedDimensionNames = new HashSet<>();
         try {
             Path dimensionsPath = server.getWorldPath(net.minecraft.world.level.storage.LevelResource.ROOT)
                 .resolve("dimensions")
@@ -42,7 +63,7 @@ public class DimensionCleanupUtil {
             
             if (!Files.exists(dimensionsPath)) {
                 LOGGER.debug("No brecher_dim dimensions folder found, skipping cleanup");
-                return;
+                return deletedDimensionNames;
             }
             
             int retentionCount = BrecherConfig.getOldDimensionRetentionCount();
@@ -53,7 +74,7 @@ public class DimensionCleanupUtil {
             
             if (explorationFolders.isEmpty()) {
                 LOGGER.info("No exploration dimension folders found, no cleanup needed");
-                return;
+                return deletedDimensionNames;
             }
             
             // Group folders by dimension type
@@ -90,14 +111,11 @@ public class DimensionCleanupUtil {
             
             if (foldersToDelete.isEmpty()) {
                 LOGGER.info("No dimension folders need cleanup");
-                return;
+                return deletedDimensionNames;
             }
             
             LOGGER.info("Deleting {} old exploration dimension folders total", foldersToDelete.size());
 
-            // Collect names of successfully deleted dimensions for level.dat cleanup
-            Set<String> deletedDimensionNames = new HashSet<>();
-
             for (DimensionFolder folder : foldersToDelete) {
                 try {
                     String dimensionName = folder.path.getFileName().toString();
@@ -109,11 +127,6 @@ public class DimensionCleanupUtil {
                 }
             }
 
-            // Clean up level.dat references to deleted dimensions
-            if (!deletedDimensionNames.isEmpty()) {
-                cleanupLevelDatReferences(server, deletedDimensionNames);
-            }
-
             // Also clean up any empty brecher_dim folder if no dimensions remain
             cleanupEmptyModFolder(dimensionsPath);
 
@@ -122,6 +135,7 @@ public class DimensionCleanupUtil {
         } catch (Exception e) {
             LOGGER.error("Error during dimension cleanup", e);
         }
+        return deletedDimensionNames;
     }
     
     /**
@@ -197,82 +211,223 @@ public class DimensionCleanupUtil {
     }
     
     /**
-     * Clean up dimension references from level.dat to prevent "unknown dimension" warnings.
-     * This removes entries from Data/WorldGenSettings/dimensions that match deleted exploration dimensions.
+     * Remove deleted dimensions from level.dat right away. The names are recorded in the saved
+     * data first, so references a failed rewrite leaves behind are retried on the next start.
      *
      * @param server The Minecraft server instance
      * @param deletedDimensionNames Set of dimension folder names that were deleted (e.g., "exploration_overworld_1")
      */
     private static void cleanupLevelDatReferences(MinecraftServer server, Set<String> deletedDimensionNames) {
+        BrecherSavedData data = BrecherSavedData.get(server);
+        data.addPendingLevelDatRemovals(deletedDimensionNames);
+
+        Set<String> names = data.getPendingLevelDatRemovals();
+        if (names.isEmpty()) {
+            return;
+        }
+        if (rewriteLevelDat(server, names)) {
+            data.removePendingLevelDatRemovals(names);
+        } else {
+            LOGGER.warn("{} dimension references stay in level.dat until the next start", names.size());
+        }
+    }
+
+    /**
+     * Remove dimension references from level.dat to prevent "unknown dimension" warnings.
+     * This drops entries from Data/WorldGenSettings/dimensions that match deleted exploration dimensions.
+     *
+     * <p>The file is streamed tag by tag into a temporary file, so the NBT tree is never held
+     * in memory. The temporary file is synced to disk and replaces level.dat with an atomic
+     * move only if entries were actually removed.
+     *
+     * @return true if level.dat is clean of the given references
+     */
+    private static boolean rewriteLevelDat(MinecraftServer server, Set<String> deletedDimensionNames) {
         Path levelDatPath = server.getWorldPath(LevelResource.LEVEL_DATA_FILE);
 
         if (!Files.exists(levelDatPath)) {
             LOGGER.debug("level.dat not found, skipping reference cleanup");
-            return;
+            return true;
+        }
+
+        // Build set of full dimension keys to remove (e.g., "brecher_dim:exploration_overworld_1")
+        Set<String> keysToRemove = new HashSet<>();
+        for (String name : deletedDimensionNames) {
+            keysToRemove.add(BrecherDimensions.MOD_ID + ":" + name);
         }
 
+        Path tempPath = levelDatPath.resolveSibling("level.dat.brecher_tmp");
         try {
-            // Create backup before modifying
+            int removed;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                     new GZIPInputStream(Files.newInputStream(levelDatPath))));
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                     new GZIPOutputStream(Files.newOutputStream(tempPath))))) {
+
+                byte rootType = in.readByte();
+                if (rootType != Tag.TAG_COMPOUND) {
+                    throw new IOException("level.dat root tag is not a compound - file may be corrupted");
+                }
+                out.writeByte(rootType);
+                out.writeUTF(in.readUTF());
+                removed = copyCompound(in, out, new ArrayList<>(), keysToRemove);
+            }
+
+            if (removed == 0) {
+                Files.deleteIfExists(tempPath);
+                LOGGER.debug("No dimension references to clean up in level.dat");
+                return true;
+            }
+
+            // The temp file must be on disk before it can replace level.dat
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+
+            // Keep a backup of the previous file before replacing it
             Path backupPath = levelDatPath.resolveSibling("level.dat.brecher_backup");
             Files.copy(levelDatPath, backupPath, REPLACE_EXISTING);
             LOGGER.debug("Created level.dat backup at {}", backupPath);
 
-            // Read the level.dat NBT
-            CompoundTag rootTag = NbtIo.readCompressed(levelDatPath, NbtAccounter.unlimitedHeap());
-            if (rootTag == null) {
-                LOGGER.warn("Failed to read level.dat - file may be corrupted");
-                return;
+            try {
+                Files.move(tempPath, levelDatPath, StandardCopyOption.ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, levelDatPath, REPLACE_EXISTING);
             }
+            syncDirectory(levelDatPath.getParent());
+            LOGGER.info("Cleaned up {} dimension references from level.dat", removed);
+            return true;
 
-            // Navigate to Data/WorldGenSettings/dimensions
-            CompoundTag dataTag = rootTag.getCompound("Data");
-            if (dataTag.isEmpty()) {
-                LOGGER.debug("No Data tag in level.dat");
-                return;
+        } catch (Exception e) {
+            LOGGER.error("Failed to clean up level.dat references, level.dat was left unchanged", e);
+            try {
+                Files.deleteIfExists(tempPath);
+            } catch (IOException ignored) {
+                // Stale temp file is overwritten on the next attempt
             }
+            return false;
+        }
+    }
 
-            CompoundTag worldGenSettings = dataTag.getCompound("WorldGenSettings");
-            if (worldGenSettings.isEmpty()) {
-                LOGGER.debug("No WorldGenSettings in level.dat");
-                return;
-            }
+    /**
+     * Copy the entries of a compound tag payload, dropping matching keys from the
+     * WorldGenSettings dimensions compound.
+     *
+     * @param path Names of the enclosing compounds, from the root
+     * @return number of removed entries
+     */
+    private static int copyCompound(DataInputStream in, DataOutputStream out, List<String> path,
+                                    Set<String> keysToRemove) throws IOException {
+        if (path.size() > MAX_NBT_DEPTH) {
+            throw new IOException("level.dat NBT is nested too deeply");
+        }
 
-            CompoundTag dimensions = worldGenSettings.getCompound("dimensions");
-            if (dimensions.isEmpty()) {
-                LOGGER.debug("No dimensions tag in WorldGenSettings");
-                return;
+        boolean isDimensionsTag = path.equals(DIMENSIONS_PATH);
+        int removed = 0;
+        while (true) {
+            byte type = in.readByte();
+            if (type == Tag.TAG_END) {
+                out.writeByte(Tag.TAG_END);
+                return removed;
             }
 
-            // Build set of full dimension keys to remove (e.g., "brecher_dim:exploration_overworld_1")
-            Set<String> keysToRemove = new HashSet<>();
-            for (String key : dimensions.getAllKeys()) {
-                // Check if this key matches any of our deleted dimensions
-                // Keys are in format "namespace:path" - we check if the path matches
-                if (key.startsWith(BrecherDimensions.MOD_ID + ":")) {
-                    String path = key.substring(BrecherDimensions.MOD_ID.length() + 1);
-                    if (deletedDimensionNames.contains(path)) {
-                        keysToRemove.add(key);
-                    }
-                }
+            String name = in.readUTF();
+            if (isDimensionsTag && keysToRemove.contains(name)) {
+                copyPayload(in, null, type, path.size());
+                LOGGER.debug("Removed dimension reference from level.dat: {}", name);
+                removed++;
+                continue;
             }
 
-            if (keysToRemove.isEmpty()) {
-                LOGGER.debug("No dimension references to clean up in level.dat");
-                return;
+            out.writeByte(type);
+            out.writeUTF(name);
+            if (type == Tag.TAG_COMPOUND) {
+                path.add(name);
+                removed += copyCompound(in, out, path, keysToRemove);
+                path.remove(path.size() - 1);
+            } else {
+                copyPayload(in, out, type, path.size());
             }
+        }
+    }
+
+    /**
+     * Copy a single tag payload, or skip it when out is null
+     */
+    private static void copyPayload(DataInputStream in, DataOutputStream out, byte type, int depth) throws IOException {
+        if (depth > MAX_NBT_DEPTH) {
+            throw new IOException("level.dat NBT is nested too deeply");
+        }
 
-            // Remove the dimension entries
-            for (String key : keysToRemove) {
-                dimensions.remove(key);
-                LOGGER.debug("Removed dimension reference from level.dat: {}", key);
+        switch (type) {
+            case Tag.TAG_BYTE -> transfer(in, out, 1);
+            case Tag.TAG_SHORT -> transfer(in, out, 2);
+            case Tag.TAG_INT, Tag.TAG_FLOAT -> transfer(in, out, 4);
+            case Tag.TAG_LONG, Tag.TAG_DOUBLE -> transfer(in, out, 8);
+            case Tag.TAG_STRING -> {
+                int length = in.readUnsignedShort();
+                if (out != null) out.writeShort(length);
+                transfer(in, out, length);
             }
+            case Tag.TAG_BYTE_ARRAY, Tag.TAG_INT_ARRAY, Tag.TAG_LONG_ARRAY -> {
+                int length = in.readInt();
+                if (out != null) out.writeInt(length);
+                int elementSize = type == Tag.TAG_BYTE_ARRAY ? 1 : type == Tag.TAG_INT_ARRAY ? 4 : 8;
+                transfer(in, out, (long) length * elementSize);
+            }
+            case Tag.TAG_LIST -> {
+                byte elementType = in.readByte();
+                int length = in.readInt();
+                if (out != null) {
+                    out.writeByte(elementType);
+                    out.writeInt(length);
+                }
+                for (int i = 0; i < length; i++) {
+                    copyPayload(in, out, elementType, depth + 1);
+                }
+            }
+            case Tag.TAG_COMPOUND -> {
+                while (true) {
+                    byte entryType = in.readByte();
+                    if (out != null) out.writeByte(entryType);
+                    if (entryType == Tag.TAG_END) {
+                        break;
+                    }
+                    int nameLength = in.readUnsignedShort();
+                    if (out != null) out.writeShort(nameLength);
+                    transfer(in, out, nameLength);
+                    copyPayload(in, out, entryType, depth + 1);
+                }
+            }
+            default -> throw new IOException("Unknown NBT tag type " + type + " in level.dat");
+        }
+    }
 
-            // Write the modified NBT back
-            NbtIo.writeCompressed(rootTag, levelDatPath);
-            LOGGER.info("Cleaned up {} dimension references from level.dat", keysToRemove.size());
+    /**
+     * Move a number of raw bytes from in to out, or discard them when out is null
+     */
+    private static void transfer(DataInputStream in, DataOutputStream out, long length) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(length, 8192)];
+        long remaining = length;
+        while (remaining > 0) {
+            int chunk = (int) Math.min(remaining, buffer.length);
+            in.readFully(buffer, 0, chunk);
+            if (out != null) {
+                out.write(buffer, 0, chunk);
+            }
+            remaining -= chunk;
+        }
+    }
 
-        } catch (Exception e) {
-            LOGGER.error("Failed to clean up level.dat references. A backup was created at level.dat.brecher_backup", e);
+    /**
+     * Persist a rename within a directory. Not every platform can open a directory for
+     * syncing, so failures are ignored.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.debug("Could not sync {}: {}", directory, e.getMessage());
         }
     }
 
@@ -138,6 +138,18 @@ public class DimensionCounterUtil {
         LOGGER.info("Dimension counter for {} reset to 0", dimType);
     }
     
+    /**
+     * Set the next id for a dimension type back to an id already handed out, so the
+     * next start reuses that dimension (used after a headless pregen run)
+     */
+    public static void rewindCounter(ResourceLocation baseDimension, long nextId) {
+        String dimType = baseDimension.getPath();
+        COUNTERS.computeIfAbsent(dimType, k -> new AtomicLong(0)).set(nextId);
+        isDirty = true;
+        saveCounters();
+        LOGGER.info("Dimension counter for {} rewound to {}", dimType, nextId);
+    }
+    
     /**
      * Get all current counters for display
      */
@@ -5,119 +5,300 @@
 
 package net.tinkstav.brecher_dim.util;
 
-import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.Container;
+import com.mojang.logging.LogUtils;
+import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.storage.LevelResource;
+import net.tinkstav.brecher_dim.data.SavedDataWriter;
+import net.tinkstav.brecher_dim.platform.Services;
+import org.slf4j.Logger;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * Manages player inventory preservation when dying in exploration dimensions.
  * Stores inventories temporarily and restores them on respawn.
+ *
+ * <p>An inventory is encoded to item component NBT once, when the player dies. It is
+ * written asynchronously to a compressed per-player file, so kept inventories survive
+ * a crash or restart, and the most recent ones stay in a small in-memory LRU. Older
+ * inventories are only on disk and are read back when their player respawns, so heap
+ * use stays flat no matter how many players are waiting to respawn.
+ *
+ * <p>Each death gets an id that is stored in the file and in the player's persistent
+ * data. A file is only restored when the two match, so a crash that rolls the player's
+ * save back to before the death can't restore the same items a second time.
  */
 public class InventoryKeeper {
-    private static final Map<UUID, PlayerInventoryData> savedInventories = new ConcurrentHashMap<>();
-    
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final String DIRECTORY = "brecher_dimensions/inventories";
+    private static final int MAX_IN_MEMORY = 32;
+    private static final long MAX_AGE_MS = 60 * 60 * 1000; // 1 hour
+    private static final String DEATH_ID_KEY = "brecher_dim:kept_inventory_death";
+
+    // Recently saved inventories, least recently used first
+    private static final Map<UUID, PlayerInventoryData> recentInventories = Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, PlayerInventoryData> eldest) {
+                // Already on disk, so dropping it from memory loses nothing
+                return size() > MAX_IN_MEMORY;
+            }
+        });
+    // Inventories whose file write hasn't finished; never evicted before they are on disk
+    private static final Map<UUID, PlayerInventoryData> unwrittenInventories = new ConcurrentHashMap<>();
+    // Save time of every kept inventory, in memory or on disk
+    private static final Map<UUID, Long> savedTimestamps = new ConcurrentHashMap<>();
+    private static Path storageDirectory;
+
     /**
      * Data class to store player inventory state
      */
     private static class PlayerInventoryData {
-        final List<ItemStack> items;
-        final int experienceLevel;
-        final float experienceProgress;
+        final CompoundTag encoded;
         final long timestamp;
-        
-        PlayerInventoryData(ServerPlayer player) {
-            this.items = new ArrayList<>();
-            this.experienceLevel = player.experienceLevel;
-            this.experienceProgress = player.experienceProgress;
-            this.timestamp = System.currentTimeMillis();
-            
+        final String deathId;
+
+        PlayerInventoryData(CompoundTag encoded) {
+            this.encoded = encoded;
+            this.timestamp = encoded.getLong("timestamp");
+            this.deathId = encoded.getString("deathId");
+        }
+
+        static PlayerInventoryData capture(ServerPlayer player, String deathId) {
+            HolderLookup.Provider registries = player.registryAccess();
+            CompoundTag tag = new CompoundTag();
+            tag.putString("deathId", deathId);
+            tag.putInt("experienceLevel", player.experienceLevel);
+            tag.putFloat("experienceProgress", player.experienceProgress);
+            tag.putLong("timestamp", System.currentTimeMillis());
+
             // Save all inventory items
+            ListTag items = new ListTag();
             Container inventory = player.getInventory();
             for (int i = 0; i < inventory.getContainerSize(); i++) {
                 ItemStack stack = inventory.getItem(i);
                 if (!stack.isEmpty()) {
-                    items.add(stack.copy());
+                    items.add(stack.save(registries));
                 }
             }
+            tag.put("items", items);
+            return new PlayerInventoryData(tag);
         }
-        
+
         void restoreTo(ServerPlayer player) {
+            HolderLookup.Provider registries = player.registryAccess();
+
             // Clear existing inventory first
             player.getInventory().clearContent();
-            
+
             // Restore items
-            Container inventory = player.getInventory();
-            for (ItemStack stack : items) {
-                if (!player.getInventory().add(stack.copy())) {
+            ListTag items = encoded.getList("items", Tag.TAG_COMPOUND);
+            for (int i = 0; i < items.size(); i++) {
+                ItemStack stack = ItemStack.parse(registries, items.getCompound(i)).orElse(ItemStack.EMPTY);
+                if (stack.isEmpty()) {
+                    continue;
+                }
+                if (!player.getInventory().add(stack)) {
                     // If inventory is full, drop the item
-                    player.drop(stack.copy(), false);
+                    player.drop(stack, false);
                 }
             }
-            
+
             // Restore experience
-            player.setExperienceLevels(experienceLevel);
-            player.experienceProgress = experienceProgress;
+            player.setExperienceLevels(encoded.getInt("experienceLevel"));
+            player.experienceProgress = encoded.getFloat("experienceProgress");
+        }
+    }
+
+    /**
+     * Find inventories kept on disk by a previous run (called on server start)
+     */
+    public static void initialize(MinecraftServer server) {
+        recentInventories.clear();
+        unwrittenInventories.clear();
+        savedTimestamps.clear();
+        storageDirectory = server.getWorldPath(LevelResource.ROOT).resolve("data").resolve(DIRECTORY);
+        if (!Files.isDirectory(storageDirectory)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(storageDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String fileName = file.getFileName().toString();
+                if (!fileName.endsWith(".dat")) {
+                    continue;
+                }
+                try {
+                    UUID playerId = UUID.fromString(fileName.substring(0, fileName.length() - 4));
+                    savedTimestamps.put(playerId, Files.getLastModifiedTime(file).toMillis());
+                } catch (IllegalArgumentException e) {
+                    LOGGER.warn("Ignoring unexpected file in inventory directory: {}", fileName);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to list kept inventories in {}", storageDirectory, e);
+        }
+
+        if (!savedTimestamps.isEmpty()) {
+            LOGGER.info("Found {} kept inventories from a previous run", savedTimestamps.size());
         }
     }
-    
+
     /**
      * Save a player's inventory when they die in an exploration dimension
      */
     public static void saveInventory(ServerPlayer player) {
-        PlayerInventoryData data = new PlayerInventoryData(player);
-        savedInventories.put(player.getUUID(), data);
+        UUID playerId = player.getUUID();
+        String deathId = UUID.randomUUID().toString();
+        PlayerInventoryData data = PlayerInventoryData.capture(player, deathId);
+        Services.PLATFORM.getPersistentData(player).putString(DEATH_ID_KEY, deathId);
+        recentInventories.put(playerId, data);
+        savedTimestamps.put(playerId, data.timestamp);
+        if (storageDirectory != null) {
+            unwrittenInventories.put(playerId, data);
+            SavedDataWriter.write(getFile(playerId), data.encoded)
+                .whenComplete((result, error) -> unwrittenInventories.remove(playerId, data));
+        }
     }
-    
+
     /**
-     * Restore a player's inventory when they respawn
+     * Restore a player's inventory when they respawn, if it was kept for the death
+     * they are respawning from
      */
     public static boolean restoreInventory(ServerPlayer player) {
-        PlayerInventoryData data = savedInventories.remove(player.getUUID());
-        if (data != null) {
-            data.restoreTo(player);
-            return true;
+        UUID playerId = player.getUUID();
+        CompoundTag persistentData = Services.PLATFORM.getPersistentData(player);
+        String deathId = persistentData.getString(DEATH_ID_KEY);
+        persistentData.remove(DEATH_ID_KEY);
+        if (savedTimestamps.remove(playerId) == null) {
+            return false;
+        }
+
+        PlayerInventoryData data = recentInventories.remove(playerId);
+        if (data == null) {
+            data = unwrittenInventories.get(playerId);
         }
-        return false;
+        if (data == null) {
+            data = readFromDisk(playerId);
+        }
+        deleteFile(playerId);
+
+        if (data == null) {
+            return false;
+        }
+        if (deathId.isEmpty() || !deathId.equals(data.deathId)) {
+            LOGGER.warn("Discarding kept inventory of {} that belongs to an earlier death", player.getName().getString());
+            return false;
+        }
+        data.restoreTo(player);
+        return true;
     }
-    
+
+    /**
+     * Drop a kept inventory left over from a death the player is no longer respawning from,
+     * e.g. after a crash rolled their save back (called on login)
+     */
+    public static void onPlayerLogin(ServerPlayer player) {
+        if (player.isDeadOrDying() || !hasSavedInventory(player.getUUID())) {
+            return;
+        }
+        LOGGER.info("Discarding stale kept inventory of {}, who is not waiting to respawn", player.getName().getString());
+        clearSavedInventory(player.getUUID());
+        Services.PLATFORM.getPersistentData(player).remove(DEATH_ID_KEY);
+    }
+
     /**
      * Check if a player has a saved inventory
      */
     public static boolean hasSavedInventory(UUID playerId) {
-        return savedInventories.containsKey(playerId);
+        return savedTimestamps.containsKey(playerId);
     }
-    
+
     /**
      * Clear a player's saved inventory without restoring it
      */
     public static void clearSavedInventory(UUID playerId) {
-        savedInventories.remove(playerId);
+        savedTimestamps.remove(playerId);
+        recentInventories.remove(playerId);
+        unwrittenInventories.remove(playerId);
+        deleteFile(playerId);
     }
-    
+
     /**
-     * Clear all saved inventories (used on server shutdown)
+     * Drop the in-memory copies; kept inventories stay on disk for the next run
      */
     public static void clearAll() {
-        savedInventories.clear();
+        recentInventories.clear();
+        unwrittenInventories.clear();
+        savedTimestamps.clear();
     }
-    
+
     /**
      * Clean up old saved inventories (older than 1 hour)
      */
     public static void cleanupOldInventories() {
-        long cutoffTime = System.currentTimeMillis() - (60 * 60 * 1000); // 1 hour
-        savedInventories.entrySet().removeIf(entry -> entry.getValue().timestamp < cutoffTime);
+        long cutoffTime = System.currentTimeMillis() - MAX_AGE_MS;
+        for (Map.Entry<UUID, Long> entry : new ArrayList<>(savedTimestamps.entrySet())) {
+            if (entry.getValue() < cutoffTime) {
+                clearSavedInventory(entry.getKey());
+            }
+        }
     }
-    
+
     /**
      * Get the count of saved inventories (for debugging/stats)
      */
     public static int getSavedInventoryCount() {
-        return savedInventories.size();
+        return savedTimestamps.size();
+    }
+
+    /**
+     * Get the count of saved inventories held in memory
+     */
+    public static int getInMemoryCount() {
+        return recentInventories.size();
+    }
+
+    private static PlayerInventoryData readFromDisk(UUID playerId) {
+        Path file = getFile(playerId);
+        if (file == null) {
+            return null;
+        }
+        // Writes still in flight are served from unwrittenInventories, so this never waits
+        if (!Files.exists(file)) {
+            LOGGER.warn("Kept inventory of {} is missing from disk", playerId);
+            return null;
+        }
+        try {
+            return new PlayerInventoryData(NbtIo.readCompressed(file, NbtAccounter.unlimitedHeap()));
+        } catch (IOException e) {
+            LOGGER.error("Failed to read kept inventory of {}", playerId, e);
+            return null;
+        }
+    }
+
+    private static void deleteFile(UUID playerId) {
+        Path file = getFile(playerId);
+        if (file != null) {
+            SavedDataWriter.delete(file);
+        }
+    }
+
+    private static Path getFile(UUID playerId) {
+        return storageDirectory == null ? null : storageDirectory.resolve(playerId + ".dat");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,256 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.client;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Feeds the assembler in-order, shuffled, duplicated, truncated and oversized part sequences
+ */
+class ChunkedRegistryAssemblerTest {
+    private static final int PART_SIZE = 512;
+    // Large enough to carry a transfer of MAX_TOTAL_BYTES within MAX_PARTS
+    private static final int LARGE_PART_SIZE = 32 * 1024;
+    private static final long RESULT_TIMEOUT_MS = 5_000;
+    // Long enough for the decoder to finish a transfer that should produce nothing
+    private static final long QUIET_MS = 500;
+
+    private final BlockingQueue<CompoundTag> results = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Boolean> drops = new LinkedBlockingQueue<>();
+    private ChunkedRegistryAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        assembler = new ChunkedRegistryAssembler(Runnable::run, results::add, () -> drops.add(true));
+    }
+
+    @Test
+    void decodesPartsInOrder() throws Exception {
+        CompoundTag registry = registry(200, 1);
+        List<byte[]> parts = split(compress(registry));
+        assertTrue(parts.size() > 1, "registry should span several parts");
+
+        feed(1, parts, indices(parts.size()));
+
+        assertEquals(registry, awaitResult());
+        assertNoMoreResults();
+    }
+
+    @Test
+    void decodesShuffledParts() throws Exception {
+        Random random = new Random(42);
+        for (int run = 0; run < 20; run++) {
+            CompoundTag registry = registry(100 + run * 10, run);
+            List<byte[]> parts = split(compress(registry));
+            List<Integer> order = indices(parts.size());
+            Collections.shuffle(order, random);
+
+            feed(run, parts, order);
+
+            assertEquals(registry, awaitResult(), "run " + run);
+        }
+        assertNoMoreResults();
+    }
+
+    @Test
+    void ignoresDuplicatedParts() throws Exception {
+        Random random = new Random(7);
+        CompoundTag registry = registry(200, 2);
+        List<byte[]> parts = split(compress(registry));
+        List<Integer> order = new ArrayList<>(indices(parts.size()));
+        order.addAll(indices(parts.size()));
+        Collections.shuffle(order, random);
+
+        feed(3, parts, order);
+        // Parts of a finished transfer must not start it again
+        feed(3, parts, indices(parts.size()));
+
+        assertEquals(registry, awaitResult());
+        assertNoMoreResults();
+    }
+
+    @Test
+    void dropsTruncatedStream() throws Exception {
+        byte[] compressed = compress(registry(200, 3));
+        // Every announced part arrives, but the stream ends in the middle of the compound
+        List<byte[]> parts = split(Arrays.copyOf(compressed, compressed.length * 3 / 5));
+
+        feed(4, parts, indices(parts.size()));
+
+        awaitDrop();
+        assertNoMoreResults();
+    }
+
+    @Test
+    void dropsTransferOverByteLimit() throws Exception {
+        // Random bytes don't compress, so the stream stays above the limit
+        byte[] compressed = compress(payload(ChunkedRegistryAssembler.MAX_TOTAL_BYTES + 1024 * 1024, 8));
+        assertTrue(compressed.length > ChunkedRegistryAssembler.MAX_TOTAL_BYTES);
+        List<byte[]> parts = split(compressed, LARGE_PART_SIZE);
+        assertTrue(parts.size() <= ChunkedRegistryAssembler.MAX_PARTS);
+
+        feed(9, parts, indices(parts.size()));
+
+        awaitDrop();
+        assertFalse(assembler.isPending());
+        assertNoMoreResults();
+    }
+
+    @Test
+    void decodesTransferUnderByteLimit() throws Exception {
+        CompoundTag registry = payload(ChunkedRegistryAssembler.MAX_TOTAL_BYTES - 1024 * 1024, 9);
+        byte[] compressed = compress(registry);
+        assertTrue(compressed.length < ChunkedRegistryAssembler.MAX_TOTAL_BYTES);
+        List<byte[]> parts = split(compressed, LARGE_PART_SIZE);
+
+        feed(10, parts, indices(parts.size()));
+
+        assertEquals(registry, awaitResult());
+        assertFalse(assembler.isPending());
+        assertTrue(drops.isEmpty());
+    }
+
+    @Test
+    void dropsTransferWithMissingPartOnReset() throws Exception {
+        List<byte[]> parts = split(compress(registry(200, 4)));
+        List<Integer> order = indices(parts.size());
+        order.remove(parts.size() / 2);
+
+        feed(5, parts, order);
+        assertNoMoreResults();
+        assembler.reset();
+
+        assertNoMoreResults();
+    }
+
+    @Test
+    void newTransferIdSupersedesUnfinishedTransfer() throws Exception {
+        CompoundTag stale = registry(200, 5);
+        CompoundTag fresh = registry(200, 6);
+        List<byte[]> staleParts = split(compress(stale));
+        List<byte[]> freshParts = split(compress(fresh));
+        List<Integer> staleOrder = indices(staleParts.size());
+        staleOrder.remove(0);
+
+        feed(6, staleParts, staleOrder);
+        // Same part count is possible; only the id tells the transfers apart
+        feed(7, freshParts, indices(freshParts.size()));
+
+        assertEquals(fresh, awaitResult());
+        assertNoMoreResults();
+    }
+
+    @Test
+    void dropsOutOfRangeParts() throws Exception {
+        CompoundTag registry = registry(50, 7);
+        List<byte[]> parts = split(compress(registry));
+
+        assembler.accept(8, parts.size(), parts.size(), new byte[] {1, 2, 3});
+        assembler.accept(8, -1, parts.size(), new byte[] {1, 2, 3});
+        assembler.accept(8, 0, ChunkedRegistryAssembler.MAX_PARTS + 1, new byte[] {1, 2, 3});
+        feed(8, parts, indices(parts.size()));
+
+        assertEquals(registry, awaitResult());
+        assertNoMoreResults();
+    }
+
+    private void feed(int transferId, List<byte[]> parts, List<Integer> order) {
+        for (int index : order) {
+            assembler.accept(transferId, index, parts.size(), parts.get(index));
+        }
+    }
+
+    private CompoundTag awaitResult() throws InterruptedException {
+        CompoundTag result = results.poll(RESULT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (result == null) {
+            throw new AssertionError("no registry decoded within " + RESULT_TIMEOUT_MS + " ms");
+        }
+        return result;
+    }
+
+    private void awaitDrop() throws InterruptedException {
+        if (drops.poll(RESULT_TIMEOUT_MS, TimeUnit.MILLISECONDS) == null) {
+            throw new AssertionError("transfer not dropped within " + RESULT_TIMEOUT_MS + " ms");
+        }
+    }
+
+    private void assertNoMoreResults() throws InterruptedException {
+        assertNull(results.poll(QUIET_MS, TimeUnit.MILLISECONDS), "unexpected decoded registry");
+    }
+
+    /**
+     * A registry-shaped compound with per-dimension properties that compress poorly enough
+     * to need several parts
+     */
+    private static CompoundTag registry(int dimensions, long seed) {
+        Random random = new Random(seed);
+        CompoundTag registry = new CompoundTag();
+        for (int i = 0; i < dimensions; i++) {
+            CompoundTag properties = new CompoundTag();
+            properties.putString("parent", "minecraft:overworld");
+            properties.putLong("seed", random.nextLong());
+            properties.putDouble("border", random.nextDouble() * 10000);
+            registry.put("brecher_dim:exploration_" + i + "_" + random.nextInt(), properties);
+        }
+        return registry;
+    }
+
+    /**
+     * A compound holding {@code size} random bytes
+     */
+    private static CompoundTag payload(long size, long seed) {
+        byte[] data = new byte[(int) size];
+        new Random(seed).nextBytes(data);
+        CompoundTag tag = new CompoundTag();
+        tag.putByteArray("data", data);
+        return tag;
+    }
+
+    private static byte[] compress(CompoundTag tag) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NbtIo.writeCompressed(tag, out);
+        return out.toByteArray();
+    }
+
+    private static List<byte[]> split(byte[] data) {
+        return split(data, PART_SIZE);
+    }
+
+    private static List<byte[]> split(byte[] data, int partSize) {
+        List<byte[]> parts = new ArrayList<>();
+        for (int from = 0; from < data.length; from += partSize) {
+            parts.add(Arrays.copyOfRange(data, from, Math.min(data.length, from + partSize)));
+        }
+        return parts;
+    }
+
+    private static List<Integer> indices(int count) {
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            indices.add(i);
+        }
+        return indices;
+    }
+}
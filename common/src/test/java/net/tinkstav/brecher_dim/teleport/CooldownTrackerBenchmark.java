@@ -0,0 +1,135 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.teleport;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Standalone microbenchmark comparing {@link CooldownTracker} with the map it replaced.
+ * Run with {@code ./gradlew :common:cooldownBenchmark}.
+ *
+ * <p>Each operation is one teleport attempt: a cooldown check followed, when allowed,
+ * by starting a new cooldown. The simulated clock advances one tick (50 ms) every
+ * {@link #OPS_PER_TICK} operations and the tracker is expired once per tick, as on
+ * the server. Results are rough wall-clock numbers, not a substitute for JMH.
+ */
+public class CooldownTrackerBenchmark {
+    private static final long TICK_MS = 50;
+    private static final long COOLDOWN_MS = 10_000;
+    private static final int OPS_PER_TICK = 20;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int OPS_PER_ROUND = 200_000;
+
+    private interface Cooldowns {
+        long getRemaining(UUID playerId, long now);
+        void start(UUID playerId, long now);
+        void tick(long now);
+    }
+
+    /**
+     * The removed TeleportHandler map: last teleport time per player, with a min-scan
+     * eviction once 1000 players are tracked. Its 5-minute cleanup thread is left out,
+     * as it never ran on the teleport path.
+     */
+    private static class LegacyMap implements Cooldowns {
+        private static final int MAX_TELEPORT_RECORDS = 1000;
+        private final Map<UUID, Long> lastTeleportTime = new ConcurrentHashMap<>();
+
+        @Override
+        public long getRemaining(UUID playerId, long now) {
+            Long lastTeleport = lastTeleportTime.get(playerId);
+            return lastTeleport == null ? 0 : Math.max(0, COOLDOWN_MS - (now - lastTeleport));
+        }
+
+        @Override
+        public void start(UUID playerId, long now) {
+            if (lastTeleportTime.size() >= MAX_TELEPORT_RECORDS) {
+                lastTeleportTime.entrySet().stream()
+                    .min(Map.Entry.comparingByValue())
+                    .ifPresent(entry -> lastTeleportTime.remove(entry.getKey()));
+            }
+            lastTeleportTime.put(playerId, now);
+        }
+
+        @Override
+        public void tick(long now) {
+        }
+    }
+
+    private static class Tracker implements Cooldowns {
+        private final CooldownTracker tracker = new CooldownTracker();
+
+        @Override
+        public long getRemaining(UUID playerId, long now) {
+            return tracker.getRemaining(playerId, now);
+        }
+
+        @Override
+        public void start(UUID playerId, long now) {
+            tracker.start(playerId, now, COOLDOWN_MS);
+        }
+
+        @Override
+        public void tick(long now) {
+            tracker.expire(now);
+        }
+    }
+
+    public static void main(String[] args) {
+        for (int players : new int[] {100, 1_000, 10_000}) {
+            UUID[] ids = new UUID[players];
+            for (int i = 0; i < players; i++) {
+                ids[i] = UUID.randomUUID();
+            }
+            double legacy = measure(LegacyMap::new, ids);
+            double tracker = measure(Tracker::new, ids);
+            System.out.printf("%6d players: legacy map %8.1f ns/op, CooldownTracker %8.1f ns/op (%.1fx)%n",
+                players, legacy, tracker, legacy / tracker);
+        }
+    }
+
+    private static double measure(Supplier<Cooldowns> factory, UUID[] ids) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            run(factory.get(), ids, round);
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            Cooldowns cooldowns = factory.get();
+            long start = System.nanoTime();
+            long sink = run(cooldowns, ids, WARMUP_ROUNDS + round);
+            long elapsed = System.nanoTime() - start;
+            if (sink == 42) {
+                System.out.print(""); // Keep the results live
+            }
+            best = Math.min(best, elapsed);
+        }
+        return (double) best / OPS_PER_ROUND;
+    }
+
+    private static long run(Cooldowns cooldowns, UUID[] ids, long seed) {
+        Random random = new Random(seed);
+        long now = 1_000_000;
+        long sink = 0;
+        for (int op = 0; op < OPS_PER_ROUND; op++) {
+            if (op % OPS_PER_TICK == 0) {
+                now += TICK_MS;
+                cooldowns.tick(now);
+            }
+            UUID playerId = ids[random.nextInt(ids.length)];
+            long remaining = cooldowns.getRemaining(playerId, now);
+            if (remaining == 0) {
+                cooldowns.start(playerId, now);
+            }
+            sink += remaining;
+        }
+        return sink;
+    }
+}
@@ -6,6 +6,7 @@
 package net.tinkstav.brecher_dim.client;
 
 import com.mojang.logging.LogUtils;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.components.toasts.SystemToast;
@@ -17,10 +18,17 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
+import net.tinkstav.brecher_dim.network.payload.DimensionRegistryEpochPayload;
+import net.tinkstav.brecher_dim.network.payload.DimensionRegistrySyncPayload;
 import org.slf4j.Logger;
 
 import java.io.ByteArrayInputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,10 +44,16 @@ public class BrecherClientHandlerFabric {
     private static final Set<ResourceLocation> explorationDimensions = new HashSet<>();
     private static final Map<ResourceLocation, Long> scheduledResets = new ConcurrentHashMap<>();
     
-    // Chunked registry sync tracking
-    private static CompoundTag chunkAccumulator = null;
-    private static int expectedChunks = 0;
-    private static int receivedChunks = 0;
+    // Dimension registry state from the server's versioned sync
+    private static final Map<ResourceLocation, CompoundTag> dimensionProperties = new ConcurrentHashMap<>();
+    private static long registryEpoch = DimensionRegistrySyncPayload.FULL_SNAPSHOT;
+    private static boolean resyncRequested = false;
+    
+    // Chunked registry sync reassembly; decoded off-thread, processed on the client thread
+    private static final ChunkedRegistryAssembler chunkAssembler = new ChunkedRegistryAssembler(
+        task -> Minecraft.getInstance().execute(task), BrecherClientHandlerFabric::processRegistrySnapshot, BrecherClientHandlerFabric::replayDeferredSyncs);
+    // Registry syncs received while a chunked snapshot is being decoded, applied after it
+    private static final Deque<DimensionRegistrySyncPayload> deferredSyncs = new ArrayDeque<>();
     
     /**
      * Handle dimension sync packet
@@ -54,6 +68,66 @@ public class BrecherClientHandlerFabric {
         }
     }
     
+    /**
+     * Handle dimension registry sync packet. A full snapshot replaces the tracked dimensions;
+     * a delta is only applied on top of the epoch it was built from, otherwise the server is
+     * told which epoch this client actually has.
+     */
+    public static void handleDimensionRegistrySync(long baseEpoch, long epoch, Map<ResourceLocation, CompoundTag> dimensions, List<ResourceLocation> removed) {
+        if (chunkAssembler.isPending()) {
+            // Built on top of the snapshot still being decoded
+            deferredSyncs.addLast(new DimensionRegistrySyncPayload(baseEpoch, epoch, dimensions, removed));
+            return;
+        }
+        boolean fullSnapshot = baseEpoch == DimensionRegistrySyncPayload.FULL_SNAPSHOT;
+        boolean firstSnapshot = fullSnapshot && registryEpoch == DimensionRegistrySyncPayload.FULL_SNAPSHOT;
+        if (!fullSnapshot && baseEpoch != registryEpoch) {
+            if (!resyncRequested) {
+                LOGGER.debug("Registry delta {} -> {} does not match applied epoch {}, requesting resync", baseEpoch, epoch, registryEpoch);
+                resyncRequested = true;
+                ClientPlayNetworking.send(new DimensionRegistryEpochPayload(registryEpoch));
+            }
+            return;
+        }
+        
+        if (fullSnapshot) {
+            for (ResourceLocation dimensionId : new ArrayList<>(explorationDimensions)) {
+                if (!dimensions.containsKey(dimensionId)) {
+                    handleDimensionSync(dimensionId, false);
+                }
+            }
+            dimensionProperties.clear();
+        }
+        for (ResourceLocation dimensionId : removed) {
+            handleDimensionSync(dimensionId, false);
+            dimensionProperties.remove(dimensionId);
+        }
+        dimensions.forEach((dimensionId, properties) -> {
+            if (!explorationDimensions.contains(dimensionId)) {
+                handleDimensionSync(dimensionId, true);
+            }
+            dimensionProperties.put(dimensionId, properties);
+        });
+        
+        registryEpoch = epoch;
+        resyncRequested = false;
+        LOGGER.debug("Applied registry {} for epoch {}: {} updated, {} removed",
+            fullSnapshot ? "snapshot" : "delta", epoch, dimensions.size(), removed.size());
+        
+        if (firstSnapshot) {
+            // Track the session's live dimensions first, so only older map data is removed
+            explorationDimensions.forEach(XaeroMapCleanup::trackExplorationDimension);
+            XaeroMapCleanup.cleanupOldMapDataOnConnect();
+        }
+    }
+    
+    /**
+     * Properties the server sent for an exploration dimension, or null if unknown
+     */
+    public static CompoundTag getDimensionProperties(ResourceLocation dimensionId) {
+        return dimensionProperties.get(dimensionId);
+    }
+    
     /**
      * Handle dimension reset notification
      */
@@ -148,49 +222,35 @@ public class BrecherClientHandlerFabric {
     /**
      * Handle chunked registry sync packet
      */
-    public static void handleChunkedRegistrySync(int chunkIndex, int totalChunks, byte[] nbtData) {
-        try {
-            // Initialize accumulator on first chunk
-            if (chunkIndex == 0) {
-                chunkAccumulator = new CompoundTag();
-                expectedChunks = totalChunks;
-                receivedChunks = 0;
-            }
-            
-            // Verify chunk ordering
-            if (chunkIndex != receivedChunks) {
-                LOGGER.error("Received chunk {} out of order, expected {}", chunkIndex, receivedChunks);
-                resetChunkAccumulator();
-                return;
-            }
-            
-            // Parse and accumulate chunk data
-            CompoundTag chunkTag = NbtIo.readCompressed(new ByteArrayInputStream(nbtData), NbtAccounter.unlimitedHeap());
-            for (String key : chunkTag.getAllKeys()) {
-                chunkAccumulator.put(key, chunkTag.get(key));
-            }
-            
-            receivedChunks++;
-            LOGGER.debug("Received chunk {}/{} of registry sync", receivedChunks, expectedChunks);
-            
-            // Process complete data when all chunks received
-            if (receivedChunks == expectedChunks) {
-                LOGGER.info("Received all {} chunks, processing complete registry sync", expectedChunks);
-                
-                // Process all accumulated dimensions
-                for (String key : chunkAccumulator.getAllKeys()) {
-                    ResourceLocation dimensionId = ResourceLocation.tryParse(key);
-                    if (dimensionId != null && chunkAccumulator.contains(key, 10)) { // 10 = Compound tag
-                        processRegistryData(dimensionId, chunkAccumulator.getCompound(key));
-                    }
-                }
-                
-                resetChunkAccumulator();
+    public static void handleChunkedRegistrySync(int transferId, int chunkIndex, int totalChunks, byte[] nbtData) {
+        chunkAssembler.accept(transferId, chunkIndex, totalChunks, nbtData);
+    }
+    
+    /**
+     * Apply a reassembled registry snapshot, then the syncs that arrived while it was decoded
+     */
+    private static void processRegistrySnapshot(CompoundTag tag) {
+        CompoundTag dimensionsTag = tag.getCompound("dimensions");
+        LOGGER.debug("Processing chunked registry sync with {} dimensions", dimensionsTag.size());
+        Map<ResourceLocation, CompoundTag> dimensions = new HashMap<>();
+        for (String key : dimensionsTag.getAllKeys()) {
+            ResourceLocation dimensionId = ResourceLocation.tryParse(key);
+            if (dimensionId != null && dimensionsTag.contains(key, 10)) { // 10 = Compound tag
+                dimensions.put(dimensionId, dimensionsTag.getCompound(key));
             }
-            
-        } catch (Exception e) {
-            LOGGER.error("Failed to process chunked registry sync", e);
-            resetChunkAccumulator();
+        }
+        handleDimensionRegistrySync(DimensionRegistrySyncPayload.FULL_SNAPSHOT, tag.getLong("epoch"), dimensions, List.of());
+        replayDeferredSyncs();
+    }
+    
+    /**
+     * Apply the syncs held back during a chunked snapshot; after a dropped snapshot
+     * their base epochs no longer match and the first one requests a resync
+     */
+    private static void replayDeferredSyncs() {
+        while (!deferredSyncs.isEmpty() && !chunkAssembler.isPending()) {
+            DimensionRegistrySyncPayload sync = deferredSyncs.removeFirst();
+            handleDimensionRegistrySync(sync.baseEpoch(), sync.epoch(), sync.dimensions(), sync.removed());
         }
     }
     
@@ -210,22 +270,17 @@ public class BrecherClientHandlerFabric {
         // Additional processing can be added here as needed
     }
     
-    /**
-     * Reset chunk accumulator state
-     */
-    private static void resetChunkAccumulator() {
-        chunkAccumulator = null;
-        expectedChunks = 0;
-        receivedChunks = 0;
-    }
-    
     /**
      * Clear all client-side data (called on disconnect)
      */
     public static void clearClientData() {
         explorationDimensions.clear();
         scheduledResets.clear();
-        resetChunkAccumulator();
+        dimensionProperties.clear();
+        registryEpoch = DimensionRegistrySyncPayload.FULL_SNAPSHOT;
+        resyncRequested = false;
+        chunkAssembler.reset();
+        deferredSyncs.clear();
         LOGGER.debug("Cleared client-side dimension data");
     }
 }
\ No newline at end of file
@@ -6,18 +6,27 @@
 package net.tinkstav.brecher_dim.client.fabric;
 
 import net.minecraft.client.Minecraft;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.tinkstav.brecher_dim.BrecherDimensions;
 import net.tinkstav.brecher_dim.platform.ClientHandler;
 import net.tinkstav.brecher_dim.client.BrecherClientHandlerFabric;
 
+import java.util.List;
+import java.util.Map;
+
 public class ClientHandlerImpl implements ClientHandler {
     @Override
     public void handleDimensionSync(ResourceLocation dimensionId, boolean exists) {
         BrecherClientHandlerFabric.handleDimensionSync(dimensionId, exists);
     }
     
+    @Override
+    public void handleDimensionRegistrySync(long baseEpoch, long epoch, Map<ResourceLocation, CompoundTag> dimensions, List<ResourceLocation> removed) {
+        BrecherClientHandlerFabric.handleDimensionRegistrySync(baseEpoch, epoch, dimensions, removed);
+    }
+    
     @Override
     public void handleDimensionReset(ResourceLocation dimensionId, long resetTime) {
         BrecherClientHandlerFabric.handleDimensionReset(dimensionId, resetTime);
@@ -39,7 +48,7 @@ public class ClientHandlerImpl implements ClientHandler {
     }
     
     @Override
-    public void handleChunkedRegistrySync(int chunkIndex, int totalChunks, byte[] nbtData) {
-        BrecherClientHandlerFabric.handleChunkedRegistrySync(chunkIndex, totalChunks, nbtData);
+    public void handleChunkedRegistrySync(int transferId, int chunkIndex, int totalChunks, byte[] nbtData) {
+        BrecherClientHandlerFabric.handleChunkedRegistrySync(transferId, chunkIndex, totalChunks, nbtData);
     }
 }
\ No newline at end of file
@@ -34,7 +34,7 @@ public class ClientPacketHandlerImpl {
         BrecherClientHandlerFabric.handleEnhancedRegistrySync(nbtData);
     }
     
-    public static void handleChunkedRegistrySync(int chunkIndex, int totalChunks, byte[] nbtData) {
-        BrecherClientHandlerFabric.handleChunkedRegistrySync(chunkIndex, totalChunks, nbtData);
+    public static void handleChunkedRegistrySync(int transferId, int chunkIndex, int totalChunks, byte[] nbtData) {
+        BrecherClientHandlerFabric.handleChunkedRegistrySync(transferId, chunkIndex, totalChunks, nbtData);
     }
 }
\ No newline at end of file
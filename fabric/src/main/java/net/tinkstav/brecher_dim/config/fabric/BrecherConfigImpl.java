@@ -22,7 +22,12 @@ public class BrecherConfigImpl {
     /**
      * Initialize config system
      */
-    public static void init() {
+    public static synchronized void init() {
+        if (yamlHandler != null) {
+            // Already loaded and watched; a second handler would start a second watcher
+            LOGGER.debug("YAML config already initialized");
+            return;
+        }
         LOGGER.info("Initializing Brecher's Exploration Dimensions YAML config for Fabric");
         
         // Get config directory and create brecher_exploration subdirectory
@@ -36,7 +41,7 @@ public class BrecherConfigImpl {
     /**
      * Reload config values
      */
-    public static void reload() {
+    public static synchronized void reload() {
         LOGGER.info("Reloading Brecher's Exploration Dimensions YAML config for Fabric");
         if (yamlHandler != null) {
             yamlHandler.reload();
@@ -44,4 +49,13 @@ public class BrecherConfigImpl {
             init();
         }
     }
+    
+    /**
+     * Stop watching the config file
+     */
+    public static synchronized void shutdown() {
+        if (yamlHandler != null) {
+            yamlHandler.close();
+        }
+    }
 }
\ No newline at end of file
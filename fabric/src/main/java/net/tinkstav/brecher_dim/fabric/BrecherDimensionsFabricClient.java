@@ -27,12 +27,6 @@ public class BrecherDimensionsFabricClient implements ClientModInitializer {
         FabricNetworking.initClient();
         
         // Register client connection events
-        ClientPlayConnectionEvents.JOIN.register((handler, sender, client) -> {
-            LOGGER.debug("Client connected to server, cleaning up old map data");
-            // Clean up old Xaero map data from previous sessions
-            net.tinkstav.brecher_dim.client.XaeroMapCleanup.cleanupOldMapDataOnConnect();
-        });
-        
         ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
             LOGGER.debug("Client disconnected from server, clearing data");
             BrecherClientHandlerFabric.clearClientData();
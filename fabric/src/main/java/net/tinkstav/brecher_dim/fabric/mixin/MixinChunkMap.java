@@ -7,10 +7,15 @@ package net.tinkstav.brecher_dim.fabric.mixin;
 
 import com.mojang.logging.LogUtils;
 import net.minecraft.server.level.ChunkMap;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import net.minecraft.world.level.chunk.storage.ChunkSerializer;
 import net.tinkstav.brecher_dim.config.BrecherConfig;
 import net.tinkstav.brecher_dim.dimension.ExplorationSeedManager;
+import net.tinkstav.brecher_dim.performance.ExplorationChunkCache;
 import org.slf4j.Logger;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -20,8 +25,12 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 /**
- * Mixin to prevent chunk saving for exploration dimensions
+ * Mixin to prevent chunk saving for exploration dimensions.
+ * When the in-memory chunk cache is enabled, skipped saves are kept there instead.
  */
 @Mixin(ChunkMap.class)
 public class MixinChunkMap {
@@ -36,9 +45,45 @@ public class MixinChunkMap {
     @Inject(method = "save(Lnet/minecraft/world/level/chunk/ChunkAccess;)Z", at = @At("HEAD"), cancellable = true)
     private void brecher_dim$preventChunkSave(ChunkAccess chunkAccess, CallbackInfoReturnable<Boolean> cir) {
         if (BrecherConfig.isPreventDiskSaves() && ExplorationSeedManager.isExplorationDimension(level.dimension())) {
+            if (ExplorationChunkCache.isEnabled()) {
+                cir.setReturnValue(brecher_dim$cacheChunk(chunkAccess));
+                return;
+            }
             LOGGER.debug("Preventing chunk save for exploration dimension: {}", level.dimension().location());
             // Return false to indicate the chunk was not saved
             cir.setReturnValue(false);
         }
     }
+    
+    /**
+     * Serve chunk loads for exploration dimensions from the in-memory chunk cache
+     */
+    @Inject(method = "readChunk", at = @At("HEAD"), cancellable = true)
+    private void brecher_dim$readCachedChunk(ChunkPos pos, CallbackInfoReturnable<CompletableFuture<Optional<CompoundTag>>> cir) {
+        if (ExplorationChunkCache.isEnabled() && ExplorationSeedManager.isExplorationDimension(level.dimension())) {
+            CompletableFuture<Optional<CompoundTag>> cached = ExplorationChunkCache.load(level.dimension(), pos);
+            if (cached != null) {
+                cir.setReturnValue(cached);
+            }
+        }
+    }
+    
+    /**
+     * Serialize a chunk into the in-memory cache, following the same skip rules as a vanilla save
+     */
+    @Unique
+    private boolean brecher_dim$cacheChunk(ChunkAccess chunkAccess) {
+        if (!chunkAccess.isUnsaved()) {
+            return false;
+        }
+        
+        ChunkStatus status = chunkAccess.getPersistedStatus();
+        if (status == ChunkStatus.EMPTY) {
+            return false;
+        }
+        
+        chunkAccess.setUnsaved(false);
+        ExplorationChunkCache.store(level.dimension(), chunkAccess.getPos(), ChunkSerializer.write(level, chunkAccess));
+        return true;
+    }
 }
\ No newline at end of file
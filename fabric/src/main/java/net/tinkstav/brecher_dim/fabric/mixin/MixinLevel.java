@@ -0,0 +1,28 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.fabric.mixin;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.tinkstav.brecher_dim.performance.DimensionTickMonitor;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(Level.class)
+public abstract class MixinLevel {
+    
+    /**
+     * Skip block entity ticking in suspended exploration dimensions
+     */
+    @Inject(method = "tickBlockEntities", at = @At("HEAD"), cancellable = true)
+    private void brecher_dim$skipBlockEntityTick(CallbackInfo ci) {
+        if ((Object)this instanceof ServerLevel serverLevel && DimensionTickMonitor.isSkippingTick(serverLevel)) {
+            ci.cancel();
+        }
+    }
+}
@@ -48,10 +48,11 @@ import net.tinkstav.brecher_dim.BrecherDimensions;
 import net.tinkstav.brecher_dim.config.BrecherConfig;
 import net.tinkstav.brecher_dim.dimension.DimensionRegistrar;
 import net.tinkstav.brecher_dim.dimension.ExplorationSeedManager;
-import net.tinkstav.brecher_dim.network.BrecherNetworking;
+import net.tinkstav.brecher_dim.network.DimensionSyncTracker;
 import net.tinkstav.brecher_dim.teleport.TeleportHandler;
 import net.tinkstav.brecher_dim.accessor.IServerDimensionAccessor;
 import net.tinkstav.brecher_dim.accessor.IRegistryAccessor;
+import net.tinkstav.brecher_dim.performance.RegionCompression;
 import org.slf4j.Logger;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -187,7 +188,8 @@ public abstract class MixinMinecraftServer implements IServerDimensionAccessor {
                         if (stemRegistry.containsKey(stemKey)) {
                             LOGGER.info("Successfully registered level stem: {}", stemKey.location());
                         } else {
-                            LOGGER.warn("Level stem registration appeared to succeed but key not found: {}", stemKey.location());
+                            // Registrations are queued while dimensions are created as a batch on startup
+                            LOGGER.debug("Level stem {} queued for batch registration", stemKey.location());
                         }
                     } catch (Exception e) {
                         LOGGER.warn("Failed to register level stem {}: {}", stemKey.location(), e.getMessage());
@@ -270,13 +272,17 @@ public abstract class MixinMinecraftServer implements IServerDimensionAccessor {
                 LOGGER.debug("Safety cleanup of dimension context completed");
             });
             
-            // Initialize world border
+            // Initialize world border; a configured border size is kept instead of following the overworld
             try {
-                BorderChangeListener listener = new BorderChangeListener.DelegateBorderChangeListener(newLevel.getWorldBorder());
-                ServerLevel overworld = server.overworld();
-                if (overworld != null) {
-                    overworld.getWorldBorder().addListener(listener);
-                    brecher_dim$borderListeners.add(listener);
+                if (BrecherConfig.forDimension(dimensionKey.location()).explorationBorder() > 0) {
+                    LOGGER.debug("Not mirroring the overworld border into {}, it has a configured size", dimensionKey.location());
+                } else {
+                    BorderChangeListener listener = new BorderChangeListener.DelegateBorderChangeListener(newLevel.getWorldBorder());
+                    ServerLevel overworld = server.overworld();
+                    if (overworld != null) {
+                        overworld.getWorldBorder().addListener(listener);
+                        brecher_dim$borderListeners.add(listener);
+                    }
                 }
             } catch (Exception e) {
                 LOGGER.warn("Failed to setup world border listener for {}", dimensionKey.location(), e);
@@ -299,7 +305,8 @@ public abstract class MixinMinecraftServer implements IServerDimensionAccessor {
             // Notify all players with proper registry sync
             brecher_dim$syncDimensionToAllPlayers(server, dimensionKey, dimTypeKey, levelStem);
             
-            LOGGER.info("Successfully created runtime dimension: {}", dimensionKey.location());
+            LOGGER.info("Successfully created runtime dimension: {} (region compression: {})",
+                dimensionKey.location(), RegionCompression.getCodecName(dimensionKey));
             return newLevel;
             
         } catch (Exception e) {
@@ -452,15 +459,8 @@ public abstract class MixinMinecraftServer implements IServerDimensionAccessor {
                                                        ResourceKey<DimensionType> dimTypeKey,
                                                        LevelStem levelStem) {
         try {
-            // Send sync packets to all players
-            server.getPlayerList().getPlayers().forEach(player -> {
-                try {
-                    BrecherNetworking.sendDimensionSync(player, dimensionKey.location(), true);
-                } catch (Exception e) {
-                    LOGGER.error("Failed to sync dimension {} to player {}", 
-                        dimensionKey.location(), player.getName().getString(), e);
-                }
-            });
+            // Send every player the registry delta for the new dimension
+            DimensionSyncTracker.syncToAll(server);
             
             LOGGER.debug("Synced dimension {} to {} players", 
                 dimensionKey.location(), server.getPlayerList().getPlayerCount());
@@ -527,8 +527,24 @@ public abstract class MixinMinecraftServer implements IServerDimensionAccessor {
         // Get a copy of the keys to avoid concurrent modification
         List<ResourceKey<Level>> dimensionsToRemove = new ArrayList<>(brecher_dim$runtimeLevels.keySet());
         
-        for (ResourceKey<Level> dimensionKey : dimensionsToRemove) {
-            brecher_dim$removeRuntimeDimension(dimensionKey);
+        // Queue the registry removals so each registry is unfrozen once for all dimensions
+        List<IRegistryAccessor<?>> batched = new ArrayList<>();
+        for (Registry<?> registry : List.<Registry<?>>of(
+                server.registryAccess().registryOrThrow(Registries.DIMENSION_TYPE),
+                server.registryAccess().registryOrThrow(Registries.LEVEL_STEM))) {
+            if (registry instanceof IRegistryAccessor<?> accessor) {
+                accessor.brecher_dim$beginRuntimeBatch();
+                batched.add(accessor);
+            }
+        }
+        try {
+            for (ResourceKey<Level> dimensionKey : dimensionsToRemove) {
+                brecher_dim$removeRuntimeDimension(dimensionKey);
+            }
+        } finally {
+            for (IRegistryAccessor<?> accessor : batched) {
+                accessor.brecher_dim$endRuntimeBatch();
+            }
         }
         
         // Clean up all runtime registry entries
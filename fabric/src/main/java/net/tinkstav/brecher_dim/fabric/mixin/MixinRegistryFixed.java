@@ -13,6 +13,7 @@ import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.tinkstav.brecher_dim.BrecherDimensions;
 import net.tinkstav.brecher_dim.accessor.IRegistryAccessor;
+import net.tinkstav.brecher_dim.accessor.RegistryHandles;
 import net.tinkstav.brecher_dim.exception.RegistryDiscoveryException;
 import org.slf4j.Logger;
 import org.spongepowered.asm.mixin.Final;
@@ -55,6 +56,14 @@ public class MixinRegistryFixed<T> implements IRegistryAccessor<T> {
     @Unique
     private boolean brecher_dim$reflectionInitialized = false;
     
+    // Entries queued while a runtime batch is open; guarded by the registry lock
+    @Unique
+    private final Map<ResourceKey<T>, T> brecher_dim$pendingBatch = new LinkedHashMap<>();
+    @Unique
+    private final Set<ResourceKey<T>> brecher_dim$pendingRemovals = new LinkedHashSet<>();
+    @Unique
+    private int brecher_dim$batchDepth = 0;
+    
     /**
      * Initialize reflection-based field access with adaptive field discovery
      * 
@@ -71,8 +80,13 @@ public class MixinRegistryFixed<T> implements IRegistryAccessor<T> {
         LOGGER.debug("Starting registry field discovery for {}", this.getClass().getName());
         
         try {
-            // REFLECTION: Strategy 1 - Try current class fields first (fastest)
-            brecher_dim$discoveryStrategy1(); // Current class fields
+            // REFLECTION: Cached field handles resolve the maps directly when names are unmapped
+            brecher_dim$resolveFromHandles();
+            
+            if (brecher_dim$byValue == null || brecher_dim$byLocation == null) {
+                // REFLECTION: Strategy 1 - Try current class fields first
+                brecher_dim$discoveryStrategy1(); // Current class fields
+            }
             
             if (brecher_dim$byValue == null || brecher_dim$byLocation == null) {
                 // REFLECTION: Strategy 2 - Check superclass hierarchy
@@ -111,6 +125,22 @@ public class MixinRegistryFixed<T> implements IRegistryAccessor<T> {
         }
     }
     
+    @Unique
+    @SuppressWarnings("unchecked")
+    private void brecher_dim$resolveFromHandles() {
+        Object registry = this;
+        try {
+            if (RegistryHandles.BY_VALUE != null) {
+                brecher_dim$byValue = (Map<T, Holder.Reference<T>>) RegistryHandles.BY_VALUE.get((MappedRegistry<T>) registry);
+            }
+            if (RegistryHandles.BY_LOCATION != null) {
+                brecher_dim$byLocation = (Map<ResourceLocation, Holder.Reference<T>>) RegistryHandles.BY_LOCATION.get((MappedRegistry<T>) registry);
+            }
+        } catch (Exception e) {
+            LOGGER.debug("Could not read registry fields through cached handles: {}", e.getMessage());
+        }
+    }
+    
     @Unique
     private void brecher_dim$discoveryStrategy1() {
         Class<?> registryClass = this.getClass();
@@ -246,299 +276,212 @@ public class MixinRegistryFixed<T> implements IRegistryAccessor<T> {
     /**
      * Public method to allow runtime registration
      * 
-     * THREAD-SAFETY: Uses ReentrantReadWriteLock to ensure thread-safe registry modification
-     * This method temporarily unfreezes the registry, adds the entry, then re-freezes it.
+     * While a batch is open (see {@link #brecher_dim$beginRuntimeBatch()}) the entry is queued
+     * and registered when the batch ends; otherwise it is registered immediately as a batch of one.
      */
     @Unique
     public void brecher_dim$registerRuntime(ResourceKey<T> key, T value) {
         if (frozen && brecher_dim$isExplorationDimension(key)) {
-            brecher_dim$initializeReflection();
-            
-            // Check if already registered
-            if (this.byKey.containsKey(key)) {
-                return; // Already registered, skip
-            }
-            
-            // THREAD-SAFETY: Acquire exclusive write lock for registry modification
             brecher_dim$registryLock.writeLock().lock();
             try {
-                // REFLECTION: Temporarily bypass frozen state for registration
-                boolean wasFrozen = frozen;
-                frozen = false;
-                brecher_dim$temporarilyUnfrozen = true;
-                
-                try {
-                    // REFLECTION: Attempt to use Minecraft's internal register method
-                    if (brecher_dim$useInternalRegister(key, value)) {
-                        brecher_dim$runtimeEntries.add(key);
-                        LOGGER.info("Successfully registered runtime entry: {}", key.location());
-                    } else {
-                        LOGGER.error("Failed to register runtime entry: {}", key.location());
-                    }
-                } finally {
-                    // THREAD-SAFETY: Always restore frozen state to maintain registry integrity
-                    frozen = wasFrozen;
-                    brecher_dim$temporarilyUnfrozen = false;
+                if (brecher_dim$batchDepth > 0) {
+                    brecher_dim$pendingBatch.put(key, value);
+                    return;
                 }
             } finally {
-                // THREAD-SAFETY: Release write lock
                 brecher_dim$registryLock.writeLock().unlock();
             }
+            
+            brecher_dim$registerRuntimeBatch(Map.of(key, value));
         }
     }
     
+    @Override
     @Unique
-    private boolean brecher_dim$useInternalRegister(ResourceKey<T> key, T value) {
+    public void brecher_dim$beginRuntimeBatch() {
+        brecher_dim$registryLock.writeLock().lock();
         try {
-            // Try to use the registry's own registration methods
-            @SuppressWarnings("unchecked")
-            MappedRegistry<T> mappedRegistry = (MappedRegistry<T>)(Object)this;
-            
-            // Look for register methods
-            java.lang.reflect.Method[] methods = mappedRegistry.getClass().getDeclaredMethods();
-            
-            for (java.lang.reflect.Method method : methods) {
-                if (method.getName().equals("register") && method.getParameterCount() >= 2) {
-                    Class<?>[] paramTypes = method.getParameterTypes();
-                    
-                    // Look for register(int, ResourceKey, T) or similar
-                    if (paramTypes.length == 3 && 
-                        paramTypes[0] == int.class &&
-                        ResourceKey.class.isAssignableFrom(paramTypes[1])) {
-                        
-                        method.setAccessible(true);
-                        
-                        // Generate a unique ID
-                        int id = byKey.size() + 1000; // Offset to avoid conflicts
-                        
-                        Object result = method.invoke(mappedRegistry, id, key, value);
-                        LOGGER.debug("Used register method {} with ID {}", method.getName(), id);
-                        return true;
-                    }
-                    // Look for register(ResourceKey, T) method
-                    else if (paramTypes.length == 2 &&
-                             ResourceKey.class.isAssignableFrom(paramTypes[0])) {
-                        
-                        method.setAccessible(true);
-                        Object result = method.invoke(mappedRegistry, key, value);
-                        LOGGER.debug("Used register method {}", method.getName());
-                        return true;
-                    }
-                }
-            }
-            
-            LOGGER.debug("No suitable register method found, will use direct field manipulation");
-            return brecher_dim$directFieldRegistration(key, value);
-            
-        } catch (Exception e) {
-            LOGGER.error("Failed to use internal register method for {}: {}", key.location(), e.getMessage());
-            return false;
+            brecher_dim$batchDepth++;
+        } finally {
+            brecher_dim$registryLock.writeLock().unlock();
         }
     }
     
+    /**
+     * Apply the removals queued during the batch, then register the queued entries, so a key
+     * removed and created again in one batch ends up with its new value
+     */
+    @Override
     @Unique
-    private boolean brecher_dim$directFieldRegistration(ResourceKey<T> key, T value) {
+    public int brecher_dim$endRuntimeBatch() {
+        Map<ResourceKey<T>, T> batch;
+        List<ResourceKey<T>> removals;
+        brecher_dim$registryLock.writeLock().lock();
         try {
-            brecher_dim$initializeReflection();
-            
-            // Validate registry state before modification
-            if (!brecher_dim$validateRegistryState()) {
-                LOGGER.error("Registry state validation failed for {}", key.location());
-                return false;
+            if (brecher_dim$batchDepth == 0 || --brecher_dim$batchDepth > 0) {
+                return 0;
             }
-            
-            // Create holder reference using multiple fallback strategies
-            Holder.Reference<T> reference = brecher_dim$createHolderReference(key, value);
-            if (reference == null) {
-                LOGGER.error("Failed to create holder reference for {}", key.location());
-                return false;
-            }
-            
-            // Atomic registry modification with backup
-            return brecher_dim$atomicRegistryModification(key, value, reference);
-            
-        } catch (Exception e) {
-            LOGGER.error("Direct field registration failed for {}: {}", key.location(), e.getMessage());
-            return false;
+            batch = new LinkedHashMap<>(brecher_dim$pendingBatch);
+            brecher_dim$pendingBatch.clear();
+            removals = new ArrayList<>(brecher_dim$pendingRemovals);
+            brecher_dim$pendingRemovals.clear();
+        } finally {
+            brecher_dim$registryLock.writeLock().unlock();
+        }
+        
+        if (!removals.isEmpty()) {
+            brecher_dim$removeRuntimeBatch(removals);
         }
+        return batch.isEmpty() ? 0 : brecher_dim$registerRuntimeBatch(batch);
     }
     
     /**
-     * Creates a Holder.Reference for registry entries using multiple strategies
+     * Register several runtime entries at once
      * 
-     * REFLECTION: Holder.Reference constructors vary between Minecraft versions
-     * We try multiple constructor signatures to ensure compatibility
+     * THREAD-SAFETY: The write lock is taken and the registry unfrozen a single time for the
+     * whole batch. Entries that are already registered or are not exploration dimensions are skipped.
      * 
-     * @param key The resource key for the entry
-     * @param value The value to bind to the holder
-     * @return A bound Holder.Reference or null if creation fails
+     * @return the number of entries registered
      */
+    @Override
     @Unique
-    private Holder.Reference<T> brecher_dim$createHolderReference(ResourceKey<T> key, T value) {
-        // Strategy 1: Try to create reference using existing pattern
-        try {
-            Holder.Reference<T> reference = byKey.get(key);
-            if (reference != null) {
-                if (!reference.isBound()) {
-                    // Use reflection to call protected bindValue method
-                    java.lang.reflect.Method bindValueMethod = reference.getClass().getDeclaredMethod("bindValue", Object.class);
-                    bindValueMethod.setAccessible(true);
-                    bindValueMethod.invoke(reference, value);
-                }
-                return reference;
-            }
-        } catch (Exception e) {
-            LOGGER.debug("Could not reuse existing reference for {}: {}", key.location(), e.getMessage());
+    public int brecher_dim$registerRuntimeBatch(Map<ResourceKey<T>, T> entries) {
+        if (!frozen || entries.isEmpty()) {
+            return 0;
         }
+        brecher_dim$initializeReflection();
         
-        // REFLECTION: Strategy 2 - Create standalone reference with constructor discovery
+        // THREAD-SAFETY: Acquire exclusive write lock for registry modification
+        brecher_dim$registryLock.writeLock().lock();
         try {
-            // Use reflection to find Reference constructor
-            Class<?> refClass = Holder.Reference.class;
-            java.lang.reflect.Constructor<?>[] constructors = refClass.getDeclaredConstructors();
+            Map<ResourceKey<T>, T> toRegister = new LinkedHashMap<>();
+            for (Map.Entry<ResourceKey<T>, T> entry : entries.entrySet()) {
+                if (brecher_dim$isExplorationDimension(entry.getKey()) && !this.byKey.containsKey(entry.getKey())) {
+                    toRegister.put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (toRegister.isEmpty()) {
+                return 0;
+            }
             
-            for (java.lang.reflect.Constructor<?> constructor : constructors) {
-                constructor.setAccessible(true);
-                Class<?>[] paramTypes = constructor.getParameterTypes();
+            // REFLECTION: Temporarily bypass frozen state for registration
+            boolean wasFrozen = frozen;
+            frozen = false;
+            brecher_dim$temporarilyUnfrozen = true;
+            
+            try {
+                int registered = 0;
+                Map<ResourceKey<T>, T> remaining = new LinkedHashMap<>();
                 
-                try {
-                    @SuppressWarnings("unchecked")
-                    Holder.Reference<T> reference;
-                    
-                    if (paramTypes.length == 4) {
-                        // Try 4-parameter constructor: (Type, OwnerRegistry, Key, Value)
-                        // Use the first available Type enum value
-                        Object firstType = paramTypes[0].getEnumConstants()[0];
-                        reference = (Holder.Reference<T>) constructor.newInstance(firstType, this, key, value);
-                    } else if (paramTypes.length == 3) {
-                        // Try 3-parameter constructor: (OwnerRegistry, Key, Value)
-                        reference = (Holder.Reference<T>) constructor.newInstance(this, key, value);
-                    } else if (paramTypes.length == 2) {
-                        // Try 2-parameter constructor: (OwnerRegistry, Key)
-                        reference = (Holder.Reference<T>) constructor.newInstance(this, key);
-                        // Use reflection to call protected bindValue method
-                    java.lang.reflect.Method bindValueMethod = reference.getClass().getDeclaredMethod("bindValue", Object.class);
-                    bindValueMethod.setAccessible(true);
-                    bindValueMethod.invoke(reference, value);
-                    } else if (paramTypes.length == 1) {
-                        // Try 1-parameter constructor: (Key)
-                        reference = (Holder.Reference<T>) constructor.newInstance(key);
-                        // Use reflection to call protected bindValue method
-                    java.lang.reflect.Method bindValueMethod = reference.getClass().getDeclaredMethod("bindValue", Object.class);
-                    bindValueMethod.setAccessible(true);
-                    bindValueMethod.invoke(reference, value);
+                // REFLECTION: Attempt to use Minecraft's internal register method
+                for (Map.Entry<ResourceKey<T>, T> entry : toRegister.entrySet()) {
+                    if (brecher_dim$useInternalRegister(entry.getKey(), entry.getValue())) {
+                        brecher_dim$runtimeEntries.add(entry.getKey());
+                        registered++;
+                        LOGGER.info("Successfully registered runtime entry: {}", entry.getKey().location());
                     } else {
-                        continue; // Skip constructors we don't know how to handle
+                        remaining.put(entry.getKey(), entry.getValue());
                     }
-                    
-                    LOGGER.debug("Strategy 2: Successfully created reference using {}-parameter constructor", paramTypes.length);
-                    return reference;
-                    
-                } catch (Exception ex) {
-                    LOGGER.debug("Strategy 2: Failed with {}-parameter constructor: {}", paramTypes.length, ex.getMessage());
-                    continue; // Try next constructor
                 }
-            }
-        } catch (Exception e) {
-            LOGGER.debug("Could not create reference via reflection for {}: {}", key.location(), e.getMessage());
-        }
-        
-        // Strategy 3: Use computeIfAbsent as fallback with improved constructor handling
-        try {
-            return byKey.computeIfAbsent(key, k -> {
-                try {
-                    // Find the correct constructor for Holder.Reference
-                    java.lang.reflect.Constructor<?>[] constructors = Holder.Reference.class.getDeclaredConstructors();
-                    
-                    // Try each constructor with different parameter counts
-                    for (java.lang.reflect.Constructor<?> constructor : constructors) {
-                        constructor.setAccessible(true);
-                        Class<?>[] paramTypes = constructor.getParameterTypes();
-                        
-                        try {
-                            @SuppressWarnings("unchecked")
-                            Holder.Reference<T> ref;
-                            
-                            if (paramTypes.length == 4) {
-                                // Try 4-parameter constructor: (Type, OwnerRegistry, Key, Value)
-                                // Use the first available Type enum value  
-                                Object firstType = paramTypes[0].getEnumConstants()[0];
-                                // Get the registry reference - this mixin is applied to MappedRegistry
-                                @SuppressWarnings("unchecked")
-                                MappedRegistry<T> registry = (MappedRegistry<T>) (Object) this;
-                                ref = (Holder.Reference<T>) constructor.newInstance(firstType, registry, k, value);
-                            } else if (paramTypes.length == 3) {
-                                // Try 3-parameter constructor: (OwnerRegistry, Key, Value)
-                                @SuppressWarnings("unchecked")
-                                MappedRegistry<T> registry = (MappedRegistry<T>) (Object) this;
-                                ref = (Holder.Reference<T>) constructor.newInstance(registry, k, value);
-                            } else if (paramTypes.length == 2) {
-                                // Try 2-parameter constructor: (OwnerRegistry, Key)
-                                @SuppressWarnings("unchecked")
-                                MappedRegistry<T> registry = (MappedRegistry<T>) (Object) this;
-                                ref = (Holder.Reference<T>) constructor.newInstance(registry, k);
-                                // Use reflection to call protected bindValue method
-                                java.lang.reflect.Method bindValueMethod = ref.getClass().getDeclaredMethod("bindValue", Object.class);
-                                bindValueMethod.setAccessible(true);
-                                bindValueMethod.invoke(ref, value);
-                            } else if (paramTypes.length == 1) {
-                                // Try 1-parameter constructor: (Key)
-                                ref = (Holder.Reference<T>) constructor.newInstance(k);
-                                // Use reflection to call protected bindValue method
-                                java.lang.reflect.Method bindValueMethod = ref.getClass().getDeclaredMethod("bindValue", Object.class);
-                                bindValueMethod.setAccessible(true);
-                                bindValueMethod.invoke(ref, value);
-                            } else {
-                                continue; // Skip constructors we don't know how to handle
-                            }
-                            
-                            LOGGER.debug("Successfully created reference using {}-parameter constructor", paramTypes.length);
-                            return ref;
-                            
-                        } catch (Exception ex) {
-                            LOGGER.debug("Failed with {}-parameter constructor: {}", paramTypes.length, ex.getMessage());
-                            continue; // Try next constructor
+                
+                if (!remaining.isEmpty()) {
+                    LOGGER.debug("No suitable register method available, using direct field manipulation for {} entries", 
+                        remaining.size());
+                    if (brecher_dim$directFieldRegistrationBatch(remaining)) {
+                        for (ResourceKey<T> key : remaining.keySet()) {
+                            brecher_dim$runtimeEntries.add(key);
+                            LOGGER.info("Successfully registered runtime entry: {}", key.location());
+                        }
+                        registered += remaining.size();
+                    } else {
+                        for (ResourceKey<T> key : remaining.keySet()) {
+                            LOGGER.error("Failed to register runtime entry: {}", key.location());
                         }
                     }
-                    
-                    LOGGER.error("No working constructor found for Holder.Reference for {}", k.location());
-                    return null;
-                    
-                } catch (Exception ex) {
-                    LOGGER.error("Failed to create reference in computeIfAbsent for {}", k.location(), ex);
-                    return null;
                 }
-            });
-        } catch (Exception e) {
-            LOGGER.error("All reference creation strategies failed for {}", key.location(), e);
-            return null;
+                
+                if (toRegister.size() > 1) {
+                    LOGGER.info("Registered {}/{} runtime entries in one batch", registered, toRegister.size());
+                }
+                return registered;
+            } finally {
+                // THREAD-SAFETY: Always restore frozen state to maintain registry integrity
+                frozen = wasFrozen;
+                brecher_dim$temporarilyUnfrozen = false;
+            }
+        } finally {
+            // THREAD-SAFETY: Release write lock
+            brecher_dim$registryLock.writeLock().unlock();
         }
     }
     
     @Unique
-    private boolean brecher_dim$atomicRegistryModification(ResourceKey<T> key, T value, Holder.Reference<T> reference) {
-        // Create backup of current state
-        Map<ResourceKey<T>, Holder.Reference<T>> backupByKey = new HashMap<>(byKey);
-        Map<T, Holder.Reference<T>> backupByValue = null;
-        Map<ResourceLocation, Holder.Reference<T>> backupByLocation = null;
-        
-        if (brecher_dim$byValue != null) {
-            backupByValue = new HashMap<>(brecher_dim$byValue);
-        }
-        if (brecher_dim$byLocation != null) {
-            backupByLocation = new HashMap<>(brecher_dim$byLocation);
+    private boolean brecher_dim$useInternalRegister(ResourceKey<T> key, T value) {
+        if (RegistryHandles.REGISTER == null) {
+            return false;
         }
         
         try {
-            // Update all registry maps atomically
-            byKey.put(key, reference);
+            @SuppressWarnings("unchecked")
+            MappedRegistry<T> mappedRegistry = (MappedRegistry<T>)(Object)this;
             
-            if (brecher_dim$byValue != null) {
-                brecher_dim$byValue.put(value, reference);
+            if (RegistryHandles.REGISTER_TAKES_ID) {
+                // Generate a unique ID
+                int id = byKey.size() + 1000; // Offset to avoid conflicts
+                RegistryHandles.REGISTER.invoke(mappedRegistry, id, key, value);
+                LOGGER.debug("Used register method with ID {}", id);
+            } else {
+                RegistryHandles.REGISTER.invoke(mappedRegistry, key, value);
+                LOGGER.debug("Used register method");
             }
+            return true;
             
-            if (brecher_dim$byLocation != null) {
-                brecher_dim$byLocation.put(key.location(), reference);
+        } catch (Throwable e) {
+            LOGGER.error("Failed to use internal register method for {}: {}", key.location(), e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Adds all entries directly to the registry maps with a single validation pass.
+     * On failure every entry added by this call is removed again.
+     */
+    @Unique
+    private boolean brecher_dim$directFieldRegistrationBatch(Map<ResourceKey<T>, T> entries) {
+        // Validate registry state before modification
+        if (!brecher_dim$validateRegistryState()) {
+            LOGGER.error("Registry state validation failed before registering {} entries", entries.size());
+            return false;
+        }
+        
+        // Create all holder references before touching the maps
+        Map<ResourceKey<T>, Holder.Reference<T>> references = new LinkedHashMap<>();
+        for (Map.Entry<ResourceKey<T>, T> entry : entries.entrySet()) {
+            Holder.Reference<T> reference = brecher_dim$createHolderReference(entry.getKey(), entry.getValue());
+            if (reference == null) {
+                LOGGER.error("Failed to create holder reference for {}", entry.getKey().location());
+                return false;
+            }
+            references.put(entry.getKey(), reference);
+        }
+        
+        // Entries are known to be absent, so undoing the batch only needs the added keys
+        List<ResourceKey<T>> added = new ArrayList<>();
+        try {
+            for (Map.Entry<ResourceKey<T>, Holder.Reference<T>> entry : references.entrySet()) {
+                ResourceKey<T> key = entry.getKey();
+                Holder.Reference<T> reference = entry.getValue();
+                added.add(key);
+                
+                byKey.put(key, reference);
+                if (brecher_dim$byValue != null) {
+                    brecher_dim$byValue.put(entries.get(key), reference);
+                }
+                if (brecher_dim$byLocation != null) {
+                    brecher_dim$byLocation.put(key.location(), reference);
+                }
+                // Validation below checks runtime entries, so track them before validating
+                brecher_dim$runtimeEntries.add(key);
             }
             
             // Validate the modification
@@ -546,33 +489,79 @@ public class MixinRegistryFixed<T> implements IRegistryAccessor<T> {
                 throw new RuntimeException("Registry state validation failed after modification");
             }
             
-            LOGGER.debug("Atomic registry modification completed for {}", key.location());
+            LOGGER.debug("Registry modification completed for {} entries", added.size());
             return true;
             
         } catch (Exception e) {
-            // Restore from backup on any error
-            LOGGER.warn("Registry modification failed, restoring backup for {}: {}", key.location(), e.getMessage());
+            LOGGER.warn("Registry modification failed, rolling back {} entries: {}", added.size(), e.getMessage());
             
             try {
-                byKey.clear();
-                byKey.putAll(backupByKey);
-                
-                if (brecher_dim$byValue != null && backupByValue != null) {
-                    brecher_dim$byValue.clear();
-                    brecher_dim$byValue.putAll(backupByValue);
+                for (ResourceKey<T> key : added) {
+                    byKey.remove(key);
+                    if (brecher_dim$byValue != null) {
+                        brecher_dim$byValue.remove(entries.get(key));
+                    }
+                    if (brecher_dim$byLocation != null) {
+                        brecher_dim$byLocation.remove(key.location());
+                    }
+                    brecher_dim$runtimeEntries.remove(key);
                 }
-                
-                if (brecher_dim$byLocation != null && backupByLocation != null) {
-                    brecher_dim$byLocation.clear();
-                    brecher_dim$byLocation.putAll(backupByLocation);
+                LOGGER.info("Registry state restored after failed batch");
+            } catch (Exception rollbackError) {
+                LOGGER.error("CRITICAL: Failed to roll back registry modification!", rollbackError);
+            }
+            
+            return false;
+        }
+    }
+    
+    /**
+     * Creates a bound Holder.Reference for a registry entry
+     * 
+     * REFLECTION: Holder.Reference constructors vary between Minecraft versions.
+     * The matching constructor and bindValue are resolved once in {@link RegistryHandles}.
+     * 
+     * @param key The resource key for the entry
+     * @param value The value to bind to the holder
+     * @return A bound Holder.Reference or null if creation fails
+     */
+    @Unique
+    @SuppressWarnings("unchecked")
+    private Holder.Reference<T> brecher_dim$createHolderReference(ResourceKey<T> key, T value) {
+        try {
+            // Reuse an existing (possibly unbound) reference if the key was already requested
+            Holder.Reference<T> reference = byKey.get(key);
+            if (reference == null) {
+                if (RegistryHandles.REFERENCE_CONSTRUCTOR == null) {
+                    LOGGER.error("No working constructor found for Holder.Reference for {}", key.location());
+                    return null;
                 }
                 
-                LOGGER.info("Registry state restored from backup");
-            } catch (Exception backupError) {
-                LOGGER.error("CRITICAL: Failed to restore registry backup!", backupError);
+                Object owner = this;
+                reference = (Holder.Reference<T>) switch (RegistryHandles.REFERENCE_CONSTRUCTOR_ARITY) {
+                    // (Type, OwnerRegistry, Key, Value)
+                    case 4 -> RegistryHandles.REFERENCE_CONSTRUCTOR.invoke(RegistryHandles.REFERENCE_TYPE, owner, key, value);
+                    // (OwnerRegistry, Key, Value)
+                    case 3 -> RegistryHandles.REFERENCE_CONSTRUCTOR.invoke(owner, key, value);
+                    // (OwnerRegistry, Key)
+                    case 2 -> RegistryHandles.REFERENCE_CONSTRUCTOR.invoke(owner, key);
+                    // (Key)
+                    default -> RegistryHandles.REFERENCE_CONSTRUCTOR.invoke(key);
+                };
             }
             
-            return false;
+            if (!reference.isBound()) {
+                if (RegistryHandles.BIND_VALUE == null) {
+                    LOGGER.error("Cannot bind value for {}: bindValue is not accessible", key.location());
+                    return null;
+                }
+                RegistryHandles.BIND_VALUE.invoke(reference, value);
+            }
+            return reference;
+            
+        } catch (Throwable e) {
+            LOGGER.error("Failed to create holder reference for {}: {}", key.location(), e.getMessage());
+            return null;
         }
     }
     
@@ -654,12 +643,52 @@ public class MixinRegistryFixed<T> implements IRegistryAccessor<T> {
         brecher_dim$registerRuntime(key, value);
     }
     
+    /**
+     * Remove a runtime entry, or queue the removal while a batch is open
+     */
     @Unique
     public void brecher_dim$removeRuntimeEntry(ResourceKey<T> key) {
-        if (!brecher_dim$runtimeEntries.contains(key)) {
-            return;
+        brecher_dim$registryLock.writeLock().lock();
+        try {
+            // An entry rolled back mid-batch must not be registered when the batch ends
+            if (brecher_dim$pendingBatch.remove(key) != null) {
+                LOGGER.info("Dropped pending runtime registry entry: {}", key.location());
+            }
+            if (brecher_dim$batchDepth > 0) {
+                if (brecher_dim$runtimeEntries.contains(key)) {
+                    brecher_dim$pendingRemovals.add(key);
+                }
+                return;
+            }
+        } finally {
+            brecher_dim$registryLock.writeLock().unlock();
+        }
+        
+        brecher_dim$removeRuntimeBatch(List.of(key));
+    }
+    
+    /**
+     * Remove several runtime entries at once
+     * 
+     * THREAD-SAFETY: The write lock is taken and the registry unfrozen a single time for the
+     * whole batch. Keys that are not runtime entries are skipped.
+     * 
+     * @return the number of entries removed
+     */
+    @Override
+    @Unique
+    public int brecher_dim$removeRuntimeBatch(Collection<ResourceKey<T>> keys) {
+        List<ResourceKey<T>> toRemove = new ArrayList<>();
+        for (ResourceKey<T> key : keys) {
+            if (brecher_dim$runtimeEntries.contains(key)) {
+                toRemove.add(key);
+            }
+        }
+        if (toRemove.isEmpty()) {
+            return 0;
         }
         
+        int removed = 0;
         brecher_dim$registryLock.writeLock().lock();
         try {
             boolean wasFrozen = frozen;
@@ -671,22 +700,28 @@ public class MixinRegistryFixed<T> implements IRegistryAccessor<T> {
             try {
                 brecher_dim$initializeReflection();
                 
-                Holder.Reference<T> holder = byKey.remove(key);
-                if (holder != null && holder.isBound()) {
-                    T value = holder.value();
-                    
-                    if (brecher_dim$byValue != null) {
-                        brecher_dim$byValue.remove(value);
+                for (ResourceKey<T> key : toRemove) {
+                    Holder.Reference<T> holder = byKey.remove(key);
+                    if (holder != null && holder.isBound()) {
+                        T value = holder.value();
+                        
+                        if (brecher_dim$byValue != null) {
+                            brecher_dim$byValue.remove(value);
+                        }
+                        
+                        if (brecher_dim$byLocation != null) {
+                            brecher_dim$byLocation.remove(key.location());
+                        }
                     }
                     
-                    if (brecher_dim$byLocation != null) {
-                        brecher_dim$byLocation.remove(key.location());
-                    }
+                    brecher_dim$runtimeEntries.remove(key);
+                    removed++;
+                    LOGGER.info("Removed runtime registry entry: {}", key.location());
                 }
                 
-                brecher_dim$runtimeEntries.remove(key);
-                LOGGER.info("Removed runtime registry entry: {}", key.location());
-                
+                if (toRemove.size() > 1) {
+                    LOGGER.info("Removed {} runtime entries in one batch", removed);
+                }
             } finally {
                 if (wasFrozen) {
                     frozen = true;
@@ -694,19 +729,18 @@ public class MixinRegistryFixed<T> implements IRegistryAccessor<T> {
                 }
             }
         } catch (Exception e) {
-            LOGGER.error("Failed to remove runtime entry {}", key.location(), e);
+            LOGGER.error("Failed to remove runtime entries {}", toRemove, e);
         } finally {
             brecher_dim$registryLock.writeLock().unlock();
         }
+        return removed;
     }
     
     @Unique
     public void brecher_dim$cleanupAllRuntimeEntries() {
         Set<ResourceKey<T>> entriesToRemove = new HashSet<>(brecher_dim$runtimeEntries);
-        for (ResourceKey<T> key : entriesToRemove) {
-            brecher_dim$removeRuntimeEntry(key);
-        }
-        LOGGER.info("Cleaned up {} runtime registry entries", entriesToRemove.size());
+        int removed = brecher_dim$removeRuntimeBatch(entriesToRemove);
+        LOGGER.info("Cleaned up {} runtime registry entries", removed);
     }
     
     @Unique
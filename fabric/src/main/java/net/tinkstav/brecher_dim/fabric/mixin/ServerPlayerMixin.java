@@ -5,22 +5,51 @@
 
 package net.tinkstav.brecher_dim.fabric.mixin;
 
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.portal.DimensionTransition;
+import net.tinkstav.brecher_dim.accessor.IPersistentDataHolder;
 import net.tinkstav.brecher_dim.event.BrecherEventHandlers;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(ServerPlayer.class)
-public abstract class ServerPlayerMixin {
+public abstract class ServerPlayerMixin implements IPersistentDataHolder {
+    @Unique
+    private static final String brecher_dim$PERSISTENT_DATA_TAG = "BrecherDimensionsData";
     
     @Shadow public abstract ServerLevel serverLevel();
     
+    @Unique
+    private CompoundTag brecher_dim$persistentData = new CompoundTag();
+    
+    @Override
+    public CompoundTag brecher_dim$getPersistentData() {
+        return brecher_dim$persistentData;
+    }
+    
+    @Inject(method = "addAdditionalSaveData", at = @At("TAIL"))
+    private void onSaveData(CompoundTag tag, CallbackInfo ci) {
+        tag.put(brecher_dim$PERSISTENT_DATA_TAG, brecher_dim$persistentData.copy());
+    }
+    
+    @Inject(method = "readAdditionalSaveData", at = @At("TAIL"))
+    private void onReadData(CompoundTag tag, CallbackInfo ci) {
+        brecher_dim$persistentData = tag.getCompound(brecher_dim$PERSISTENT_DATA_TAG);
+    }
+    
+    @Inject(method = "restoreFrom", at = @At("TAIL"))
+    private void onRestoreFrom(ServerPlayer that, boolean keepEverything, CallbackInfo ci) {
+        brecher_dim$persistentData = ((IPersistentDataHolder) that).brecher_dim$getPersistentData().copy();
+    }
+    
     @Inject(method = "changeDimension", at = @At("HEAD"))
     private void onChangeDimension(DimensionTransition transition, CallbackInfoReturnable<Entity> cir) {
         ServerPlayer player = (ServerPlayer) (Object) this;
@@ -25,11 +25,23 @@ public class FabricNetworking {
     public static void init() {
         // Register S2C packet types
         PayloadTypeRegistry.playS2C().register(DimensionSyncPayload.TYPE, DimensionSyncPayload.STREAM_CODEC);
+        PayloadTypeRegistry.playS2C().register(DimensionRegistrySyncPayload.TYPE, DimensionRegistrySyncPayload.STREAM_CODEC);
         PayloadTypeRegistry.playS2C().register(DimensionResetPayload.TYPE, DimensionResetPayload.STREAM_CODEC);
         PayloadTypeRegistry.playS2C().register(ResetWarningPayload.TYPE, ResetWarningPayload.STREAM_CODEC);
         PayloadTypeRegistry.playS2C().register(RegistrySyncPayload.TYPE, RegistrySyncPayload.STREAM_CODEC);
         PayloadTypeRegistry.playS2C().register(EnhancedRegistrySyncPayload.TYPE, EnhancedRegistrySyncPayload.STREAM_CODEC);
         PayloadTypeRegistry.playS2C().register(ChunkedRegistrySyncPayload.TYPE, ChunkedRegistrySyncPayload.STREAM_CODEC);
+        
+        // Register C2S packet types and their server handlers
+        PayloadTypeRegistry.playC2S().register(DimensionRegistryEpochPayload.TYPE, DimensionRegistryEpochPayload.STREAM_CODEC);
+        ServerPlayNetworking.registerGlobalReceiver(
+            DimensionRegistryEpochPayload.TYPE,
+            (payload, context) -> {
+                context.server().execute(() -> {
+                    DimensionSyncTracker.onClientEpochReport(context.player(), payload.appliedEpoch());
+                });
+            }
+        );
     }
     
     /**
@@ -47,6 +59,15 @@ public class FabricNetworking {
             }
         );
         
+        ClientPlayNetworking.registerGlobalReceiver(
+            DimensionRegistrySyncPayload.TYPE,
+            (payload, context) -> {
+                context.client().execute(() -> {
+                    ClientPacketHandler.handleDimensionRegistrySync(payload.baseEpoch(), payload.epoch(), payload.dimensions(), payload.removed());
+                });
+            }
+        );
+        
         ClientPlayNetworking.registerGlobalReceiver(
             DimensionResetPayload.TYPE,
             (payload, context) -> {
@@ -87,7 +108,7 @@ public class FabricNetworking {
             ChunkedRegistrySyncPayload.TYPE,
             (payload, context) -> {
                 context.client().execute(() -> {
-                    ClientPacketHandler.handleChunkedRegistrySync(payload.chunkIndex(), payload.totalChunks(), payload.nbtData());
+                    ClientPacketHandler.handleChunkedRegistrySync(payload.transferId(), payload.chunkIndex(), payload.totalChunks(), payload.nbtData());
                 });
             }
         );
@@ -6,12 +6,16 @@
 package net.tinkstav.brecher_dim.platform.fabric;
 
 import net.minecraft.client.Minecraft;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.tinkstav.brecher_dim.BrecherDimensions;
 import net.tinkstav.brecher_dim.client.XaeroMapCleanup;
 import net.tinkstav.brecher_dim.platform.ClientHandler;
 
+import java.util.List;
+import java.util.Map;
+
 public class ClientHandlerImpl implements ClientHandler {
     @Override
     public void handleDimensionSync(ResourceLocation dimensionId, boolean exists) {
@@ -27,6 +31,17 @@ public class ClientHandlerImpl implements ClientHandler {
         }
     }
     
+    @Override
+    public void handleDimensionRegistrySync(long baseEpoch, long epoch, Map<ResourceLocation, CompoundTag> dimensions, List<ResourceLocation> removed) {
+        BrecherDimensions.LOGGER.debug("Client received dimension registry epoch {} (base {})", epoch, baseEpoch);
+        for (ResourceLocation dimensionId : removed) {
+            XaeroMapCleanup.cleanupDimensionData(dimensionId);
+        }
+        for (ResourceLocation dimensionId : dimensions.keySet()) {
+            XaeroMapCleanup.trackExplorationDimension(dimensionId);
+        }
+    }
+    
     @Override
     public void handleDimensionReset(ResourceLocation dimensionId, long resetTime) {
         BrecherDimensions.LOGGER.info("Dimension {} will reset at {}", dimensionId, resetTime);
@@ -66,7 +81,7 @@ public class ClientHandlerImpl implements ClientHandler {
     }
     
     @Override
-    public void handleChunkedRegistrySync(int chunkIndex, int totalChunks, byte[] nbtData) {
+    public void handleChunkedRegistrySync(int transferId, int chunkIndex, int totalChunks, byte[] nbtData) {
         BrecherDimensions.LOGGER.debug("Client received chunked registry sync: {}/{}", chunkIndex + 1, totalChunks);
         // TODO: Process chunked registry sync data
     }
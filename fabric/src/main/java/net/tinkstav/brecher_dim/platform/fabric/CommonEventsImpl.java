@@ -33,6 +33,7 @@ public class CommonEventsImpl implements CommonEvents {
     public void onServerStarted(MinecraftServer server) {
         // Server started event - additional initialization if needed
         BrecherDimensions.LOGGER.info("Server started - Brecher's Dimensions ready");
+        BrecherDimensions.onServerStarted(server);
     }
     
     @Override
@@ -14,6 +14,12 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.level.Level;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public class PacketHandlerImpl implements PacketHandler {
     @Override
@@ -27,6 +33,15 @@ public class PacketHandlerImpl implements PacketHandler {
         ServerPlayNetworking.send(player, packet);
     }
     
+    @Override
+    public void sendBundleToPlayer(ServerPlayer player, List<CustomPacketPayload> packets) {
+        List<Packet<? super ClientGamePacketListener>> bundle = new ArrayList<>(packets.size());
+        for (CustomPacketPayload packet : packets) {
+            bundle.add(ServerPlayNetworking.createS2CPacket(packet));
+        }
+        player.connection.send(new ClientboundBundlePacket(bundle));
+    }
+    
     @Override
     public void sendToAllPlayers(CustomPacketPayload packet) {
         // Get server instance
@@ -5,6 +5,9 @@
 
 package net.tinkstav.brecher_dim.platform.fabric;
 
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerPlayer;
+import net.tinkstav.brecher_dim.accessor.IPersistentDataHolder;
 import net.tinkstav.brecher_dim.platform.PlatformHelper;
 import net.fabricmc.loader.api.FabricLoader;
 import java.nio.file.Path;
@@ -39,4 +42,9 @@ public class PlatformHelperImpl implements PlatformHelper {
     public boolean isPhysicalClient() {
         return FabricLoader.getInstance().getEnvironmentType() == net.fabricmc.api.EnvType.CLIENT;
     }
-}
\ No newline at end of file
+    
+    @Override
+    public CompoundTag getPersistentData(ServerPlayer player) {
+        return ((IPersistentDataHolder) player).brecher_dim$getPersistentData();
+    }
+}
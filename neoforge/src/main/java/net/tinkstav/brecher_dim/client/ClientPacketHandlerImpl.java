@@ -5,8 +5,12 @@
 
 package net.tinkstav.brecher_dim.client;
 
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * NeoForge implementation of ClientPacketHandler
  * Delegates to the actual client handler which contains the client-only code
@@ -17,6 +21,10 @@ public class ClientPacketHandlerImpl {
         BrecherClientHandlerNeoForge.handleDimensionSync(dimensionId, exists);
     }
     
+    public static void handleDimensionRegistrySync(long baseEpoch, long epoch, Map<ResourceLocation, CompoundTag> dimensions, List<ResourceLocation> removed) {
+        BrecherClientHandlerNeoForge.handleDimensionRegistrySync(baseEpoch, epoch, dimensions, removed);
+    }
+    
     public static void handleDimensionReset(ResourceLocation dimensionId, long resetTime) {
         BrecherClientHandlerNeoForge.handleDimensionReset(dimensionId, resetTime);
     }
@@ -33,7 +41,7 @@ public class ClientPacketHandlerImpl {
         BrecherClientHandlerNeoForge.handleEnhancedRegistrySync(nbtData);
     }
     
-    public static void handleChunkedRegistrySync(int chunkIndex, int totalChunks, byte[] nbtData) {
-        BrecherClientHandlerNeoForge.handleChunkedRegistrySync(chunkIndex, totalChunks, nbtData);
+    public static void handleChunkedRegistrySync(int transferId, int chunkIndex, int totalChunks, byte[] nbtData) {
+        BrecherClientHandlerNeoForge.handleChunkedRegistrySync(transferId, chunkIndex, totalChunks, nbtData);
     }
 }
\ No newline at end of file
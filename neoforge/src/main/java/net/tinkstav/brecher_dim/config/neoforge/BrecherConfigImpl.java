@@ -23,7 +23,12 @@ public class BrecherConfigImpl {
     /**
      * Initialize config system
      */
-    public static void init() {
+    public static synchronized void init() {
+        if (yamlHandler != null) {
+            // Already loaded and watched; a second handler would start a second watcher
+            LOGGER.debug("YAML config already initialized");
+            return;
+        }
         LOGGER.info("Initializing Brecher's Exploration Dimensions YAML config for NeoForge");
         
         // Get config directory and create brecher_exploration subdirectory
@@ -47,7 +52,7 @@ public class BrecherConfigImpl {
     /**
      * Reload config values
      */
-    public static void reload() {
+    public static synchronized void reload() {
         LOGGER.info("Reloading Brecher's Exploration Dimensions YAML config for NeoForge");
         if (yamlHandler != null) {
             yamlHandler.reload();
@@ -56,6 +61,15 @@ public class BrecherConfigImpl {
         }
     }
     
+    /**
+     * Stop watching the config file
+     */
+    public static synchronized void shutdown() {
+        if (yamlHandler != null) {
+            yamlHandler.close();
+        }
+    }
+    
     /**
      * Called when config changes (compatibility method for ModConfigEvent)
      * With YAML config, this just triggers a reload
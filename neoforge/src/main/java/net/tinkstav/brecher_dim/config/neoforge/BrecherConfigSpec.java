@@ -6,7 +6,11 @@
 package net.tinkstav.brecher_dim.config.neoforge;
 
 import net.neoforged.neoforge.common.ModConfigSpec;
+import net.tinkstav.brecher_dim.performance.RegionCompression;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * NeoForge configuration specification using TOML format
@@ -60,6 +64,10 @@ public class BrecherConfigSpec {
     public static final ModConfigSpec.IntValue TELEPORT_SAFETY_RADIUS;
     public static final ModConfigSpec.BooleanValue CREATE_EMERGENCY_PLATFORMS;
     public static final ModConfigSpec.BooleanValue PREFER_SURFACE_SPAWNS;
+    
+    // Per-dimension overrides, keyed by parent dimension
+    public static final Map<String, DimensionOverrideValues> DIMENSION_OVERRIDES;
+    
     public static final ModConfigSpec.ConfigValue<String> WELCOME_MESSAGE;
     public static final ModConfigSpec.ConfigValue<String> RETURN_MESSAGE;
     
@@ -279,6 +287,32 @@ public class BrecherConfigSpec {
         
         builder.pop();
         
+        builder.comment("Settings for one parent dimension's exploration copy (-1 = use the global value)")
+               .push("dimensionOverrides");
+        
+        Map<String, DimensionOverrideValues> overrides = new LinkedHashMap<>();
+        for (String dimension : List.of("minecraft:overworld", "minecraft:the_nether", "minecraft:the_end")) {
+            builder.push(dimension.substring(dimension.indexOf(':') + 1));
+            overrides.put(dimension, new DimensionOverrideValues(
+                defineOverride(builder, "explorationBorder", "Border size", 1, Integer.MAX_VALUE),
+                defineOverride(builder, "pregenDefaultRadius", "Default generation radius in chunks", 10, 1000),
+                defineOverride(builder, "pregenChunksPerTick", "Chunks to generate per processing tick", 0, 10),
+                defineOverride(builder, "pregenTicksPerChunk", "Ticks per chunk when chunksPerTick=0", 1, 100),
+                defineOverride(builder, "chunkUnloadDelay", "Chunk unload delay (ticks)", 20, 6000),
+                defineOverride(builder, "maxChunksPerPlayer", "Max chunks per player", 9, 500),
+                defineOverride(builder, "teleportSafetyRadius", "Safe teleport search radius", 1, 64),
+                builder.comment("Extended search radius (0 = off, 1 = on)")
+                    .defineInRange("extendedSearchRadius", -1, -1, 1),
+                builder.comment("Region file compression (default, deflate, lz4, none; empty = use the global value)")
+                    .define("regionCompression", "",
+                        o -> o instanceof String codec && (codec.isEmpty() || RegionCompression.CODECS.contains(codec)))
+            ));
+            builder.pop();
+        }
+        DIMENSION_OVERRIDES = Collections.unmodifiableMap(overrides);
+        
+        builder.pop();
+        
         builder.push("messages");
         
         WELCOME_MESSAGE = builder
@@ -307,6 +341,27 @@ public class BrecherConfigSpec {
         SPEC = builder.build();
     }
     
+    /**
+     * An integer override that is either -1 or within the range of the global setting
+     */
+    private static ModConfigSpec.ConfigValue<Integer> defineOverride(ModConfigSpec.Builder builder, String path,
+                                                                     String comment, int min, int max) {
+        return builder.comment(comment + " (" + min + "-" + max + ")")
+            .define(path, -1, o -> o instanceof Integer value && (value == -1 || (value >= min && value <= max)));
+    }
+    
+    public record DimensionOverrideValues(
+        ModConfigSpec.ConfigValue<Integer> explorationBorder,
+        ModConfigSpec.ConfigValue<Integer> pregenDefaultRadius,
+        ModConfigSpec.ConfigValue<Integer> pregenChunksPerTick,
+        ModConfigSpec.ConfigValue<Integer> pregenTicksPerChunk,
+        ModConfigSpec.ConfigValue<Integer> chunkUnloadDelay,
+        ModConfigSpec.ConfigValue<Integer> maxChunksPerPlayer,
+        ModConfigSpec.ConfigValue<Integer> teleportSafetyRadius,
+        ModConfigSpec.IntValue extendedSearchRadius,
+        ModConfigSpec.ConfigValue<String> regionCompression
+    ) {}
+    
     public enum SeedStrategy {
         RANDOM,
         DATE_BASED,
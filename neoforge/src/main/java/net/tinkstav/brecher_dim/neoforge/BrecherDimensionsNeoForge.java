@@ -47,7 +47,6 @@ public class BrecherDimensionsNeoForge {
         
         // Register client events if on client
         if (FMLEnvironment.dist.isClient()) {
-            NeoForge.EVENT_BUS.addListener(this::onClientConnect);
             NeoForge.EVENT_BUS.addListener(this::onClientDisconnect);
         }
         
@@ -66,12 +65,6 @@ public class BrecherDimensionsNeoForge {
         Services.COMMANDS.registerCommands(event.getDispatcher());
     }
     
-    private void onClientConnect(final ClientPlayerNetworkEvent.LoggingIn event) {
-        LOGGER.debug("Client connected to server, cleaning up old map data");
-        // Clean up old Xaero map data from previous sessions
-        net.tinkstav.brecher_dim.client.XaeroMapCleanup.cleanupOldMapDataOnConnect();
-    }
-    
     private void onClientDisconnect(final ClientPlayerNetworkEvent.LoggingOut event) {
         LOGGER.debug("Client disconnected from server, clearing data");
         BrecherClientHandlerNeoForge.clearClientData();
@@ -8,13 +8,11 @@ package net.tinkstav.brecher_dim.neoforge.mixin;
 import com.mojang.logging.LogUtils;
 import net.minecraft.network.Connection;
 import net.minecraft.server.MinecraftServer;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.network.CommonListenerCookie;
 import net.minecraft.server.players.PlayerList;
 import net.tinkstav.brecher_dim.dimension.BrecherDimensionManager;
-import net.tinkstav.brecher_dim.network.BrecherNetworking;
-import net.tinkstav.brecher_dim.accessor.IServerDimensionAccessor;
+import net.tinkstav.brecher_dim.network.DimensionSyncTracker;
 import org.slf4j.Logger;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -29,7 +27,6 @@ public abstract class MixinPlayerList {
     @Unique
     private static final Logger LOGGER = LogUtils.getLogger();
     
-    @Shadow public abstract void sendLevelInfo(ServerPlayer player, ServerLevel level);
     @Shadow @Final private MinecraftServer server;
     
     /**
@@ -62,23 +59,12 @@ public abstract class MixinPlayerList {
             }));
         }
         
-        // Send info about all runtime dimensions to new players
-        if (server instanceof IServerDimensionAccessor accessor) {
-            accessor.brecher_dim$getRuntimeLevels().forEach((key, level) -> {
-                try {
-                    // Send level info
-                    sendLevelInfo(player, level);
-                    
-                    // Send custom packet with dimension metadata
-                    BrecherNetworking.sendDimensionSync(player, level.dimension().location(), true);
-                    
-                    LOGGER.debug("Synced runtime dimension {} to player {}", 
-                        key.location(), player.getName().getString());
-                } catch (Exception e) {
-                    LOGGER.error("Failed to sync dimension {} to player {}", 
-                        key.location(), player.getName().getString(), e);
-                }
-            });
+        // Send the exploration dimension registry in one payload; vanilla already sent level info
+        // for the level the player is in
+        try {
+            DimensionSyncTracker.syncToPlayer(player);
+        } catch (Exception e) {
+            LOGGER.error("Failed to sync exploration dimensions to player {}", player.getName().getString(), e);
         }
     }
     
@@ -87,14 +73,9 @@ public abstract class MixinPlayerList {
      */
     @Inject(method = "sendPlayerPermissionLevel", at = @At("HEAD"))
     private void brecher_dim$handleRuntimeDimensionChange(ServerPlayer player, CallbackInfo ci) {
-        // Ensure player has latest dimension registry when changing dimensions
+        // Ensure player has latest dimension registry; a no-op unless the registry epoch moved
         if (BrecherDimensionManager.isInExplorationDimension(player)) {
-            // Additional sync if needed - send all runtime dimensions
-            if (server instanceof IServerDimensionAccessor accessor) {
-                accessor.brecher_dim$getRuntimeLevels().forEach((key, level) -> {
-                    BrecherNetworking.sendDimensionSync(player, key.location(), true);
-                });
-            }
+            DimensionSyncTracker.syncToPlayer(player);
         }
     }
     
@@ -103,6 +84,8 @@ public abstract class MixinPlayerList {
      */
     @Inject(method = "remove", at = @At("HEAD"))
     private void brecher_dim$onPlayerDisconnect(ServerPlayer player, CallbackInfo ci) {
+        DimensionSyncTracker.onPlayerLeft(player.getUUID());
+        
         // Track player leaving exploration dimension
         if (BrecherDimensionManager.isInExplorationDimension(player)) {
             BrecherDimensionManager.trackPlayerLeaving(player);
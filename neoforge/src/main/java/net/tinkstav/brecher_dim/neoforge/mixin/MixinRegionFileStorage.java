@@ -0,0 +1,39 @@
+/*
+ * Brecher's Dimensions - Temporary resettable dimensions for exploration
+ * Copyright (C) 2025 Einbrecher. All rights reserved.
+ */
+
+package net.tinkstav.brecher_dim.neoforge.mixin;
+
+import net.minecraft.world.level.chunk.storage.RegionFile;
+import net.minecraft.world.level.chunk.storage.RegionFileStorage;
+import net.minecraft.world.level.chunk.storage.RegionFileVersion;
+import net.minecraft.world.level.chunk.storage.RegionStorageInfo;
+import net.tinkstav.brecher_dim.performance.RegionCompression;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Mixin to open exploration dimension region files with the configured compression codec
+ */
+@Mixin(RegionFileStorage.class)
+public class MixinRegionFileStorage {
+    
+    /**
+     * Use the exploration codec for new region files instead of the world default.
+     * Applies to chunk, entity and POI storage of exploration dimensions.
+     */
+    @Redirect(method = "getRegionFile", at = @At(value = "NEW",
+        target = "(Lnet/minecraft/world/level/chunk/storage/RegionStorageInfo;Ljava/nio/file/Path;Ljava/nio/file/Path;Z)Lnet/minecraft/world/level/chunk/storage/RegionFile;"))
+    private RegionFile brecher_dim$openRegionFile(RegionStorageInfo info, Path path, Path externalFileDir, boolean sync) throws IOException {
+        RegionFileVersion version = RegionCompression.forDimension(info.dimension());
+        if (version != null) {
+            return new RegionFile(info, path, externalFileDir, version, sync);
+        }
+        return new RegionFile(info, path, externalFileDir, sync);
+    }
+}
@@ -23,6 +23,7 @@ import net.tinkstav.brecher_dim.BrecherDimensions;
 import net.tinkstav.brecher_dim.config.BrecherConfig;
 import net.tinkstav.brecher_dim.dimension.DimensionRegistrar;
 import net.tinkstav.brecher_dim.dimension.ExplorationSeedManager;
+import net.tinkstav.brecher_dim.performance.DimensionTickMonitor;
 import org.slf4j.Logger;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -36,6 +37,7 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.jetbrains.annotations.Nullable;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 
 @Mixin(ServerLevel.class)
 public abstract class MixinServerLevel {
@@ -48,6 +50,9 @@ public abstract class MixinServerLevel {
     @Unique
     private boolean brecher_dim$isRuntimeDimension = false;
     
+    @Unique
+    private boolean brecher_dim$tickSuspended = false;
+    
     /**
      * Mark runtime dimensions after construction
      */
@@ -103,13 +108,42 @@ public abstract class MixinServerLevel {
     }
     
     /**
-     * Optimize chunk loading for runtime dimensions
+     * Decide whether this tick is suspended and start timing it
      */
-    @Inject(method = "tickChunk", at = @At("HEAD"))
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void brecher_dim$beginTick(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        if (brecher_dim$isRuntimeDimension) {
+            brecher_dim$tickSuspended = DimensionTickMonitor.beginTick((ServerLevel)(Object)this);
+        }
+    }
+    
+    /**
+     * Record tick cost for runtime dimensions
+     */
+    @Inject(method = "tick", at = @At("RETURN"))
+    private void brecher_dim$endTick(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        if (brecher_dim$isRuntimeDimension) {
+            DimensionTickMonitor.endTick((ServerLevel)(Object)this);
+        }
+    }
+    
+    /**
+     * Skip random ticks, lightning and precipitation in suspended runtime dimensions
+     */
+    @Inject(method = "tickChunk", at = @At("HEAD"), cancellable = true)
     private void brecher_dim$optimizeChunkTicking(CallbackInfo ci) {
-        if (brecher_dim$isRuntimeDimension && BrecherConfig.isAggressiveChunkUnloading()) {
-            // Additional optimization could be added here
-            // For now, this serves as a hook for future performance improvements
+        if (brecher_dim$tickSuspended) {
+            ci.cancel();
+        }
+    }
+    
+    /**
+     * Skip entity ticking in suspended runtime dimensions
+     */
+    @Inject(method = "tickNonPassenger", at = @At("HEAD"), cancellable = true)
+    private void brecher_dim$skipEntityTick(CallbackInfo ci) {
+        if (brecher_dim$tickSuspended) {
+            ci.cancel();
         }
     }
 }
\ No newline at end of file
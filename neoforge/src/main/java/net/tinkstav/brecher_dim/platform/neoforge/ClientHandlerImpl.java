@@ -5,9 +5,13 @@
 
 package net.tinkstav.brecher_dim.platform.neoforge;
 
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import net.tinkstav.brecher_dim.platform.ClientHandler;
 
+import java.util.List;
+import java.util.Map;
+
 public class ClientHandlerImpl implements ClientHandler {
     @Override
     public void handleDimensionSync(ResourceLocation dimensionId, boolean exists) {
@@ -15,6 +19,11 @@ public class ClientHandlerImpl implements ClientHandler {
         // Client handling is done in separate client module
     }
     
+    @Override
+    public void handleDimensionRegistrySync(long baseEpoch, long epoch, Map<ResourceLocation, CompoundTag> dimensions, List<ResourceLocation> removed) {
+        // Server-side implementation - no-op
+    }
+    
     @Override
     public void handleDimensionReset(ResourceLocation dimensionId, long resetTime) {
         // Server-side implementation - no-op
@@ -36,7 +45,7 @@ public class ClientHandlerImpl implements ClientHandler {
     }
     
     @Override
-    public void handleChunkedRegistrySync(int chunkIndex, int totalChunks, byte[] nbtData) {
+    public void handleChunkedRegistrySync(int transferId, int chunkIndex, int totalChunks, byte[] nbtData) {
         // Server-side implementation - no-op
     }
 }
\ No newline at end of file
@@ -38,7 +38,7 @@ public class CommonEventsImpl implements CommonEvents {
     @Override
     public void onServerStarted(MinecraftServer server) {
         BrecherDimensions.LOGGER.info("Server started - initializing Brecher's Dimensions");
-        // Additional server started logic if needed
+        BrecherDimensions.onServerStarted(server);
     }
     
     @Override
@@ -20,6 +20,11 @@ public class ConfigHandlerImpl implements ConfigHandler {
         BrecherConfigImpl.reload();
     }
     
+    @Override
+    public void shutdown() {
+        BrecherConfigImpl.shutdown();
+    }
+    
     @Override
     public String getConfigPath() {
         return FMLPaths.CONFIGDIR.get().resolve("brecher_exploration").resolve("brecher_dimensions.yml").toString();
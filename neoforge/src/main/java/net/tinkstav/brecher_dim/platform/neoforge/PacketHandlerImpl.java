@@ -14,9 +14,12 @@ import net.neoforged.neoforge.network.PacketDistributor;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import net.neoforged.neoforge.network.registration.PayloadRegistrar;
 import net.tinkstav.brecher_dim.BrecherDimensions;
+import net.tinkstav.brecher_dim.network.DimensionSyncTracker;
 import net.tinkstav.brecher_dim.platform.PacketHandler;
 import net.tinkstav.brecher_dim.network.payload.*;
 
+import java.util.List;
+
 public class PacketHandlerImpl implements PacketHandler {
     private static PayloadRegistrar registrar;
     
@@ -36,6 +39,12 @@ public class PacketHandlerImpl implements PacketHandler {
             (payload, context) -> handleClientPayload(payload, context)
         );
         
+        registrar.playToClient(
+            DimensionRegistrySyncPayload.TYPE,
+            DimensionRegistrySyncPayload.STREAM_CODEC,
+            (payload, context) -> handleClientPayload(payload, context)
+        );
+        
         registrar.playToClient(
             DimensionResetPayload.TYPE,
             DimensionResetPayload.STREAM_CODEC,
@@ -65,12 +74,25 @@ public class PacketHandlerImpl implements PacketHandler {
             EnhancedRegistrySyncPayload.STREAM_CODEC,
             (payload, context) -> handleClientPayload(payload, context)
         );
+        
+        // Register C2S packets
+        registrar.playToServer(
+            DimensionRegistryEpochPayload.TYPE,
+            DimensionRegistryEpochPayload.STREAM_CODEC,
+            (payload, context) -> context.enqueueWork(() -> {
+                if (context.player() instanceof ServerPlayer player) {
+                    DimensionSyncTracker.onClientEpochReport(player, payload.appliedEpoch());
+                }
+            })
+        );
     }
     
     private static void handleClientPayload(CustomPacketPayload payload, IPayloadContext context) {
         context.enqueueWork(() -> {
             if (payload instanceof DimensionSyncPayload p) {
                 net.tinkstav.brecher_dim.client.ClientPacketHandlerImpl.handleDimensionSync(p.dimensionId(), p.exists());
+            } else if (payload instanceof DimensionRegistrySyncPayload p) {
+                net.tinkstav.brecher_dim.client.ClientPacketHandlerImpl.handleDimensionRegistrySync(p.baseEpoch(), p.epoch(), p.dimensions(), p.removed());
             } else if (payload instanceof DimensionResetPayload p) {
                 net.tinkstav.brecher_dim.client.ClientPacketHandlerImpl.handleDimensionReset(p.dimensionId(), p.resetTime());
             } else if (payload instanceof ResetWarningPayload p) {
@@ -80,7 +102,7 @@ public class PacketHandlerImpl implements PacketHandler {
             } else if (payload instanceof EnhancedRegistrySyncPayload p) {
                 net.tinkstav.brecher_dim.client.ClientPacketHandlerImpl.handleEnhancedRegistrySync(p.nbtData());
             } else if (payload instanceof ChunkedRegistrySyncPayload p) {
-                net.tinkstav.brecher_dim.client.ClientPacketHandlerImpl.handleChunkedRegistrySync(p.chunkIndex(), p.totalChunks(), p.nbtData());
+                net.tinkstav.brecher_dim.client.ClientPacketHandlerImpl.handleChunkedRegistrySync(p.transferId(), p.chunkIndex(), p.totalChunks(), p.nbtData());
             }
         });
     }
@@ -90,6 +112,16 @@ public class PacketHandlerImpl implements PacketHandler {
         PacketDistributor.sendToPlayer(player, packet);
     }
     
+    @Override
+    public void sendBundleToPlayer(ServerPlayer player, List<CustomPacketPayload> packets) {
+        if (packets.isEmpty()) {
+            return;
+        }
+        // NeoForge wraps more than one payload in a bundle packet
+        PacketDistributor.sendToPlayer(player, packets.get(0),
+            packets.subList(1, packets.size()).toArray(CustomPacketPayload[]::new));
+    }
+    
     @Override
     public void sendToAllPlayers(CustomPacketPayload packet) {
         PacketDistributor.sendToAllPlayers(packet);
@@ -5,6 +5,9 @@
 
 package net.tinkstav.brecher_dim.platform.neoforge;
 
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerPlayer;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.fml.ModList;
 import net.neoforged.fml.loading.FMLLoader;
@@ -14,6 +17,8 @@ import net.tinkstav.brecher_dim.platform.PlatformHelper;
 import java.nio.file.Path;
 
 public class PlatformHelperImpl implements PlatformHelper {
+    private static final String PERSISTED_TAG = "PlayerPersisted";
+    
     @Override
     public String getPlatformName() {
         return "NeoForge";
@@ -43,4 +48,14 @@ public class PlatformHelperImpl implements PlatformHelper {
     public boolean isDevelopmentEnvironment() {
         return !FMLLoader.isProduction();
     }
+    
+    @Override
+    public CompoundTag getPersistentData(ServerPlayer player) {
+        // Only this sub-tag of the persistent data is copied to the respawned player
+        CompoundTag data = player.getPersistentData();
+        if (!data.contains(PERSISTED_TAG, Tag.TAG_COMPOUND)) {
+            data.put(PERSISTED_TAG, new CompoundTag());
+        }
+        return data.getCompound(PERSISTED_TAG);
+    }
 }
\ No newline at end of file